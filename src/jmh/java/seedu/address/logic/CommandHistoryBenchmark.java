@@ -0,0 +1,104 @@
+package seedu.address.logic;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long searching a full {@link CommandHistory} takes, compared to scanning all of its commands, and how
+ * long adding a command to it takes once the oldest commands are being dropped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandHistoryBenchmark {
+
+    /** A command that is only entered once, as the oldest command of the history. */
+    private static final String RARE_COMMAND = "editmember 12 n/Quentin Zimmerman-Oyelaran";
+    private static final String RARE_QUERY = "zimmerman";
+    private static final List<String> COMMAND_FORMATS = Arrays.asList(
+            "addmember n/Member %1$d p/9%2$07d e/member%1$d@example.com",
+            "addbooking c/%3$d n/%4$d ts/2019-04-%4$02dT18:30",
+            "listmembers n/Member %1$d",
+            "consumeingredient i/%3$d q/%4$d",
+            "deletebooking %3$d",
+            "history");
+
+    @Param({"100000", "500000"})
+    protected int historySize;
+
+    private CommandHistory history;
+    private int nextCommand;
+
+    /**
+     * Fills a history of {@code historySize} commands, starting with {@link #RARE_COMMAND}, and searches it once to
+     * build its index.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        history = new CommandHistory(historySize);
+        history.add(RARE_COMMAND);
+        for (int i = 1; i < historySize; i++) {
+            history.add(String.format(COMMAND_FORMATS.get(random.nextInt(COMMAND_FORMATS.size())),
+                    i, random.nextInt(10000000), random.nextInt(500) + 1, random.nextInt(28) + 1));
+        }
+        history.search(RARE_QUERY, historySize);
+    }
+
+    /**
+     * Finds the only command that contains a query, which is the oldest command in the history.
+     */
+    @Benchmark
+    public int searchRare() {
+        return history.search(RARE_QUERY, historySize);
+    }
+
+    /**
+     * Finds the most recent command that contains a query that most commands contain.
+     */
+    @Benchmark
+    public int searchCommon() {
+        return history.search("addmember", historySize);
+    }
+
+    /**
+     * Finds the only command that contains a query by scanning all the commands, as a baseline for
+     * {@link #searchRare()}.
+     */
+    @Benchmark
+    public int scanRare() {
+        List<String> commands = history.getHistory();
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            if (commands.get(i).toLowerCase(Locale.ROOT).contains(RARE_QUERY)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a command to the full history, which drops its oldest command from the ring buffer and the index.
+     */
+    @Benchmark
+    public void add() {
+        history.add("deletemember " + nextCommand++);
+    }
+}
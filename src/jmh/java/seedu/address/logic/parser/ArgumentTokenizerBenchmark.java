@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long {@link ArgumentTokenizer} takes to tokenize arguments strings of different lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String SHIFT_ARGUMENTS = " 1 sd/MONDAY ts/12:00 ed/MONDAY te/14:00";
+    private static final String LONG_STAFF_ARGUMENTS = " n/Jane Alexandra Smith-Wellington p/91234567 "
+            + "e/jane.alexandra.smith-wellington@example.com a/Head Chef of the Evening Kitchen Brigade "
+            + "a/Pastry Chef a/Sommelier n/Jane A. Smith-Wellington";
+
+    /**
+     * Tokenizes the arguments of a typical shift command, with short values.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeShift() {
+        return ArgumentTokenizer.tokenize(SHIFT_ARGUMENTS,
+                PREFIX_START_DAY_OF_WEEK, PREFIX_END_DAY_OF_WEEK, PREFIX_START_TIME, PREFIX_END_TIME);
+    }
+
+    /**
+     * Tokenizes arguments with long values and repeated prefixes.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeLongStaff() {
+        return ArgumentTokenizer.tokenize(LONG_STAFF_ARGUMENTS,
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_APPOINTMENT);
+    }
+}
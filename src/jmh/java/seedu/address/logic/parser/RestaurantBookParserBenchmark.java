@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@link RestaurantBookParser} takes to parse a line of each command, which covers the parser of
+ * every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantBookParserBenchmark {
+
+    @Param({
+        "addmember n/John Doe p/98765432 e/johnd@example.com",
+        "addbooking c/1 ts/2019-02-23T14:30 n/3",
+        "addingredient in/cheese u/pounds q/8 w/5",
+        "addrecipe r/cheese sandwich iq/1&4",
+        "addstaff n/Jane Smith p/91234567 e/jsmith@example.com a/Waiter",
+        "addshift 1 sd/MONDAY ts/12:00 ed/MONDAY te/14:00",
+        "importbookings data/bookings.csv",
+        "availability ts/2019-02-23T14:30 n/3 h/2",
+        "updatecapacity 10",
+        "peakoccupancy 2019-02-23 2019-03-01",
+        "editmember 1 p/91234567 e/johndoe@example.com",
+        "editbooking 1 ts/2019-03-17T11:00 n/2",
+        "editstaff 1 p/97654321 a/Head Chef",
+        "deletemember 1",
+        "deletebooking 1",
+        "deleteingredient 1",
+        "deleterecipe 1",
+        "deletestaff 1",
+        "deleteshift 1 sd/MONDAY ts/12:00 ed/MONDAY te/14:00",
+        "clear",
+        "listmembers n/alice bob charlie l/10",
+        "liststaff n/alice bob charlie a/cook",
+        "history",
+        "exit",
+        "help",
+        "undo",
+        "redo",
+        "restockingredient i/1 q/10",
+        "consumeingredient i/1 q/10",
+        "listingredients in/tomato w/",
+        "statsdays 30",
+        "statstime 30"
+    })
+    protected String userInput;
+
+    private final RestaurantBookParser restaurantBookParser = new RestaurantBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return restaurantBookParser.parseCommand(userInput);
+    }
+}
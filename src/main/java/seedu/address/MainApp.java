@@ -2,31 +2,51 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.RestaurantBookLoader;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.RestaurantBook;
+import seedu.address.model.UndoHistorySpill;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonRestaurantBookStorage;
+import seedu.address.storage.BackgroundSaver;
+import seedu.address.storage.BinaryRestaurantBookStorage;
+import seedu.address.storage.DatabaseRestaurantBookStorage;
+import seedu.address.storage.FileUndoHistorySpill;
+import seedu.address.storage.JournaledRestaurantBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RestaurantBookConverter;
 import seedu.address.storage.RestaurantBookStorage;
+import seedu.address.storage.RestaurantBookStorage.SectionListener;
+import seedu.address.storage.SegmentedBookingArchive;
+import seedu.address.storage.ShardedRestaurantBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -45,6 +65,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected RestaurantBookLoader loader;
+    private Function<SectionListener, ReadOnlyRestaurantBook> initialDataReader;
 
     /**
      * Initialises the RestaurantBook.
@@ -61,29 +83,95 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        RestaurantBookStorage restaurantBookStorage =
-                new JsonRestaurantBookStorage(userPrefs.getRestaurantBookFilePath());
-        storage = new StorageManager(restaurantBookStorage, userPrefsStorage);
+        RestaurantBookStorage restaurantBookStorage = initRestaurantBookStorage(userPrefs);
+        storage = new StorageManager(restaurantBookStorage, userPrefsStorage,
+                new BackgroundSaver(userPrefs.getSavePolicy(), userPrefs.getSaveDebounceMillis()));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        BookingArchive bookingArchive = initBookingArchive(userPrefs, restaurantBookStorage);
+        CommandHistory history = new CommandHistory(userPrefs.getCommandHistorySize(),
+                new TextCommandHistoryStorage(TextCommandHistoryStorage.getCommandHistoryFilePath(
+                        userPrefs.getRestaurantBookFilePath())));
+        if (userPrefs.isProgressiveStartup()) {
+            // the restaurant book is loaded once the main window is shown
+            model = new ModelManager(new RestaurantBook(), userPrefs, bookingArchive, initUndoHistorySpill());
+            loader = new RestaurantBookLoader(model, Platform::runLater);
+            initialDataReader = sectionListener ->
+                    readInitialData(storage, userPrefs, bookingArchive, sectionListener);
+            logic = new LogicManager(model, storage, loader, history);
+        } else {
+            long readStartNanos = System.nanoTime();
+            ReadOnlyRestaurantBook initialData = readInitialData(storage, userPrefs, bookingArchive,
+                    (section, restaurantBook) -> { });
+            logger.info("Reading the restaurant book took "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - readStartNanos) + " ms");
+            model = new ModelManager(initialData, userPrefs, bookingArchive, initUndoHistorySpill());
+            logic = new LogicManager(model, storage, null, history);
+        }
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns a {@code RestaurantBookStorage} of the data file in {@code userPrefs}, in the format chosen by
+     * {@code userPrefs}, or in the format the data file is already in if it differs, so that the data file is neither
+     * misread as empty nor overwritten in another format.
+     */
+    static RestaurantBookStorage initRestaurantBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getRestaurantBookFilePath();
+        StorageFormat format = userPrefs.getStorageFormat();
+        try {
+            Optional<StorageFormat> fileFormat = RestaurantBookConverter.detectFormat(filePath);
+            if (fileFormat.isPresent() && fileFormat.get() != format) {
+                logger.warning("Data file " + filePath + " is stored as " + fileFormat.get() + " rather than "
+                        + format + ". Will keep storing it as " + fileFormat.get()
+                        + " until it is converted with convertData");
+                format = fileFormat.get();
+            }
+        } catch (IOException e) {
+            logger.warning("Could not detect the format of the data file " + filePath + " : "
+                    + StringUtil.getDetails(e));
+        }
+
+        switch (format) {
+        case BINARY:
+            return new BinaryRestaurantBookStorage(filePath);
+        case SHARDED:
+            return new ShardedRestaurantBookStorage(filePath);
+        case DATABASE:
+            return new DatabaseRestaurantBookStorage(filePath, userPrefs.getLoadHorizonDays());
+        default:
+            return new JournaledRestaurantBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the {@code BookingArchive} next to the data file in {@code userPrefs}, which also holds the bookings
+     * that {@code restaurantBookStorage} leaves unloaded in the data file.
+     */
+    static BookingArchive initBookingArchive(ReadOnlyUserPrefs userPrefs, RestaurantBookStorage restaurantBookStorage) {
+        BookingArchive bookingArchive = new SegmentedBookingArchive(
+                SegmentedBookingArchive.getArchiveDirectory(userPrefs.getRestaurantBookFilePath()));
+        if (restaurantBookStorage instanceof DatabaseRestaurantBookStorage) {
+            return ((DatabaseRestaurantBookStorage) restaurantBookStorage).withUnloadedBookings(bookingArchive);
+        }
+        return bookingArchive;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, with the past bookings moved into
+     * {@code bookingArchive}. Each section of {@code storage}'s address book is given to {@code sectionListener} as
+     * soon as it has been read. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyRestaurantBook readInitialData(Storage storage, ReadOnlyUserPrefs userPrefs,
+            BookingArchive bookingArchive, SectionListener sectionListener) {
         Optional<ReadOnlyRestaurantBook> restaurantBookOptional;
         ReadOnlyRestaurantBook initialData;
         try {
-            restaurantBookOptional = storage.readRestaurantBook();
+            restaurantBookOptional = storage.readRestaurantBookInSections(sectionListener);
             if (!restaurantBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample RestaurantBook");
             }
@@ -96,7 +184,56 @@ public class MainApp extends Application {
             initialData = new RestaurantBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return archivePastBookings(initialData, bookingArchive, storage, userPrefs.getArchiveHorizonDays());
+    }
+
+    /**
+     * Returns a spill file for the undo history, or keeps the whole undo history in memory if no spill file can be
+     * created.
+     */
+    private UndoHistorySpill initUndoHistorySpill() {
+        try {
+            return FileUndoHistorySpill.createTempFile();
+        } catch (IOException e) {
+            logger.warning("Failed to create the undo history spill file, the undo history will be kept in memory : "
+                    + StringUtil.getDetails(e));
+            return UndoHistorySpill.inMemory();
+        }
+    }
+
+    /**
+     * Moves the bookings in {@code restaurantBook} that start more than {@code archiveHorizonDays} days ago into
+     * {@code bookingArchive}, and returns the remaining data. <br>
+     * The bookings are only removed from the data file once they have been archived, so no bookings are lost if
+     * archiving fails. If they cannot be removed from the data file, they are archived again on the next start, which
+     * the archive ignores, as they are in it already. Archiving is skipped if {@code archiveHorizonDays} is 0.
+     */
+    static ReadOnlyRestaurantBook archivePastBookings(ReadOnlyRestaurantBook restaurantBook,
+                                                     BookingArchive bookingArchive, Storage storage,
+                                                     int archiveHorizonDays) {
+        if (archiveHorizonDays == 0) {
+            return restaurantBook;
+        }
+
+        RestaurantBook liveData = new RestaurantBook(restaurantBook);
+        List<Booking> pastBookings = liveData.removeBookingsBefore(LocalDate.now().minusDays(archiveHorizonDays));
+        if (pastBookings.isEmpty()) {
+            return restaurantBook;
+        }
+
+        try {
+            bookingArchive.archive(pastBookings);
+        } catch (IOException e) {
+            logger.warning("Failed to archive past bookings, they will be kept in the data file : "
+                    + StringUtil.getDetails(e));
+            return restaurantBook;
+        }
+        try {
+            storage.saveRestaurantBook(liveData);
+        } catch (IOException e) {
+            logger.warning("Failed to remove archived bookings from the data file : " + StringUtil.getDetails(e));
+        }
+        return liveData;
     }
 
     private void initLogging(Config config) {
@@ -175,11 +312,24 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting RestaurantBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (loader != null) {
+            loader.start(initialDataReader);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            // saves again in case the last save failed, then waits for the background saves to be written.
+            // A restaurant book that is still loading has not been changed, and must not replace the data file.
+            if (loader == null || loader.isLoaded()) {
+                storage.saveRestaurantBook(model.getRestaurantBook());
+            }
+            storage.flushRestaurantBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,91 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RestaurantBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point for running a script of commands on the restaurant book without the GUI, such as the end-of-day
+ * operations, for example with {@code gradlew runScript -Pscript=scripts/end-of-day.txt}.
+ * The script runs on the same data file as {@link MainApp}, found through the same config and user prefs files.
+ */
+public class ScriptApp {
+
+    public static final String MESSAGE_USAGE = "Usage: ScriptApp SCRIPT_FILE [CONFIG_FILE]\n"
+            + "Runs each line of SCRIPT_FILE as a command on the restaurant book, then saves it once.";
+    public static final String MESSAGE_RUN_FAILED = "Could not run %1$s: %2$s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save the restaurant book: %1$s";
+
+    /**
+     * Runs the script given as the first argument, with the config file given as the optional second argument.
+     * Exits with status 1 if the script could not be run, or 2 if any of its commands failed.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2 || args[0].isEmpty()) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path scriptPath = Paths.get(args[0]);
+        Path configPath = args.length == 2 ? Paths.get(args[1]) : Config.DEFAULT_CONFIG_FILE;
+        List<String> lines;
+        Model model;
+        Storage storage;
+        try {
+            lines = Files.readAllLines(scriptPath);
+            Config config = ConfigUtil.readConfig(configPath).orElse(new Config());
+            LogsCenter.init(config);
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElse(new UserPrefs());
+            RestaurantBookStorage restaurantBookStorage = MainApp.initRestaurantBookStorage(userPrefs);
+            storage = new StorageManager(restaurantBookStorage, userPrefsStorage);
+            model = initModel(storage, userPrefs, MainApp.initBookingArchive(userPrefs, restaurantBookStorage));
+        } catch (IOException | DataConversionException e) {
+            System.err.println(String.format(MESSAGE_RUN_FAILED, scriptPath, e.getMessage()));
+            System.exit(1);
+            return;
+        }
+
+        int failureCount = 0;
+        try {
+            failureCount = new ScriptRunner(model, storage).run(lines, System.out);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            System.exit(1);
+        }
+        System.exit(failureCount == 0 ? 0 : 2);
+    }
+
+    /**
+     * Returns a model of the restaurant book in {@code storage}, or of an empty restaurant book if there is no data
+     * file yet. Unlike {@link MainApp}, a data file that cannot be read is not replaced, so that the script does not
+     * overwrite it.
+     *
+     * @throws DataConversionException if the data file is not in the correct format.
+     * @throws IOException if there was any problem reading the data file.
+     */
+    private static Model initModel(Storage storage, UserPrefs userPrefs, BookingArchive bookingArchive)
+            throws DataConversionException, IOException {
+        ReadOnlyRestaurantBook restaurantBook = storage.readRestaurantBook().orElseGet(RestaurantBook::new);
+        return new ModelManager(restaurantBook, userPrefs, bookingArchive);
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * When the changes made by commands are written to the data file.
+ */
+public enum SavePolicy {
+    /** The changes of each command are written in the background as soon as the command completes. */
+    EVERY_COMMAND,
+    /** The changes are written in the background once no command has changed the data for a while. */
+    DEBOUNCE,
+    /** Each command waits until its changes have been written and forced to the storage device. */
+    FSYNC
+}
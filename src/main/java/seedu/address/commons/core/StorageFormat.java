@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The format in which the restaurant book data file is stored.
+ */
+public enum StorageFormat {
+    /** A json snapshot with a journal of the changes made since, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary snapshot, which is faster to load and save. */
+    BINARY,
+    /** A json manifest with one json shard file per section, of which only the modified ones are rewritten. */
+    SHARDED,
+    /** An embedded single-file database, to which the changes of each command are written in one transaction. */
+    DATABASE
+}
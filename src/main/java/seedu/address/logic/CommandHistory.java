@@ -1,22 +1,85 @@
 package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CommandHistoryStorage;
 
 /**
  * Stores the history of commands executed.
+ * Only the most recent commands, up to the capacity of the history, are kept in a ring buffer, and older commands are
+ * dropped. The commands are indexed by the trigrams of their text, so that {@link #search(String, int)} only checks
+ * the commands that contain the rarest trigram of the query, instead of every command in the history. The index is
+ * only built by the first search, so that a long history read from storage does not slow down the start of the app.
+ * A history with a {@code CommandHistoryStorage} starts with the most recent commands in the storage, and appends every
+ * command added to it to the storage.
  */
 public class CommandHistory {
-    private final ObservableList<String> userInputHistory = FXCollections.observableArrayList();
-    private final ObservableList<String> unmodifiableUserInputHistory =
-            FXCollections.unmodifiableObservableList(userInputHistory);
 
-    public CommandHistory() {}
+    private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+
+    private static final int INITIAL_BUFFER_SIZE = 16;
 
+    private final int capacity;
+    private final CommandHistoryStorage storage;
+    private final List<String> unmodifiableUserInputHistory = new HistoryView();
+    /** The commands, from the least recent at {@code head}, wrapping around to the front of the array. */
+    private String[] userInputHistory;
+    private int head;
+    private int size;
+    /** The sequence number of the least recent command, which grows by one every time a command is dropped. */
+    private int firstSequenceNumber;
+    /** The index of the commands in the ring buffer, or null if there has not been any search yet. */
+    private TrigramIndex index;
+
+    public CommandHistory() {
+        this(UserPrefs.DEFAULT_COMMAND_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates an empty {@code CommandHistory} that keeps up to {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, UserPrefs.MESSAGE_COMMAND_HISTORY_SIZE_CONSTRAINTS);
+        this.capacity = capacity;
+        this.storage = null;
+        userInputHistory = new String[Math.min(capacity, INITIAL_BUFFER_SIZE)];
+    }
+
+    /**
+     * Creates a {@code CommandHistory} that keeps up to {@code capacity} commands, and starts with the most recent
+     * commands in {@code storage}.
+     */
+    public CommandHistory(int capacity, CommandHistoryStorage storage) {
+        checkArgument(capacity > 0, UserPrefs.MESSAGE_COMMAND_HISTORY_SIZE_CONSTRAINTS);
+        requireNonNull(storage);
+        this.capacity = capacity;
+        this.storage = storage;
+        userInputHistory = new String[Math.min(capacity, INITIAL_BUFFER_SIZE)];
+
+        try {
+            storage.readCommandHistory(capacity).forEach(this::addToBuffer);
+        } catch (IOException e) {
+            logger.warning("Failed to read the command history, starting with an empty history : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Creates a copy of {@code commandHistory}, which does not append the commands added to it to any storage.
+     */
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory.addAll(commandHistory.userInputHistory);
+        this(commandHistory.capacity);
+        commandHistory.getHistory().forEach(this::addToBuffer);
     }
 
     /**
@@ -24,16 +87,102 @@ public class CommandHistory {
      */
     public void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        addToBuffer(userInput);
+        if (storage == null) {
+            return;
+        }
+
+        try {
+            storage.appendCommand(userInput);
+        } catch (IOException e) {
+            logger.warning("Failed to save the command to the command history file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Appends {@code userInput} to the ring buffer and the index, dropping the least recent command if the history is
+     * full.
+     */
+    private void addToBuffer(String userInput) {
+        if (size == capacity) {
+            if (index != null) {
+                index.removeOldest(firstSequenceNumber, userInputHistory[head]);
+            }
+            userInputHistory[head] = null;
+            head = (head + 1) % userInputHistory.length;
+            firstSequenceNumber++;
+            size--;
+        } else if (size == userInputHistory.length) {
+            String[] grown = new String[Math.min(capacity, userInputHistory.length * 2)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = get(i);
+            }
+            userInputHistory = grown;
+            head = 0;
+        }
+
+        userInputHistory[(head + size) % userInputHistory.length] = userInput;
+        if (index != null) {
+            index.add(firstSequenceNumber + size, userInput);
+        }
+        size++;
+    }
+
+    private String get(int i) {
+        return userInputHistory[(head + i) % userInputHistory.length];
     }
 
     /**
-     * Returns an unmodifiable view of {@code userInputHistory}.
+     * Returns an unmodifiable view of {@code userInputHistory}, from the least recent command to the most recent.
      */
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return unmodifiableUserInputHistory;
     }
 
+    /**
+     * Returns the index in {@link #getHistory()} of the most recent command before {@code beforeIndex} that contains
+     * {@code query}, ignoring case, or -1 if there is no such command.
+     */
+    public int search(String query, int beforeIndex) {
+        requireNonNull(query);
+        int before = Math.min(beforeIndex, size);
+        if (query.length() < TrigramIndex.TRIGRAM_LENGTH) {
+            // a query shorter than a trigram cannot use the index, but is usually found among the most recent commands
+            for (int i = before - 1; i >= 0; i--) {
+                if (containsIgnoreCase(get(i), query)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int sequenceNumber = getIndex().findLast(query, firstSequenceNumber + before,
+                candidate -> containsIgnoreCase(get(candidate - firstSequenceNumber), query));
+        return sequenceNumber == -1 ? -1 : sequenceNumber - firstSequenceNumber;
+    }
+
+    /**
+     * Returns the index of the commands in the ring buffer, building it if there has not been any search yet.
+     */
+    private TrigramIndex getIndex() {
+        if (index == null) {
+            index = new TrigramIndex();
+            for (int i = 0; i < size; i++) {
+                index.add(firstSequenceNumber + i, get(i));
+            }
+        }
+        return index;
+    }
+
+    private static boolean containsIgnoreCase(String text, String query) {
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -48,11 +197,29 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return getHistory().equals(other.getHistory());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getHistory().hashCode();
+    }
+
+    /**
+     * An unmodifiable view of the commands in the ring buffer, which reflects the commands added afterwards.
+     */
+    private class HistoryView extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+            }
+            return CommandHistory.this.get(i);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
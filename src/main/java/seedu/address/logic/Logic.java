@@ -1,11 +1,13 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.autocomplete.AutocompleteEngine;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -30,6 +32,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns up to {@link AutocompleteEngine#MAX_SUGGESTIONS} completions of a partly typed command, each of which is
+     * the whole command with its last part completed.
+     *
+     * @see AutocompleteEngine#suggest(String)
+     */
+    List<String> suggestCompletions(String commandText);
+
     /**
      * Returns the RestaurantBook.
      *
@@ -53,10 +63,18 @@ public interface Logic {
     ObservableList<Staff> getFilteredStaffList();
 
     /**
-     * Returns an unmodifiable view of the list of commands entered by the user.
-     * The list is ordered from the least recent command to the most recent command.
+     * Returns an unmodifiable view of the list of commands entered by the user, up to the command history size in
+     * the user prefs. The list is ordered from the least recent command to the most recent command.
+     */
+    List<String> getHistory();
+
+    /**
+     * Returns the index in {@link #getHistory()} of the most recent command before {@code beforeIndex} that contains
+     * {@code query}, ignoring case, or -1 if there is no such command.
+     *
+     * @see CommandHistory#search(String, int)
      */
-    ObservableList<String> getHistory();
+    int searchHistory(String query, int beforeIndex);
 
     /**
      * Returns the user prefs' address book file path.
@@ -149,4 +167,17 @@ public interface Logic {
     void setSelectedStaff(Staff staff);
 
     void setUpdateCapacityCallback(Consumer<Capacity> callback);
+
+    /**
+     * Sets the callback that is passed the error message when the data could not be saved in the background.
+     * The callback is not called on the JavaFX application thread.
+     */
+    void setSaveFailureCallback(Consumer<String> callback);
+
+    /**
+     * Sets the callback that is passed the result of each command that was entered while the restaurant book was
+     * loading, once the command has been executed. A command that failed is passed its error message as its result.
+     * The callback is called on the JavaFX application thread.
+     */
+    void setQueuedCommandCallback(Consumer<CommandResult> callback);
 }
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -9,6 +10,7 @@ import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.autocomplete.AutocompleteEngine;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -29,19 +31,39 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_QUEUED = "The data is still loading. "
+            + "The command will be executed once it has loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
     private final RestaurantBookParser restaurantBookParser;
+    private final RestaurantBookLoader loader;
+    private final AutocompleteEngine autocompleteEngine;
     private boolean restaurantBookModified;
+    private Consumer<CommandResult> queuedCommandCallback = commandResult -> { };
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    public LogicManager(Model model, Storage storage, RestaurantBookLoader loader) {
+        this(model, storage, loader, new CommandHistory());
+    }
+
+    /**
+     * Creates a {@code LogicManager} whose commands are queued until {@code loader} has finished loading the
+     * restaurant book into {@code model}, unless {@code loader} is null, and that records the commands entered in
+     * {@code history}.
+     */
+    public LogicManager(Model model, Storage storage, RestaurantBookLoader loader, CommandHistory history) {
         this.model = model;
         this.storage = storage;
-        history = new CommandHistory();
+        this.loader = loader;
+        this.history = history;
         restaurantBookParser = new RestaurantBookParser();
+        autocompleteEngine = new AutocompleteEngine(model.getRestaurantBook());
 
         // Set restaurantBookModified to true whenever the models' address book is modified.
         model.getRestaurantBook().addListener(observable -> restaurantBookModified = true);
@@ -50,16 +72,45 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        restaurantBookModified = false;
 
         CommandResult commandResult;
         try {
             Command command = restaurantBookParser.parseCommand(commandText);
+            if (loader != null && !loader.isLoaded()) {
+                loader.runWhenLoaded(() -> executeQueued(command, commandText));
+                return new CommandResult(MESSAGE_COMMAND_QUEUED);
+            }
+            restaurantBookModified = false;
             commandResult = command.execute(model, history);
         } finally {
             history.add(commandText);
         }
 
+        saveIfModified();
+        return commandResult;
+    }
+
+    /**
+     * Executes {@code command}, which was entered as {@code commandText} while the restaurant book was loading, and
+     * passes its result to the queued command callback.
+     */
+    private void executeQueued(Command command, String commandText) {
+        logger.info("----------------[QUEUED COMMAND][" + commandText + "]");
+        CommandResult commandResult;
+        try {
+            restaurantBookModified = false;
+            commandResult = command.execute(model, history);
+            saveIfModified();
+        } catch (CommandException ce) {
+            commandResult = new CommandResult(ce.getMessage());
+        }
+        queuedCommandCallback.accept(commandResult);
+    }
+
+    /**
+     * Saves the restaurant book if the command that was just executed modified it.
+     */
+    private void saveIfModified() throws CommandException {
         if (restaurantBookModified) {
             logger.info("Address book modified, saving to file.");
             try {
@@ -68,8 +119,11 @@ public class LogicManager implements Logic {
                 throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
             }
         }
+    }
 
-        return commandResult;
+    @Override
+    public List<String> suggestCompletions(String commandText) {
+        return autocompleteEngine.suggest(commandText);
     }
 
     @Override
@@ -103,10 +157,15 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return history.getHistory();
     }
 
+    @Override
+    public int searchHistory(String query, int beforeIndex) {
+        return history.search(query, beforeIndex);
+    }
+
     @Override
     public Path getRestaurantBookFilePath() {
         return model.getRestaurantBookFilePath();
@@ -176,4 +235,14 @@ public class LogicManager implements Logic {
     public void setUpdateCapacityCallback(Consumer<Capacity> callback) {
         model.setUpdateCapacityCallback(callback);
     }
+
+    @Override
+    public void setSaveFailureCallback(Consumer<String> callback) {
+        storage.setSaveFailureHandler(ioe -> callback.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void setQueuedCommandCallback(Consumer<CommandResult> callback) {
+        queuedCommandCallback = callback;
+    }
 }
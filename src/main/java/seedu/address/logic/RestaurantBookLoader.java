@@ -0,0 +1,245 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.person.member.Member;
+import seedu.address.storage.RestaurantBookStorage.SectionListener;
+
+/**
+ * Loads the restaurant book into a {@code Model} after the main window has been shown.
+ * The restaurant book is read on a background thread. The members and today's bookings are added to the model on the
+ * UI thread as soon as they have been read, and the rest of the sections are added one at a time once the whole
+ * restaurant book has been read, so that each list panel fills in as soon as its section is loaded. The UI thread
+ * never waits for the restaurant book to be read: tasks that need the whole restaurant book are run once it is loaded.
+ * The sections become part of the initial state of the model, so loading them cannot be undone.
+ * The time taken by each phase of the loading is logged.
+ */
+public class RestaurantBookLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(RestaurantBookLoader.class);
+
+    private final Model model;
+    private final Executor uiExecutor;
+    /** The tasks to run once all the sections have been added to the model. Only accessed on the UI thread. */
+    private final List<Runnable> tasksAfterLoading = new ArrayList<>();
+    /** The sections that are still to be added to the model, or null if the restaurant book is still being read. */
+    private Deque<LoadStep> pendingSteps;
+    /** The members and today's bookings that were added to the model before the whole restaurant book was read. */
+    private List<Member> loadedMembers;
+    private List<Booking> loadedTodaysBookings;
+    private Capacity loadedCapacity;
+    private long startNanos;
+
+    /**
+     * Creates a {@code RestaurantBookLoader} that loads into {@code model}, which must hold an empty restaurant book,
+     * and adds the sections to {@code model} through {@code uiExecutor}.
+     */
+    public RestaurantBookLoader(Model model, Executor uiExecutor) {
+        requireNonNull(model);
+        requireNonNull(uiExecutor);
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Starts reading the restaurant book with {@code reader} on a background thread, and adding its sections to the
+     * model as they are read. {@code reader} gives each section to the listener it is passed as soon as it has been
+     * read, and returns the restaurant book to load, whose items are the very same as those of the sections given if
+     * they are to be kept.
+     */
+    public void start(Function<SectionListener, ReadOnlyRestaurantBook> reader) {
+        requireNonNull(reader);
+        startNanos = System.nanoTime();
+        Thread loaderThread = new Thread(() -> {
+            ReadOnlyRestaurantBook book;
+            try {
+                book = reader.apply(this::sectionRead);
+                logPhase("Reading the restaurant book", startNanos);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to read the restaurant book : " + StringUtil.getDetails(e));
+                book = new RestaurantBook();
+            }
+            ReadOnlyRestaurantBook readBook = book;
+            uiExecutor.execute(() -> finishReading(readBook));
+        }, "restaurant-book-loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+
+    /**
+     * Returns true if all the sections have been added to the model.
+     * Must be called on the UI thread.
+     */
+    public boolean isLoaded() {
+        return pendingSteps != null && pendingSteps.isEmpty();
+    }
+
+    /**
+     * Runs {@code task} right away if all the sections have been added to the model, or once they have been
+     * otherwise, after the tasks given before it.
+     * Must be called on the UI thread.
+     */
+    public void runWhenLoaded(Runnable task) {
+        requireNonNull(task);
+        if (isLoaded()) {
+            task.run();
+        } else {
+            tasksAfterLoading.add(task);
+        }
+    }
+
+    /**
+     * Schedules adding {@code section} of {@code book}, which is still being read, to the model, if the section is
+     * loaded before the whole restaurant book has been read.
+     * Called on the thread reading the restaurant book.
+     */
+    private void sectionRead(RestaurantBookSection section, ReadOnlyRestaurantBook book) {
+        switch (section) {
+        case MEMBERS:
+            List<Member> members = new ArrayList<>(book.getMemberList());
+            uiExecutor.execute(() -> {
+                loadStep(new LoadStep("members", restaurantBook -> restaurantBook.setMembers(members)));
+                loadedMembers = members;
+            });
+            break;
+        case BOOKINGS:
+            List<Booking> todaysBookings = getTodaysBookings(book.getBookingList());
+            Capacity capacity = book.getCapacity();
+            uiExecutor.execute(() -> {
+                loadStep(new LoadStep("today's bookings", restaurantBook -> {
+                    restaurantBook.setCapacity(capacity);
+                    restaurantBook.addBookings(todaysBookings);
+                }));
+                loadedTodaysBookings = todaysBookings;
+                loadedCapacity = capacity;
+            });
+            break;
+        default:
+            // the other sections are loaded once the whole restaurant book has been read
+        }
+    }
+
+    /**
+     * Plans the steps that add the rest of {@code book}, which has been read completely, to the model, and starts
+     * taking them.
+     */
+    private void finishReading(ReadOnlyRestaurantBook book) {
+        pendingSteps = planRemainingSteps(book);
+        loadNextSection();
+    }
+
+    /**
+     * Adds the next section to the model, and schedules the section after it on the UI thread, or runs the tasks
+     * waiting for the restaurant book to load if it was the last section.
+     */
+    private void loadNextSection() {
+        if (!pendingSteps.isEmpty()) {
+            loadStep(pendingSteps.removeFirst());
+        }
+        if (!pendingSteps.isEmpty()) {
+            uiExecutor.execute(this::loadNextSection);
+            return;
+        }
+
+        logPhase("Loading the restaurant book", startNanos);
+        List<Runnable> tasks = new ArrayList<>(tasksAfterLoading);
+        tasksAfterLoading.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private void loadStep(LoadStep step) {
+        long stepStartNanos = System.nanoTime();
+        model.extendInitialRestaurantBook(step.changes);
+        logPhase("Loading " + step.name, stepStartNanos);
+    }
+
+    /**
+     * Returns the steps that add the sections of {@code book} that have not been added yet to the model, in the order
+     * in which they are loaded. The members and bookings that were added before {@code book} was read completely are
+     * replaced if they are not the very same as those of {@code book}, such as when reading failed halfway.
+     */
+    private Deque<LoadStep> planRemainingSteps(ReadOnlyRestaurantBook book) {
+        LocalDate today = LocalDate.now();
+        List<Booking> todaysBookings = new ArrayList<>();
+        List<Booking> otherBookings = new ArrayList<>();
+        for (Booking booking : book.getBookingList()) {
+            if (booking.getStartTime().toLocalDate().equals(today)) {
+                todaysBookings.add(booking);
+            } else {
+                otherBookings.add(booking);
+            }
+        }
+
+        Deque<LoadStep> steps = new ArrayDeque<>();
+        if (loadedMembers == null || !ListEdit.between(loadedMembers, book.getMemberList()).isEmpty()) {
+            steps.add(new LoadStep("members", restaurantBook -> restaurantBook.setMembers(book.getMemberList())));
+        }
+        if (loadedTodaysBookings != null && ListEdit.between(loadedTodaysBookings, todaysBookings).isEmpty()
+                && loadedCapacity.equals(book.getCapacity())) {
+            steps.add(new LoadStep("other bookings", restaurantBook -> restaurantBook.addBookings(otherBookings)));
+        } else {
+            steps.add(new LoadStep("bookings", restaurantBook -> {
+                restaurantBook.setBookings(Collections.emptyList());
+                restaurantBook.setCapacity(book.getCapacity());
+                restaurantBook.setBookings(book.getBookingList());
+            }));
+        }
+        steps.add(new LoadStep("ingredients", restaurantBook ->
+                restaurantBook.setIngredients(book.getIngredientList())));
+        steps.add(new LoadStep("recipes", restaurantBook -> restaurantBook.setRecipes(book.getRecipeList())));
+        steps.add(new LoadStep("staff", restaurantBook -> restaurantBook.setStaffList(book.getStaffList())));
+        return steps;
+    }
+
+    /**
+     * Returns the bookings in {@code bookings} that start today, in the same order.
+     */
+    private static List<Booking> getTodaysBookings(List<Booking> bookings) {
+        LocalDate today = LocalDate.now();
+        List<Booking> todaysBookings = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getStartTime().toLocalDate().equals(today)) {
+                todaysBookings.add(booking);
+            }
+        }
+        return todaysBookings;
+    }
+
+    private static void logPhase(String phase, long phaseStartNanos) {
+        logger.info(phase + " took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStartNanos) + " ms");
+    }
+
+    /**
+     * A section of the restaurant book to be added to the model.
+     */
+    private static class LoadStep {
+        private final String name;
+        private final Consumer<RestaurantBook> changes;
+
+        LoadStep(String name, Consumer<RestaurantBook> changes) {
+            this.name = name;
+            this.changes = changes;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RestaurantBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs the lines of a script as commands, without a GUI.
+ * Unlike {@link LogicManager#execute(String)}, which commits and saves the restaurant book after every command that
+ * modifies it, the changes of the whole script are committed as a single restaurant book state and saved once, after
+ * the last line. A line that fails is reported and the script goes on with the next line.
+ */
+public class ScriptRunner {
+
+    /** Lines that start with this are comments, and are skipped like blank lines. */
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_LINE_SUCCESS = "%1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILURE = "%1$d: FAILED: %2$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d command(s) in %2$d ms, %3$d command(s)/s, %4$d failed.";
+    public static final String MESSAGE_SAVED = "Saved the restaurant book in %1$d ms.";
+    public static final String MESSAGE_NOT_MODIFIED = "The restaurant book was not modified.";
+
+    private final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final CommandHistory history = new CommandHistory();
+    private final RestaurantBookParser restaurantBookParser = new RestaurantBookParser();
+    private boolean restaurantBookModified;
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands on {@code model} and saves the result to {@code storage}.
+     */
+    public ScriptRunner(Model model, Storage storage) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.model = model;
+        this.storage = storage;
+
+        model.getRestaurantBook().addListener(observable -> restaurantBookModified = true);
+    }
+
+    /**
+     * Runs each of {@code lines} as a command, and prints the result of each command to {@code out}, followed by how
+     * many commands were run per second. Blank lines and comments are skipped, and an exit command stops the script.
+     * The changes of all the commands are committed as a single restaurant book state, and saved once.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if the restaurant book could not be saved.
+     */
+    public int run(List<String> lines, PrintStream out) throws IOException {
+        requireNonNull(lines);
+        requireNonNull(out);
+        restaurantBookModified = false;
+        int commandCount = 0;
+        int failureCount = 0;
+
+        long runStartNanos = System.nanoTime();
+        model.startRestaurantBookBatch();
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    CommandResult commandResult = execute(line);
+                    out.println(String.format(MESSAGE_LINE_SUCCESS, i + 1, commandResult.getFeedbackToUser()));
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    out.println(String.format(MESSAGE_LINE_FAILURE, i + 1, e.getMessage()));
+                }
+            }
+        } finally {
+            model.endRestaurantBookBatch();
+        }
+        long runMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStartNanos);
+        long commandsPerSecond = commandCount * 1000L / Math.max(runMillis, 1);
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, runMillis, commandsPerSecond, failureCount));
+
+        if (!restaurantBookModified) {
+            out.println(MESSAGE_NOT_MODIFIED);
+            return failureCount;
+        }
+
+        long saveStartNanos = System.nanoTime();
+        storage.saveRestaurantBook(model.getRestaurantBook());
+        storage.flushRestaurantBook();
+        out.println(String.format(MESSAGE_SAVED,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - saveStartNanos)));
+        return failureCount;
+    }
+
+    /**
+     * Parses and executes {@code line} as a command.
+     */
+    private CommandResult execute(String line) throws CommandException, ParseException {
+        logger.fine("Running script command: " + line);
+        try {
+            Command command = restaurantBookParser.parseCommand(line);
+            return command.execute(model, history);
+        } finally {
+            history.add(line);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.logic;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * An index of texts by the trigrams (sequences of three characters) they contain, ignoring case.
+ * Each text is identified by a sequence number, and texts are added in increasing order of sequence number and removed
+ * oldest first, so the sequence numbers of the texts that contain a trigram are kept sorted in a plain array.
+ * The postings of the trigrams are kept in an open addressing hash table keyed by the packed trigram, which saves
+ * boxing every trigram of every text added, as a {@code HashMap} would.
+ */
+class TrigramIndex {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private static final int INITIAL_TABLE_SIZE = 1024;
+
+    /** The trigram in each slot of the hash table, which is only used if the slot has postings. */
+    private long[] trigrams = new long[INITIAL_TABLE_SIZE];
+    private Postings[] postings = new Postings[INITIAL_TABLE_SIZE];
+    private int usedSlotCount;
+
+    /**
+     * Adds {@code text}, identified by {@code sequenceNumber}, which must be larger than that of any text added before.
+     */
+    void add(int sequenceNumber, String text) {
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            getOrCreatePostings(trigramAt(text, i)).add(sequenceNumber);
+        }
+    }
+
+    /**
+     * Removes {@code text}, identified by {@code sequenceNumber}, which must be the oldest text in the index.
+     */
+    void removeOldest(int sequenceNumber, String text) {
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            // postings left empty keep their slot until the table is rebuilt
+            getPostings(trigramAt(text, i)).removeFirst(sequenceNumber);
+        }
+    }
+
+    /**
+     * Returns the largest sequence number below {@code before} of a text that is accepted by {@code isMatch}, among the
+     * texts that contain the rarest trigram of {@code query}, which are the only texts that can contain {@code query}.
+     * Returns -1 if there is no such text. {@code query} must be at least {@link #TRIGRAM_LENGTH} characters long.
+     */
+    int findLast(String query, int before, IntPredicate isMatch) {
+        assert query.length() >= TRIGRAM_LENGTH;
+        Postings rarest = null;
+        for (int i = 0; i + TRIGRAM_LENGTH <= query.length(); i++) {
+            Postings postings = getPostings(trigramAt(query, i));
+            if (postings == null || postings.isEmpty()) {
+                return -1;
+            }
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        return rarest.findLast(before, isMatch);
+    }
+
+    /**
+     * Returns the postings of {@code trigram}, or null if it has none.
+     */
+    private Postings getPostings(long trigram) {
+        int mask = postings.length - 1;
+        for (int slot = slotOf(trigram, mask); postings[slot] != null; slot = (slot + 1) & mask) {
+            if (trigrams[slot] == trigram) {
+                return postings[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the postings of {@code trigram}, adding empty postings to the table if it has none.
+     */
+    private Postings getOrCreatePostings(long trigram) {
+        int mask = postings.length - 1;
+        int slot = slotOf(trigram, mask);
+        for (; postings[slot] != null; slot = (slot + 1) & mask) {
+            if (trigrams[slot] == trigram) {
+                return postings[slot];
+            }
+        }
+
+        if ((usedSlotCount + 1) * 4 > postings.length * 3) {
+            rebuildTable();
+            return getOrCreatePostings(trigram);
+        }
+        usedSlotCount++;
+        trigrams[slot] = trigram;
+        postings[slot] = new Postings();
+        return postings[slot];
+    }
+
+    /**
+     * Rebuilds the hash table without the empty postings, in a table twice as large as they need.
+     */
+    private void rebuildTable() {
+        long[] oldTrigrams = trigrams;
+        Postings[] oldPostings = postings;
+        int nonEmptyCount = 0;
+        for (Postings slotPostings : oldPostings) {
+            if (slotPostings != null && !slotPostings.isEmpty()) {
+                nonEmptyCount++;
+            }
+        }
+
+        int tableSize = Math.max(Integer.highestOneBit(nonEmptyCount) * 4, INITIAL_TABLE_SIZE);
+        trigrams = new long[tableSize];
+        postings = new Postings[tableSize];
+        usedSlotCount = nonEmptyCount;
+        int mask = tableSize - 1;
+        for (int i = 0; i < oldPostings.length; i++) {
+            if (oldPostings[i] == null || oldPostings[i].isEmpty()) {
+                continue;
+            }
+            int slot = slotOf(oldTrigrams[i], mask);
+            while (postings[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            trigrams[slot] = oldTrigrams[i];
+            postings[slot] = oldPostings[i];
+        }
+    }
+
+    private static int slotOf(long trigram, int mask) {
+        int hash = Long.hashCode(trigram * 0x9E3779B97F4A7C15L);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the trigram of {@code text} that starts at {@code index}, with its characters folded to one case and
+     * packed into a {@code long}.
+     */
+    private static long trigramAt(String text, int index) {
+        long trigram = 0;
+        for (int i = index; i < index + TRIGRAM_LENGTH; i++) {
+            trigram = (trigram << Character.SIZE) | foldCase(text.charAt(i));
+        }
+        return trigram;
+    }
+
+    /**
+     * Returns {@code c} folded the same way as {@link String#regionMatches(boolean, int, String, int, int)} compares
+     * characters when ignoring case.
+     */
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * The sorted sequence numbers of the texts that contain a trigram, each listed once.
+     */
+    private static class Postings {
+        private int[] sequenceNumbers = new int[2];
+        private int start;
+        private int end;
+
+        void add(int sequenceNumber) {
+            if (end > start && sequenceNumbers[end - 1] == sequenceNumber) {
+                // the trigram occurs more than once in the same text
+                return;
+            }
+            if (end == sequenceNumbers.length) {
+                makeRoom();
+            }
+            sequenceNumbers[end++] = sequenceNumber;
+        }
+
+        void removeFirst(int sequenceNumber) {
+            // the first occurrence of a trigram that occurs more than once in the text already removed it
+            if (start < end && sequenceNumbers[start] == sequenceNumber) {
+                start++;
+            }
+        }
+
+        /**
+         * Makes room at the end of the array, by moving the sequence numbers to the front of the array if at least
+         * half of it was freed by removals, or by growing it otherwise.
+         */
+        private void makeRoom() {
+            int size = size();
+            if (start >= sequenceNumbers.length / 2) {
+                System.arraycopy(sequenceNumbers, start, sequenceNumbers, 0, size);
+            } else {
+                sequenceNumbers = Arrays.copyOfRange(sequenceNumbers, start, sequenceNumbers.length * 2);
+            }
+            start = 0;
+            end = size;
+        }
+
+        boolean isEmpty() {
+            return start == end;
+        }
+
+        int size() {
+            return end - start;
+        }
+
+        /**
+         * Returns the largest sequence number below {@code before} that is accepted by {@code isMatch}, or -1 if there
+         * is none.
+         */
+        int findLast(int before, IntPredicate isMatch) {
+            int insertionPoint = Arrays.binarySearch(sequenceNumbers, start, end, before);
+            int last = (insertionPoint >= 0 ? insertionPoint : -insertionPoint - 1) - 1;
+            for (int i = last; i >= start; i--) {
+                if (isMatch.test(sequenceNumbers[i])) {
+                    return sequenceNumbers[i];
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.logic.commands.CommandGroup;
+import seedu.address.logic.commands.ingredient.ListIngredientsCommand;
+import seedu.address.logic.commands.member.ListMembersCommand;
+import seedu.address.logic.commands.staff.ListStaffCommand;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.logic.parser.CommandSyntax;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.RestaurantBookParser;
+import seedu.address.model.ReadOnlyRestaurantBook;
+
+/**
+ * Suggests completions of a partly typed command.
+ * <ul>
+ * <li>A command word is completed from the command words and aliases of {@link RestaurantBookParser}.</li>
+ * <li>After the command word, the prefixes of the arguments of the command that are not given yet are suggested.</li>
+ * <li>The value of an argument that names an item, such as the {@code n/} of {@code listmembers}, is completed from
+ * the names of the items in the restaurant book.</li>
+ * </ul>
+ * All the lookups go through prefix trees, so suggesting completions takes about as long for a restaurant book with
+ * tens of thousands of members as for an empty one.
+ */
+public class AutocompleteEngine {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final Map<String, CommandSyntax> syntaxes = new HashMap<>();
+    /** The index of the names to complete the value of each argument with, keyed by command word and prefix. */
+    private final Map<String, Map<Prefix, NameIndex<?>>> nameIndexes = new HashMap<>();
+
+    /**
+     * Creates an engine that completes names from the items in {@code restaurantBook}, as they change.
+     */
+    public AutocompleteEngine(ReadOnlyRestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        for (CommandSyntax syntax : RestaurantBookParser.getCommandSyntaxes()) {
+            commandWords.add(syntax.getCommandWord());
+            commandWords.add(syntax.getCommandAlias());
+            syntaxes.put(syntax.getCommandWord(), syntax);
+            syntaxes.put(syntax.getCommandAlias(), syntax);
+        }
+
+        NameIndex<?> memberNames = new NameIndex<>(restaurantBook.getMemberList(),
+                member -> member.getName().fullName);
+        NameIndex<?> ingredientNames = new NameIndex<>(restaurantBook.getIngredientList(),
+                ingredient -> ingredient.getIngredientName().getName());
+        NameIndex<?> staffNames = new NameIndex<>(restaurantBook.getStaffList(), staff -> staff.getName().fullName);
+        addNameIndex(ListMembersCommand.COMMAND_WORD, CliSyntax.PREFIX_NAME, memberNames);
+        addNameIndex(ListIngredientsCommand.COMMAND_WORD, CliSyntax.PREFIX_INGREDIENT_NAME, ingredientNames);
+        addNameIndex(ListStaffCommand.COMMAND_WORD, CliSyntax.PREFIX_NAME, staffNames);
+    }
+
+    /**
+     * Completes the value of the {@code prefix} argument of the command with {@code commandWord}, and of its alias,
+     * with the names in {@code names}.
+     */
+    private void addNameIndex(String commandWord, Prefix prefix, NameIndex<?> names) {
+        CommandSyntax syntax = syntaxes.get(commandWord);
+        assert syntax != null && syntax.getPrefixes().contains(prefix);
+        nameIndexes.computeIfAbsent(syntax.getCommandWord(), unused -> new HashMap<>()).put(prefix, names);
+        nameIndexes.computeIfAbsent(syntax.getCommandAlias(), unused -> new HashMap<>()).put(prefix, names);
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} completions of {@code input}, the text typed so far.
+     * Each completion is the whole text with its last part completed, and starts with the text typed before that part.
+     * In a group of commands, only the last command is completed.
+     */
+    public List<String> suggest(String input) {
+        requireNonNull(input);
+        int lastSeparator = input.lastIndexOf(CommandGroup.SEPARATOR);
+        if (lastSeparator == -1) {
+            return suggestCommand(input);
+        }
+
+        String beforeLastCommand = input.substring(0, lastSeparator + 1) + " ";
+        List<String> suggestions = new ArrayList<>();
+        for (String suggestion : suggestCommand(input.substring(lastSeparator + 1))) {
+            suggestions.add(beforeLastCommand + suggestion);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} completions of {@code input}, the text of a single command typed so far.
+     */
+    private List<String> suggestCommand(String input) {
+        String typed = stripLeading(input);
+        int commandWordEnd = indexOfWhitespace(typed, 0);
+        if (commandWordEnd == -1) {
+            return commandWords.findByPrefix(typed, MAX_SUGGESTIONS);
+        }
+
+        String commandWord = typed.substring(0, commandWordEnd).toLowerCase(Locale.ROOT);
+        CommandSyntax syntax = syntaxes.get(commandWord);
+        if (syntax == null) {
+            return new ArrayList<>();
+        }
+
+        List<String> suggestions = new ArrayList<>();
+        suggestNames(typed, commandWord, syntax, suggestions);
+        suggestPrefixes(typed, syntax, suggestions);
+        return suggestions;
+    }
+
+    /**
+     * Adds the completions of the value of the last argument of {@code typed} to {@code suggestions}, if the argument
+     * names an item.
+     */
+    private void suggestNames(String typed, String commandWord, CommandSyntax syntax, List<String> suggestions) {
+        Map<Prefix, NameIndex<?>> commandNameIndexes = nameIndexes.get(commandWord);
+        if (commandNameIndexes == null) {
+            return;
+        }
+
+        int lastArgumentStart = -1;
+        Prefix lastPrefix = null;
+        for (Prefix prefix : syntax.getPrefixes()) {
+            int argumentStart = typed.lastIndexOf(" " + prefix.getPrefix());
+            if (argumentStart > lastArgumentStart) {
+                lastArgumentStart = argumentStart;
+                lastPrefix = prefix;
+            }
+        }
+        NameIndex<?> names = lastPrefix == null ? null : commandNameIndexes.get(lastPrefix);
+        if (names == null) {
+            return;
+        }
+
+        int valueStart = lastArgumentStart + 1 + lastPrefix.getPrefix().length();
+        String beforeValue = typed.substring(0, valueStart);
+        for (String name : names.findByPrefix(stripLeading(typed.substring(valueStart)), MAX_SUGGESTIONS)) {
+            suggestions.add(beforeValue + name);
+        }
+    }
+
+    /**
+     * Adds the completions of the last word of {@code typed} into the prefixes of the arguments that have not been
+     * given yet to {@code suggestions}, up to {@link #MAX_SUGGESTIONS} suggestions in all.
+     */
+    private void suggestPrefixes(String typed, CommandSyntax syntax, List<String> suggestions) {
+        int lastWordStart = typed.lastIndexOf(' ') + 1;
+        String lastWord = typed.substring(lastWordStart);
+        if (lastWord.contains("/")) {
+            return;
+        }
+
+        String beforeLastWord = typed.substring(0, lastWordStart);
+        for (Prefix prefix : syntax.getPrefixes()) {
+            if (suggestions.size() >= MAX_SUGGESTIONS) {
+                return;
+            }
+            boolean isGiven = beforeLastWord.contains(" " + prefix.getPrefix());
+            if (!isGiven && prefix.getPrefix().startsWith(lastWord.toLowerCase(Locale.ROOT))) {
+                suggestions.add(beforeLastWord + prefix.getPrefix());
+            }
+        }
+    }
+
+    private static String stripLeading(String text) {
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return text.substring(start);
+    }
+
+    private static int indexOfWhitespace(String text, int fromIndex) {
+        for (int i = fromIndex; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
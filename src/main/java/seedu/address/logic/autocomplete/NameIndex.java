@@ -0,0 +1,50 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A prefix index of the names of the items in an {@code ObservableList}.
+ * The index is kept up to date with the list as it changes, by only adding the names of the added items and removing
+ * the names of the removed items, so looking up a name never scans the list.
+ *
+ * @param <T> the type of the items in the list.
+ */
+public class NameIndex<T> {
+
+    private final PrefixTrie names = new PrefixTrie();
+    private final Function<? super T, String> nameOf;
+
+    /**
+     * Creates an index of the names of the items in {@code items}, as returned by {@code nameOf}.
+     */
+    public NameIndex(ObservableList<? extends T> items, Function<? super T, String> nameOf) {
+        requireNonNull(items);
+        requireNonNull(nameOf);
+        this.nameOf = nameOf;
+        items.forEach(item -> names.add(nameOf.apply(item)));
+        items.addListener(this::onItemsChanged);
+    }
+
+    private void onItemsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(item -> names.remove(nameOf.apply(item)));
+            change.getAddedSubList().forEach(item -> names.add(nameOf.apply(item)));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct names that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> findByPrefix(String prefix, int limit) {
+        return names.findByPrefix(prefix, limit);
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A case-insensitive prefix tree of words, which finds the words that start with a prefix by walking down the
+ * characters of the prefix, without looking at the words that do not start with it.
+ * A word may be added more than once, and is only removed once it has been removed as many times as it was added.
+ * Words that only differ in case are kept apart, but are found under the same prefixes.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (char c : toKey(word).toCharArray()) {
+            node = node.getOrAddChild(c);
+        }
+        if (node.words == null) {
+            node.words = new TreeMap<>();
+        }
+        node.words.merge(word, 1, Integer::sum);
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, if there is any.
+     * The nodes that no longer lead to any word are removed along with it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].getChild(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node node = path[key.length()];
+        if (node.words == null || !node.words.containsKey(word)) {
+            return;
+        }
+        if (node.words.merge(word, -1, Integer::sum) == 0) {
+            node.words.remove(word);
+        }
+        if (node.words.isEmpty()) {
+            node.words = null;
+        }
+        size--;
+
+        for (int i = key.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Returns the number of occurrences of all the words.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words that start with {@code prefix}, ignoring case, in alphabetical
+     * order. Only the part of the tree under {@code prefix} is visited, and the search stops once {@code limit} words
+     * are found, so the time taken does not grow with the number of words.
+     */
+    public List<String> findByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> words = new ArrayList<>();
+        Node node = root;
+        for (char c : toKey(prefix).toCharArray()) {
+            node = node.getChild(c);
+            if (node == null) {
+                return words;
+            }
+        }
+        collectWords(node, words, limit);
+        return words;
+    }
+
+    /**
+     * Adds the words at and under {@code node} to {@code words} in alphabetical order, until it holds {@code limit}
+     * words.
+     */
+    private static void collectWords(Node node, List<String> words, int limit) {
+        Deque<Node> pendingNodes = new ArrayDeque<>();
+        pendingNodes.push(node);
+        while (!pendingNodes.isEmpty() && words.size() < limit) {
+            Node pendingNode = pendingNodes.pop();
+            if (pendingNode.words != null) {
+                for (String word : pendingNode.words.keySet()) {
+                    if (words.size() == limit) {
+                        return;
+                    }
+                    words.add(word);
+                }
+            }
+            for (int i = pendingNode.childCount - 1; i >= 0; i--) {
+                pendingNodes.push(pendingNode.children[i]);
+            }
+        }
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the tree, whose children are kept in arrays sorted by their characters to keep the tree compact.
+     */
+    private static class Node {
+        private static final char[] NO_CHARS = new char[0];
+        private static final Node[] NO_NODES = new Node[0];
+
+        private char[] childChars = NO_CHARS;
+        private Node[] children = NO_NODES;
+        private int childCount;
+        /** The number of occurrences of each word that ends at this node, or null if there are none. */
+        private Map<String, Integer> words;
+
+        Node getChild(char c) {
+            int index = Arrays.binarySearch(childChars, 0, childCount, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int index = Arrays.binarySearch(childChars, 0, childCount, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            if (childCount == childChars.length) {
+                int capacity = Math.max(2, childCount * 2);
+                childChars = Arrays.copyOf(childChars, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(childChars, insertAt, childChars, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            childChars[insertAt] = c;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(childChars, 0, childCount, c);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(childChars, index + 1, childChars, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        boolean isEmpty() {
+            return words == null && childCount == 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes several commands as a single transaction: either all of their changes are made, as a single restaurant book
+ * state that one undo reverts, or, if any of the commands fails, none of them are.
+ */
+public class CommandGroup extends Command {
+
+    /** Separates the commands of a group in the user input. */
+    public static final String SEPARATOR = ";";
+
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Command %1$d of %2$d failed, so none of the changes were made: %3$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a {@code CommandGroup} that executes {@code commands} in order.
+     */
+    public CommandGroup(List<Command> commands) {
+        requireNonNull(commands);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        StringBuilder feedbackToUser = new StringBuilder();
+        boolean showHelp = false;
+        boolean exit = false;
+        boolean isSuccessful = false;
+        model.startRestaurantBookBatch();
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                CommandResult commandResult;
+                try {
+                    commandResult = commands.get(i).execute(model, history);
+                } catch (CommandException e) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, commands.size(),
+                            e.getMessage()), e);
+                }
+
+                if (i > 0) {
+                    feedbackToUser.append('\n');
+                }
+                feedbackToUser.append(commandResult.getFeedbackToUser());
+                showHelp |= commandResult.isShowHelp();
+                exit |= commandResult.isExit();
+            }
+            isSuccessful = true;
+        } finally {
+            if (!isSuccessful) {
+                model.rollbackRestaurantBook();
+            }
+            model.endRestaurantBookBatch();
+        }
+        return new CommandResult(feedbackToUser.toString(), showHelp, exit);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CommandGroup // instanceof handles nulls
+                && commands.equals(((CommandGroup) other).commands));
+    }
+}
@@ -3,32 +3,77 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists the commands entered by the user, from the most recent, one page at a time.
  */
 public class HistoryCommand extends Command {
 
     public static final String COMMAND_WORD = "history";
     public static final String COMMAND_ALIAS = "z";
+    public static final int PAGE_SIZE = 20;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the commands entered, from most recent to "
+            + "earliest, " + PAGE_SIZE + " commands per page.\n"
+            + "Parameters: [PAGE] (must be a positive integer, 1 by default)\n"
+            + "Example: " + COMMAND_WORD + " 2";
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
+    public static final String MESSAGE_PAGE_SUCCESS =
+            "Entered commands, page %1$d of %2$d (from most recent to earliest):\n%3$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
+    public static final String MESSAGE_INVALID_PAGE = "There are only %1$d page(s) of entered commands.";
+
+    private final int page;
+
+    public HistoryCommand() {
+        this(1);
+    }
+
+    /**
+     * Creates a HistoryCommand to list the {@code page}th page of entered commands, counting from 1.
+     */
+    public HistoryCommand(int page) {
+        assert page > 0;
+        this.page = page;
+    }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) {
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(history);
-        ArrayList<String> previousCommands = new ArrayList<>(history.getHistory());
+        List<String> previousCommands = history.getHistory();
 
         if (previousCommands.isEmpty()) {
             return new CommandResult(MESSAGE_NO_HISTORY);
         }
 
-        Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        int pageCount = (previousCommands.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+        if (page > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageCount));
+        }
+
+        // only the commands on the page are copied, however long the history is
+        int pageEnd = previousCommands.size() - (page - 1) * PAGE_SIZE;
+        int pageStart = Math.max(pageEnd - PAGE_SIZE, 0);
+        List<String> pageCommands = new ArrayList<>(PAGE_SIZE);
+        for (int i = pageEnd - 1; i >= pageStart; i--) {
+            pageCommands.add(previousCommands.get(i));
+        }
+
+        String commands = String.join("\n", pageCommands);
+        if (pageCount == 1) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commands));
+        }
+        return new CommandResult(String.format(MESSAGE_PAGE_SUCCESS, page, pageCount, commands));
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HistoryCommand // instanceof handles nulls
+                && page == ((HistoryCommand) other).page); // state check
+    }
 }
@@ -9,6 +9,7 @@ import static seedu.address.model.StaffModel.PREDICATE_SHOW_ALL_STAFF;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedRestaurantBook.NoUndoableStateException;
 
 /**
  * Reverts the {@code model}'s address book to its previous state.
@@ -28,7 +29,12 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoRestaurantBook();
+        try {
+            model.undoRestaurantBook();
+        } catch (NoUndoableStateException e) {
+            // the older states of the undo history could not be read back
+            throw new CommandException(MESSAGE_FAILURE);
+        }
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
         model.updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
         model.updateFilteredIngredientList(PREDICATE_SHOW_ALL_INGREDIENTS);
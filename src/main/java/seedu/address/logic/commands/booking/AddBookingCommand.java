@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
@@ -15,6 +14,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.booking.AvailableTimes;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.BookingSize;
 
@@ -39,7 +39,7 @@ public class AddBookingCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New booking added: %1$s";
     public static final String MESSAGE_DUPLICATE = "Booking has already been made.";
-    public static final String MESSAGE_FULL = "Restaurant is full. Suggested alternative time: %1$s";
+    public static final String MESSAGE_FULL = "Restaurant is full.\n%1$s";
 
     public static final String MESSAGE_TOO_MANY_PERSONS = "The restaurant is unable to support a "
             + "booking of %1$s persons as the current capacity is only %2$s.";
@@ -67,8 +67,11 @@ public class AddBookingCommand extends Command {
                 throw new CommandException(MESSAGE_DUPLICATE);
             }
             if (!model.canAccommodate(toAdd)) {
-                LocalDateTime suggestedTime = model.suggestNextAvailableTime(toAdd);
-                throw new CommandException(String.format(MESSAGE_FULL, suggestedTime));
+                AvailableTimes availableTimes = model.suggestAvailableTimes(toAdd.getBookingWindow(),
+                        toAdd.getNumMembers(), AvailableTimes.DEFAULT_SEARCH_WINDOW,
+                        AvailableTimes.DEFAULT_MAX_SUGGESTIONS);
+                throw new CommandException(String.format(MESSAGE_FULL,
+                        AvailabilityCommand.formatAlternatives(availableTimes)));
             }
 
             model.addBooking(toAdd);
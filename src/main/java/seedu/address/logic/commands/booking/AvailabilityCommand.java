@@ -0,0 +1,101 @@
+package seedu.address.logic.commands.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.booking.AvailableTimes;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+
+/**
+ * Shows whether the restaurant can accept a booking at a given time, together with the closest alternative times.
+ */
+public class AvailabilityCommand extends Command {
+
+    public static final String COMMAND_WORD = "availability";
+    public static final String COMMAND_ALIAS = "av";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the times around the given time at which the "
+            + "restaurant can accept a booking. \n"
+            + "Parameters: "
+            + PREFIX_START_TIME + "START_TIME "
+            + PREFIX_NUMBER_PERSONS + "NUMBER_OF_PERSONS "
+            + "[" + PREFIX_SEARCH_WINDOW + "SEARCH_WINDOW_HOURS]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START_TIME + "2019-02-23T14:30 "
+            + PREFIX_NUMBER_PERSONS + "3 "
+            + PREFIX_SEARCH_WINDOW + "2";
+
+    public static final String MESSAGE_AVAILABLE = "A booking of %1$s persons can be accepted at %2$s.\n";
+    public static final String MESSAGE_UNAVAILABLE = "A booking of %1$s persons cannot be accepted at %2$s.\n";
+    public static final String MESSAGE_ALTERNATIVES = "Earlier alternatives: %1$s\nLater alternatives: %2$s";
+    public static final String MESSAGE_NO_ALTERNATIVES = "none";
+
+    private final BookingWindow bookingWindow;
+    private final BookingSize bookingSize;
+    private final Duration searchWindow;
+
+    /**
+     * Creates an AvailabilityCommand to find the times within {@code searchWindow} of {@code bookingWindow} at which
+     * a booking of {@code bookingSize} persons can be accepted.
+     */
+    public AvailabilityCommand(BookingWindow bookingWindow, BookingSize bookingSize, Duration searchWindow) {
+        requireNonNull(bookingWindow);
+        requireNonNull(bookingSize);
+        requireNonNull(searchWindow);
+        this.bookingWindow = bookingWindow;
+        this.bookingSize = bookingSize;
+        this.searchWindow = searchWindow;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (bookingSize.getSize() > model.getCapacity().getValue()) {
+            throw new CommandException(String.format(AddBookingCommand.MESSAGE_TOO_MANY_PERSONS,
+                    bookingSize.getSize(), model.getCapacity().getValue()));
+        }
+
+        AvailableTimes availableTimes = model.suggestAvailableTimes(bookingWindow, bookingSize, searchWindow,
+                AvailableTimes.DEFAULT_MAX_SUGGESTIONS);
+        String header = availableTimes.isRequestedTimeAvailable() ? MESSAGE_AVAILABLE : MESSAGE_UNAVAILABLE;
+        return new CommandResult(String.format(header, bookingSize, bookingWindow)
+                + formatAlternatives(availableTimes));
+    }
+
+    /**
+     * Lists the earlier and later alternatives in {@code availableTimes}.
+     */
+    public static String formatAlternatives(AvailableTimes availableTimes) {
+        return String.format(MESSAGE_ALTERNATIVES, formatTimes(availableTimes.getEarlierTimes()),
+                formatTimes(availableTimes.getLaterTimes()));
+    }
+
+    private static String formatTimes(List<LocalDateTime> times) {
+        if (times.isEmpty()) {
+            return MESSAGE_NO_ALTERNATIVES;
+        }
+        return times.stream().map(LocalDateTime::toString).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AvailabilityCommand // instanceof handles nulls
+                && bookingWindow.equals(((AvailabilityCommand) other).bookingWindow)
+                && bookingSize.equals(((AvailabilityCommand) other).bookingSize)
+                && searchWindow.equals(((AvailabilityCommand) other).searchWindow)); // state check
+    }
+}
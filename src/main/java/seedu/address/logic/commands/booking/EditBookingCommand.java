@@ -1,7 +1,6 @@
 package seedu.address.logic.commands.booking;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.commands.booking.AddBookingCommand.MESSAGE_FULL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BOOKINGS;
@@ -43,6 +42,7 @@ public class EditBookingCommand extends Command {
     public static final String MESSAGE_EDIT_BOOKING_SUCCESS = "Edited booking: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_BOOKING = "This booking already exists in the restaurant book.";
+    public static final String MESSAGE_FULL = "Restaurant is full at the requested time.";
 
     private final Index index;
     private final EditBookingDescriptor editBookingDescriptor;
@@ -0,0 +1,178 @@
+package seedu.address.logic.commands.booking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.OccupancyIndex;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.member.Member;
+
+/**
+ * Imports bookings from a CSV file into the restaurant book.
+ * Each row of the file contains the phone number or email of a member, the start time and the number of persons.
+ * Rows that cannot be imported are skipped and reported, while the remaining rows are added together as a single
+ * change to the restaurant book.
+ */
+public class ImportBookingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "importbookings";
+    public static final String COMMAND_ALIAS = "ib";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports bookings from a CSV file. "
+            + "Each row of the file should be in the format PHONE_OR_EMAIL,START_TIME,NUMBER_OF_PERSONS. "
+            + "The first row is skipped if it is a header starting with customer.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/bookings.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$s booking(s) imported from %2$s.";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$s row(s) skipped:";
+    public static final String MESSAGE_NO_BOOKINGS_IMPORTED = "No bookings imported from %1$s.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist.";
+    public static final String MESSAGE_READ_ERROR = "Could not read bookings from file: %1$s";
+
+    public static final String MESSAGE_ROW_ERROR = "\nRow %1$s: %2$s";
+    public static final String MESSAGE_WRONG_NUMBER_OF_FIELDS =
+            "Expected 3 fields (PHONE_OR_EMAIL,START_TIME,NUMBER_OF_PERSONS) but found %1$s.";
+    public static final String MESSAGE_MEMBER_NOT_FOUND = "No member has the phone number or email %1$s.";
+    public static final String MESSAGE_AMBIGUOUS_MEMBER = "More than one member has the phone number or email %1$s.";
+    public static final String MESSAGE_FULL = "Restaurant is full.";
+
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String HEADER_FIRST_FIELD = "customer";
+
+    private final Path filePath;
+
+    public ImportBookingsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        Map<String, List<Member>> membersByContact = new HashMap<>();
+        for (Member member : model.getRestaurantBook().getMemberList()) {
+            membersByContact.computeIfAbsent(member.getPhone().value, key -> new ArrayList<>()).add(member);
+            membersByContact.computeIfAbsent(member.getEmail().value, key -> new ArrayList<>()).add(member);
+        }
+        Map<Member, Set<BookingWindow>> bookedWindows = new HashMap<>();
+        List<Booking> existingBookings = model.getRestaurantBook().getBookingList();
+        existingBookings.forEach(booking -> addBookedWindow(bookedWindows, booking));
+
+        // the rows are admitted one at a time against the existing bookings and all previously admitted rows
+        OccupancyIndex occupancy = new OccupancyIndex(existingBookings);
+        Capacity capacity = model.getCapacity();
+        List<Booking> toAdd = new ArrayList<>();
+        StringBuilder errors = new StringBuilder();
+        int rowsSkipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            String line;
+            int rowNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.trim().isEmpty() || (rowNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                try {
+                    Booking booking = parseRow(line, membersByContact);
+                    if (bookedWindows.getOrDefault(booking.getCustomer(), new HashSet<>())
+                            .contains(booking.getBookingWindow())) {
+                        throw new ParseException(AddBookingCommand.MESSAGE_DUPLICATE);
+                    }
+                    if (!capacity.canAddBooking(booking, occupancy)) {
+                        throw new ParseException(MESSAGE_FULL);
+                    }
+                    occupancy.add(booking);
+                    addBookedWindow(bookedWindows, booking);
+                    toAdd.add(booking);
+                } catch (ParseException e) {
+                    rowsSkipped++;
+                    errors.append(String.format(MESSAGE_ROW_ERROR, rowNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, ioe.getMessage()), ioe);
+        }
+
+        String report = rowsSkipped == 0 ? "" : String.format(MESSAGE_ROWS_SKIPPED, rowsSkipped) + errors;
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_BOOKINGS_IMPORTED, filePath) + report);
+        }
+
+        model.addBookings(toAdd);
+        model.commitRestaurantBook();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath) + report);
+    }
+
+    /**
+     * Returns true if {@code line} is a header row rather than a booking.
+     */
+    private static boolean isHeader(String line) {
+        return line.split(FIELD_SEPARATOR, -1)[0].trim().equalsIgnoreCase(HEADER_FIRST_FIELD);
+    }
+
+    /**
+     * Parses a single row of the CSV file into a {@code Booking}, resolving the member from the phone number or email
+     * in the first field.
+     * @throws ParseException if the row is not in the expected format or the member cannot be resolved.
+     */
+    private static Booking parseRow(String line, Map<String, List<Member>> membersByContact) throws ParseException {
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length != 3) {
+            throw new ParseException(String.format(MESSAGE_WRONG_NUMBER_OF_FIELDS, fields.length));
+        }
+
+        String contact = fields[0].trim();
+        if (!Phone.isValidPhone(contact) && !Email.isValidEmail(contact)) {
+            throw new ParseException(String.format(MESSAGE_MEMBER_NOT_FOUND, contact));
+        }
+        List<Member> members = membersByContact.getOrDefault(contact, new ArrayList<>());
+        if (members.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MEMBER_NOT_FOUND, contact));
+        } else if (members.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_MEMBER, contact));
+        }
+
+        BookingWindow bookingWindow = ParserUtil.parseBookingWindow(fields[1]);
+        BookingSize bookingSize = ParserUtil.parseBookingSize(fields[2]);
+        return new Booking(bookingWindow, members.get(0), bookingSize);
+    }
+
+    private static void addBookedWindow(Map<Member, Set<BookingWindow>> bookedWindows, Booking booking) {
+        bookedWindows.computeIfAbsent(booking.getCustomer(), key -> new HashSet<>()).add(booking.getBookingWindow());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportBookingsCommand // instanceof handles nulls
+                && filePath.equals(((ImportBookingsCommand) other).filePath)); // state check
+    }
+}
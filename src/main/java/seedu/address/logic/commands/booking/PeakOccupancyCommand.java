@@ -0,0 +1,82 @@
+package seedu.address.logic.commands.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.NavigableMap;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+
+/**
+ * Shows the largest number of persons in the restaurant on each day of a range of dates.
+ */
+public class PeakOccupancyCommand extends Command {
+
+    public static final String COMMAND_WORD = "peakoccupancy";
+    public static final String COMMAND_ALIAS = "po";
+
+    public static final int MAX_DAYS = 366;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the largest number of persons in the "
+            + "restaurant on each day from the start date to the end date inclusive, at most " + MAX_DAYS
+            + " days apart. Only the start date is used if no end date is given.\n"
+            + "Parameters: START_DATE [END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " 2019-02-23 2019-03-01";
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The end date should be from the start date to at most "
+            + MAX_DAYS + " days after it.";
+    public static final String MESSAGE_PEAK_OCCUPANCY = "Peak occupancy from %1$s to %2$s: %3$s of %4$s seats";
+    public static final String MESSAGE_DAILY_PEAK_OCCUPANCY = "\n%1$s: %2$s persons";
+    public static final String MESSAGE_MINIMUM_CAPACITY = "\nThe capacity can be reduced to %1$s without overbooking.";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates a PeakOccupancyCommand for the dates from {@code startDate} to {@code endDate} inclusive.
+     */
+    public PeakOccupancyCommand(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        checkArgument(isValidDateRange(startDate, endDate), MESSAGE_INVALID_DATE_RANGE);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Returns true if the dates from {@code startDate} to {@code endDate} form a valid range for this command.
+     */
+    public static boolean isValidDateRange(LocalDate startDate, LocalDate endDate) {
+        long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
+        return daysBetween >= 0 && daysBetween <= MAX_DAYS;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        NavigableMap<LocalDate, Integer> dailyPeaks = model.getDailyPeakOccupancy(startDate, endDate);
+        int peak = dailyPeaks.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_PEAK_OCCUPANCY, startDate, endDate, peak,
+                model.getCapacity()));
+        for (Map.Entry<LocalDate, Integer> dailyPeak : dailyPeaks.entrySet()) {
+            message.append(String.format(MESSAGE_DAILY_PEAK_OCCUPANCY, dailyPeak.getKey(), dailyPeak.getValue()));
+        }
+        message.append(String.format(MESSAGE_MINIMUM_CAPACITY, Math.max(1, model.getPeakOccupancy())));
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PeakOccupancyCommand // instanceof handles nulls
+                && startDate.equals(((PeakOccupancyCommand) other).startDate)
+                && endDate.equals(((PeakOccupancyCommand) other).endDate)); // state check
+    }
+}
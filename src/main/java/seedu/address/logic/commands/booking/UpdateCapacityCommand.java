@@ -2,12 +2,15 @@ package seedu.address.logic.commands.booking;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.OccupancyWindow;
 
 /**
  * Updates the capacity of the restaurant.
@@ -19,6 +22,12 @@ public class UpdateCapacityCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Capacity successfully set to %1$s";
     public static final String MESSAGE_FAILURE = "Unable to resize capacity- restaurant will be overbooked.";
+    public static final String MESSAGE_MINIMUM_CAPACITY =
+            "\nThe capacity must be at least %1$s. The restaurant would be overbooked at:";
+    public static final String MESSAGE_OVERBOOKED_WINDOW = "\n%1$s to %2$s (%3$s persons)";
+    public static final String MESSAGE_MORE_OVERBOOKED_WINDOWS = "\n...and %1$s more";
+
+    static final int MAX_OVERBOOKED_WINDOWS_SHOWN = 5;
 
     private final Capacity capacity;
     public UpdateCapacityCommand(Capacity capacity) {
@@ -29,13 +38,31 @@ public class UpdateCapacityCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
         if (!model.canUpdateCapacity(capacity)) {
-            throw new CommandException(MESSAGE_FAILURE);
+            throw new CommandException(MESSAGE_FAILURE + describeOverbooking(model));
         }
         model.setCapacity(capacity);
         model.commitRestaurantBook();
         return new CommandResult(String.format(MESSAGE_SUCCESS, capacity));
     }
 
+    /**
+     * Describes the smallest feasible capacity and the times at which the restaurant would be overbooked with the
+     * new capacity.
+     */
+    private String describeOverbooking(Model model) {
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_MINIMUM_CAPACITY,
+                model.getPeakOccupancy()));
+        List<OccupancyWindow> overbookedWindows = model.getOverbookedWindows(capacity);
+        overbookedWindows.stream().limit(MAX_OVERBOOKED_WINDOWS_SHOWN).forEach(window ->
+                description.append(String.format(MESSAGE_OVERBOOKED_WINDOW, window.getStartTime(),
+                        window.getEndTime(), window.getPeakOccupancy())));
+        if (overbookedWindows.size() > MAX_OVERBOOKED_WINDOWS_SHOWN) {
+            description.append(String.format(MESSAGE_MORE_OVERBOOKED_WINDOWS,
+                    overbookedWindows.size() - MAX_OVERBOOKED_WINDOWS_SHOWN));
+        }
+        return description.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,10 +1,17 @@
 package seedu.address.logic.commands.stats;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Statistics;
+import seedu.address.model.booking.Booking;
 import seedu.address.ui.StatsWindow;
 
 /**
@@ -18,6 +25,7 @@ public class ViewStatsTimeCommand extends Command {
     public static final String MESSAGE_SHOWING_STATS = "Opened stats window.";
     public static final String MESSAGE_SIZE_CONSTRAINTS = "Days should be an integer between 1 and "
             + Statistics.getMaxDays() + " inclusive.";
+    public static final String MESSAGE_ARCHIVE_READ_ERROR = "Could not read the archived bookings: %1$s";
 
     private static final String X_AXIS_NAME = "Time";
 
@@ -33,9 +41,15 @@ public class ViewStatsTimeCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) {
-        new StatsWindow(new Statistics(model.getRestaurantBook().getBookingList(), days)
-                .generateGraphDataTime(), X_AXIS_NAME).show();
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        Statistics statistics;
+        LocalDate earliestDate = Statistics.getEarliestDate(days);
+        try (Stream<Booking> bookings = model.streamBookingsBetween(earliestDate, LocalDate.now())) {
+            statistics = Statistics.fromStream(bookings, days);
+        } catch (IOException | UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_READ_ERROR, e.getMessage()), e);
+        }
+        new StatsWindow(statistics.generateGraphDataTime(), X_AXIS_NAME).show();
         return new CommandResult(MESSAGE_SHOWING_STATS);
     }
 
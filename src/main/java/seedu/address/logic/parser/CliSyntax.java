@@ -24,5 +24,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_NUMBER_PERSONS = new Prefix("n/");
     public static final Prefix PREFIX_APPOINTMENT = new Prefix("a/");
     public static final Prefix PREFIX_LOYALTY_POINTS = new Prefix("l/");
+    public static final Prefix PREFIX_SEARCH_WINDOW = new Prefix("h/");
 
 }
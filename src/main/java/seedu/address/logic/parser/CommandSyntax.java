@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * The command word, alias and argument prefixes of a command accepted by {@link RestaurantBookParser}, and the parser
+ * of its arguments.
+ */
+public class CommandSyntax {
+
+    private final String commandWord;
+    private final String commandAlias;
+    private final Parser<? extends Command> parser;
+    private final List<Prefix> prefixes;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CommandSyntax(String commandWord, String commandAlias, Parser<? extends Command> parser,
+            Prefix... prefixes) {
+        requireNonNull(commandWord);
+        requireNonNull(commandAlias);
+        requireNonNull(parser);
+        requireNonNull(prefixes);
+        this.commandWord = commandWord;
+        this.commandAlias = commandAlias;
+        this.parser = parser;
+        this.prefixes = Collections.unmodifiableList(Arrays.asList(prefixes));
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public String getCommandAlias() {
+        return commandAlias;
+    }
+
+    /**
+     * Returns the parser of the arguments of the command, which is shared by every use of the command and so must not
+     * keep any state between parses.
+     */
+    public Parser<? extends Command> getParser() {
+        return parser;
+    }
+
+    /**
+     * Returns the prefixes of the arguments of the command, in the order in which they are usually given.
+     */
+    public List<Prefix> getPrefixes() {
+        return prefixes;
+    }
+
+    @Override
+    public String toString() {
+        return commandWord;
+    }
+}
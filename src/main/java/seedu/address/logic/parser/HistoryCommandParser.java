@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns a HistoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public HistoryCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new HistoryCommand();
+        }
+
+        try {
+            return new HistoryCommand(ParserUtil.parseIndex(args).getOneBased());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
@@ -37,6 +39,10 @@ public class ParserUtil {
             "Ingredient quantity in recipe should be a non-zero unsigned integer, between 1 and "
             + Integer.toString(Integer.MAX_VALUE)
             + " inclusive.";
+    public static final int MAX_SEARCH_WINDOW_HOURS = 24;
+    public static final String MESSAGE_INVALID_SEARCH_WINDOW =
+            "Search window should be a number of hours between 1 and " + MAX_SEARCH_WINDOW_HOURS + " inclusive.";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format yyyy-MM-dd, e.g. 2019-02-23";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -264,6 +270,34 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String hours} into a {@code Duration} used to search for available booking times.
+     * @throws ParseException if the given {@code hours} is not an integer between 1 and
+     * {@code MAX_SEARCH_WINDOW_HOURS} inclusive.
+     */
+    public static Duration parseSearchWindow(String hours) throws ParseException {
+        requireNonNull(hours);
+        String trimmedHours = hours.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedHours)
+                || Integer.parseInt(trimmedHours) > MAX_SEARCH_WINDOW_HOURS) {
+            throw new ParseException(MESSAGE_INVALID_SEARCH_WINDOW);
+        }
+        return Duration.ofHours(Integer.parseInt(trimmedHours));
+    }
+
+    /**
+     * Parses a {@code String date} in the yyyy-MM-dd format into a {@code LocalDate}.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        try {
+            return LocalDate.parse(trimmedDate);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
     /**
      * Parses a {@code String dayOfWeek} into a {@code DayOfWeek}.
      */
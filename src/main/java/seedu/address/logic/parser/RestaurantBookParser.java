@@ -2,20 +2,49 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
-
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INGREDIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INGREDIENT_QUANTITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INGREDIENT_UNIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INGREDIENT_WARNINGAMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOYALTY_POINTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECIPE_INGREDIENT_AND_QUANTITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECIPE_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandGroup;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.booking.AddBookingCommand;
+import seedu.address.logic.commands.booking.AvailabilityCommand;
 import seedu.address.logic.commands.booking.DeleteBookingCommand;
 import seedu.address.logic.commands.booking.EditBookingCommand;
+import seedu.address.logic.commands.booking.ImportBookingsCommand;
+import seedu.address.logic.commands.booking.PeakOccupancyCommand;
 import seedu.address.logic.commands.booking.UpdateCapacityCommand;
 import seedu.address.logic.commands.ingredient.AddIngredientCommand;
 import seedu.address.logic.commands.ingredient.ConsumeIngredientCommand;
@@ -37,8 +66,11 @@ import seedu.address.logic.commands.staff.ListStaffCommand;
 import seedu.address.logic.commands.stats.ViewStatsDaysCommand;
 import seedu.address.logic.commands.stats.ViewStatsTimeCommand;
 import seedu.address.logic.parser.booking.AddBookingCommandParser;
+import seedu.address.logic.parser.booking.AvailabilityCommandParser;
 import seedu.address.logic.parser.booking.DeleteBookingCommandParser;
 import seedu.address.logic.parser.booking.EditBookingCommandParser;
+import seedu.address.logic.parser.booking.ImportBookingsCommandParser;
+import seedu.address.logic.parser.booking.PeakOccupancyCommandParser;
 import seedu.address.logic.parser.booking.UpdateCapacityCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.ingredient.AddIngredientCommandParser;
@@ -71,14 +103,127 @@ public class RestaurantBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * The syntax of every command accepted by {@link #parseCommand(String)}, such as for completing user input, and
+     * the parser of its arguments. The parsers are created once and shared by every call of {@link #parseCommand}.
+     */
+    private static final List<CommandSyntax> COMMAND_SYNTAXES = Collections.unmodifiableList(Arrays.asList(
+            new CommandSyntax(AddMemberCommand.COMMAND_WORD, AddMemberCommand.COMMAND_ALIAS,
+                    new AddMemberCommandParser(), PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOYALTY_POINTS),
+            new CommandSyntax(AddBookingCommand.COMMAND_WORD, AddBookingCommand.COMMAND_ALIAS,
+                    new AddBookingCommandParser(), PREFIX_START_TIME, PREFIX_CUSTOMER, PREFIX_NUMBER_PERSONS),
+            new CommandSyntax(AddIngredientCommand.COMMAND_WORD, AddIngredientCommand.COMMAND_ALIAS,
+                    new AddIngredientCommandParser(), PREFIX_INGREDIENT_NAME, PREFIX_INGREDIENT_QUANTITY,
+                    PREFIX_INGREDIENT_UNIT, PREFIX_INGREDIENT_WARNINGAMOUNT),
+            new CommandSyntax(AddRecipeCommand.COMMAND_WORD, AddRecipeCommand.COMMAND_ALIAS,
+                    new AddRecipeCommandParser(), PREFIX_RECIPE_NAME, PREFIX_RECIPE_INGREDIENT_AND_QUANTITY),
+            new CommandSyntax(AddStaffCommand.COMMAND_WORD, AddStaffCommand.COMMAND_ALIAS,
+                    new AddStaffCommandParser(), PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_APPOINTMENT),
+            new CommandSyntax(AddShiftCommand.COMMAND_WORD, AddShiftCommand.COMMAND_ALIAS,
+                    new AddShiftCommandParser(), PREFIX_START_DAY_OF_WEEK, PREFIX_END_DAY_OF_WEEK, PREFIX_START_TIME,
+                    PREFIX_END_TIME),
+            new CommandSyntax(ImportBookingsCommand.COMMAND_WORD, ImportBookingsCommand.COMMAND_ALIAS,
+                    new ImportBookingsCommandParser()),
+            new CommandSyntax(AvailabilityCommand.COMMAND_WORD, AvailabilityCommand.COMMAND_ALIAS,
+                    new AvailabilityCommandParser(), PREFIX_START_TIME, PREFIX_NUMBER_PERSONS, PREFIX_SEARCH_WINDOW),
+            new CommandSyntax(UpdateCapacityCommand.COMMAND_WORD, UpdateCapacityCommand.COMMAND_ALIAS,
+                    new UpdateCapacityCommandParser()),
+            new CommandSyntax(PeakOccupancyCommand.COMMAND_WORD, PeakOccupancyCommand.COMMAND_ALIAS,
+                    new PeakOccupancyCommandParser()),
+            new CommandSyntax(EditMemberCommand.COMMAND_WORD, EditMemberCommand.COMMAND_ALIAS,
+                    new EditMemberCommandParser(), PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOYALTY_POINTS),
+            new CommandSyntax(EditBookingCommand.COMMAND_WORD, EditBookingCommand.COMMAND_ALIAS,
+                    new EditBookingCommandParser(), PREFIX_START_TIME, PREFIX_NUMBER_PERSONS),
+            new CommandSyntax(EditStaffCommand.COMMAND_WORD, EditStaffCommand.COMMAND_ALIAS,
+                    new EditStaffCommandParser(), PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_APPOINTMENT),
+            new CommandSyntax(DeleteMemberCommand.COMMAND_WORD, DeleteMemberCommand.COMMAND_ALIAS,
+                    new DeleteMemberCommandParser()),
+            new CommandSyntax(DeleteBookingCommand.COMMAND_WORD, DeleteBookingCommand.COMMAND_ALIAS,
+                    new DeleteBookingCommandParser()),
+            new CommandSyntax(DeleteIngredientCommand.COMMAND_WORD, DeleteIngredientCommand.COMMAND_ALIAS,
+                    new DeleteIngredientCommandParser()),
+            new CommandSyntax(DeleteRecipeCommand.COMMAND_WORD, DeleteRecipeCommand.COMMAND_ALIAS,
+                    new DeleteRecipeCommandParser()),
+            new CommandSyntax(DeleteStaffCommand.COMMAND_WORD, DeleteStaffCommand.COMMAND_ALIAS,
+                    new DeleteStaffCommandParser()),
+            new CommandSyntax(DeleteShiftCommand.COMMAND_WORD, DeleteShiftCommand.COMMAND_ALIAS,
+                    new DeleteShiftCommandParser(), PREFIX_START_DAY_OF_WEEK, PREFIX_END_DAY_OF_WEEK, PREFIX_START_TIME,
+                    PREFIX_END_TIME),
+            new CommandSyntax(ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_ALIAS,
+                    args -> new ClearCommand()),
+            new CommandSyntax(ListMembersCommand.COMMAND_WORD, ListMembersCommand.COMMAND_ALIAS,
+                    new ListMembersCommandParser(), PREFIX_NAME, PREFIX_LOYALTY_POINTS),
+            new CommandSyntax(ListStaffCommand.COMMAND_WORD, ListStaffCommand.COMMAND_ALIAS,
+                    new ListStaffCommandParser(), PREFIX_NAME, PREFIX_APPOINTMENT),
+            new CommandSyntax(HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_ALIAS,
+                    new HistoryCommandParser()),
+            new CommandSyntax(ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_ALIAS,
+                    args -> new ExitCommand()),
+            new CommandSyntax(HelpCommand.COMMAND_WORD, HelpCommand.COMMAND_ALIAS,
+                    args -> new HelpCommand()),
+            new CommandSyntax(UndoCommand.COMMAND_WORD, UndoCommand.COMMAND_ALIAS,
+                    args -> new UndoCommand()),
+            new CommandSyntax(RedoCommand.COMMAND_WORD, RedoCommand.COMMAND_ALIAS,
+                    args -> new RedoCommand()),
+            new CommandSyntax(RestockIngredientCommand.COMMAND_WORD, RestockIngredientCommand.COMMAND_ALIAS,
+                    new RestockIngredientCommandParser(), PREFIX_INDEX, PREFIX_INGREDIENT_QUANTITY),
+            new CommandSyntax(ConsumeIngredientCommand.COMMAND_WORD, ConsumeIngredientCommand.COMMAND_ALIAS,
+                    new ConsumeIngredientCommandParser(), PREFIX_INDEX, PREFIX_INGREDIENT_QUANTITY),
+            new CommandSyntax(ListIngredientsCommand.COMMAND_WORD, ListIngredientsCommand.COMMAND_ALIAS,
+                    new ListIngredientsCommandParser(), PREFIX_INGREDIENT_NAME, PREFIX_INGREDIENT_WARNINGAMOUNT),
+            new CommandSyntax(ViewStatsDaysCommand.COMMAND_WORD, ViewStatsDaysCommand.COMMAND_ALIAS,
+                    new ViewStatsDaysCommandParser()),
+            new CommandSyntax(ViewStatsTimeCommand.COMMAND_WORD, ViewStatsTimeCommand.COMMAND_ALIAS,
+                    new ViewStatsTimeCommandParser())));
+
+    /**
+     * The syntax of every command, keyed by both its command word and its alias.
+     */
+    private static final Map<String, CommandSyntax> COMMAND_SYNTAXES_BY_WORD = new HashMap<>();
+
+    static {
+        for (CommandSyntax syntax : COMMAND_SYNTAXES) {
+            COMMAND_SYNTAXES_BY_WORD.put(syntax.getCommandWord(), syntax);
+            COMMAND_SYNTAXES_BY_WORD.put(syntax.getCommandAlias(), syntax);
+        }
+    }
+
+    /**
+     * Returns the syntax of every command accepted by {@link #parseCommand(String)}.
+     */
+    public static List<CommandSyntax> getCommandSyntaxes() {
+        return COMMAND_SYNTAXES;
+    }
+
     /**
      * Parses user input into command for execution.
+     * Several commands separated by {@link CommandGroup#SEPARATOR} are parsed into a {@link CommandGroup}.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        if (!userInput.contains(CommandGroup.SEPARATOR)) {
+            return parseSingleCommand(userInput);
+        }
+
+        List<Command> commands = new ArrayList<>();
+        for (String commandInput : userInput.split(CommandGroup.SEPARATOR)) {
+            if (!commandInput.trim().isEmpty()) {
+                commands.add(parseSingleCommand(commandInput));
+            }
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+        return new CommandGroup(commands);
+    }
+
+    /**
+     * Parses user input of a single command into command for execution.
+     */
+    private Command parseSingleCommand(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -86,128 +231,11 @@ public class RestaurantBookParser {
 
         final String commandWord = matcher.group("commandWord").toLowerCase();
         final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddMemberCommand.COMMAND_WORD:
-        case AddMemberCommand.COMMAND_ALIAS:
-            return new AddMemberCommandParser().parse(arguments);
-
-        case AddBookingCommand.COMMAND_WORD:
-        case AddBookingCommand.COMMAND_ALIAS:
-            return new AddBookingCommandParser().parse(arguments);
-
-        case AddIngredientCommand.COMMAND_WORD:
-        case AddIngredientCommand.COMMAND_ALIAS:
-            return new AddIngredientCommandParser().parse(arguments);
-
-        case AddRecipeCommand.COMMAND_WORD:
-        case AddRecipeCommand.COMMAND_ALIAS:
-            return new AddRecipeCommandParser().parse(arguments);
-
-        case AddStaffCommand.COMMAND_WORD:
-        case AddStaffCommand.COMMAND_ALIAS:
-            return new AddStaffCommandParser().parse(arguments);
-
-        case AddShiftCommand.COMMAND_WORD:
-        case AddShiftCommand.COMMAND_ALIAS:
-            return new AddShiftCommandParser().parse(arguments);
-
-        case UpdateCapacityCommand.COMMAND_WORD:
-        case UpdateCapacityCommand.COMMAND_ALIAS:
-            return new UpdateCapacityCommandParser().parse(arguments);
-
-        case EditMemberCommand.COMMAND_WORD:
-        case EditMemberCommand.COMMAND_ALIAS:
-            return new EditMemberCommandParser().parse(arguments);
-
-        case EditBookingCommand.COMMAND_WORD:
-        case EditBookingCommand.COMMAND_ALIAS:
-            return new EditBookingCommandParser().parse(arguments);
-
-        case EditStaffCommand.COMMAND_WORD:
-        case EditStaffCommand.COMMAND_ALIAS:
-            return new EditStaffCommandParser().parse(arguments);
-
-        case DeleteMemberCommand.COMMAND_WORD:
-        case DeleteMemberCommand.COMMAND_ALIAS:
-            return new DeleteMemberCommandParser().parse(arguments);
-
-        case DeleteBookingCommand.COMMAND_WORD:
-        case DeleteBookingCommand.COMMAND_ALIAS:
-            return new DeleteBookingCommandParser().parse(arguments);
-
-        case DeleteIngredientCommand.COMMAND_WORD:
-        case DeleteIngredientCommand.COMMAND_ALIAS:
-            return new DeleteIngredientCommandParser().parse(arguments);
-
-        case DeleteRecipeCommand.COMMAND_WORD:
-        case DeleteRecipeCommand.COMMAND_ALIAS:
-            return new DeleteRecipeCommandParser().parse(arguments);
-
-        case DeleteStaffCommand.COMMAND_WORD:
-        case DeleteStaffCommand.COMMAND_ALIAS:
-            return new DeleteStaffCommandParser().parse(arguments);
-
-        case DeleteShiftCommand.COMMAND_WORD:
-        case DeleteShiftCommand.COMMAND_ALIAS:
-            return new DeleteShiftCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-        case ClearCommand.COMMAND_ALIAS:
-            return new ClearCommand();
-
-
-        case ListMembersCommand.COMMAND_WORD:
-        case ListMembersCommand.COMMAND_ALIAS:
-            return new ListMembersCommandParser().parse(arguments);
-
-        case ListStaffCommand.COMMAND_WORD:
-        case ListStaffCommand.COMMAND_ALIAS:
-            return new ListStaffCommandParser().parse(arguments);
-
-        case HistoryCommand.COMMAND_WORD:
-        case HistoryCommand.COMMAND_ALIAS:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-        case ExitCommand.COMMAND_ALIAS:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-        case HelpCommand.COMMAND_ALIAS:
-            return new HelpCommand();
-
-        case UndoCommand.COMMAND_WORD:
-        case UndoCommand.COMMAND_ALIAS:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-        case RedoCommand.COMMAND_ALIAS:
-            return new RedoCommand();
-
-        case RestockIngredientCommand.COMMAND_WORD:
-        case RestockIngredientCommand.COMMAND_ALIAS:
-            return new RestockIngredientCommandParser().parse(arguments);
-
-        case ConsumeIngredientCommand.COMMAND_WORD:
-        case ConsumeIngredientCommand.COMMAND_ALIAS:
-            return new ConsumeIngredientCommandParser().parse(arguments);
-
-        case ListIngredientsCommand.COMMAND_WORD:
-        case ListIngredientsCommand.COMMAND_ALIAS:
-            return new ListIngredientsCommandParser().parse(arguments);
-
-        case ViewStatsDaysCommand.COMMAND_WORD:
-        case ViewStatsDaysCommand.COMMAND_ALIAS:
-            return new ViewStatsDaysCommandParser().parse(arguments);
-
-        case ViewStatsTimeCommand.COMMAND_WORD:
-        case ViewStatsTimeCommand.COMMAND_ALIAS:
-            return new ViewStatsTimeCommandParser().parse(arguments);
-
-        default:
+        final CommandSyntax syntax = COMMAND_SYNTAXES_BY_WORD.get(commandWord);
+        if (syntax == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return syntax.getParser().parse(arguments);
     }
 
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser.booking;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import seedu.address.logic.commands.booking.AvailabilityCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.booking.AvailableTimes;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+
+/**
+ * Parses input arguments and creates a new AvailabilityCommand object.
+ */
+public class AvailabilityCommandParser implements Parser<AvailabilityCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the AvailabilityCommand
+     * and returns an AvailabilityCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AvailabilityCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_START_TIME, PREFIX_NUMBER_PERSONS, PREFIX_SEARCH_WINDOW);
+
+        if (!argMultimap.arePrefixesPresent(PREFIX_START_TIME, PREFIX_NUMBER_PERSONS)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailabilityCommand.MESSAGE_USAGE));
+        }
+
+        BookingWindow bookingWindow = ParserUtil.parseBookingWindow(argMultimap.getValue(PREFIX_START_TIME).get());
+        BookingSize bookingSize = ParserUtil.parseBookingSize(argMultimap.getValue(PREFIX_NUMBER_PERSONS).get());
+        Optional<String> searchWindowString = argMultimap.getValue(PREFIX_SEARCH_WINDOW);
+        Duration searchWindow = searchWindowString.isPresent()
+                ? ParserUtil.parseSearchWindow(searchWindowString.get())
+                : AvailableTimes.DEFAULT_SEARCH_WINDOW;
+
+        return new AvailabilityCommand(bookingWindow, bookingSize, searchWindow);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.booking.ImportBookingsCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportBookingsCommand object.
+ */
+public class ImportBookingsCommandParser implements Parser<ImportBookingsCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportBookingsCommand
+     * and returns an ImportBookingsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ImportBookingsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportBookingsCommand.MESSAGE_USAGE));
+        }
+        return new ImportBookingsCommand(Paths.get(trimmedArgs));
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.booking.PeakOccupancyCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PeakOccupancyCommand object.
+ */
+public class PeakOccupancyCommandParser implements Parser<PeakOccupancyCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the PeakOccupancyCommand
+     * and returns a PeakOccupancyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public PeakOccupancyCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        String[] dates = trimmedArgs.split("\\s+");
+        if (trimmedArgs.isEmpty() || dates.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PeakOccupancyCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(dates[0]);
+        LocalDate endDate = dates.length == 2 ? ParserUtil.parseDate(dates[1]) : startDate;
+        if (!PeakOccupancyCommand.isValidDateRange(startDate, endDate)) {
+            throw new ParseException(PeakOccupancyCommand.MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new PeakOccupancyCommand(startDate, endDate);
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.model;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import seedu.address.model.booking.AvailableTimes;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.OccupancyWindow;
 import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
 import seedu.address.model.person.member.Member;
 
 /**
@@ -39,6 +49,15 @@ public interface BookingModel {
      */
     void addBooking(Booking booking);
 
+    /**
+     * Adds all the given bookings at once.
+     * The bookings must not already exist in the restaurant book.
+     * @throws DuplicateItemException if any of the bookings already exists. In that case, no bookings will be added.
+     * @throws RestaurantOverbookedException if the bookings do not fit within the capacity. In that case, no bookings
+     * will be added.
+     */
+    void addBookings(List<Booking> bookings);
+
     /**
      * Replaces the given booking {@code target} with {@code editedBooking}.
      * {@code target} must exist in the restaurant book.
@@ -98,13 +117,44 @@ public interface BookingModel {
     boolean canUpdateCapacity(Capacity newCapacity);
 
     /**
-     * Suggests a possible time to accommodate the booking.
-     * @param toAdd The booking that the user wishes to add
-     * @return The next available time that the restaurant can accommodate the booking, subjected to the constraint
-     * that the returned time must occur after {@code toAdd}. In other words, suggestion always shifts the booking
-     * later and never earlier.
+     * Returns the largest number of persons in the restaurant at any point in time, which is the smallest capacity
+     * that can hold all the bookings.
+     */
+    int getPeakOccupancy();
+
+    /**
+     * Returns the peak occupancy of each date from {@code startDate} to {@code endDate} inclusive that has bookings,
+     * in chronological order.
+     */
+    NavigableMap<LocalDate, Integer> getDailyPeakOccupancy(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the periods of time during which the restaurant would be overbooked with a capacity of
+     * {@code capacity}, in chronological order.
+     */
+    List<OccupancyWindow> getOverbookedWindows(Capacity capacity);
+
+    /**
+     * Suggests the times around {@code bookingWindow} at which a booking of {@code bookingSize} persons can be
+     * accepted without exceeding the capacity.
+     * @param searchWindow Only times within this duration of the requested time are suggested.
+     * @param maxSuggestions The maximum number of earlier and later times to suggest respectively.
+     */
+    AvailableTimes suggestAvailableTimes(BookingWindow bookingWindow, BookingSize bookingSize, Duration searchWindow,
+                                         int maxSuggestions);
+
+    /**
+     * Returns the bookings that start on any date from {@code startDate} to {@code endDate} inclusive, sorted by start
+     * time.
+     */
+    List<Booking> getBookingsBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns a stream of all the bookings that start on any date from {@code startDate} to {@code endDate} inclusive,
+     * including those that have been archived. The stream should be closed after use.
+     * @throws IOException if the archived bookings could not be read.
      */
-    LocalDateTime suggestNextAvailableTime(Booking toAdd);
+    Stream<Booking> streamBookingsBetween(LocalDate startDate, LocalDate endDate) throws IOException;
 
     /**
      * Counts the number of bookings associated with {@code member}.
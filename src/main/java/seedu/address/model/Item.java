@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.List;
+
 /**
  * Represents an Item in the restaurant book.
  */
@@ -9,4 +11,10 @@ public interface Item {
      * This defines a weaker notion of equality between two items.
      */
     boolean isSameItem(Object other);
+
+    /**
+     * Returns the keys that identify this item, each usable as a hash key.
+     * Two items are the same item if and only if they have at least one identity key in common.
+     */
+    List<Object> getIdentityKeys();
 }
@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Represents an edit of a list, in which the items {@code removed} starting at index {@code from} of the list are
+ * replaced by the items {@code added}. Adding, removing, replacing and reordering items are all edits of this form.
+ * Guarantees: immutable.
+ */
+public class ListEdit<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ListEdit(int from, List<? extends T> removed, List<? extends T> added) {
+        requireAllNonNull(removed, added);
+        this.from = from;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the edits that {@code change} made to its list, in the order in which they were made.
+     * Items replaced by the very same items are not considered edited, but items replaced by equal items are, as
+     * equal items may still differ in fields that equality ignores, such as the loyalty points of a member.
+     */
+    public static <T> List<ListEdit<T>> fromChange(ListChangeListener.Change<? extends T> change) {
+        List<ListEdit<T>> edits = new ArrayList<>();
+        while (change.next()) {
+            List<? extends T> list = change.getList();
+            if (change.wasPermutated()) {
+                // the item that was at index i is now at index change.getPermutation(i)
+                List<T> originalOrder = new ArrayList<>();
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    originalOrder.add(list.get(change.getPermutation(i)));
+                }
+                List<? extends T> newOrder = list.subList(change.getFrom(), change.getTo());
+                edits.add(new ListEdit<>(change.getFrom(), originalOrder, newOrder));
+            } else if (!isSameItems(change.getRemoved(), change.getAddedSubList())) {
+                edits.add(new ListEdit<>(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+            }
+        }
+        return edits;
+    }
+
+    /**
+     * Returns the edits that turn {@code before} into {@code after}, which is at most one edit of the items between
+     * the longest common start and end of the two lists. As in {@link #fromChange}, only the very same items are
+     * considered unedited, so that finding the edits takes one pass over the lists.
+     */
+    public static <T> List<ListEdit<T>> between(List<? extends T> before, List<? extends T> after) {
+        requireAllNonNull(before, after);
+        int commonSize = Math.min(before.size(), after.size());
+        int start = 0;
+        while (start < commonSize && before.get(start) == after.get(start)) {
+            start++;
+        }
+        int end = 0;
+        while (end < commonSize - start
+                && before.get(before.size() - 1 - end) == after.get(after.size() - 1 - end)) {
+            end++;
+        }
+
+        List<ListEdit<T>> edits = new ArrayList<>();
+        if (start + end < before.size() || start + end < after.size()) {
+            edits.add(new ListEdit<>(start, before.subList(start, before.size() - end),
+                    after.subList(start, after.size() - end)));
+        }
+        return edits;
+    }
+
+    /**
+     * Returns true if {@code removed} and {@code added} hold the very same items in the same order, in which case
+     * replacing one with the other leaves the list unchanged.
+     */
+    private static boolean isSameItems(List<?> removed, List<?> added) {
+        if (removed.size() != added.size()) {
+            return false;
+        }
+        for (int i = 0; i < removed.size(); i++) {
+            if (removed.get(i) != added.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the number of items referenced by this edit.
+     */
+    public int size() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Returns the edit that reverts this edit.
+     */
+    public ListEdit<T> inverse() {
+        return new ListEdit<>(from, added, removed);
+    }
+
+    /**
+     * Applies this edit to {@code list}, which must be in the state this edit was made from.
+     * Only the edited range of {@code list} is touched: items are set in place when as many items are added as are
+     * removed, and the range is otherwise removed and the added items inserted in its place.
+     */
+    public void applyTo(List<T> list) {
+        assert list.subList(from, from + removed.size()).equals(removed) : "The list has changed since this edit.";
+        if (removed.size() == added.size()) {
+            for (int i = 0; i < added.size(); i++) {
+                list.set(from + i, added.get(i));
+            }
+            return;
+        }
+        if (!removed.isEmpty()) {
+            list.subList(from, from + removed.size()).clear();
+        }
+        list.addAll(from, added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return from == otherEdit.from
+                && removed.equals(otherEdit.removed)
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + from + ": " + removed + " -> " + added;
+    }
+}
@@ -73,5 +73,29 @@ public interface Model extends MemberModel, BookingModel, IngredientModel, Recip
      */
     void commitRestaurantBook();
 
+    /**
+     * Starts a batch of changes to the restaurant book, during which {@link #commitRestaurantBook()} only marks the
+     * batch to be committed and the restaurant book cannot be undone or redone, so that the changes of several commands
+     * become a single state. A batch may be started within another one, whose changes then include its changes.
+     */
+    void startRestaurantBookBatch();
+
+    /**
+     * Ends the innermost batch of changes, and commits its changes as a single restaurant book state if any command in
+     * the batch committed them.
+     */
+    void endRestaurantBookBatch();
+
+    /**
+     * Discards the changes made since the innermost batch of changes started, which then has nothing to commit.
+     */
+    void rollbackRestaurantBook();
+
+    /**
+     * Makes {@code changes} to the model's restaurant book as part of its initial state, which cannot be undone.
+     * Must only be called before the first commit.
+     */
+    void extendInitialRestaurantBook(Consumer<RestaurantBook> changes);
+
     void setUpdateCapacityCallback(Consumer<Capacity> callback);
 }
@@ -3,13 +3,20 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -18,8 +25,13 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.booking.AvailableTimes;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.OccupancyWindow;
 import seedu.address.model.ingredient.Ingredient;
 import seedu.address.model.person.exceptions.ItemNotFoundException;
 import seedu.address.model.person.member.Member;
@@ -34,6 +46,7 @@ public class ModelManager implements Model {
 
     private final VersionedRestaurantBook versionedRestaurantBook;
     private final UserPrefs userPrefs;
+    private final BookingArchive bookingArchive;
     private final FilteredList<Member> filteredMembers;
     private final SimpleObjectProperty<Member> selectedMember = new SimpleObjectProperty<>();
 
@@ -49,17 +62,23 @@ public class ModelManager implements Model {
     private final FilteredList<Staff> filteredStaff;
     private final SimpleObjectProperty<Staff> selectedStaff = new SimpleObjectProperty<>();
 
+    /** The batches of changes in progress, the innermost first. */
+    private final Deque<Batch> batches = new ArrayDeque<>();
+
     /**
-     * Initializes a ModelManager with the given restaurantBook and userPrefs.
+     * Initializes a ModelManager with the given restaurantBook, userPrefs, bookingArchive and undoHistorySpill.
      */
-    public ModelManager(ReadOnlyRestaurantBook restaurantBook, ReadOnlyUserPrefs userPrefs) {
+    public ModelManager(ReadOnlyRestaurantBook restaurantBook, ReadOnlyUserPrefs userPrefs,
+                        BookingArchive bookingArchive, UndoHistorySpill undoHistorySpill) {
         super();
-        requireAllNonNull(restaurantBook, userPrefs);
+        requireAllNonNull(restaurantBook, userPrefs, bookingArchive, undoHistorySpill);
 
         logger.fine("Initializing with restaurant book: " + restaurantBook + " and user prefs " + userPrefs);
 
-        versionedRestaurantBook = new VersionedRestaurantBook(restaurantBook);
+        versionedRestaurantBook = new VersionedRestaurantBook(restaurantBook, userPrefs.getMaxUndoDepth(),
+                userPrefs.getUndoMemoryBudget(), undoHistorySpill);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.bookingArchive = bookingArchive;
         filteredMembers = new FilteredList<>(versionedRestaurantBook.getMemberList());
         filteredMembers.addListener(this::ensureSelectedMemberIsValid);
 
@@ -72,6 +91,22 @@ public class ModelManager implements Model {
         filteredStaff = new FilteredList<>(versionedRestaurantBook.getStaffList());
     }
 
+    /**
+     * Initializes a ModelManager with the given restaurantBook, userPrefs and bookingArchive, keeping the whole undo
+     * history in memory.
+     */
+    public ModelManager(ReadOnlyRestaurantBook restaurantBook, ReadOnlyUserPrefs userPrefs,
+                        BookingArchive bookingArchive) {
+        this(restaurantBook, userPrefs, bookingArchive, UndoHistorySpill.inMemory());
+    }
+
+    /**
+     * Initializes a ModelManager with the given restaurantBook and userPrefs, without any archived bookings.
+     */
+    public ModelManager(ReadOnlyRestaurantBook restaurantBook, ReadOnlyUserPrefs userPrefs) {
+        this(restaurantBook, userPrefs, BookingArchive.none());
+    }
+
     public ModelManager() {
         this(new RestaurantBook(), new UserPrefs());
     }
@@ -210,6 +245,13 @@ public class ModelManager implements Model {
         updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
     }
 
+    @Override
+    public void addBookings(List<Booking> bookings) {
+        requireNonNull(bookings);
+        versionedRestaurantBook.addBookings(bookings);
+        updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
+    }
+
     @Override
     public void addIngredient(Ingredient ingredient) {
         requireNonNull(ingredient);
@@ -277,8 +319,39 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public LocalDateTime suggestNextAvailableTime(Booking toAdd) {
-        return versionedRestaurantBook.suggestNextAvailableTime(toAdd);
+    public int getPeakOccupancy() {
+        return versionedRestaurantBook.getPeakOccupancy();
+    }
+
+    @Override
+    public NavigableMap<LocalDate, Integer> getDailyPeakOccupancy(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return versionedRestaurantBook.getDailyPeakOccupancy(startDate, endDate);
+    }
+
+    @Override
+    public List<OccupancyWindow> getOverbookedWindows(Capacity capacity) {
+        requireNonNull(capacity);
+        return versionedRestaurantBook.getOverbookedWindows(capacity);
+    }
+
+    @Override
+    public AvailableTimes suggestAvailableTimes(BookingWindow bookingWindow, BookingSize bookingSize,
+                                                Duration searchWindow, int maxSuggestions) {
+        return versionedRestaurantBook.suggestAvailableTimes(bookingWindow, bookingSize, searchWindow, maxSuggestions);
+    }
+
+    @Override
+    public List<Booking> getBookingsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return versionedRestaurantBook.getBookingsBetween(startDate, endDate);
+    }
+
+    @Override
+    public Stream<Booking> streamBookingsBetween(LocalDate startDate, LocalDate endDate) throws IOException {
+        requireAllNonNull(startDate, endDate);
+        return Stream.concat(bookingArchive.readBookingsBetween(startDate, endDate),
+                getBookingsBetween(startDate, endDate).stream());
     }
 
     @Override
@@ -346,12 +419,12 @@ public class ModelManager implements Model {
 
     @Override
     public boolean canUndoRestaurantBook() {
-        return versionedRestaurantBook.canUndo();
+        return batches.isEmpty() && versionedRestaurantBook.canUndo();
     }
 
     @Override
     public boolean canRedoRestaurantBook() {
-        return versionedRestaurantBook.canRedo();
+        return batches.isEmpty() && versionedRestaurantBook.canRedo();
     }
 
     @Override
@@ -366,7 +439,37 @@ public class ModelManager implements Model {
 
     @Override
     public void commitRestaurantBook() {
-        versionedRestaurantBook.commit();
+        if (batches.isEmpty()) {
+            versionedRestaurantBook.commit();
+        } else {
+            batches.peek().isCommitted = true;
+        }
+    }
+
+    @Override
+    public void startRestaurantBookBatch() {
+        batches.push(new Batch(versionedRestaurantBook.savepoint()));
+    }
+
+    @Override
+    public void endRestaurantBookBatch() {
+        if (batches.pop().isCommitted) {
+            // commits the changes of the batch as part of the batch around it, if there is any
+            commitRestaurantBook();
+        }
+    }
+
+    @Override
+    public void rollbackRestaurantBook() {
+        Batch batch = batches.peek();
+        assert batch != null : "Only the changes of a batch can be rolled back.";
+        versionedRestaurantBook.rollback(batch.savepoint);
+        batch.isCommitted = false;
+    }
+
+    @Override
+    public void extendInitialRestaurantBook(Consumer<RestaurantBook> changes) {
+        versionedRestaurantBook.extendInitialState(changes);
     }
 
     //=========== Selected member ===========================================================================
@@ -514,4 +617,15 @@ public class ModelManager implements Model {
         versionedRestaurantBook.setUpdateCapacityCallback(callback);
     }
 
+    /**
+     * A batch of changes in progress, which can be rolled back to the savepoint it started from.
+     */
+    private static class Batch {
+        private final VersionedRestaurantBook.Savepoint savepoint;
+        private boolean isCommitted;
+
+        Batch(VersionedRestaurantBook.Savepoint savepoint) {
+            this.savepoint = savepoint;
+        }
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SavePolicy;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,55 @@ public interface ReadOnlyUserPrefs {
 
     Path getRestaurantBookFilePath();
 
+    /**
+     * Returns the number of days after which past bookings are moved out of the restaurant book into the booking
+     * archive. A value of 0 disables archiving.
+     */
+    int getArchiveHorizonDays();
+
+    /**
+     * Returns the number of days before today from which the bookings are loaded at startup, when the data is stored
+     * in a database. The bookings that started before then are left in the database. A value of 0 loads all the
+     * bookings.
+     */
+    int getLoadHorizonDays();
+
+    /**
+     * Returns the largest number of commands that can be undone.
+     */
+    int getMaxUndoDepth();
+
+    /**
+     * Returns the largest number of records that the undo history keeps in memory before older states are moved to
+     * a temporary file.
+     */
+    int getUndoMemoryBudget();
+
+    /**
+     * Returns when the changes made by commands are written to the data file.
+     */
+    SavePolicy getSavePolicy();
+
+    /**
+     * Returns how long, in milliseconds, no command must change the data before the changes are written, when the
+     * save policy is {@code SavePolicy#DEBOUNCE}.
+     */
+    long getSaveDebounceMillis();
+
+    /**
+     * Returns the format in which the restaurant book data file is stored.
+     */
+    StorageFormat getStorageFormat();
+
+    /**
+     * Returns true if the main window is shown before the restaurant book is loaded, which is then loaded on a
+     * background thread.
+     */
+    boolean isProgressiveStartup();
+
+    /**
+     * Returns the largest number of commands entered by the user that are kept in the command history.
+     */
+    int getCommandHistorySize();
+
 }
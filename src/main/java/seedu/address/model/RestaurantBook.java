@@ -1,24 +1,37 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
-
-import java.time.LocalDateTime;
+import static seedu.address.model.RestaurantBookSection.BOOKINGS;
+import static seedu.address.model.RestaurantBookSection.CAPACITY;
+import static seedu.address.model.RestaurantBookSection.INGREDIENTS;
+import static seedu.address.model.RestaurantBookSection.MEMBERS;
+import static seedu.address.model.RestaurantBookSection.RECIPES;
+import static seedu.address.model.RestaurantBookSection.STAFF;
+
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.booking.AvailableTimes;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.OccupancyIndex;
+import seedu.address.model.booking.OccupancyWindow;
+import seedu.address.model.booking.UniqueBookingList;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.person.exceptions.DuplicateItemException;
 import seedu.address.model.person.exceptions.RestaurantOverbookedException;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
@@ -31,11 +44,13 @@ import seedu.address.model.recipe.Recipe;
 public class RestaurantBook implements ReadOnlyRestaurantBook {
 
     private final UniqueItemList<Member> members;
-    private final UniqueItemList<Booking> bookings;
+    private final UniqueBookingList bookings;
     private final UniqueItemList<Ingredient> ingredients;
     private final UniqueItemList<Recipe> recipes;
     private final UniqueItemList<Staff> staff;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final OccupancyIndex occupancy = new OccupancyIndex();
+    private final long[] modificationCounts = new long[RestaurantBookSection.values().length];
 
     private Capacity capacity = Capacity.getDefaultCapacity();
     private Consumer<Capacity> callback;
@@ -48,7 +63,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      *   among constructors.
      */ {
         members = new UniqueItemList<>();
-        bookings = new UniqueItemList<>();
+        bookings = new UniqueBookingList();
         ingredients = new UniqueItemList<>();
         recipes = new UniqueItemList<>();
         staff = new UniqueItemList<>();
@@ -73,7 +88,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void setMembers(List<Member> members) {
         this.members.setItems(members);
-        indicateModified();
+        indicateModified(MEMBERS);
     }
 
     /**
@@ -81,8 +96,9 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code bookings} must not contain duplicate bookings.
      */
     public void setBookings(List<Booking> bookings) {
-        this.bookings.setItems(bookings);
-        indicateModified();
+        this.bookings.setBookings(bookings);
+        occupancy.setBookings(bookings);
+        indicateModified(BOOKINGS);
     }
 
     /**
@@ -91,7 +107,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void setIngredients(List<Ingredient> ingredients) {
         this.ingredients.setItems(ingredients);
-        indicateModified();
+        indicateModified(INGREDIENTS);
     }
 
 
@@ -101,7 +117,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void setRecipes(List<Recipe> recipes) {
         this.recipes.setItems(recipes);
-        indicateModified();
+        indicateModified(RECIPES);
     }
 
     /**
@@ -112,7 +128,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
     // TODO: find a better name
     public void setStaffList(List<Staff> staff) {
         this.staff.setItems(staff);
-        indicateModified();
+        indicateModified(STAFF);
     }
 
     /**
@@ -126,6 +142,48 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
         setRecipes(newData.getRecipeList());
         setStaffList(newData.getStaffList());
         capacity = newData.getCapacity();
+        indicateModified(CAPACITY);
+    }
+
+    /**
+     * Makes the edits of {@code delta} to the lists of this {@code RestaurantBook} and replaces its capacity with
+     * the capacity after {@code delta}. This {@code RestaurantBook} must be in the state that {@code delta} was made
+     * from, so the edits are made in place without checking for duplicates, and only the edited items are touched.
+     */
+    protected void applyDelta(RestaurantBookDelta delta) {
+        requireNonNull(delta);
+        List<RestaurantBookSection> modifiedSections = new ArrayList<>();
+        delta.getMemberEdits().forEach(members::applyEdit);
+        for (ListEdit<Booking> edit : delta.getBookingEdits()) {
+            edit.getRemoved().forEach(occupancy::remove);
+            bookings.applyEdit(edit);
+            edit.getAdded().forEach(occupancy::add);
+        }
+        delta.getIngredientEdits().forEach(ingredients::applyEdit);
+        delta.getRecipeEdits().forEach(recipes::applyEdit);
+        delta.getStaffEdits().forEach(staff::applyEdit);
+        addIfNotEmpty(modifiedSections, MEMBERS, delta.getMemberEdits());
+        addIfNotEmpty(modifiedSections, BOOKINGS, delta.getBookingEdits());
+        addIfNotEmpty(modifiedSections, INGREDIENTS, delta.getIngredientEdits());
+        addIfNotEmpty(modifiedSections, RECIPES, delta.getRecipeEdits());
+        addIfNotEmpty(modifiedSections, STAFF, delta.getStaffEdits());
+        if (!capacity.equals(delta.getCapacityAfter())) {
+            modifiedSections.add(CAPACITY);
+        }
+        capacity = delta.getCapacityAfter();
+        if (callback != null) {
+            callback.accept(capacity);
+        }
+        if (!modifiedSections.isEmpty()) {
+            indicateModified(modifiedSections.toArray(new RestaurantBookSection[0]));
+        }
+    }
+
+    private static void addIfNotEmpty(List<RestaurantBookSection> sections, RestaurantBookSection section,
+                                      List<?> edits) {
+        if (!edits.isEmpty()) {
+            sections.add(section);
+        }
     }
 
     //// item-level operations
@@ -150,12 +208,8 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * Returns true if {@code booking} can be added to the restaurant without exceeding capacity.
      */
     public boolean canAccommodate(Booking booking) {
-        List<Booking> newList = new ArrayList<>();
-        for (Booking b : bookings) {
-            newList.add(b);
-        } // copy all the bookings over as booking list is immutable
-        newList.add(booking);
-        return getCapacity().canAccommodate(newList);
+        requireNonNull(booking);
+        return getCapacity().canAddBooking(booking, occupancy);
     }
 
     /**
@@ -188,7 +242,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void addMember(Member member) {
         members.add(member);
-        indicateModified();
+        indicateModified(MEMBERS);
     }
 
     /**
@@ -197,12 +251,36 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * The addition of this booking must not allow restaurant to exceed capacity.
      */
     public void addBooking(Booking booking) {
+        if (!canAccommodate(booking)) {
+            throw new RestaurantOverbookedException();
+        }
         bookings.add(booking);
-        if (!getCapacity().canAccommodate(bookings.asUnmodifiableObservableList())) {
+        occupancy.add(booking);
+        indicateModified(BOOKINGS);
+    }
+
+    /**
+     * Adds all of {@code newBookings} to the restaurant book, inserting them into the sorted booking list on their
+     * days, without touching the bookings on other days.
+     * The bookings must not already exist in the restaurant book.
+     * The addition of these bookings must not allow restaurant to exceed capacity. In that case, no bookings will be
+     * added.
+     */
+    public void addBookings(List<Booking> newBookings) {
+        requireNonNull(newBookings);
+        newBookings.forEach(occupancy::add);
+        if (!capacity.canAccommodate(occupancy)) {
+            newBookings.forEach(occupancy::remove);
             throw new RestaurantOverbookedException();
         }
-        bookings.sort(Comparator.naturalOrder());
-        indicateModified();
+
+        try {
+            bookings.addAll(newBookings);
+        } catch (DuplicateItemException e) {
+            newBookings.forEach(occupancy::remove);
+            throw e;
+        }
+        indicateModified(BOOKINGS);
     }
 
     /**
@@ -211,7 +289,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void addIngredient(Ingredient ingredient) {
         ingredients.add(ingredient);
-        indicateModified();
+        indicateModified(INGREDIENTS);
     }
 
     /**
@@ -220,7 +298,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void addRecipe(Recipe recipe) {
         recipes.add(recipe);
-        indicateModified();
+        indicateModified(RECIPES);
     }
 
     /**
@@ -229,7 +307,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void addStaff(Staff s) { // 1 letter name used to avoid variable name conflict
         staff.add(s);
-        indicateModified();
+        indicateModified(STAFF);
     }
 
     /**
@@ -239,12 +317,15 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * same as another existing member in the restaurant book.
      */
     public void setMember(Member target, Member editedMember) {
+        boolean hasBookings = bookings.countBookingsOf(target) > 0;
         members.setItem(target, editedMember);
-        ObservableList<Booking> bookingObservableList = bookings.asUnmodifiableObservableList();
-        Function<Booking, Booking>
-                updateBooking = b -> (b.getCustomer().equals(target) ? b.editContacts(editedMember) : b);
-        setBookings(bookingObservableList.stream().map(updateBooking).collect(Collectors.toList()));
-        indicateModified();
+        // editing the contacts of a booking does not change its occupancy, so the occupancy index is left untouched
+        bookings.setCustomer(target, editedMember);
+        if (hasBookings) {
+            indicateModified(MEMBERS, BOOKINGS);
+        } else {
+            indicateModified(MEMBERS);
+        }
     }
 
     /**
@@ -254,28 +335,31 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * same as another existing booking in the restaurant book.
      */
     public void setBooking(Booking target, Booking editedBooking) {
-        bookings.setItem(target, editedBooking);
-        if (!capacity.canAccommodate(bookings.asUnmodifiableObservableList())) {
+        if (!canAccommodateEdit(target, editedBooking)) {
             throw new RestaurantOverbookedException();
         }
-        bookings.sort(Comparator.naturalOrder());
-        indicateModified();
+        bookings.setBooking(target, editedBooking);
+        occupancy.remove(target);
+        occupancy.add(editedBooking);
+        indicateModified(BOOKINGS);
     }
 
     /**
      * Determines if editing the booking will cause the restaurant to be overbooked
      */
     public boolean canAccommodateEdit(Booking target, Booking editedBooking) {
-        // newList simulates what happens when the target is replaced
-        List<Booking> newList = new ArrayList<>();
-        for (Booking b : bookings) {
-            if (!b.equals(target)) {
-                newList.add(b);
-            } else {
-                newList.add(editedBooking);
-            }
+        requireNonNull(target);
+        requireNonNull(editedBooking);
+        if (!bookings.contains(target)) {
+            return canAccommodate(editedBooking);
+        }
+        // simulates what happens when the target is replaced
+        occupancy.remove(target);
+        try {
+            return canAccommodate(editedBooking);
+        } finally {
+            occupancy.add(target);
         }
-        return getCapacity().canAccommodate(newList);
     }
 
     /**
@@ -285,11 +369,17 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void setIngredient(Ingredient target, Ingredient editedIngredient) {
         ingredients.setItem(target, editedIngredient);
-        ObservableList<Recipe> recipeObservableList = recipes.asUnmodifiableObservableList();
-        Function<Recipe, Recipe>
-                updateRecipe = r -> (r.containsIngredient(target) ? r.editIngredientSet(target, editedIngredient) : r);
-        setRecipes(recipeObservableList.stream().map(updateRecipe).collect(Collectors.toList()));
-        indicateModified();
+        // only the recipes that include the ingredient are replaced, so the other recipes are left untouched
+        List<Recipe> recipesToEdit = recipes.asUnmodifiableObservableList().stream()
+                .filter(recipe -> recipe.containsIngredient(target)).collect(Collectors.toList());
+        for (Recipe recipe : recipesToEdit) {
+            recipes.setItem(recipe, recipe.editIngredientSet(target, editedIngredient));
+        }
+        if (recipesToEdit.isEmpty()) {
+            indicateModified(INGREDIENTS);
+        } else {
+            indicateModified(INGREDIENTS, RECIPES);
+        }
     }
 
     /**
@@ -300,7 +390,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void setRecipe(Recipe target, Recipe editedRecipe) {
         recipes.setItem(target, editedRecipe);
-        indicateModified();
+        indicateModified(RECIPES);
     }
 
     /**
@@ -311,7 +401,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void setStaff(Staff target, Staff editedStaff) {
         staff.setItem(target, editedStaff);
-        indicateModified();
+        indicateModified(STAFF);
     }
 
     /**
@@ -322,10 +412,13 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
     public void removeMember(Member key) {
         members.remove(key);
         // When a member is deleted, all associated bookings are also deleted.
-        Predicate<Booking> isValidBooking = b -> !b.getCustomer().equals(key);
-        ObservableList<Booking> bookingObservableList = bookings.asUnmodifiableObservableList();
-        setBookings(bookingObservableList.stream().filter(isValidBooking).collect(Collectors.toList()));
-        indicateModified();
+        List<Booking> removedBookings = bookings.removeBookingsOf(key);
+        removedBookings.forEach(occupancy::remove);
+        if (removedBookings.isEmpty()) {
+            indicateModified(MEMBERS);
+        } else {
+            indicateModified(MEMBERS, BOOKINGS);
+        }
     }
 
     /**
@@ -334,7 +427,8 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void removeBooking(Booking key) {
         bookings.remove(key);
-        indicateModified();
+        occupancy.remove(key);
+        indicateModified(BOOKINGS);
     }
 
     /**
@@ -346,12 +440,14 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
         ingredients.remove(key);
 
         // When an ingred is deleted, all associated recipes are also deleted.
-        Predicate<Recipe> isValidRecipe =
-            r -> r.getRecipeIngredientSet().getIngredientMap()
-                        .keySet().stream().noneMatch(ingred -> ingred.equals(key));
-        ObservableList<Recipe> recipeObservableList = recipes.asUnmodifiableObservableList();
-        setRecipes(recipeObservableList.stream().filter(isValidRecipe).collect(Collectors.toList()));
-        indicateModified();
+        List<Recipe> recipesToRemove = recipes.asUnmodifiableObservableList().stream()
+                .filter(recipe -> recipe.containsIngredient(key)).collect(Collectors.toList());
+        recipesToRemove.forEach(recipes::remove);
+        if (recipesToRemove.isEmpty()) {
+            indicateModified(INGREDIENTS);
+        } else {
+            indicateModified(INGREDIENTS, RECIPES);
+        }
     }
 
     /**
@@ -372,7 +468,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void removeRecipe(Recipe key) {
         recipes.remove(key);
-        indicateModified();
+        indicateModified(RECIPES);
     }
 
     /**
@@ -381,7 +477,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void removeStaff(Staff key) {
         staff.remove(key);
-        indicateModified();
+        indicateModified(STAFF);
     }
 
     @Override
@@ -389,37 +485,85 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
         return capacity;
     }
 
+    /**
+     * Replaces the capacity of the restaurant with {@code newCapacity}.
+     * @throws RestaurantOverbookedException if the bookings exceed {@code newCapacity}.
+     */
     public void setCapacity(Capacity newCapacity) {
         capacity = newCapacity;
         if (callback != null) {
             callback.accept(capacity);
         }
-        if (!newCapacity.canAccommodate(bookings.asUnmodifiableObservableList())) {
+        indicateModified(CAPACITY);
+        if (!newCapacity.canAccommodate(occupancy)) {
             throw new RestaurantOverbookedException();
         }
     }
 
+    /**
+     * Returns the bookings that start on any date from {@code startDate} to {@code endDate} inclusive, sorted by start
+     * time.
+     */
+    public List<Booking> getBookingsBetween(LocalDate startDate, LocalDate endDate) {
+        return bookings.getBookingsBetween(startDate, endDate);
+    }
+
+    /**
+     * Removes all the bookings that start before {@code date} from the restaurant book and returns them, sorted by
+     * start time.
+     */
+    public List<Booking> removeBookingsBefore(LocalDate date) {
+        requireNonNull(date);
+        List<Booking> pastBookings = bookings.removeBookingsBefore(date);
+        if (!pastBookings.isEmpty()) {
+            pastBookings.forEach(occupancy::remove);
+            indicateModified(BOOKINGS);
+        }
+        return pastBookings;
+    }
+
     /**
      * Counts the number of bookings associated with {@code member}
      */
     public int countBookings(Member member) {
-        Predicate<Booking> hasGivenMember = (bookingToCheck -> bookingToCheck.getCustomer().equals(member));
-        return (int) bookings.asUnmodifiableObservableList().stream().filter(hasGivenMember).count();
+        return bookings.countBookingsOf(member);
     }
 
     /**
-     * Suggests a possible time to accommodate the booking.
-     * @param toAdd The booking that the user wishes to add
-     * @return The next available time that the restaurant can accommodate the booking, subjected to the constraint
-     * that the returned time must occur after {@code toAdd}. In other words, suggestion always shifts the booking
-     * later and never earlier.
+     * Suggests the times around {@code bookingWindow} at which a booking of {@code bookingSize} persons can be
+     * accepted. See {@link Capacity#suggestAvailableTimes}.
      */
-    public LocalDateTime suggestNextAvailableTime(Booking toAdd) {
-        return capacity.suggestNextAvailableTime(toAdd, bookings.asUnmodifiableObservableList());
+    public AvailableTimes suggestAvailableTimes(BookingWindow bookingWindow, BookingSize bookingSize,
+                                                Duration searchWindow, int maxSuggestions) {
+        return capacity.suggestAvailableTimes(bookingWindow, bookingSize, occupancy, searchWindow, maxSuggestions);
     }
 
     public boolean canUpdateCapacity(Capacity newCapacity) {
-        return newCapacity.canAccommodate(bookings.asUnmodifiableObservableList());
+        return newCapacity.canAccommodate(occupancy);
+    }
+
+    /**
+     * Returns the largest number of persons in the restaurant at any point in time, which is the smallest capacity
+     * that can hold all the bookings.
+     */
+    public int getPeakOccupancy() {
+        return occupancy.getPeakOccupancy();
+    }
+
+    /**
+     * Returns the peak occupancy of each date from {@code startDate} to {@code endDate} inclusive that has bookings.
+     */
+    public NavigableMap<LocalDate, Integer> getDailyPeakOccupancy(LocalDate startDate, LocalDate endDate) {
+        return occupancy.getDailyPeakOccupancy(startDate, endDate);
+    }
+
+    /**
+     * Returns the periods of time during which the restaurant would be overbooked with a capacity of
+     * {@code capacity}, in chronological order.
+     */
+    public List<OccupancyWindow> getOverbookedWindows(Capacity capacity) {
+        requireNonNull(capacity);
+        return occupancy.getWindowsAbove(capacity.getValue());
     }
 
     @Override
@@ -433,7 +577,26 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
     }
 
     /**
-     * Notifies listeners that the restaurant book has been modified.
+     * Returns the number of times that {@code section} of this restaurant book has been modified, so that the
+     * sections modified between two points in time can be found by comparing their counts.
+     */
+    public long getModificationCount(RestaurantBookSection section) {
+        requireNonNull(section);
+        return modificationCounts[section.ordinal()];
+    }
+
+    /**
+     * Records that {@code sections} of the restaurant book have been modified, and notifies listeners.
+     */
+    protected void indicateModified(RestaurantBookSection... sections) {
+        for (RestaurantBookSection section : sections) {
+            modificationCounts[section.ordinal()]++;
+        }
+        indicateModified();
+    }
+
+    /**
+     * Notifies listeners that the restaurant book has been modified, without recording any modified section.
      */
     protected void indicateModified() {
         invalidationListenerManager.callListeners(this);
@@ -0,0 +1,201 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+
+/**
+ * The changes that take a {@code RestaurantBook} from one of its versions to the next: the edits made to each of its
+ * lists, in the order in which they were made, and its capacity before and after the changes.
+ * Only the changed items are referenced, so the unchanged items are shared with the restaurant book.
+ */
+public class RestaurantBookDelta {
+
+    private final List<ListEdit<Member>> memberEdits = new ArrayList<>();
+    private final List<ListEdit<Booking>> bookingEdits = new ArrayList<>();
+    private final List<ListEdit<Ingredient>> ingredientEdits = new ArrayList<>();
+    private final List<ListEdit<Recipe>> recipeEdits = new ArrayList<>();
+    private final List<ListEdit<Staff>> staffEdits = new ArrayList<>();
+    private final Capacity capacityBefore;
+    private Capacity capacityAfter;
+
+    /**
+     * Creates an empty delta from a version of the restaurant book with {@code capacity}.
+     */
+    RestaurantBookDelta(Capacity capacity) {
+        requireNonNull(capacity);
+        capacityBefore = capacity;
+        capacityAfter = capacity;
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RestaurantBookDelta(Capacity capacityBefore, Capacity capacityAfter, List<ListEdit<Member>> memberEdits,
+                               List<ListEdit<Booking>> bookingEdits, List<ListEdit<Ingredient>> ingredientEdits,
+                               List<ListEdit<Recipe>> recipeEdits, List<ListEdit<Staff>> staffEdits) {
+        requireAllNonNull(capacityBefore, capacityAfter, memberEdits, bookingEdits, ingredientEdits, recipeEdits,
+                staffEdits);
+        this.capacityBefore = capacityBefore;
+        this.capacityAfter = capacityAfter;
+        this.memberEdits.addAll(memberEdits);
+        this.bookingEdits.addAll(bookingEdits);
+        this.ingredientEdits.addAll(ingredientEdits);
+        this.recipeEdits.addAll(recipeEdits);
+        this.staffEdits.addAll(staffEdits);
+    }
+
+    public List<ListEdit<Member>> getMemberEdits() {
+        return Collections.unmodifiableList(memberEdits);
+    }
+
+    public List<ListEdit<Booking>> getBookingEdits() {
+        return Collections.unmodifiableList(bookingEdits);
+    }
+
+    public List<ListEdit<Ingredient>> getIngredientEdits() {
+        return Collections.unmodifiableList(ingredientEdits);
+    }
+
+    public List<ListEdit<Recipe>> getRecipeEdits() {
+        return Collections.unmodifiableList(recipeEdits);
+    }
+
+    public List<ListEdit<Staff>> getStaffEdits() {
+        return Collections.unmodifiableList(staffEdits);
+    }
+
+    public Capacity getCapacityBefore() {
+        return capacityBefore;
+    }
+
+    public Capacity getCapacityAfter() {
+        return capacityAfter;
+    }
+
+    void setCapacityAfter(Capacity capacity) {
+        requireNonNull(capacity);
+        capacityAfter = capacity;
+    }
+
+    void addMemberEdits(List<ListEdit<Member>> edits) {
+        memberEdits.addAll(edits);
+    }
+
+    void addBookingEdits(List<ListEdit<Booking>> edits) {
+        bookingEdits.addAll(edits);
+    }
+
+    void addIngredientEdits(List<ListEdit<Ingredient>> edits) {
+        ingredientEdits.addAll(edits);
+    }
+
+    void addRecipeEdits(List<ListEdit<Recipe>> edits) {
+        recipeEdits.addAll(edits);
+    }
+
+    void addStaffEdits(List<ListEdit<Staff>> edits) {
+        staffEdits.addAll(edits);
+    }
+
+    /**
+     * Returns the number of edits made to each list so far, which marks where {@link #removeEditsAfter} can later cut
+     * this delta.
+     */
+    int[] getEditCounts() {
+        return new int[] {memberEdits.size(), bookingEdits.size(), ingredientEdits.size(), recipeEdits.size(),
+            staffEdits.size()};
+    }
+
+    /**
+     * Removes the edits made after {@code editCounts} was taken from this delta, and returns them as a delta from a
+     * version of the restaurant book with {@code capacity}.
+     */
+    RestaurantBookDelta removeEditsAfter(int[] editCounts, Capacity capacity) {
+        RestaurantBookDelta laterDelta = new RestaurantBookDelta(capacity);
+        moveEditsAfter(memberEdits, editCounts[0], laterDelta.memberEdits);
+        moveEditsAfter(bookingEdits, editCounts[1], laterDelta.bookingEdits);
+        moveEditsAfter(ingredientEdits, editCounts[2], laterDelta.ingredientEdits);
+        moveEditsAfter(recipeEdits, editCounts[3], laterDelta.recipeEdits);
+        moveEditsAfter(staffEdits, editCounts[4], laterDelta.staffEdits);
+        return laterDelta;
+    }
+
+    private static <T> void moveEditsAfter(List<ListEdit<T>> edits, int editCount, List<ListEdit<T>> laterEdits) {
+        List<ListEdit<T>> editsAfter = edits.subList(editCount, edits.size());
+        laterEdits.addAll(editsAfter);
+        editsAfter.clear();
+    }
+
+    /**
+     * Returns the number of items referenced by the edits of this delta.
+     */
+    public int size() {
+        return Stream.of(memberEdits, bookingEdits, ingredientEdits, recipeEdits, staffEdits)
+                .flatMap(List::stream)
+                .mapToInt(ListEdit::size)
+                .sum();
+    }
+
+    /**
+     * Returns the delta that reverts the changes of this delta.
+     */
+    public RestaurantBookDelta inverse() {
+        RestaurantBookDelta inverse = new RestaurantBookDelta(capacityAfter);
+        inverse.setCapacityAfter(capacityBefore);
+        invert(memberEdits, inverse.memberEdits);
+        invert(bookingEdits, inverse.bookingEdits);
+        invert(ingredientEdits, inverse.ingredientEdits);
+        invert(recipeEdits, inverse.recipeEdits);
+        invert(staffEdits, inverse.staffEdits);
+        return inverse;
+    }
+
+    /**
+     * Adds the edits that revert {@code edits} to {@code inverseEdits}, in the order in which they are to be made.
+     */
+    private static <T> void invert(List<ListEdit<T>> edits, List<ListEdit<T>> inverseEdits) {
+        for (ListEdit<T> edit : edits) {
+            inverseEdits.add(edit.inverse());
+        }
+        Collections.reverse(inverseEdits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RestaurantBookDelta)) {
+            return false;
+        }
+
+        RestaurantBookDelta otherDelta = (RestaurantBookDelta) other;
+        return memberEdits.equals(otherDelta.memberEdits)
+                && bookingEdits.equals(otherDelta.bookingEdits)
+                && ingredientEdits.equals(otherDelta.ingredientEdits)
+                && recipeEdits.equals(otherDelta.recipeEdits)
+                && staffEdits.equals(otherDelta.staffEdits)
+                && capacityBefore.equals(otherDelta.capacityBefore)
+                && capacityAfter.equals(otherDelta.capacityAfter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(memberEdits, bookingEdits, ingredientEdits, recipeEdits, staffEdits, capacityBefore,
+                capacityAfter);
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * A part of a {@code RestaurantBook} whose modifications are recorded separately from the other parts.
+ */
+public enum RestaurantBookSection {
+    MEMBERS,
+    BOOKINGS,
+    INGREDIENTS,
+    RECIPES,
+    STAFF,
+    CAPACITY
+}
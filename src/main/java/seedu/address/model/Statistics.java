@@ -9,9 +9,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.stream.Stream;
 
-import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart.Data;
 import seedu.address.model.booking.Booking;
 
@@ -29,20 +28,72 @@ public class Statistics {
 
     private static final int HOURS_IN_A_DAY = 24;
 
-    private final ObservableList<Booking> bookings;
     private final int days;
+    private final LocalDate today;
+    // number of persons booked on each day covered by the bar graph of days, indexed by the number of days before today
+    private final int[] numPersonsByDaysAgo;
+    // number of persons booked in each hour of the day over the last `days` days
+    private final int[] numPersonsByHour = new int[HOURS_IN_A_DAY];
+
+    public Statistics(List<Booking> bookings, int days) {
+        this(days);
+        requireNonNull(bookings);
+        bookings.forEach(this::addBooking);
+    }
 
-    public Statistics(ObservableList<Booking> bookings, int days) {
+    private Statistics(int days) {
         checkArgument(1 <= days && days <= getMaxDays() , MESSAGE_CONSTRAINTS);
-        requireNonNull(bookings);
-        this.bookings = bookings;
         this.days = days;
+        this.today = LocalDate.now();
+        this.numPersonsByDaysAgo = new int[getNumDaysCovered(days)];
+    }
+
+    /**
+     * Creates the statistics of the last {@code days} days from {@code bookings}.
+     * The bookings are consumed in a single pass and are not retained, so they can be streamed from storage.
+     */
+    public static Statistics fromStream(Stream<Booking> bookings, int days) {
+        Statistics statistics = new Statistics(days);
+        requireNonNull(bookings);
+        bookings.forEach(statistics::addBooking);
+        return statistics;
+    }
+
+    private void addBooking(Booking booking) {
+        int difference = getDaysDifference(booking.getStartTime().toLocalDate(), today);
+        if (difference < 0 || difference >= numPersonsByDaysAgo.length) {
+            return;
+        }
+        int numPersons = booking.getNumMembers().getSize();
+        numPersonsByDaysAgo[difference] += numPersons;
+        if (difference < days) {
+            numPersonsByHour[booking.getStartTime().getHour()] += numPersons;
+        }
     }
 
     public static int getMaxDays() {
         return MAX_BARS * MAX_BAR_SIZE;
     }
 
+    /**
+     * Returns the earliest date that is covered by the statistics of the last {@code days} days. Bookings that start
+     * before this date do not affect the statistics.
+     */
+    public static LocalDate getEarliestDate(int days) {
+        checkArgument(1 <= days && days <= getMaxDays(), MESSAGE_CONSTRAINTS);
+        return LocalDate.now().minusDays(getNumDaysCovered(days) - 1);
+    }
+
+    /**
+     * Returns the number of days up to today that are covered by the bar graph of the last {@code days} days. As all
+     * bars cover the same number of days, this may be slightly more than {@code days}.
+     */
+    private static int getNumDaysCovered(int days) {
+        int bucketSize = (days + MAX_BARS - 1) / MAX_BARS; // ceiling of days / MAX_BARS
+        int numBuckets = (days + bucketSize - 1) / bucketSize; // ceiling of days / bucketSize
+        return numBuckets * bucketSize;
+    }
+
     private int getDaysDifference(LocalDate start, LocalDate end) {
         return (int) ChronoUnit.DAYS.between(start, end);
     }
@@ -77,12 +128,14 @@ public class Statistics {
     }
 
     /**
-     * Counts the number of bookings that satisfies the given condition
-     * @param condition condition for the bookings to satisfy
-     * @return the number of bookings that satisfies the given condition
+     * Counts the number of persons booked from {@code startIndex} to {@code endIndex} days before today inclusive.
      */
-    private int getNumBookingsWithCondition(Predicate<Booking> condition) {
-        return (int) bookings.stream().filter(condition).mapToInt(booking -> booking.getNumMembers().getSize()).sum();
+    private int getNumBookingsBetween(int startIndex, int endIndex) {
+        int numBookings = 0;
+        for (int i = startIndex; i <= endIndex; i++) {
+            numBookings += numPersonsByDaysAgo[i];
+        }
+        return numBookings;
     }
 
     /**
@@ -97,15 +150,10 @@ public class Statistics {
         assert(bucketSize >= 0);
         assert(numBuckets >= 0);
         List<Integer> numBookings = new ArrayList<>();
-        LocalDate today = LocalDate.now();
         for (int i = 0; i < numBuckets; i++) {
             int startIndex = i * bucketSize;
             int endIndex = startIndex + (bucketSize - 1);
-            numBookings.add(getNumBookingsWithCondition(booking -> {
-                LocalDate bookingDate = booking.getStartTime().toLocalDate();
-                int difference = getDaysDifference(bookingDate, today);
-                return startIndex <= difference && difference <= endIndex;
-            }));
+            numBookings.add(getNumBookingsBetween(startIndex, endIndex));
         }
         List<Data<String, Integer>> graphData = new ArrayList<>();
         for (int i = numBuckets - 1; i >= 0; i--) { // add the earliest date first
@@ -122,16 +170,9 @@ public class Statistics {
      * @return
      */
     public List<Data<String, Integer>> generateGraphDataTime() {
-        LocalDate today = LocalDate.now();
         List<Data<String, Integer>> graphData = new ArrayList<>();
         for (int hour = 0; hour < HOURS_IN_A_DAY; hour++) {
-            final int h = hour;
-            int value = getNumBookingsWithCondition(booking ->
-                h == booking.getStartTime().getHour()
-                    && getDaysDifference(booking.getStartTime().toLocalDate(), today) < days
-                    && getDaysDifference(booking.getStartTime().toLocalDate(), today) >= 0
-            );
-            graphData.add(new Data<>(formatTime(hour), value));
+            graphData.add(new Data<>(formatTime(hour), numPersonsByHour[hour]));
         }
         return graphData;
     }
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Holds the oldest states of the undo history of a {@code VersionedRestaurantBook} outside of memory.
+ * States are spilled from the newest end of the spill and paged back in from the same end, in last-in first-out
+ * order, while the oldest states can be dropped from the other end when the undo history grows too deep.
+ */
+public interface UndoHistorySpill {
+
+    /**
+     * Spills {@code delta}, the oldest state of the undo history that is still in memory.
+     * @throws IOException if the state could not be written.
+     */
+    void push(RestaurantBookDelta delta) throws IOException;
+
+    /**
+     * Removes and returns the most recently spilled state.
+     * @throws IOException if the state could not be read.
+     */
+    RestaurantBookDelta pop() throws IOException;
+
+    /**
+     * Drops the oldest spilled state.
+     */
+    void dropOldest();
+
+    /**
+     * Drops all the spilled states.
+     */
+    void clear();
+
+    /**
+     * Returns the number of spilled states.
+     */
+    int size();
+
+    /**
+     * Returns a spill that keeps the spilled states in memory, for when no spill file is available.
+     */
+    static UndoHistorySpill inMemory() {
+        return new UndoHistorySpill() {
+            private final Deque<RestaurantBookDelta> deltas = new ArrayDeque<>();
+
+            @Override
+            public void push(RestaurantBookDelta delta) {
+                deltas.addLast(delta);
+            }
+
+            @Override
+            public RestaurantBookDelta pop() {
+                return deltas.removeLast();
+            }
+
+            @Override
+            public void dropOldest() {
+                deltas.removeFirst();
+            }
+
+            @Override
+            public void clear() {
+                deltas.clear();
+            }
+
+            @Override
+            public int size() {
+                return deltas.size();
+            }
+        };
+    }
+}
@@ -4,9 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +21,8 @@ import seedu.address.model.person.exceptions.ItemNotFoundException;
  * unique in terms of identity in the UniqueItemList. However, the removal of an item uses Item#equals(Object) so
  * as to ensure that the item with exactly the same fields will be removed.
  *
+ * Items are indexed by their {@code Item#getIdentityKeys()}, so that identity checks take constant time.
+ *
  * Supports a minimal set of list operations.
  *
  */
@@ -28,23 +31,45 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Object, T> itemsByIdentityKey = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent member as the given argument.
      */
     public boolean contains(Object toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> x.isSameItem(toCheck));
+        return toCheck instanceof Item && findSameItem(itemsByIdentityKey, (Item) toCheck) != null;
+    }
+
+    /**
+     * Returns an item indexed in {@code index} that is the same item as {@code toCheck}, or null if there is none.
+     */
+    private static <T extends Item> T findSameItem(Map<Object, T> index, Item toCheck) {
+        for (Object key : toCheck.getIdentityKeys()) {
+            T item = index.get(key);
+            if (item != null && item.isSameItem(toCheck)) {
+                return item;
+            }
+        }
+        return null;
     }
 
     /**
-     * Checks if it is replacing itemToEdit can be replaced with editedItem without duplicates.
-     * itemToEdit must be present in the list.
+     * Adds {@code item} to {@code index} under each of its identity keys.
      */
-    private boolean safeToReplace(T itemToEdit, T editedItem) {
-        List<T> replacement = internalList.stream().map(x -> (x.isSameItem(itemToEdit) ? editedItem : x))
-                .collect(Collectors.toList());
-        return itemsAreUnique(replacement);
+    private static <T extends Item> void addToIndex(Map<Object, T> index, T item) {
+        for (Object key : item.getIdentityKeys()) {
+            index.put(key, item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from {@code index}.
+     */
+    private static <T extends Item> void removeFromIndex(Map<Object, T> index, T item) {
+        for (Object key : item.getIdentityKeys()) {
+            index.remove(key, item);
+        }
     }
 
     /**
@@ -57,6 +82,7 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
             throw new DuplicateItemException();
         }
         internalList.add(toAdd);
+        addToIndex(itemsByIdentityKey, toAdd);
     }
 
     /**
@@ -73,11 +99,15 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
             throw new ItemNotFoundException();
         }
 
-        if (!safeToReplace(target, editedItem)) {
+        T itemToEdit = internalList.get(index);
+        removeFromIndex(itemsByIdentityKey, itemToEdit);
+        if (findSameItem(itemsByIdentityKey, editedItem) != null) {
+            addToIndex(itemsByIdentityKey, itemToEdit);
             throw new DuplicateItemException();
         }
 
         internalList.set(index, editedItem);
+        addToIndex(itemsByIdentityKey, editedItem);
     }
 
     /**
@@ -86,14 +116,21 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
      */
     public void remove(Object toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ItemNotFoundException();
         }
+        removeFromIndex(itemsByIdentityKey, internalList.remove(index));
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     */
     public void setItems(UniqueItemList<T> replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        itemsByIdentityKey.clear();
+        itemsByIdentityKey.putAll(replacement.itemsByIdentityKey);
     }
 
     /**
@@ -102,11 +139,30 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
      */
     public void setItems(List<T> items) {
         requireAllNonNull(items);
-        if (!itemsAreUnique(items)) {
-            throw new DuplicateItemException();
+        Map<Object, T> replacementIndex = new HashMap<>();
+        for (T item : items) {
+            if (findSameItem(replacementIndex, item) != null) {
+                throw new DuplicateItemException();
+            }
+            addToIndex(replacementIndex, item);
         }
 
         internalList.setAll(items);
+        itemsByIdentityKey.clear();
+        itemsByIdentityKey.putAll(replacementIndex);
+    }
+
+    /**
+     * Makes {@code edit} to the list, which must be in the state that {@code edit} was made from.
+     * As such a list is known to be unique and in order after the edit, the edit is made without checking for
+     * duplicates and only the edited items are set, removed or inserted.
+     */
+    public void applyEdit(ListEdit<T> edit) {
+        requireNonNull(edit);
+        internalList.subList(edit.getFrom(), edit.getFrom() + edit.getRemoved().size())
+                .forEach(item -> removeFromIndex(itemsByIdentityKey, item));
+        edit.applyTo(internalList);
+        edit.getAdded().forEach(item -> addToIndex(itemsByIdentityKey, item));
     }
 
     public void sort(Comparator<? super T> myComp) {
@@ -136,18 +192,4 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code items} contains only unique items.
-     */
-    private boolean itemsAreUnique(List<T> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).isSameItem(items.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,20 +1,47 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SavePolicy;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_ARCHIVE_HORIZON_DAYS = 90;
+    public static final String MESSAGE_ARCHIVE_HORIZON_CONSTRAINTS = "Archive horizon should not be negative.";
+    public static final int DEFAULT_LOAD_HORIZON_DAYS = 30;
+    public static final String MESSAGE_LOAD_HORIZON_CONSTRAINTS = "Load horizon should not be negative.";
+    public static final int DEFAULT_MAX_UNDO_DEPTH = 1000;
+    public static final String MESSAGE_MAX_UNDO_DEPTH_CONSTRAINTS = "Maximum undo depth should be positive.";
+    public static final int DEFAULT_UNDO_MEMORY_BUDGET = 20000;
+    public static final String MESSAGE_UNDO_MEMORY_BUDGET_CONSTRAINTS = "Undo memory budget should not be negative.";
+    public static final SavePolicy DEFAULT_SAVE_POLICY = SavePolicy.EVERY_COMMAND;
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 500;
+    public static final String MESSAGE_SAVE_DEBOUNCE_CONSTRAINTS = "Save debounce interval should not be negative.";
+    public static final StorageFormat DEFAULT_STORAGE_FORMAT = StorageFormat.JSON;
+    public static final int DEFAULT_COMMAND_HISTORY_SIZE = 100000;
+    public static final String MESSAGE_COMMAND_HISTORY_SIZE_CONSTRAINTS = "Command history size should be positive.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path restaurantBookFilePath = Paths.get("data" , "addressbook.json");
+    private int archiveHorizonDays = DEFAULT_ARCHIVE_HORIZON_DAYS;
+    private int loadHorizonDays = DEFAULT_LOAD_HORIZON_DAYS;
+    private int maxUndoDepth = DEFAULT_MAX_UNDO_DEPTH;
+    private int undoMemoryBudget = DEFAULT_UNDO_MEMORY_BUDGET;
+    private SavePolicy savePolicy = DEFAULT_SAVE_POLICY;
+    private long saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+    private StorageFormat storageFormat = DEFAULT_STORAGE_FORMAT;
+    private boolean progressiveStartup = false;
+    private int commandHistorySize = DEFAULT_COMMAND_HISTORY_SIZE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +63,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRestaurantBookFilePath(newUserPrefs.getRestaurantBookFilePath());
+        setArchiveHorizonDays(newUserPrefs.getArchiveHorizonDays());
+        setLoadHorizonDays(newUserPrefs.getLoadHorizonDays());
+        setMaxUndoDepth(newUserPrefs.getMaxUndoDepth());
+        setUndoMemoryBudget(newUserPrefs.getUndoMemoryBudget());
+        setSavePolicy(newUserPrefs.getSavePolicy());
+        setSaveDebounceMillis(newUserPrefs.getSaveDebounceMillis());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setProgressiveStartup(newUserPrefs.isProgressiveStartup());
+        setCommandHistorySize(newUserPrefs.getCommandHistorySize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +92,86 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.restaurantBookFilePath = restaurantBookFilePath;
     }
 
+    public int getArchiveHorizonDays() {
+        return archiveHorizonDays;
+    }
+
+    public void setArchiveHorizonDays(int archiveHorizonDays) {
+        checkArgument(archiveHorizonDays >= 0, MESSAGE_ARCHIVE_HORIZON_CONSTRAINTS);
+        this.archiveHorizonDays = archiveHorizonDays;
+    }
+
+    public int getLoadHorizonDays() {
+        return loadHorizonDays;
+    }
+
+    public void setLoadHorizonDays(int loadHorizonDays) {
+        checkArgument(loadHorizonDays >= 0, MESSAGE_LOAD_HORIZON_CONSTRAINTS);
+        this.loadHorizonDays = loadHorizonDays;
+    }
+
+    public int getMaxUndoDepth() {
+        return maxUndoDepth;
+    }
+
+    public void setMaxUndoDepth(int maxUndoDepth) {
+        checkArgument(maxUndoDepth > 0, MESSAGE_MAX_UNDO_DEPTH_CONSTRAINTS);
+        this.maxUndoDepth = maxUndoDepth;
+    }
+
+    public int getUndoMemoryBudget() {
+        return undoMemoryBudget;
+    }
+
+    public void setUndoMemoryBudget(int undoMemoryBudget) {
+        checkArgument(undoMemoryBudget >= 0, MESSAGE_UNDO_MEMORY_BUDGET_CONSTRAINTS);
+        this.undoMemoryBudget = undoMemoryBudget;
+    }
+
+    public SavePolicy getSavePolicy() {
+        return savePolicy;
+    }
+
+    public void setSavePolicy(SavePolicy savePolicy) {
+        requireNonNull(savePolicy);
+        this.savePolicy = savePolicy;
+    }
+
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        checkArgument(saveDebounceMillis >= 0, MESSAGE_SAVE_DEBOUNCE_CONSTRAINTS);
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
+    public int getCommandHistorySize() {
+        return commandHistorySize;
+    }
+
+    public void setCommandHistorySize(int commandHistorySize) {
+        checkArgument(commandHistorySize > 0, MESSAGE_COMMAND_HISTORY_SIZE_CONSTRAINTS);
+        this.commandHistorySize = commandHistorySize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +184,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && restaurantBookFilePath.equals(o.restaurantBookFilePath);
+                && restaurantBookFilePath.equals(o.restaurantBookFilePath)
+                && archiveHorizonDays == o.archiveHorizonDays
+                && loadHorizonDays == o.loadHorizonDays
+                && maxUndoDepth == o.maxUndoDepth
+                && undoMemoryBudget == o.undoMemoryBudget
+                && savePolicy == o.savePolicy
+                && saveDebounceMillis == o.saveDebounceMillis
+                && storageFormat == o.storageFormat
+                && progressiveStartup == o.progressiveStartup
+                && commandHistorySize == o.commandHistorySize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, restaurantBookFilePath);
+        return Objects.hash(guiSettings, restaurantBookFilePath, archiveHorizonDays, loadHorizonDays, maxUndoDepth,
+                undoMemoryBudget, savePolicy, saveDebounceMillis, storageFormat, progressiveStartup,
+                commandHistorySize);
     }
 
     @Override
@@ -81,6 +208,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + restaurantBookFilePath);
+        sb.append("\nArchive horizon (days) : " + archiveHorizonDays);
+        sb.append("\nLoad horizon (days) : " + loadHorizonDays);
+        sb.append("\nMaximum undo depth : " + maxUndoDepth);
+        sb.append("\nUndo memory budget (records) : " + undoMemoryBudget);
+        sb.append("\nSave policy : " + savePolicy);
+        sb.append("\nSave debounce interval (ms) : " + saveDebounceMillis);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nProgressive startup : " + progressiveStartup);
+        sb.append("\nCommand history size : " + commandHistorySize);
         return sb.toString();
     }
 
@@ -1,37 +1,148 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.booking.Capacity;
 
 /**
  * {@code RestaurantBook} that keeps track of its own history.
+ * Instead of a copy of the whole restaurant book, each version after the first is kept as the delta from the version
+ * before it, so committing a version only costs as much as the changes made since the last commit.
+ * At most {@code maxUndoDepth} states can be undone. Once the deltas in memory hold more than
+ * {@code undoMemoryBudget} records, the oldest ones are moved to an {@code UndoHistorySpill} and paged back in when
+ * they are undone.
  */
 public class VersionedRestaurantBook extends RestaurantBook {
 
-    private final List<ReadOnlyRestaurantBook> restaurantBookStateList;
+    private static final Logger logger = LogsCenter.getLogger(VersionedRestaurantBook.class);
+
+    /** The deltas after the spilled ones, the first of which leads from the state at index {@code spill.size()}. */
+    private final List<RestaurantBookDelta> restaurantBookDeltaList;
+    private final int maxUndoDepth;
+    private final int undoMemoryBudget;
+    private final UndoHistorySpill spill;
     private int currentStatePointer;
+    private int recordsInMemory;
+    private RestaurantBookDelta uncommittedDelta;
+    private boolean isRestoring;
 
     public VersionedRestaurantBook(ReadOnlyRestaurantBook initialState) {
+        this(initialState, Integer.MAX_VALUE, Integer.MAX_VALUE, UndoHistorySpill.inMemory());
+    }
+
+    /**
+     * Creates a {@code VersionedRestaurantBook} that can undo at most {@code maxUndoDepth} states and keeps at most
+     * {@code undoMemoryBudget} records of its history in memory, spilling older states to {@code spill}.
+     */
+    public VersionedRestaurantBook(ReadOnlyRestaurantBook initialState, int maxUndoDepth, int undoMemoryBudget,
+                                   UndoHistorySpill spill) {
         super(initialState);
+        requireNonNull(spill);
 
-        restaurantBookStateList = new ArrayList<>();
-        restaurantBookStateList.add(new RestaurantBook(initialState));
+        restaurantBookDeltaList = new ArrayList<>();
+        this.maxUndoDepth = maxUndoDepth;
+        this.undoMemoryBudget = undoMemoryBudget;
+        this.spill = spill;
+        spill.clear();
         currentStatePointer = 0;
+        uncommittedDelta = new RestaurantBookDelta(getCapacity());
+        recordEdits(getMemberList(), RestaurantBookDelta::addMemberEdits);
+        recordEdits(getBookingList(), RestaurantBookDelta::addBookingEdits);
+        recordEdits(getIngredientList(), RestaurantBookDelta::addIngredientEdits);
+        recordEdits(getRecipeList(), RestaurantBookDelta::addRecipeEdits);
+        recordEdits(getStaffList(), RestaurantBookDelta::addStaffEdits);
+    }
+
+    /**
+     * Records the edits made to {@code list} in the uncommitted delta with {@code editsOf}.
+     */
+    private <T> void recordEdits(ObservableList<T> list, BiConsumer<RestaurantBookDelta, List<ListEdit<T>>> editsOf) {
+        list.addListener((ListChangeListener<T>) change -> {
+            if (!isRestoring) {
+                editsOf.accept(uncommittedDelta, ListEdit.fromChange(change));
+            }
+        });
     }
 
     /**
-     * Saves a copy of the current {@code RestaurantBook} state at the end of the state list.
+     * Saves the changes made since the previous state as the next state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        restaurantBookStateList.add(new RestaurantBook(this));
+        uncommittedDelta.setCapacityAfter(getCapacity());
+        restaurantBookDeltaList.add(uncommittedDelta);
+        recordsInMemory += uncommittedDelta.size();
+        uncommittedDelta = new RestaurantBookDelta(getCapacity());
         currentStatePointer++;
+        trimHistory();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        restaurantBookStateList.subList(currentStatePointer + 1, restaurantBookStateList.size()).clear();
+        // the spilled states are all before the current state
+        List<RestaurantBookDelta> undoneDeltas = restaurantBookDeltaList.subList(
+                currentStatePointer - spill.size(), restaurantBookDeltaList.size());
+        undoneDeltas.forEach(delta -> recordsInMemory -= delta.size());
+        undoneDeltas.clear();
+    }
+
+    /**
+     * Drops the oldest states beyond the undo depth, then spills the oldest states in memory while the history in
+     * memory is over its budget. Only the states before the current state are spilled, as the undone states are
+     * dropped by the next commit anyway.
+     */
+    private void trimHistory() {
+        while (currentStatePointer > maxUndoDepth) {
+            if (spill.size() > 0) {
+                spill.dropOldest();
+            } else {
+                recordsInMemory -= restaurantBookDeltaList.remove(0).size();
+            }
+            currentStatePointer--;
+        }
+
+        while (recordsInMemory > undoMemoryBudget && spill.size() < currentStatePointer) {
+            RestaurantBookDelta oldestDelta = restaurantBookDeltaList.get(0);
+            try {
+                spill.push(oldestDelta);
+            } catch (IOException e) {
+                logger.warning("Failed to spill the undo history, it will be kept in memory : "
+                        + StringUtil.getDetails(e));
+                return;
+            }
+            restaurantBookDeltaList.remove(0);
+            recordsInMemory -= oldestDelta.size();
+        }
+    }
+
+    /**
+     * Pages the most recently spilled state back into memory.
+     * If it cannot be read, all the spilled states are dropped, as they can no longer be reached.
+     */
+    private void pageIn() {
+        try {
+            RestaurantBookDelta delta = spill.pop();
+            restaurantBookDeltaList.add(0, delta);
+            recordsInMemory += delta.size();
+        } catch (IOException e) {
+            logger.warning("Failed to read the spilled undo history, older states are lost : "
+                    + StringUtil.getDetails(e));
+            currentStatePointer -= spill.size();
+            spill.clear();
+            throw new NoUndoableStateException();
+        }
     }
 
     /**
@@ -41,8 +152,12 @@ public class VersionedRestaurantBook extends RestaurantBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        revertUncommittedChanges();
+        if (currentStatePointer == spill.size()) {
+            pageIn();
+        }
         currentStatePointer--;
-        resetData(restaurantBookStateList.get(currentStatePointer));
+        restore(getDelta(currentStatePointer).inverse());
     }
 
     /**
@@ -52,8 +167,54 @@ public class VersionedRestaurantBook extends RestaurantBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        revertUncommittedChanges();
+        restore(getDelta(currentStatePointer));
         currentStatePointer++;
-        resetData(restaurantBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Returns a savepoint that the changes made after it can be rolled back to, as long as the restaurant book is not
+     * committed or restored in between.
+     */
+    public Savepoint savepoint() {
+        return new Savepoint(uncommittedDelta, uncommittedDelta.getEditCounts(), getCapacity());
+    }
+
+    /**
+     * Discards the changes made since {@code savepoint} was taken, while keeping the uncommitted changes before it.
+     */
+    public void rollback(Savepoint savepoint) {
+        requireNonNull(savepoint);
+        if (savepoint.uncommittedDelta != uncommittedDelta) {
+            throw new IllegalStateException("The restaurant book was committed or restored after the savepoint.");
+        }
+
+        RestaurantBookDelta laterDelta = uncommittedDelta.removeEditsAfter(savepoint.editCounts, savepoint.capacity);
+        laterDelta.setCapacityAfter(getCapacity());
+        isRestoring = true;
+        try {
+            applyDelta(laterDelta.inverse());
+        } finally {
+            isRestoring = false;
+        }
+    }
+
+    /**
+     * Makes {@code changes} to the restaurant book as part of its initial state, so that they cannot be undone.
+     * Must only be called before the first commit, while there are no uncommitted changes.
+     */
+    public void extendInitialState(Consumer<RestaurantBook> changes) {
+        requireNonNull(changes);
+        if (currentStatePointer != 0 || !restaurantBookDeltaList.isEmpty() || uncommittedDelta.size() > 0) {
+            throw new IllegalStateException("The initial state can only be extended before the first commit.");
+        }
+        isRestoring = true;
+        try {
+            changes.accept(this);
+        } finally {
+            isRestoring = false;
+        }
+        uncommittedDelta = new RestaurantBookDelta(getCapacity());
     }
 
     /**
@@ -67,7 +228,36 @@ public class VersionedRestaurantBook extends RestaurantBook {
      * Returns true if {@code redo()} has restaurant book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < restaurantBookStateList.size() - 1;
+        return currentStatePointer < spill.size() + restaurantBookDeltaList.size();
+    }
+
+    /**
+     * Returns the delta from the state at {@code index}, which must be in memory.
+     */
+    private RestaurantBookDelta getDelta(int index) {
+        return restaurantBookDeltaList.get(index - spill.size());
+    }
+
+    /**
+     * Reverts the changes made since the current state was committed or restored.
+     */
+    private void revertUncommittedChanges() {
+        uncommittedDelta.setCapacityAfter(getCapacity());
+        restore(uncommittedDelta.inverse());
+    }
+
+    /**
+     * Makes the changes of {@code delta} to the restaurant book, without recording them.
+     * Only the items edited by {@code delta} are touched, so the lists fire one small change per edit.
+     */
+    private void restore(RestaurantBookDelta delta) {
+        isRestoring = true;
+        try {
+            applyDelta(delta);
+        } finally {
+            isRestoring = false;
+        }
+        uncommittedDelta = new RestaurantBookDelta(getCapacity());
     }
 
     @Override
@@ -86,10 +276,26 @@ public class VersionedRestaurantBook extends RestaurantBook {
 
         // state check
         return super.equals(otherVersionedRestaurantBook)
-                && restaurantBookStateList.equals(otherVersionedRestaurantBook.restaurantBookStateList)
+                && restaurantBookDeltaList.equals(otherVersionedRestaurantBook.restaurantBookDeltaList)
                 && currentStatePointer == otherVersionedRestaurantBook.currentStatePointer;
     }
 
+    /**
+     * A point in the uncommitted changes of a {@code VersionedRestaurantBook} that the changes made after it can be
+     * rolled back to.
+     */
+    public static class Savepoint {
+        private final RestaurantBookDelta uncommittedDelta;
+        private final int[] editCounts;
+        private final Capacity capacity;
+
+        private Savepoint(RestaurantBookDelta uncommittedDelta, int[] editCounts, Capacity capacity) {
+            this.uncommittedDelta = uncommittedDelta;
+            this.editCounts = editCounts;
+            this.capacity = capacity;
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -0,0 +1,81 @@
+package seedu.address.model.booking;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the times around a requested booking time at which the restaurant is able to accept a booking.
+ * Guarantees: immutable.
+ */
+public class AvailableTimes {
+    public static final Duration DEFAULT_SEARCH_WINDOW = Duration.ofHours(3);
+    public static final int DEFAULT_MAX_SUGGESTIONS = 3;
+
+    private final LocalDateTime requestedTime;
+    private final boolean isRequestedTimeAvailable;
+    private final List<LocalDateTime> earlierTimes;
+    private final List<LocalDateTime> laterTimes;
+
+    /**
+     * Every field must be present and not null.
+     * @param earlierTimes The available times before {@code requestedTime}, closest first.
+     * @param laterTimes The available times after {@code requestedTime}, closest first.
+     */
+    public AvailableTimes(LocalDateTime requestedTime, boolean isRequestedTimeAvailable,
+                          List<LocalDateTime> earlierTimes, List<LocalDateTime> laterTimes) {
+        requireAllNonNull(requestedTime, earlierTimes, laterTimes);
+        this.requestedTime = requestedTime;
+        this.isRequestedTimeAvailable = isRequestedTimeAvailable;
+        this.earlierTimes = Collections.unmodifiableList(earlierTimes);
+        this.laterTimes = Collections.unmodifiableList(laterTimes);
+    }
+
+    public LocalDateTime getRequestedTime() {
+        return requestedTime;
+    }
+
+    public boolean isRequestedTimeAvailable() {
+        return isRequestedTimeAvailable;
+    }
+
+    public List<LocalDateTime> getEarlierTimes() {
+        return earlierTimes;
+    }
+
+    public List<LocalDateTime> getLaterTimes() {
+        return laterTimes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AvailableTimes)) {
+            return false;
+        }
+
+        AvailableTimes otherTimes = (AvailableTimes) other;
+        return requestedTime.equals(otherTimes.requestedTime)
+                && isRequestedTimeAvailable == otherTimes.isRequestedTimeAvailable
+                && earlierTimes.equals(otherTimes.earlierTimes)
+                && laterTimes.equals(otherTimes.laterTimes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requestedTime, isRequestedTimeAvailable, earlierTimes, laterTimes);
+    }
+
+    @Override
+    public String toString() {
+        return "Requested: " + requestedTime + (isRequestedTimeAvailable ? " (available)" : " (unavailable)")
+                + " Earlier: " + earlierTimes + " Later: " + laterTimes;
+    }
+}
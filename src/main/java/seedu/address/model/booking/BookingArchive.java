@@ -0,0 +1,44 @@
+package seedu.address.model.booking;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Holds past bookings that have been moved out of the restaurant book.
+ * Archived bookings are never modified again, so they are not part of the undo history and are only read back for
+ * statistics.
+ */
+public interface BookingArchive {
+
+    /**
+     * Appends those of {@code bookings} that are not in the archive yet to the archive.
+     * @throws IOException if the bookings could not be written.
+     */
+    void archive(List<Booking> bookings) throws IOException;
+
+    /**
+     * Returns a stream of the archived bookings that start on any date from {@code startDate} to {@code endDate}
+     * inclusive. The stream reads the archive lazily and should be closed after use.
+     * @throws IOException if the archive could not be opened.
+     */
+    Stream<Booking> readBookingsBetween(LocalDate startDate, LocalDate endDate) throws IOException;
+
+    /**
+     * Returns an archive that holds no bookings and rejects any attempt to archive bookings.
+     */
+    static BookingArchive none() {
+        return new BookingArchive() {
+            @Override
+            public void archive(List<Booking> bookings) throws IOException {
+                throw new IOException("No booking archive is available.");
+            }
+
+            @Override
+            public Stream<Booking> readBookingsBetween(LocalDate startDate, LocalDate endDate) {
+                return Stream.empty();
+            }
+        };
+    }
+}
@@ -2,12 +2,18 @@ package seedu.address.model.booking;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.TreeSet;
 
 /**
  * Used to ensure that all bookings stays within the capacity of the restaurant.
@@ -84,6 +90,22 @@ public class Capacity {
         return true;
     }
 
+    /**
+     * Checks if the capacity is sufficient to hold the bookings recorded in {@code occupancy}.
+     */
+    public boolean canAccommodate(OccupancyIndex occupancy) {
+        return occupancy.getPeakOccupancy() <= value;
+    }
+
+    /**
+     * Checks if adding the booking {@code toAdd} to the bookings recorded in {@code occupancy} will result in
+     * exceeding the capacity. {@code occupancy} is not modified.
+     */
+    public boolean canAddBooking(Booking toAdd, OccupancyIndex occupancy) {
+        int peakOccupancy = occupancy.getPeakOccupancy(toAdd.getStartTime(), toAdd.getEndTime());
+        return peakOccupancy + toAdd.getNumMembers().getSize() <= value;
+    }
+
     /**
      * Checks if adding the booking {@code} toAdd will result in exceeding the capacity.
      * Guarantees that the list {@code existingBookings} does not change. In particular, the booking will not be added
@@ -97,48 +119,85 @@ public class Capacity {
     }
 
     /**
-     * Suggests a possible time to accommodate the booking. {@code toAdd} cannot contain more members than the capacity.
-     * Pre-condition 1: toAdd.getNumMembers().getSize() > value. In other words, the number of persons cannot exceed
-     * the capacity value.
-     * Pre-condition 2: {@code existingBookings} must fit within the capacity (as described by {@code canAccommodate})
-     * @param toAdd The booking that the user wishes to add
-     * @param existingBookings The current list of bookings.
-     * @return The next available time that the restaurant can accommodate the booking, subjected to the constraint
-     * that the returned time must occur after {@code toAdd}. In other words, suggestion always shifts the booking
-     * later and never earlier.
+     * Finds the times around {@code requestedWindow} at which a booking of {@code bookingSize} persons can be added
+     * to the bookings recorded in {@code occupancy} without exceeding the capacity.
+     *
+     * Only start times within {@code searchWindow} of the requested time are considered. Apart from the requested
+     * time itself, the closest feasible start times always coincide with a departure (the booking starts as another
+     * customer leaves) or with an arrival shifted back by the booking duration (the booking ends as another customer
+     * arrives), so only these candidates are checked. All candidates are checked in a single sweep over the occupancy
+     * profile, using a monotonic deque to keep track of the peak occupancy within the sliding booking window.
+     *
+     * @param maxSuggestions The maximum number of earlier and later times to return respectively.
+     * @return The feasible times before and after the requested time, closest first.
      */
-    public LocalDateTime suggestNextAvailableTime(Booking toAdd, List<Booking> existingBookings) {
-        if (!canAccommodate(existingBookings)) {
-            throw new IllegalArgumentException("The current booking list does not fit in the capacity.");
-        }
-
-        if (toAdd.getNumMembers().getSize() > value) {
-            throw new IllegalArgumentException("This booking cannot be accepted.");
+    public AvailableTimes suggestAvailableTimes(BookingWindow requestedWindow, BookingSize bookingSize,
+                                                OccupancyIndex occupancy, Duration searchWindow, int maxSuggestions) {
+        requireAllNonNull(requestedWindow, bookingSize, occupancy, searchWindow);
+        checkArgument(!searchWindow.isNegative() && maxSuggestions >= 0);
+
+        LocalDateTime requestedTime = requestedWindow.getStartTime();
+        Duration bookingDuration = Duration.between(requestedTime, requestedWindow.getEndTime());
+        LocalDateTime searchStart = requestedTime.minus(searchWindow);
+        LocalDateTime searchEnd = requestedTime.plus(searchWindow);
+        NavigableMap<LocalDateTime, Integer> profile =
+                occupancy.getOccupancyProfile(searchStart, searchEnd.plus(bookingDuration));
+
+        TreeSet<LocalDateTime> candidates = new TreeSet<>();
+        candidates.add(requestedTime);
+        // the first entry of the profile marks the start of the search window rather than an event
+        for (LocalDateTime eventTime : profile.navigableKeySet().tailSet(searchStart, false)) {
+            candidates.add(eventTime);
+            candidates.add(eventTime.minus(bookingDuration));
         }
 
-        assert(canAccommodate(existingBookings));
-        if (canAddBooking(toAdd, existingBookings)) {
-            return toAdd.getStartTime();
-        }
+        List<LocalDateTime> eventTimes = new ArrayList<>(profile.keySet());
+        List<Integer> occupancies = new ArrayList<>(profile.values());
+        int maxExistingOccupancy = value - bookingSize.getSize();
+        // indices of the events within the booking window, in chronological order and with decreasing occupancies
+        Deque<Integer> peakCandidates = new ArrayDeque<>();
+        int currentEvent = 0; // the last event at or before the start of the booking window
+        int nextEvent = 0; // the first event at or after the end of the booking window
+
+        boolean isRequestedTimeAvailable = false;
+        List<LocalDateTime> earlierTimes = new ArrayList<>();
+        List<LocalDateTime> laterTimes = new ArrayList<>();
+        for (LocalDateTime startTime : candidates.subSet(searchStart, true, searchEnd, true)) {
+            LocalDateTime endTime = startTime.plus(bookingDuration);
+            while (nextEvent < eventTimes.size() && eventTimes.get(nextEvent).isBefore(endTime)) {
+                while (!peakCandidates.isEmpty()
+                        && occupancies.get(peakCandidates.peekLast()) <= occupancies.get(nextEvent)) {
+                    peakCandidates.pollLast();
+                }
+                peakCandidates.addLast(nextEvent);
+                nextEvent++;
+            }
+            while (currentEvent + 1 < eventTimes.size() && !eventTimes.get(currentEvent + 1).isAfter(startTime)) {
+                currentEvent++;
+            }
+            while (peakCandidates.peekFirst() < currentEvent) {
+                peakCandidates.pollFirst();
+            }
 
-        // We only need to check the timings which correspond to end time of another booking
-        // The best time for a customer to arrive is when another customer leaves
-        List<LocalDateTime> possibleTimings =
-                existingBookings.stream().map(Booking::getEndTime).sorted().collect(Collectors.toList());
-        for (LocalDateTime endTime : possibleTimings) {
-            if (endTime.isAfter(toAdd.getStartTime())) {
-                BookingWindow suggestedBookingWindow = new BookingWindow(endTime);
-                Booking suggestedBooking =
-                        new Booking(suggestedBookingWindow, toAdd.getCustomer(), toAdd.getNumMembers());
-                if (canAddBooking(suggestedBooking, existingBookings)) {
-                    return endTime;
+            if (occupancies.get(peakCandidates.peekFirst()) > maxExistingOccupancy) {
+                continue;
+            }
+            if (startTime.isBefore(requestedTime)) {
+                earlierTimes.add(startTime);
+            } else if (startTime.isAfter(requestedTime)) {
+                laterTimes.add(startTime);
+                if (laterTimes.size() == maxSuggestions) {
+                    break;
                 }
+            } else {
+                isRequestedTimeAvailable = true;
             }
         }
-        // as the pre-conditions are checked, it is impossible to loop through all the possible timings without
-        // returning an answer
-        assert(false);
-        throw new IllegalArgumentException("This booking cannot be accepted.");
+
+        Collections.reverse(earlierTimes);
+        earlierTimes = earlierTimes.subList(0, Math.min(maxSuggestions, earlierTimes.size()));
+        return new AvailableTimes(requestedTime, isRequestedTimeAvailable, new ArrayList<>(earlierTimes),
+                laterTimes.subList(0, Math.min(maxSuggestions, laterTimes.size())));
     }
 
     /**
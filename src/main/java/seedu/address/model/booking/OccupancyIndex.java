@@ -0,0 +1,339 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of the number of persons in the restaurant over time, so that occupancy queries do not need to
+ * sweep through every booking.
+ *
+ * Each booking contributes an arrival of {@code numMembers} persons at its start time and a departure of the same
+ * number of persons at its end time. The events are stored in a treap keyed by time, where every node is augmented
+ * with the sum of the changes in its subtree and the maximum prefix sum of its subtree. As departures at a given time
+ * are processed before arrivals at the same time (see {@link Capacity#canAccommodate(java.util.List)}), the peak
+ * occupancy is the maximum prefix sum over all event times.
+ *
+ * Adding and removing a booking, as well as querying the peak occupancy over a time window, takes O(log n) expected
+ * time where n is the number of distinct event times.
+ */
+public class OccupancyIndex {
+
+    private final Random random = new Random();
+    private Node root;
+
+    public OccupancyIndex() {}
+
+    public OccupancyIndex(Collection<Booking> bookings) {
+        setBookings(bookings);
+    }
+
+    /**
+     * Replaces the contents of this index with the arrivals and departures of {@code bookings}.
+     */
+    public void setBookings(Collection<Booking> bookings) {
+        requireNonNull(bookings);
+        root = null;
+        bookings.forEach(this::add);
+    }
+
+    /**
+     * Records the arrival and departure of the persons in {@code booking}.
+     */
+    public void add(Booking booking) {
+        requireNonNull(booking);
+        int size = booking.getNumMembers().getSize();
+        update(booking.getStartTime(), size, 1);
+        update(booking.getEndTime(), -size, 1);
+    }
+
+    /**
+     * Removes the arrival and departure of the persons in {@code booking}.
+     * {@code booking} must have been previously added to this index.
+     */
+    public void remove(Booking booking) {
+        requireNonNull(booking);
+        int size = booking.getNumMembers().getSize();
+        update(booking.getStartTime(), -size, -1);
+        update(booking.getEndTime(), size, -1);
+    }
+
+    /**
+     * Returns the maximum number of persons in the restaurant at any point in time.
+     */
+    public int getPeakOccupancy() {
+        return Math.max(0, maxPrefix(root));
+    }
+
+    /**
+     * Returns the maximum number of persons in the restaurant at any point in time within the window that starts
+     * at {@code startTime} (inclusive) and ends at {@code endTime} (exclusive).
+     */
+    public int getPeakOccupancy(LocalDateTime startTime, LocalDateTime endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        Node[] atOrBeforeStart = split(root, startTime, true);
+        Node[] beforeEnd = split(atOrBeforeStart[1], endTime, false);
+
+        int occupancyAtStart = sum(atOrBeforeStart[0]);
+        int peak = occupancyAtStart;
+        if (beforeEnd[0] != null) {
+            peak = Math.max(peak, occupancyAtStart + beforeEnd[0].maxPrefix);
+        }
+
+        root = merge(atOrBeforeStart[0], merge(beforeEnd[0], beforeEnd[1]));
+        return peak;
+    }
+
+    /**
+     * Returns the number of persons in the restaurant over the window that starts at {@code startTime} (inclusive)
+     * and ends at {@code endTime} (exclusive). The returned map contains the occupancy at {@code startTime}, followed
+     * by the occupancy after every arrival or departure within the window, in chronological order.
+     */
+    public NavigableMap<LocalDateTime, Integer> getOccupancyProfile(LocalDateTime startTime, LocalDateTime endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        Node[] atOrBeforeStart = split(root, startTime, true);
+        Node[] beforeEnd = split(atOrBeforeStart[1], endTime, false);
+
+        NavigableMap<LocalDateTime, Integer> profile = new TreeMap<>();
+        int occupancyAtStart = sum(atOrBeforeStart[0]);
+        profile.put(startTime, occupancyAtStart);
+        collectProfile(beforeEnd[0], occupancyAtStart, profile);
+
+        root = merge(atOrBeforeStart[0], merge(beforeEnd[0], beforeEnd[1]));
+        return profile;
+    }
+
+    /**
+     * Returns the peak occupancy of each date from {@code startDate} to {@code endDate} inclusive on which there are
+     * persons in the restaurant, in chronological order. Each date is answered by a single peak occupancy query, so
+     * dates without any bookings are cheap to skip.
+     */
+    public NavigableMap<LocalDate, Integer> getDailyPeakOccupancy(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        NavigableMap<LocalDate, Integer> dailyPeaks = new TreeMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            int peak = getPeakOccupancy(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+            if (peak > 0) {
+                dailyPeaks.put(date, peak);
+            }
+        }
+        return dailyPeaks;
+    }
+
+    /**
+     * Returns the maximal periods of time during which there are more than {@code threshold} persons in the
+     * restaurant, in chronological order.
+     * Subtrees in which the occupancy never exceeds {@code threshold} are skipped using their maximum prefix sums, so
+     * only the events around the returned windows are visited.
+     */
+    public List<OccupancyWindow> getWindowsAbove(int threshold) {
+        List<OccupancyWindow> windows = new ArrayList<>();
+        collectWindowsAbove(root, 0, threshold, new WindowBuilder(windows));
+        return windows;
+    }
+
+    /**
+     * Returns true if no arrivals or departures are recorded.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Adds {@code change} persons at {@code time}, adjusting the number of events recorded at that time by
+     * {@code eventChange}. The node for {@code time} is removed once it no longer holds any events.
+     */
+    private void update(LocalDateTime time, int change, int eventChange) {
+        Node[] beforeTime = split(root, time, false);
+        Node[] atTime = split(beforeTime[1], time, true);
+
+        Node node = atTime[0];
+        if (node == null) {
+            assert eventChange > 0 : "Removing an event that was never added.";
+            node = new Node(time, random.nextInt());
+        }
+        node.change += change;
+        node.eventCount += eventChange;
+        node.recompute();
+        if (node.eventCount == 0) {
+            node = null;
+        }
+
+        root = merge(beforeTime[0], merge(node, atTime[1]));
+    }
+
+    /**
+     * Splits the treap rooted at {@code node} into two treaps. If {@code inclusive} is true, the first treap holds
+     * the times at or before {@code time}, otherwise it holds the times strictly before {@code time}.
+     */
+    private static Node[] split(Node node, LocalDateTime time, boolean inclusive) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int comparison = node.time.compareTo(time);
+        boolean goesLeft = inclusive ? comparison <= 0 : comparison < 0;
+        if (goesLeft) {
+            Node[] parts = split(node.right, time, inclusive);
+            node.right = parts[0];
+            node.recompute();
+            return new Node[] {node, parts[1]};
+        } else {
+            Node[] parts = split(node.left, time, inclusive);
+            node.left = parts[1];
+            node.recompute();
+            return new Node[] {parts[0], node};
+        }
+    }
+
+    /**
+     * Merges two treaps, where all times in {@code left} occur before all times in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.recompute();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.recompute();
+            return right;
+        }
+    }
+
+    /**
+     * Adds the occupancy after each event in the treap rooted at {@code node} to {@code profile}, given that there
+     * are {@code occupancyBefore} persons in the restaurant before the first event. Returns the occupancy after the
+     * last event.
+     */
+    private static int collectProfile(Node node, int occupancyBefore, NavigableMap<LocalDateTime, Integer> profile) {
+        if (node == null) {
+            return occupancyBefore;
+        }
+        int occupancy = collectProfile(node.left, occupancyBefore, profile) + node.change;
+        profile.put(node.time, occupancy);
+        return collectProfile(node.right, occupancy, profile);
+    }
+
+    /**
+     * Visits the events in the treap rooted at {@code node} in chronological order, given that there are
+     * {@code occupancyBefore} persons in the restaurant before the first event, and records the periods during which
+     * the occupancy exceeds {@code threshold} in {@code builder}. Returns the occupancy after the last event.
+     */
+    private static int collectWindowsAbove(Node node, int occupancyBefore, int threshold, WindowBuilder builder) {
+        if (node == null) {
+            return occupancyBefore;
+        }
+        if (occupancyBefore + node.maxPrefix <= threshold) {
+            // the occupancy does not exceed the threshold after any event in this subtree
+            builder.end(getFirstTime(node));
+            return occupancyBefore + node.sum;
+        }
+
+        int occupancy = collectWindowsAbove(node.left, occupancyBefore, threshold, builder) + node.change;
+        if (occupancy > threshold) {
+            builder.extend(node.time, occupancy);
+        } else {
+            builder.end(node.time);
+        }
+        return collectWindowsAbove(node.right, occupancy, threshold, builder);
+    }
+
+    private static LocalDateTime getFirstTime(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.time;
+    }
+
+    private static int sum(Node node) {
+        return node == null ? 0 : node.sum;
+    }
+
+    private static int maxPrefix(Node node) {
+        return node == null ? 0 : node.maxPrefix;
+    }
+
+    /**
+     * Builds up {@code OccupancyWindow}s from the events visited in chronological order.
+     */
+    private static class WindowBuilder {
+        private final List<OccupancyWindow> windows;
+        private LocalDateTime windowStart;
+        private int windowPeak;
+
+        WindowBuilder(List<OccupancyWindow> windows) {
+            this.windows = windows;
+        }
+
+        /**
+         * Records that the occupancy is {@code occupancy} from {@code time}, which exceeds the threshold.
+         */
+        private void extend(LocalDateTime time, int occupancy) {
+            if (windowStart == null) {
+                windowStart = time;
+                windowPeak = occupancy;
+            } else {
+                windowPeak = Math.max(windowPeak, occupancy);
+            }
+        }
+
+        /**
+         * Records that the occupancy no longer exceeds the threshold from {@code time}.
+         */
+        private void end(LocalDateTime time) {
+            if (windowStart != null) {
+                windows.add(new OccupancyWindow(windowStart, time, windowPeak));
+                windowStart = null;
+            }
+        }
+    }
+
+    /**
+     * Represents the net change in persons at a specific time.
+     */
+    private static class Node {
+        private final LocalDateTime time;
+        private final int priority;
+        private int change;
+        private int eventCount;
+        private int sum;
+        private int maxPrefix; // maximum prefix sum over the times in this subtree, in chronological order
+        private Node left;
+        private Node right;
+
+        Node(LocalDateTime time, int priority) {
+            this.time = time;
+            this.priority = priority;
+        }
+
+        /**
+         * Recomputes the aggregated values of this node from its own change and its children.
+         */
+        private void recompute() {
+            int leftSum = sum(left);
+            int best = left == null ? Integer.MIN_VALUE : left.maxPrefix;
+            best = Math.max(best, leftSum + change);
+            if (right != null) {
+                best = Math.max(best, leftSum + change + right.maxPrefix);
+            }
+            sum = leftSum + change + sum(right);
+            maxPrefix = best;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.booking;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents a period of time during which the restaurant is occupied by more than a certain number of persons,
+ * together with the largest number of persons in the restaurant during that period.
+ * Guarantees: immutable; start time is before end time.
+ */
+public class OccupancyWindow {
+
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final int peakOccupancy;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public OccupancyWindow(LocalDateTime startTime, LocalDateTime endTime, int peakOccupancy) {
+        requireAllNonNull(startTime, endTime);
+        assert startTime.isBefore(endTime) : "An occupancy window must end after it starts.";
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.peakOccupancy = peakOccupancy;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public int getPeakOccupancy() {
+        return peakOccupancy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof OccupancyWindow)) {
+            return false;
+        }
+
+        OccupancyWindow otherWindow = (OccupancyWindow) other;
+        return startTime.equals(otherWindow.startTime)
+                && endTime.equals(otherWindow.endTime)
+                && peakOccupancy == otherWindow.peakOccupancy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startTime, endTime, peakOccupancy);
+    }
+
+    @Override
+    public String toString() {
+        return startTime + " to " + endTime + " (" + peakOccupancy + " persons)";
+    }
+}
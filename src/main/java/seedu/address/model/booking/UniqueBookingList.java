@@ -0,0 +1,400 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ListEdit;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.ItemNotFoundException;
+import seedu.address.model.person.member.Member;
+
+/**
+ * A list of bookings that enforces uniqueness between its elements, does not allow nulls and is kept sorted by start
+ * time.
+ * Bookings are partitioned by the date on which they start, so duplicate checks, updates and range queries only touch
+ * the bookings on the affected days instead of the whole list. As with {@code UniqueItemList}, adding and updating of
+ * bookings uses {@code Booking#isSameItem(Object)} while the removal of a booking uses {@code Booking#equals(Object)}.
+ * The bookings of each customer are also indexed, so that the bookings of a member can be updated, removed or counted
+ * without going through every booking. A flat, sorted view of all the bookings is maintained for the UI.
+ */
+public class UniqueBookingList implements Iterable<Booking> {
+
+    private final NavigableMap<LocalDate, List<Booking>> bookingsByDate = new TreeMap<>();
+    private final Map<Member, List<Booking>> bookingsByCustomer = new HashMap<>();
+    private final ObservableList<Booking> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Booking> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+
+    /**
+     * Returns true if the list contains a booking with the same identity as {@code toCheck}.
+     */
+    public boolean contains(Booking toCheck) {
+        requireNonNull(toCheck);
+        return getBookingsOn(toCheck).stream().anyMatch(toCheck::isSameItem);
+    }
+
+    /**
+     * Adds a booking to the list, after any bookings with the same start time.
+     * The booking must not already exist in the list.
+     */
+    public void add(Booking toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateItemException();
+        }
+        addToIndexes(toAdd);
+        internalList.add(upperBound(internalList, toAdd), toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, each after any bookings with the same start time.
+     * None of the bookings may already exist in the list, or be the same as another of {@code toAdd}, in which case
+     * no bookings are added. The new bookings are inserted into the flat list one run at a time, where a run is the
+     * new bookings that fall between the same two existing bookings, so only the days of the new bookings are touched.
+     */
+    public void addAll(List<Booking> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Booking> sortedBookings = new ArrayList<>(toAdd);
+        sortedBookings.sort(Comparator.naturalOrder());
+        if (!bookingsAreUnique(sortedBookings) || sortedBookings.stream().anyMatch(this::contains)) {
+            throw new DuplicateItemException();
+        }
+
+        // the runs are inserted from the last to the first, so that the insertion points of the runs before them
+        // are not moved
+        int runEnd = sortedBookings.size();
+        while (runEnd > 0) {
+            int insertionPoint = upperBound(internalList, sortedBookings.get(runEnd - 1));
+            int runStart = runEnd - 1;
+            while (runStart > 0 && upperBound(internalList, sortedBookings.get(runStart - 1)) == insertionPoint) {
+                runStart--;
+            }
+            List<Booking> run = sortedBookings.subList(runStart, runEnd);
+            run.forEach(this::addToIndexes);
+            internalList.addAll(insertionPoint, run);
+            runEnd = runStart;
+        }
+    }
+
+    /**
+     * Replaces the booking {@code target} in the list with {@code editedBooking}.
+     * {@code target} must exist in the list.
+     * DuplicateItemException is thrown if the booking identity of {@code editedBooking} is the same as another
+     * booking in the list.
+     */
+    public void setBooking(Booking target, Booking editedBooking) {
+        requireAllNonNull(target, editedBooking);
+
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+        Booking existingTarget = internalList.get(index);
+        boolean isDuplicate = getBookingsOn(editedBooking).stream()
+                .anyMatch(booking -> booking != existingTarget && booking.isSameItem(editedBooking));
+        if (isDuplicate) {
+            throw new DuplicateItemException();
+        }
+
+        removeFromIndexes(existingTarget);
+        addToIndexes(editedBooking);
+        if (editedBooking.compareTo(existingTarget) == 0) {
+            internalList.set(index, editedBooking);
+        } else {
+            internalList.remove(index);
+            internalList.add(upperBound(internalList, editedBooking), editedBooking);
+        }
+    }
+
+    /**
+     * Removes the equivalent booking from the list.
+     * The booking must exist in the list.
+     */
+    public void remove(Booking toRemove) {
+        requireNonNull(toRemove);
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCustomer} as the customer of all of the bookings made by
+     * {@code target}. Only the bookings of {@code target} are touched.
+     * DuplicateItemException is thrown if any of the edited bookings has the same identity as another booking in the
+     * list.
+     */
+    public void setCustomer(Member target, Member editedCustomer) {
+        requireAllNonNull(target, editedCustomer);
+        List<Booking> targetBookings = getBookingsOf(target);
+        if (!editedCustomer.equals(target)) {
+            Set<BookingWindow> bookedWindows = getBookingsOf(editedCustomer).stream()
+                    .map(Booking::getBookingWindow).collect(Collectors.toSet());
+            if (targetBookings.stream().map(Booking::getBookingWindow).anyMatch(bookedWindows::contains)) {
+                throw new DuplicateItemException();
+            }
+        }
+
+        for (Booking targetBooking : targetBookings) {
+            Booking editedBooking = targetBooking.editContacts(editedCustomer);
+            // the start time is unchanged, so the edited booking keeps the position of the target booking
+            internalList.set(indexOfInstance(targetBooking), editedBooking);
+            removeFromIndexes(targetBooking);
+            addToIndexes(editedBooking);
+        }
+    }
+
+    /**
+     * Removes all the bookings made by {@code customer} and returns them, sorted by start time.
+     */
+    public List<Booking> removeBookingsOf(Member customer) {
+        requireNonNull(customer);
+        List<Booking> customerBookings = getBookingsOf(customer);
+        for (Booking booking : customerBookings) {
+            internalList.remove(indexOfInstance(booking));
+            removeFromIndexes(booking);
+        }
+        return customerBookings;
+    }
+
+    /**
+     * Returns the bookings made by {@code customer}, sorted by start time.
+     */
+    public List<Booking> getBookingsOf(Member customer) {
+        requireNonNull(customer);
+        return new ArrayList<>(bookingsByCustomer.getOrDefault(customer, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the number of bookings made by {@code customer}.
+     */
+    public int countBookingsOf(Member customer) {
+        requireNonNull(customer);
+        return bookingsByCustomer.getOrDefault(customer, Collections.emptyList()).size();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code bookings}.
+     * {@code bookings} must not contain duplicate bookings.
+     */
+    public void setBookings(List<Booking> bookings) {
+        requireAllNonNull(bookings);
+        List<Booking> sortedBookings = new ArrayList<>(bookings);
+        sortedBookings.sort(Comparator.naturalOrder());
+        if (!bookingsAreUnique(sortedBookings)) {
+            throw new DuplicateItemException();
+        }
+
+        bookingsByDate.clear();
+        bookingsByCustomer.clear();
+        sortedBookings.forEach(this::addToIndexes);
+        internalList.setAll(sortedBookings);
+    }
+
+    /**
+     * Makes {@code edit} to the flat list, which must be in the state that {@code edit} was made from.
+     * As such a list is known to be unique and sorted after the edit, the edit is made without checking for
+     * duplicates and only the edited bookings are set, removed or inserted, in the flat list and in the indexes.
+     */
+    public void applyEdit(ListEdit<Booking> edit) {
+        requireNonNull(edit);
+        internalList.subList(edit.getFrom(), edit.getFrom() + edit.getRemoved().size())
+                .forEach(this::removeFromIndexes);
+        edit.applyTo(internalList);
+        edit.getAdded().forEach(this::addToIndexes);
+    }
+
+    /**
+     * Returns the bookings that start on any date from {@code startDate} to {@code endDate} inclusive, sorted by start
+     * time.
+     */
+    public List<Booking> getBookingsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Booking> bookings = new ArrayList<>();
+        if (!startDate.isAfter(endDate)) {
+            bookingsByDate.subMap(startDate, true, endDate, true).values().forEach(bookings::addAll);
+        }
+        return bookings;
+    }
+
+    /**
+     * Removes all the bookings that start before {@code date} and returns them, sorted by start time.
+     */
+    public List<Booking> removeBookingsBefore(LocalDate date) {
+        requireNonNull(date);
+        NavigableMap<LocalDate, List<Booking>> pastBookingsByDate = bookingsByDate.headMap(date, false);
+        List<Booking> pastBookings = new ArrayList<>();
+        pastBookingsByDate.values().forEach(pastBookings::addAll);
+        pastBookingsByDate.clear();
+        pastBookings.forEach(this::removeFromCustomer);
+        // the past bookings are exactly the first bookings of the sorted flat list
+        internalList.remove(0, pastBookings.size());
+        return pastBookings;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Booking> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    @Override
+    public Iterator<Booking> iterator() {
+        return internalUnmodifiableList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UniqueBookingList // instanceof handles nulls
+                && internalList.equals(((UniqueBookingList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    private List<Booking> getBookingsOn(Booking booking) {
+        return bookingsByDate.getOrDefault(booking.getStartTime().toLocalDate(), Collections.emptyList());
+    }
+
+    private void addToIndexes(Booking toAdd) {
+        List<Booking> bookingsOnDate =
+                bookingsByDate.computeIfAbsent(toAdd.getStartTime().toLocalDate(), date -> new ArrayList<>());
+        bookingsOnDate.add(upperBound(bookingsOnDate, toAdd), toAdd);
+        List<Booking> customerBookings =
+                bookingsByCustomer.computeIfAbsent(toAdd.getCustomer(), customer -> new ArrayList<>());
+        customerBookings.add(upperBound(customerBookings, toAdd), toAdd);
+    }
+
+    /**
+     * Removes {@code toRemove}, which must be the same instance as the one stored, from the bookings on its date and
+     * the bookings of its customer.
+     */
+    private void removeFromIndexes(Booking toRemove) {
+        LocalDate date = toRemove.getStartTime().toLocalDate();
+        List<Booking> bookingsOnDate = bookingsByDate.get(date);
+        removeInstance(bookingsOnDate, toRemove);
+        if (bookingsOnDate.isEmpty()) {
+            bookingsByDate.remove(date);
+        }
+        removeFromCustomer(toRemove);
+    }
+
+    private void removeFromCustomer(Booking toRemove) {
+        List<Booking> customerBookings = bookingsByCustomer.get(toRemove.getCustomer());
+        removeInstance(customerBookings, toRemove);
+        if (customerBookings.isEmpty()) {
+            bookingsByCustomer.remove(toRemove.getCustomer());
+        }
+    }
+
+    /**
+     * Returns the index of {@code toFind}, which must be the same instance as the one stored, in the flat list.
+     */
+    private int indexOfInstance(Booking toFind) {
+        int index = lowerBound(internalList, toFind);
+        while (internalList.get(index) != toFind) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Removes {@code toRemove}, which must be the same instance as the one stored, from {@code sortedBookings}.
+     */
+    private static void removeInstance(List<Booking> sortedBookings, Booking toRemove) {
+        for (int i = lowerBound(sortedBookings, toRemove); i < sortedBookings.size(); i++) {
+            if (sortedBookings.get(i) == toRemove) {
+                sortedBookings.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the booking that is equal to {@code toFind} in the flat list, or -1 if there is none.
+     */
+    private int indexOf(Booking toFind) {
+        for (int i = lowerBound(internalList, toFind); i < internalList.size()
+                && internalList.get(i).compareTo(toFind) == 0; i++) {
+            if (internalList.get(i).equals(toFind)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first booking in {@code sortedBookings} that does not start before {@code booking}.
+     */
+    private static int lowerBound(List<Booking> sortedBookings, Booking booking) {
+        int low = 0;
+        int high = sortedBookings.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedBookings.get(middle).compareTo(booking) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first booking in {@code sortedBookings} that starts after {@code booking}.
+     */
+    private static int upperBound(List<Booking> sortedBookings, Booking booking) {
+        int low = 0;
+        int high = sortedBookings.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedBookings.get(middle).compareTo(booking) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code sortedBookings} contains only unique bookings. As bookings with the same identity have
+     * the same start time, only bookings with the same start time need to be compared.
+     */
+    private static boolean bookingsAreUnique(List<Booking> sortedBookings) {
+        int runStart = 0;
+        for (int i = 1; i < sortedBookings.size(); i++) {
+            if (sortedBookings.get(i).compareTo(sortedBookings.get(runStart)) != 0) {
+                runStart = i;
+                continue;
+            }
+            for (int j = runStart; j < i; j++) {
+                if (sortedBookings.get(j).isSameItem(sortedBookings.get(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
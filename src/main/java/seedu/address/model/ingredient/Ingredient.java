@@ -2,6 +2,8 @@ package seedu.address.model.ingredient;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.Item;
@@ -59,6 +61,11 @@ public class Ingredient implements Item {
         }
     }
 
+    @Override
+    public List<Object> getIdentityKeys() {
+        return Collections.singletonList(ingredientName);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.Item;
@@ -40,6 +42,15 @@ public abstract class Person implements Item {
         return email;
     }
 
+    /**
+     * Returns the name with the phone, and the name with the email, as persons of the same name are the same
+     * person if they have the same phone or the same email.
+     */
+    @Override
+    public List<Object> getIdentityKeys() {
+        return Arrays.asList(Arrays.asList(name, phone), Arrays.asList(name, email));
+    }
+
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
@@ -2,6 +2,9 @@ package seedu.address.model.recipe;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,7 +38,8 @@ public class Recipe implements Item {
      */
     public Recipe editIngredientSet(Ingredient target, Ingredient editedIngredient) {
         IngredientQuantity quantityInRecipe = ingredientsInRecipe.getIngredientMap().get(target);
-        Map<Ingredient, IngredientQuantity> ingredientSetToEdit = ingredientsInRecipe.getIngredientMap();
+        // the map is copied so that this recipe is left unchanged
+        Map<Ingredient, IngredientQuantity> ingredientSetToEdit = new HashMap<>(ingredientsInRecipe.getIngredientMap());
         ingredientSetToEdit.remove(target);
         ingredientSetToEdit.put(editedIngredient, quantityInRecipe);
         RecipeIngredientSet newIngredientSetInRecipe = new RecipeIngredientSet(ingredientSetToEdit);
@@ -67,6 +71,11 @@ public class Recipe implements Item {
         }
     }
 
+    @Override
+    public List<Object> getIdentityKeys() {
+        return Collections.singletonList(recipeName);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,7 +85,7 @@ public class Recipe implements Item {
             return false;
         }
         return recipeName.equals(((Recipe) other).getRecipeName())
-                && ingredientsInRecipe.equals((RecipeIngredientSet) other);
+                && ingredientsInRecipe.equals(((Recipe) other).getRecipeIngredientSet());
     }
 
     @Override
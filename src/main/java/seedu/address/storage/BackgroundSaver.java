@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SavePolicy;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes {@code PendingSave}s on a single background thread, as set by a {@code SavePolicy}.
+ * Saves that are submitted while the writer is busy, or within the debounce interval of each other, are merged
+ * where possible and written together. With {@code SavePolicy#FSYNC}, saves are written on the submitting thread
+ * instead, and no background thread is used.
+ * Failures of background writes are passed to the failure handler, on the writer thread.
+ */
+public class BackgroundSaver {
+
+    public static final String MESSAGE_DEBOUNCE_CONSTRAINTS = "Debounce interval should not be negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final SavePolicy savePolicy;
+    private final long debounceNanos;
+    private final Deque<PendingSave> queuedSaves = new ArrayDeque<>();
+    private volatile Consumer<IOException> failureHandler;
+    private Thread writer;
+    private boolean isWriting;
+    private boolean isFlushRequested;
+    private long lastSubmitNanos;
+    private IOException lastFailure;
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes saves as set by {@code savePolicy}. With
+     * {@code SavePolicy#DEBOUNCE}, saves are written once none have been submitted for {@code debounceMillis}.
+     */
+    public BackgroundSaver(SavePolicy savePolicy, long debounceMillis) {
+        requireNonNull(savePolicy);
+        checkArgument(debounceMillis >= 0, MESSAGE_DEBOUNCE_CONSTRAINTS);
+        this.savePolicy = savePolicy;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+    }
+
+    /**
+     * Sets the handler that is passed the failures of background writes.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues {@code save} to be written after the saves submitted before it, or writes it right away with
+     * {@code SavePolicy#FSYNC}.
+     * @throws IOException if {@code save} was written right away and failed.
+     */
+    public void submit(PendingSave save) throws IOException {
+        requireNonNull(save);
+        if (savePolicy == SavePolicy.FSYNC) {
+            save.write();
+            return;
+        }
+
+        synchronized (this) {
+            queuedSaves.addLast(save);
+            lastSubmitNanos = System.nanoTime();
+            if (writer == null) {
+                writer = new Thread(this::runWriter, "restaurant-book-saver");
+                writer.setDaemon(true);
+                writer.start();
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Writes all the submitted saves without waiting for the debounce interval, and waits until they are written.
+     * @throws IOException if the last of the background writes failed.
+     */
+    public synchronized void flush() throws IOException {
+        isFlushRequested = true;
+        notifyAll();
+        boolean isInterrupted = false;
+        while (!queuedSaves.isEmpty() || isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
+            }
+        }
+        isFlushRequested = false;
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        IOException failure = lastFailure;
+        lastFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            List<PendingSave> saves;
+            try {
+                saves = takeDueSaves();
+            } catch (InterruptedException ie) {
+                return;
+            }
+
+            IOException failure = null;
+            for (PendingSave save : saves) {
+                try {
+                    save.write();
+                } catch (IOException ioe) {
+                    logger.warning("Failed to save data : " + StringUtil.getDetails(ioe));
+                    failure = ioe;
+                }
+            }
+
+            synchronized (this) {
+                isWriting = false;
+                lastFailure = failure;
+                notifyAll();
+            }
+            Consumer<IOException> handler = failureHandler;
+            if (failure != null && handler != null) {
+                handler.accept(failure);
+            }
+        }
+    }
+
+    /**
+     * Waits until there are saves that are due to be written, and removes them from the queue, merged where possible.
+     */
+    private synchronized List<PendingSave> takeDueSaves() throws InterruptedException {
+        while (queuedSaves.isEmpty() || getNanosUntilDue() > 0) {
+            if (queuedSaves.isEmpty()) {
+                wait();
+            } else {
+                TimeUnit.NANOSECONDS.timedWait(this, getNanosUntilDue());
+            }
+        }
+
+        List<PendingSave> saves = new ArrayList<>();
+        for (PendingSave save : queuedSaves) {
+            Optional<PendingSave> mergedSave = saves.isEmpty()
+                    ? Optional.empty()
+                    : saves.get(saves.size() - 1).mergeWith(save);
+            if (mergedSave.isPresent()) {
+                saves.set(saves.size() - 1, mergedSave.get());
+            } else {
+                saves.add(save);
+            }
+        }
+        queuedSaves.clear();
+        isWriting = true;
+        return saves;
+    }
+
+    private long getNanosUntilDue() {
+        if (savePolicy != SavePolicy.DEBOUNCE || isFlushRequested) {
+            return 0;
+        }
+        return lastSubmitNanos + debounceNanos - System.nanoTime();
+    }
+}
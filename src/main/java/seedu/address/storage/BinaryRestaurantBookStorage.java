@@ -0,0 +1,485 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientName;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.ingredient.IngredientUnit;
+import seedu.address.model.ingredient.IngredientWarningAmount;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
+import seedu.address.model.person.member.LoyaltyPoints;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Appointment;
+import seedu.address.model.person.staff.Shift;
+import seedu.address.model.person.staff.ShiftRoster;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+
+/**
+ * A class to access RestaurantBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by the capacity and then each list of the
+ * restaurant book as a count followed by its items. Strings are length-prefixed modified UTF-8, booking start times
+ * are minutes since the epoch and shift times are minutes of the day, so no text is parsed on load. Booking start
+ * times are therefore stored to the minute. Bookings refer to their customer, and recipes to their ingredients, by
+ * position in the lists written before them, unless the customer or ingredient differs from the listed one, in which
+ * case it is embedded.
+ * Saves are written to a temporary file that replaces the data file once complete.
+ */
+public class BinaryRestaurantBookStorage implements RestaurantBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_A_BINARY_FILE = "%1$s is not a binary restaurant book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary restaurant book format version %1$d is not "
+            + "supported.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary restaurant book file %1$s is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRestaurantBookStorage.class);
+
+    private static final int MAGIC = 0x52424f4b;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NOT_LISTED = -1;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final Path filePath;
+    /** The restaurant book last captured by {@link #prepareSave}, and the snapshot and modification counts taken. */
+    private ReadOnlyRestaurantBook capturedBook;
+    private Snapshot capturedSnapshot;
+    private final Map<RestaurantBookSection, Long> capturedModificationCounts =
+            new EnumMap<>(RestaurantBookSection.class);
+
+    public BinaryRestaurantBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getRestaurantBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook() throws DataConversionException, IOException {
+        return readRestaurantBook(filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#readRestaurantBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier((section, restaurantBook) -> { }));
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier(sectionListener));
+    }
+
+    private Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath, SectionReadNotifier notifier)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(new SnapshotReader(new DataInputStream(in), filePath, notifier).read());
+        } catch (EOFException | IllegalValueException | IllegalArgumentException | DateTimeException
+                | DuplicateItemException | RestaurantOverbookedException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary restaurant book file.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException {
+        saveRestaurantBook(restaurantBook, filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#saveRestaurantBook(ReadOnlyRestaurantBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+        requireNonNull(restaurantBook);
+        requireNonNull(filePath);
+
+        writeSnapshot(Snapshot.of(restaurantBook, null, section -> true), filePath);
+    }
+
+    /**
+     * Captures an immutable snapshot of the lists of {@code restaurantBook}, reusing the lists captured by the
+     * previous call for the sections of the same restaurant book that have not been modified since. Only the
+     * references to the items are copied, as the items themselves are immutable.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyRestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        boolean isTracked = restaurantBook == capturedBook && restaurantBook instanceof RestaurantBook;
+        Snapshot snapshot = Snapshot.of(restaurantBook, isTracked ? capturedSnapshot : null,
+                section -> !isTracked || isModified((RestaurantBook) restaurantBook, section));
+        capturedBook = restaurantBook;
+        capturedSnapshot = snapshot;
+        if (restaurantBook instanceof RestaurantBook) {
+            for (RestaurantBookSection section : RestaurantBookSection.values()) {
+                capturedModificationCounts.put(section,
+                        ((RestaurantBook) restaurantBook).getModificationCount(section));
+            }
+        }
+
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                writeSnapshot(snapshot, filePath);
+            }
+
+            @Override
+            public Optional<PendingSave> mergeWith(PendingSave later) {
+                return Optional.of(later);
+            }
+        };
+    }
+
+    private boolean isModified(RestaurantBook restaurantBook, RestaurantBookSection section) {
+        Long capturedModificationCount = capturedModificationCounts.get(section);
+        return capturedModificationCount == null
+                || capturedModificationCount != restaurantBook.getModificationCount(section);
+    }
+
+    private static void writeSnapshot(Snapshot snapshot, Path filePath) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            writeSnapshot(data, snapshot);
+            data.flush();
+        });
+    }
+
+    private static void writeSnapshot(DataOutputStream out, Snapshot source) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(source.capacity.getValue());
+
+        List<Member> members = source.members;
+        Map<Member, Integer> memberPositions = new HashMap<>();
+        out.writeInt(members.size());
+        for (Member member : members) {
+            memberPositions.put(member, memberPositions.size());
+            writeMember(out, member);
+        }
+
+        List<Ingredient> ingredients = source.ingredients;
+        Map<Ingredient, Integer> ingredientPositions = new HashMap<>();
+        out.writeInt(ingredients.size());
+        for (Ingredient ingredient : ingredients) {
+            ingredientPositions.put(ingredient, ingredientPositions.size());
+            writeIngredient(out, ingredient);
+        }
+
+        out.writeInt(source.recipes.size());
+        for (Recipe recipe : source.recipes) {
+            out.writeUTF(recipe.getRecipeName().getName());
+            Map<Ingredient, IngredientQuantity> recipeIngredients =
+                    recipe.getRecipeIngredientSet().getIngredientMap();
+            out.writeInt(recipeIngredients.size());
+            for (Map.Entry<Ingredient, IngredientQuantity> entry : recipeIngredients.entrySet()) {
+                // Ingredient#equals compares all the fields, so only exact copies are referred to
+                Integer position = ingredientPositions.get(entry.getKey());
+                out.writeInt(position == null ? NOT_LISTED : position);
+                if (position == null) {
+                    writeIngredient(out, entry.getKey());
+                }
+                out.writeInt(entry.getValue().getQuantity());
+            }
+        }
+
+        out.writeInt(source.staff.size());
+        for (Staff staff : source.staff) {
+            writeStaff(out, staff);
+        }
+
+        out.writeInt(source.bookings.size());
+        for (Booking booking : source.bookings) {
+            Member customer = booking.getCustomer();
+            Integer position = memberPositions.get(customer);
+            // Member#equals ignores loyalty points, which the booking keeps from when it was made
+            boolean isListed = position != null
+                    && members.get(position).getLoyaltyPoints().equals(customer.getLoyaltyPoints());
+            out.writeInt(isListed ? position : NOT_LISTED);
+            if (!isListed) {
+                writeMember(out, customer);
+            }
+            out.writeLong(booking.getStartTime().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE);
+            out.writeInt(booking.getNumMembers().getSize());
+        }
+    }
+
+    private static void writeMember(DataOutputStream out, Member member) throws IOException {
+        out.writeUTF(member.getName().fullName);
+        out.writeUTF(member.getPhone().value);
+        out.writeUTF(member.getEmail().value);
+        out.writeInt(member.getLoyaltyPoints().value);
+    }
+
+    private static void writeIngredient(DataOutputStream out, Ingredient ingredient) throws IOException {
+        out.writeUTF(ingredient.getIngredientName().getName());
+        out.writeInt(ingredient.getIngredientQuantity().getQuantity());
+        out.writeUTF(ingredient.getIngredientUnit().getUnit());
+        out.writeInt(ingredient.getIngredientWarningAmount().getWarningAmount());
+    }
+
+    private static void writeStaff(DataOutputStream out, Staff staff) throws IOException {
+        out.writeUTF(staff.getName().fullName);
+        out.writeUTF(staff.getPhone().value);
+        out.writeUTF(staff.getEmail().value);
+        out.writeUTF(staff.getAppointment().appointmentName);
+        List<Shift> shifts = staff.getShiftRoster().getShifts();
+        out.writeInt(shifts.size());
+        for (Shift shift : shifts) {
+            out.writeByte(shift.getStartDayOfWeek().getValue());
+            out.writeShort(shift.getStartTime().toSecondOfDay() / SECONDS_PER_MINUTE);
+            out.writeByte(shift.getEndDayOfWeek().getValue());
+            out.writeShort(shift.getEndTime().toSecondOfDay() / SECONDS_PER_MINUTE);
+        }
+    }
+
+    /**
+     * The lists and capacity of a restaurant book to be written as one binary snapshot.
+     * Guarantees: immutable.
+     */
+    private static class Snapshot {
+        private final Capacity capacity;
+        private final List<Member> members;
+        private final List<Ingredient> ingredients;
+        private final List<Recipe> recipes;
+        private final List<Staff> staff;
+        private final List<Booking> bookings;
+
+        private Snapshot(Capacity capacity, List<Member> members, List<Ingredient> ingredients, List<Recipe> recipes,
+                         List<Staff> staff, List<Booking> bookings) {
+            this.capacity = capacity;
+            this.members = members;
+            this.ingredients = ingredients;
+            this.recipes = recipes;
+            this.staff = staff;
+            this.bookings = bookings;
+        }
+
+        /**
+         * Returns a snapshot of {@code restaurantBook} that copies the sections for which {@code isModified} is
+         * true, and takes the other sections from {@code previous}, which is only used if it is not null.
+         */
+        static Snapshot of(ReadOnlyRestaurantBook restaurantBook, Snapshot previous,
+                           Predicate<RestaurantBookSection> isModified) {
+            boolean isReusable = previous != null;
+            return new Snapshot(restaurantBook.getCapacity(),
+                    isReusable && !isModified.test(RestaurantBookSection.MEMBERS)
+                            ? previous.members : copyOf(restaurantBook.getMemberList()),
+                    isReusable && !isModified.test(RestaurantBookSection.INGREDIENTS)
+                            ? previous.ingredients : copyOf(restaurantBook.getIngredientList()),
+                    isReusable && !isModified.test(RestaurantBookSection.RECIPES)
+                            ? previous.recipes : copyOf(restaurantBook.getRecipeList()),
+                    isReusable && !isModified.test(RestaurantBookSection.STAFF)
+                            ? previous.staff : copyOf(restaurantBook.getStaffList()),
+                    isReusable && !isModified.test(RestaurantBookSection.BOOKINGS)
+                            ? previous.bookings : copyOf(restaurantBook.getBookingList()));
+        }
+
+        private static <T> List<T> copyOf(List<T> items) {
+            return Collections.unmodifiableList(new ArrayList<>(items));
+        }
+    }
+
+    /**
+     * Reads one binary snapshot into a restaurant book, giving each section to a {@code SectionReadNotifier} as soon
+     * as it has been read. The model classes validate the values that are read.
+     */
+    private static class SnapshotReader {
+        private final DataInputStream in;
+        private final Path filePath;
+        private final SectionReadNotifier notifier;
+        private final RestaurantBook restaurantBook = new RestaurantBook();
+
+        SnapshotReader(DataInputStream in, Path filePath, SectionReadNotifier notifier) {
+            this.in = in;
+            this.filePath = filePath;
+            this.notifier = notifier;
+        }
+
+        /**
+         * Reads the snapshot.
+         * @throws IllegalValueException if the file is not a binary snapshot of a supported version, or refers to
+         *     items that it does not contain.
+         */
+        RestaurantBook read() throws IOException, IllegalValueException {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_A_BINARY_FILE, filePath));
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            restaurantBook.setCapacity(new Capacity(in.readInt()));
+            notifier.sectionRead(RestaurantBookSection.CAPACITY, restaurantBook);
+
+            int memberCount = readCount();
+            for (int i = 0; i < memberCount; i++) {
+                restaurantBook.addMember(readMember());
+            }
+            notifier.sectionRead(RestaurantBookSection.MEMBERS, restaurantBook);
+            int ingredientCount = readCount();
+            for (int i = 0; i < ingredientCount; i++) {
+                restaurantBook.addIngredient(readIngredient());
+            }
+            notifier.sectionRead(RestaurantBookSection.INGREDIENTS, restaurantBook);
+            int recipeCount = readCount();
+            for (int i = 0; i < recipeCount; i++) {
+                restaurantBook.addRecipe(readRecipe());
+            }
+            notifier.sectionRead(RestaurantBookSection.RECIPES, restaurantBook);
+            int staffCount = readCount();
+            for (int i = 0; i < staffCount; i++) {
+                restaurantBook.addStaff(readStaff());
+            }
+            notifier.sectionRead(RestaurantBookSection.STAFF, restaurantBook);
+            int bookingCount = readCount();
+            for (int i = 0; i < bookingCount; i++) {
+                restaurantBook.addBooking(readBooking());
+            }
+            notifier.sectionRead(RestaurantBookSection.BOOKINGS, restaurantBook);
+            return restaurantBook;
+        }
+
+        private int readCount() throws IOException, IllegalValueException {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+            }
+            return count;
+        }
+
+        /**
+         * Reads a position in {@code items}, and returns the item at that position, or an empty {@code Optional} if
+         * the item is embedded instead.
+         */
+        private <T> Optional<T> readReference(List<T> items) throws IOException, IllegalValueException {
+            int position = in.readInt();
+            if (position == NOT_LISTED) {
+                return Optional.empty();
+            }
+            if (position < 0 || position >= items.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+            }
+            return Optional.of(items.get(position));
+        }
+
+        private Member readMember() throws IOException {
+            return new Member(new Name(in.readUTF()), new Phone(in.readUTF()), new Email(in.readUTF()),
+                    new LoyaltyPoints(in.readInt()));
+        }
+
+        private Ingredient readIngredient() throws IOException {
+            return new Ingredient(new IngredientName(in.readUTF()), new IngredientQuantity(in.readInt()),
+                    new IngredientUnit(in.readUTF()), new IngredientWarningAmount(in.readInt()));
+        }
+
+        private Recipe readRecipe() throws IOException, IllegalValueException {
+            RecipeName name = new RecipeName(in.readUTF());
+            int ingredientCount = readCount();
+            Map<Ingredient, IngredientQuantity> recipeIngredients = new HashMap<>();
+            for (int i = 0; i < ingredientCount; i++) {
+                Optional<Ingredient> listedIngredient = readReference(restaurantBook.getIngredientList());
+                Ingredient ingredient = listedIngredient.isPresent() ? listedIngredient.get() : readIngredient();
+                recipeIngredients.put(ingredient, new IngredientQuantity(in.readInt()));
+            }
+            return new Recipe(name, new RecipeIngredientSet(recipeIngredients));
+        }
+
+        private Staff readStaff() throws IOException, IllegalValueException {
+            Name name = new Name(in.readUTF());
+            Phone phone = new Phone(in.readUTF());
+            Email email = new Email(in.readUTF());
+            Appointment appointment = new Appointment(in.readUTF());
+            int shiftCount = readCount();
+            List<Shift> shifts = new ArrayList<>();
+            for (int i = 0; i < shiftCount; i++) {
+                shifts.add(new Shift(DayOfWeek.of(in.readByte()), readMinuteOfDay(), DayOfWeek.of(in.readByte()),
+                        readMinuteOfDay()));
+            }
+            return new Staff(name, phone, email, appointment, new ShiftRoster(shifts));
+        }
+
+        private LocalTime readMinuteOfDay() throws IOException {
+            return LocalTime.ofSecondOfDay(in.readShort() * SECONDS_PER_MINUTE);
+        }
+
+        private Booking readBooking() throws IOException, IllegalValueException {
+            Optional<Member> listedCustomer = readReference(restaurantBook.getMemberList());
+            Member customer = listedCustomer.isPresent() ? listedCustomer.get() : readMember();
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(in.readLong() * SECONDS_PER_MINUTE, 0,
+                    ZoneOffset.UTC);
+            return new Booking(new BookingWindow(startTime), customer, new BookingSize(in.readInt()));
+        }
+    }
+}
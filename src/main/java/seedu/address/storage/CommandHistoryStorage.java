@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands entered by the user.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns up to {@code maxCommands} of the most recent commands, from the least recent to the most recent.
+     * Returns an empty list if no commands have been stored yet.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory(int maxCommands) throws IOException;
+
+    /**
+     * Appends {@code commandText} to the stored commands.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void appendCommand(String commandText) throws IOException;
+
+}
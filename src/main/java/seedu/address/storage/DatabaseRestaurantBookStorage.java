@@ -0,0 +1,1000 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookDelta;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+
+/**
+ * A class to access RestaurantBook data stored in an embedded, single-file H2 database.
+ * <p>
+ * Each section of the restaurant book, such as the members or the bookings, is kept in its own table with one row per
+ * item, which holds the position of the item in its list and the item as json. The positions only need to be in the
+ * order of the list, so they are spaced apart, and an item inserted between two others takes a position between
+ * theirs without moving the rows after it. The rows of the bookings also hold the start times of the bookings, which
+ * are indexed.
+ * <p>
+ * Reading the database only loads the bookings from {@code loadHorizonDays} days ago onwards: the index on the start
+ * times finds the first row to load, and the rows after it are read in order. The rows before it are left in the
+ * database, and saves do not touch them, so they can still be read as archived bookings through
+ * {@link #withUnloadedBookings(BookingArchive)}.
+ * <p>
+ * Reading the database, or saving to it, starts recording the edits made to the lists of the restaurant book read or
+ * saved, and each save only applies the edits made since the previous save to the rows they affect. A save of a
+ * different restaurant book, such as a copy of the one read, is saved as the edits that turn the restaurant book
+ * read or saved last into it. Only the very same items are considered unedited, as in {@link ListEdit}, so a copy that
+ * shares its items with that restaurant book is saved as the items that changed. All the tables are only rewritten
+ * by the first save of a storage that has not read its database, or after a save failed.
+ * Every save is written in one transaction, so the database always holds the restaurant book as it was after some
+ * command, even if the application is interrupted while saving. The connection to the database is opened by the first
+ * save and kept open for the saves after it, until the application exits.
+ */
+public class DatabaseRestaurantBookStorage implements RestaurantBookStorage {
+
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+    public static final int SCHEMA_VERSION = 3;
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA = "Database schema version %1$s is not supported.";
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseRestaurantBookStorage.class);
+
+    /** The start of every H2 database file. */
+    private static final byte[] DATABASE_FILE_HEADER = "H:2,".getBytes(StandardCharsets.US_ASCII);
+    private static final String SCHEMA_VERSION_KEY = "schema_version";
+    private static final String CAPACITY_KEY = "capacity";
+
+    private static final Table<Member, JsonAdaptedMember> MEMBERS = new Table<>(RestaurantBookSection.MEMBERS,
+            JsonAdaptedMember.class, JsonAdaptedMember::new, JsonAdaptedMember::toModelType,
+            ReadOnlyRestaurantBook::getMemberList, RestaurantBook::setMembers, RestaurantBookDelta::getMemberEdits,
+            null);
+    private static final Table<Booking, JsonAdaptedBooking> BOOKINGS = new Table<>(RestaurantBookSection.BOOKINGS,
+            JsonAdaptedBooking.class, JsonAdaptedBooking::new, JsonAdaptedBooking::toModelType,
+            ReadOnlyRestaurantBook::getBookingList, RestaurantBook::setBookings, RestaurantBookDelta::getBookingEdits,
+            Booking::getStartTime);
+    private static final List<Table<?, ?>> TABLES = Arrays.asList(MEMBERS, BOOKINGS,
+            new Table<>(RestaurantBookSection.INGREDIENTS, JsonAdaptedIngredient.class, JsonAdaptedIngredient::new,
+                    JsonAdaptedIngredient::toModelType, ReadOnlyRestaurantBook::getIngredientList,
+                    RestaurantBook::setIngredients, RestaurantBookDelta::getIngredientEdits, null),
+            new Table<>(RestaurantBookSection.RECIPES, JsonAdaptedRecipe.class, JsonAdaptedRecipe::new,
+                    JsonAdaptedRecipe::toModelType, ReadOnlyRestaurantBook::getRecipeList, RestaurantBook::setRecipes,
+                    RestaurantBookDelta::getRecipeEdits, null),
+            new Table<>(RestaurantBookSection.STAFF, JsonAdaptedStaff.class, JsonAdaptedStaff::new,
+                    JsonAdaptedStaff::toModelType, ReadOnlyRestaurantBook::getStaffList,
+                    RestaurantBook::setStaffList, RestaurantBookDelta::getStaffEdits, null));
+
+    private final Path filePath;
+    private final int loadHorizonDays;
+    private final List<Runnable> trackingRemovers = new ArrayList<>();
+    private final List<ListEdit<Member>> memberEdits = new ArrayList<>();
+    private final List<ListEdit<Booking>> bookingEdits = new ArrayList<>();
+    private final List<ListEdit<Ingredient>> ingredientEdits = new ArrayList<>();
+    private final List<ListEdit<Recipe>> recipeEdits = new ArrayList<>();
+    private final List<ListEdit<Staff>> staffEdits = new ArrayList<>();
+    /** The positions of the rows of each table in the database at {@code filePath}, as of the last save or read. */
+    private final Map<Table<?, ?>, Positions> savedPositions = new HashMap<>();
+
+    /**
+     * The restaurant book whose edits are being recorded, which was last read or saved, or null if the next save must
+     * rewrite all the tables.
+     */
+    private ReadOnlyRestaurantBook trackedBook;
+    private Capacity savedCapacity;
+    /** Whether a save failed, so the database may not hold all the saved edits until all the tables are rewritten. */
+    private volatile boolean isDatabaseBroken;
+    /** The connection to the database at {@code filePath}, or null if it has not been opened by a save yet. */
+    private Connection connection;
+    /** The position of the last row of the bookings that the last read left in the database, or 0 if there is none. */
+    private volatile long lastUnloadedBookingPosition;
+
+    /**
+     * Creates a storage of the database at {@code filePath} that loads all the bookings.
+     */
+    public DatabaseRestaurantBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage of the database at {@code filePath} that only loads the bookings from
+     * {@code loadHorizonDays} days before today onwards, or all the bookings if {@code loadHorizonDays} is 0.
+     */
+    public DatabaseRestaurantBookStorage(Path filePath, int loadHorizonDays) {
+        requireNonNull(filePath);
+        checkArgument(loadHorizonDays >= 0, UserPrefs.MESSAGE_LOAD_HORIZON_CONSTRAINTS);
+        this.filePath = filePath;
+        this.loadHorizonDays = loadHorizonDays;
+    }
+
+    /**
+     * Returns the path of the database file of the restaurant book at {@code filePath}, which is {@code filePath}
+     * itself if it ends with {@value #DATABASE_FILE_SUFFIX}, as H2 requires.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.toString().endsWith(DATABASE_FILE_SUFFIX)
+                ? filePath
+                : filePath.resolveSibling(filePath.getFileName() + DATABASE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a database file.
+     */
+    public static boolean isDatabaseFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        byte[] header = new byte[DATABASE_FILE_HEADER.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.read(header) == header.length && Arrays.equals(header, DATABASE_FILE_HEADER);
+        }
+    }
+
+    @Override
+    public Path getRestaurantBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook() throws DataConversionException, IOException {
+        return readRestaurantBook(filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#readRestaurantBook()}.
+     * Only the bookings from {@code loadHorizonDays} days before today onwards are read. Reading the database at the
+     * file path of this storage starts recording the edits made to the restaurant book read, so that the next save
+     * only writes the rows that changed since. It must not be called while saves prepared by this storage are yet to
+     * be written.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataConversionException if the database or any of its rows is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier((section, restaurantBook) -> { }));
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier(sectionListener));
+    }
+
+    private Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath, SectionReadNotifier notifier)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(getDatabaseFilePath(filePath))) {
+            logger.info("Database file " + getDatabaseFilePath(filePath) + " not found");
+            return Optional.empty();
+        }
+
+        try (Connection connection = openExisting(filePath)) {
+            connection.setReadOnly(true);
+            Capacity capacity = readCapacity(connection);
+            LocalDateTime loadFrom = loadHorizonDays == 0
+                    ? null
+                    : LocalDate.now().minusDays(loadHorizonDays).atStartOfDay();
+            RestaurantBook restaurantBook = new RestaurantBook();
+            Map<Table<?, ?>, Positions> positions = new HashMap<>();
+            boolean isInRowOrder = true;
+            for (Table<?, ?> table : TABLES) {
+                long lastUnloadedPosition = table.findLastUnloadedPosition(connection, loadFrom);
+                Optional<Positions> tablePositions = table.readInto(connection, restaurantBook, lastUnloadedPosition);
+                isInRowOrder &= tablePositions.isPresent();
+                positions.put(table, tablePositions.orElseGet(() -> new Positions(lastUnloadedPosition)));
+                if (table == BOOKINGS) {
+                    // the bookings are given with their capacity
+                    restaurantBook.setCapacity(capacity);
+                    notifier.sectionRead(RestaurantBookSection.CAPACITY, restaurantBook);
+                }
+                notifier.sectionRead(table.section, restaurantBook);
+            }
+            if (filePath.equals(this.filePath)) {
+                startTrackingRead(restaurantBook, positions, isInRowOrder);
+            }
+            return Optional.of(restaurantBook);
+        } catch (SQLException | IOException | IllegalValueException | DuplicateItemException
+                | RestaurantOverbookedException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException {
+        prepareSave(restaurantBook).write();
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#saveRestaurantBook(ReadOnlyRestaurantBook)}.
+     * Saves to the file path of this storage only apply the edits made since the previous save, while all the
+     * tables of a database at any other path are rewritten.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+        requireNonNull(restaurantBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveRestaurantBook(restaurantBook);
+        } else {
+            inNewTransaction(filePath, connection -> writeAll(connection, restaurantBook, new HashMap<>()));
+        }
+    }
+
+    /**
+     * Captures the edits that turn the restaurant book last read or saved by this storage into {@code restaurantBook},
+     * which are the edits made to it since the previous save if {@code restaurantBook} is that restaurant book.
+     * Captures a copy of the whole {@code restaurantBook} instead if this storage has not read or saved a restaurant
+     * book yet, or if a previous save failed.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyRestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        if (trackedBook == null || isDatabaseBroken) {
+            stopTracking();
+            startTracking(restaurantBook);
+            return new FullSave(new RestaurantBook(restaurantBook));
+        }
+
+        if (restaurantBook != trackedBook) {
+            // the tracked restaurant book is left as it is, so its lists are the lists saved with the edits recorded
+            memberEdits.addAll(ListEdit.between(trackedBook.getMemberList(), restaurantBook.getMemberList()));
+            bookingEdits.addAll(ListEdit.between(trackedBook.getBookingList(), restaurantBook.getBookingList()));
+            ingredientEdits.addAll(ListEdit.between(trackedBook.getIngredientList(),
+                    restaurantBook.getIngredientList()));
+            recipeEdits.addAll(ListEdit.between(trackedBook.getRecipeList(), restaurantBook.getRecipeList()));
+            staffEdits.addAll(ListEdit.between(trackedBook.getStaffList(), restaurantBook.getStaffList()));
+        }
+        RestaurantBookDelta delta = new RestaurantBookDelta(savedCapacity, restaurantBook.getCapacity(),
+                memberEdits, bookingEdits, ingredientEdits, recipeEdits, staffEdits);
+        if (restaurantBook != trackedBook) {
+            stopTracking();
+            startTracking(restaurantBook);
+        } else {
+            clearEdits();
+            savedCapacity = restaurantBook.getCapacity();
+        }
+        return new DeltaSave(delta);
+    }
+
+    /**
+     * Starts recording the edits made to {@code restaurantBook}, which has just been read from the rows at
+     * {@code positions}, unless the rows of some table are not in the order of its list, as {@code isInRowOrder}
+     * tells, in which case the next save rewrites all the tables.
+     */
+    private synchronized void startTrackingRead(ReadOnlyRestaurantBook restaurantBook,
+                                                Map<Table<?, ?>, Positions> positions, boolean isInRowOrder) {
+        stopTracking();
+        savedPositions.clear();
+        savedPositions.putAll(positions);
+        lastUnloadedBookingPosition = positions.get(BOOKINGS).getLastUnloadedPosition();
+        isDatabaseBroken = false;
+        if (isInRowOrder) {
+            startTracking(restaurantBook);
+        }
+    }
+
+    /**
+     * Returns a booking archive that archives bookings into {@code archive}, and holds the bookings that the last read
+     * of the database left in it as well as those in {@code archive}. The bookings left in the database are read
+     * through the index on their start times, and as they are never modified again, they can be read at any time.
+     */
+    public BookingArchive withUnloadedBookings(BookingArchive archive) {
+        requireNonNull(archive);
+        return new BookingArchive() {
+            @Override
+            public void archive(List<Booking> bookings) throws IOException {
+                archive.archive(bookings);
+            }
+
+            @Override
+            public Stream<Booking> readBookingsBetween(LocalDate startDate, LocalDate endDate) throws IOException {
+                List<Booking> unloadedBookings = readUnloadedBookingsBetween(startDate, endDate);
+                return Stream.concat(archive.readBookingsBetween(startDate, endDate), unloadedBookings.stream());
+            }
+        };
+    }
+
+    /**
+     * Returns the bookings that the last read of the database left in it, that start on any date from
+     * {@code startDate} to {@code endDate} inclusive.
+     */
+    private List<Booking> readUnloadedBookingsBetween(LocalDate startDate, LocalDate endDate) throws IOException {
+        long lastPosition = lastUnloadedBookingPosition;
+        if (lastPosition == 0) {
+            return new ArrayList<>();
+        }
+        try (Connection connection = openExisting(filePath)) {
+            connection.setReadOnly(true);
+            return BOOKINGS.readStartingBetween(connection, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX),
+                    lastPosition);
+        } catch (SQLException | IllegalValueException e) {
+            throw new IOException("Failed to read the bookings left in the database " + filePath, e);
+        }
+    }
+
+    /**
+     * Starts recording the edits made to the lists of {@code restaurantBook}, which has just been read or saved.
+     */
+    private void startTracking(ReadOnlyRestaurantBook restaurantBook) {
+        trackedBook = restaurantBook;
+        savedCapacity = restaurantBook.getCapacity();
+        track(restaurantBook.getMemberList(), memberEdits);
+        track(restaurantBook.getBookingList(), bookingEdits);
+        track(restaurantBook.getIngredientList(), ingredientEdits);
+        track(restaurantBook.getRecipeList(), recipeEdits);
+        track(restaurantBook.getStaffList(), staffEdits);
+    }
+
+    private <T> void track(ObservableList<T> list, List<ListEdit<T>> edits) {
+        ListChangeListener<T> listener = change -> edits.addAll(ListEdit.fromChange(change));
+        list.addListener(listener);
+        trackingRemovers.add(() -> list.removeListener(listener));
+    }
+
+    private void stopTracking() {
+        trackingRemovers.forEach(Runnable::run);
+        trackingRemovers.clear();
+        trackedBook = null;
+        clearEdits();
+    }
+
+    private void clearEdits() {
+        memberEdits.clear();
+        bookingEdits.clear();
+        ingredientEdits.clear();
+        recipeEdits.clear();
+        staffEdits.clear();
+    }
+
+    private static String urlOf(Path filePath) {
+        String databaseFile = getDatabaseFilePath(filePath).toAbsolutePath().toString();
+        return "jdbc:h2:file:" + databaseFile.substring(0, databaseFile.length() - DATABASE_FILE_SUFFIX.length());
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath}, which must exist.
+     */
+    private static Connection openExisting(Path filePath) throws SQLException {
+        return DriverManager.getConnection(urlOf(filePath) + ";IFEXISTS=TRUE");
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath} for writing, creating the database and its schema if
+     * they do not exist.
+     */
+    private static Connection openForWriting(Path filePath) throws SQLException, IOException {
+        FileUtil.createParentDirsOfFile(getDatabaseFilePath(filePath));
+        Connection connection = DriverManager.getConnection(urlOf(filePath));
+        try {
+            connection.setAutoCommit(false);
+            createSchema(connection);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * Runs {@code work} on {@code connection} in one transaction, which is rolled back if {@code work} fails.
+     */
+    private static void inTransaction(Connection connection, SqlWork work) throws SQLException, IOException {
+        try {
+            work.run(connection);
+            connection.commit();
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code work} in one transaction on a new connection to the database at {@code filePath}, which is closed
+     * afterwards.
+     */
+    private static void inNewTransaction(Path filePath, SqlWork work) throws IOException {
+        try (Connection connection = openForWriting(filePath)) {
+            inTransaction(connection, work);
+        } catch (SQLException e) {
+            throw new IOException("Failed to write to the database " + filePath, e);
+        }
+    }
+
+    /**
+     * Runs {@code work} in one transaction on the connection to the database at the file path of this storage,
+     * opening it if this is the first save. The connection is closed if the database fails, as the connection may
+     * be broken, and the next save opens a new one.
+     */
+    private synchronized void inOwnTransaction(SqlWork work) throws IOException {
+        try {
+            if (connection == null) {
+                connection = openForWriting(filePath);
+            }
+            inTransaction(connection, work);
+        } catch (SQLException e) {
+            closeConnection();
+            throw new IOException("Failed to write to the database " + filePath, e);
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Failed to close the database " + filePath + " : " + e.getMessage());
+        }
+        connection = null;
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS meta (name VARCHAR(64) PRIMARY KEY, data VARCHAR NOT NULL)");
+            for (Table<?, ?> table : TABLES) {
+                table.create(statement);
+            }
+        }
+        putMeta(connection, SCHEMA_VERSION_KEY, String.valueOf(SCHEMA_VERSION));
+    }
+
+    private static void putMeta(Connection connection, String name, String data) throws SQLException {
+        try (PreparedStatement merge = connection.prepareStatement("MERGE INTO meta KEY (name) VALUES (?, ?)")) {
+            merge.setString(1, name);
+            merge.setString(2, data);
+            merge.executeUpdate();
+        }
+    }
+
+    private static Optional<String> getMeta(Connection connection, String name) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement("SELECT data FROM meta WHERE name = ?")) {
+            query.setString(1, name);
+            try (ResultSet row = query.executeQuery()) {
+                return row.next() ? Optional.of(row.getString(1)) : Optional.empty();
+            }
+        }
+    }
+
+    private static void checkSchemaVersion(Connection connection) throws SQLException, IllegalValueException {
+        Optional<String> schemaVersion = getMeta(connection, SCHEMA_VERSION_KEY);
+        if (!schemaVersion.isPresent() || !schemaVersion.get().equals(String.valueOf(SCHEMA_VERSION))) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA, schemaVersion.orElse(null)));
+        }
+    }
+
+    private static Capacity readCapacity(Connection connection) throws SQLException, IllegalValueException {
+        checkSchemaVersion(connection);
+        Optional<String> capacity = getMeta(connection, CAPACITY_KEY);
+        try {
+            if (capacity.isPresent() && Capacity.isValidCapacity(Integer.parseInt(capacity.get()))) {
+                return new Capacity(Integer.parseInt(capacity.get()));
+            }
+        } catch (NumberFormatException e) {
+            // reported as an invalid capacity below
+        }
+        throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Replaces all the rows of the database with those of {@code restaurantBook}, and the positions of the rows of
+     * each table in {@code positions} with their new positions.
+     */
+    private static void writeAll(Connection connection, ReadOnlyRestaurantBook restaurantBook,
+                                 Map<Table<?, ?>, Positions> positions) throws SQLException, IOException {
+        for (Table<?, ?> table : TABLES) {
+            table.rewrite(connection, restaurantBook, positions.computeIfAbsent(table, unused -> new Positions()));
+        }
+        putMeta(connection, CAPACITY_KEY, String.valueOf(restaurantBook.getCapacity().getValue()));
+    }
+
+    /**
+     * Applies the edits of {@code delta} to the rows they affect, whose positions are in {@code positions}.
+     */
+    private static void writeDelta(Connection connection, RestaurantBookDelta delta,
+                                   Map<Table<?, ?>, Positions> positions) throws SQLException, IOException {
+        for (Table<?, ?> table : TABLES) {
+            assert positions.containsKey(table) : "The edits of a delta are only saved after all the tables.";
+            table.applyEdits(connection, delta, positions.get(table));
+        }
+        if (!delta.getCapacityBefore().equals(delta.getCapacityAfter())) {
+            putMeta(connection, CAPACITY_KEY, String.valueOf(delta.getCapacityAfter().getValue()));
+        }
+    }
+
+    /**
+     * A pending save that rewrites all the tables, which supersedes all the saves before it.
+     */
+    private class FullSave implements PendingSave {
+        private final ReadOnlyRestaurantBook snapshot;
+
+        FullSave(ReadOnlyRestaurantBook snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void write() throws IOException {
+            try {
+                inOwnTransaction(connection -> writeAll(connection, snapshot, savedPositions));
+            } catch (IOException ioe) {
+                isDatabaseBroken = true;
+                throw ioe;
+            }
+            isDatabaseBroken = false;
+        }
+
+        @Override
+        public Optional<PendingSave> mergeWith(PendingSave later) {
+            return later instanceof FullSave ? Optional.of(later) : Optional.empty();
+        }
+    }
+
+    /**
+     * A pending save of the edits made between two saves.
+     */
+    private class DeltaSave implements PendingSave {
+        private final RestaurantBookDelta delta;
+
+        DeltaSave(RestaurantBookDelta delta) {
+            this.delta = delta;
+        }
+
+        @Override
+        public void write() throws IOException {
+            boolean isEmpty = delta.size() == 0 && delta.getCapacityBefore().equals(delta.getCapacityAfter());
+            if (isEmpty || isDatabaseBroken) {
+                return;
+            }
+            try {
+                inOwnTransaction(connection -> writeDelta(connection, delta, savedPositions));
+            } catch (IOException ioe) {
+                // the edits were rolled back, so the next save rewrites all the tables
+                isDatabaseBroken = true;
+                throw ioe;
+            }
+        }
+
+        @Override
+        public Optional<PendingSave> mergeWith(PendingSave later) {
+            if (later instanceof FullSave) {
+                return Optional.of(later);
+            }
+            if (!(later instanceof DeltaSave)) {
+                return Optional.empty();
+            }
+            RestaurantBookDelta laterDelta = ((DeltaSave) later).delta;
+            return Optional.of(new DeltaSave(new RestaurantBookDelta(delta.getCapacityBefore(),
+                    laterDelta.getCapacityAfter(),
+                    concat(delta.getMemberEdits(), laterDelta.getMemberEdits()),
+                    concat(delta.getBookingEdits(), laterDelta.getBookingEdits()),
+                    concat(delta.getIngredientEdits(), laterDelta.getIngredientEdits()),
+                    concat(delta.getRecipeEdits(), laterDelta.getRecipeEdits()),
+                    concat(delta.getStaffEdits(), laterDelta.getStaffEdits()))));
+        }
+
+        private <T> List<T> concat(List<T> first, List<T> second) {
+            List<T> items = new ArrayList<>(first);
+            items.addAll(second);
+            return items;
+        }
+    }
+
+    /**
+     * Converts the items of one section between the model and the rows of a table.
+     *
+     * @param <T> the type of the items in the model.
+     * @param <A> the Jackson-friendly type of the items in the rows.
+     */
+    private static class Table<T, A> {
+        private final RestaurantBookSection section;
+        private final String name;
+        private final Class<A> adaptedClass;
+        private final Function<T, A> adapter;
+        private final ModelConverter<A, T> converter;
+        private final Function<ReadOnlyRestaurantBook, List<T>> itemsOf;
+        private final BiConsumer<RestaurantBook, List<T>> setter;
+        private final Function<RestaurantBookDelta, List<ListEdit<T>>> editsOf;
+        /** Returns the start time of an item, which is indexed, or null if the items of this table have none. */
+        private final Function<T, LocalDateTime> startTimeOf;
+
+        Table(RestaurantBookSection section, Class<A> adaptedClass, Function<T, A> adapter,
+              ModelConverter<A, T> converter, Function<ReadOnlyRestaurantBook, List<T>> itemsOf,
+              BiConsumer<RestaurantBook, List<T>> setter, Function<RestaurantBookDelta, List<ListEdit<T>>> editsOf,
+              Function<T, LocalDateTime> startTimeOf) {
+            this.section = section;
+            // each table is named after its section
+            this.name = section.name().toLowerCase(Locale.ROOT);
+            this.adaptedClass = adaptedClass;
+            this.adapter = adapter;
+            this.converter = converter;
+            this.itemsOf = itemsOf;
+            this.setter = setter;
+            this.editsOf = editsOf;
+            this.startTimeOf = startTimeOf;
+        }
+
+        /**
+         * Creates this table and the index on its start times if they do not exist.
+         */
+        void create(Statement statement) throws SQLException {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + name
+                    + " (position BIGINT PRIMARY KEY, data VARCHAR NOT NULL"
+                    + (startTimeOf == null ? "" : ", start_time TIMESTAMP NOT NULL") + ")");
+            if (startTimeOf != null) {
+                statement.execute("CREATE INDEX IF NOT EXISTS " + name + "_start_time ON " + name + " (start_time)");
+            }
+        }
+
+        /**
+         * Returns the position of the last row before the rows to load from {@code loadFrom} onwards, which is the
+         * row before the first row of an item that starts at or after {@code loadFrom}, or the last row if there is
+         * no such item. Returns 0 if all the rows are to be loaded, which is always the case if {@code loadFrom} is
+         * null or the items of this table have no start times.
+         */
+        long findLastUnloadedPosition(Connection connection, LocalDateTime loadFrom) throws SQLException {
+            if (startTimeOf == null || loadFrom == null) {
+                return 0;
+            }
+            // the index on the start times finds the first row to load without going through the rows before it
+            Long firstLoadedPosition;
+            try (PreparedStatement query = connection.prepareStatement(
+                    "SELECT MIN(position) FROM " + name + " WHERE start_time >= ?")) {
+                query.setTimestamp(1, Timestamp.valueOf(loadFrom));
+                firstLoadedPosition = queryLong(query);
+            }
+            try (PreparedStatement query = connection.prepareStatement(firstLoadedPosition == null
+                    ? "SELECT MAX(position) FROM " + name
+                    : "SELECT MAX(position) FROM " + name + " WHERE position < ?")) {
+                if (firstLoadedPosition != null) {
+                    query.setLong(1, firstLoadedPosition);
+                }
+                Long lastUnloadedPosition = queryLong(query);
+                return lastUnloadedPosition == null ? 0 : lastUnloadedPosition;
+            }
+        }
+
+        /**
+         * Reads the rows of this table after {@code lastUnloadedPosition} in order, sets them as this section of
+         * {@code restaurantBook}, and returns their positions, or an empty {@code Optional} if the section does not
+         * keep the items in the order of the rows.
+         */
+        Optional<Positions> readInto(Connection connection, RestaurantBook restaurantBook, long lastUnloadedPosition)
+                throws SQLException, IOException, IllegalValueException {
+            List<T> items = new ArrayList<>();
+            Positions positions = new Positions(lastUnloadedPosition);
+            try (PreparedStatement query = connection.prepareStatement(
+                    "SELECT position, data FROM " + name + " WHERE position > ? ORDER BY position")) {
+                query.setLong(1, lastUnloadedPosition);
+                try (ResultSet rows = query.executeQuery()) {
+                    while (rows.next()) {
+                        positions.add(rows.getLong(1));
+                        items.add(toItem(rows.getString(2)));
+                    }
+                }
+            }
+            setter.accept(restaurantBook, items);
+            return ListEdit.between(items, itemsOf.apply(restaurantBook)).isEmpty()
+                    ? Optional.of(positions)
+                    : Optional.empty();
+        }
+
+        /**
+         * Returns the items of the rows up to {@code lastPosition} that start from {@code from} to {@code to}
+         * inclusive, which are found through the index on the start times.
+         */
+        List<T> readStartingBetween(Connection connection, LocalDateTime from, LocalDateTime to, long lastPosition)
+                throws SQLException, IOException, IllegalValueException {
+            assert startTimeOf != null;
+            List<T> items = new ArrayList<>();
+            try (PreparedStatement query = connection.prepareStatement("SELECT data FROM " + name
+                    + " WHERE start_time >= ? AND start_time <= ? AND position <= ? ORDER BY position")) {
+                query.setTimestamp(1, Timestamp.valueOf(from));
+                query.setTimestamp(2, Timestamp.valueOf(to));
+                query.setLong(3, lastPosition);
+                try (ResultSet rows = query.executeQuery()) {
+                    while (rows.next()) {
+                        items.add(toItem(rows.getString(1)));
+                    }
+                }
+            }
+            return items;
+        }
+
+        /**
+         * Replaces the rows of this table after the rows left in the database by the last read with the items of this
+         * section of {@code restaurantBook}, at the positions that {@code positions} is reset to.
+         */
+        void rewrite(Connection connection, ReadOnlyRestaurantBook restaurantBook, Positions positions)
+                throws SQLException, IOException {
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM " + name + " WHERE position > ?")) {
+                delete.setLong(1, positions.getLastUnloadedPosition());
+                delete.executeUpdate();
+            }
+            List<T> items = itemsOf.apply(restaurantBook);
+            positions.reset(items.size());
+            insert(connection, positions.toArray(), items);
+        }
+
+        /**
+         * Applies the edits of {@code delta} to this table in order, updating {@code positions} to match.
+         * An edit that replaces items with as many items updates their rows in place. Any other edit deletes the rows
+         * of the items it removed, and inserts the rows of the items it added at positions between those of the rows
+         * around them, so the rows after them are not moved, unless there is no room left between those positions.
+         */
+        void applyEdits(Connection connection, RestaurantBookDelta delta, Positions positions)
+                throws SQLException, IOException {
+            List<ListEdit<T>> edits = editsOf.apply(delta);
+            if (edits.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + name + " SET data = ?"
+                    + (startTimeOf == null ? "" : ", start_time = ?") + " WHERE position = ?");
+                 PreparedStatement delete = connection.prepareStatement(
+                         "DELETE FROM " + name + " WHERE position >= ? AND position <= ?")) {
+                for (ListEdit<T> edit : edits) {
+                    int from = edit.getFrom();
+                    List<T> removed = edit.getRemoved();
+                    List<T> added = edit.getAdded();
+                    if (removed.size() == added.size()) {
+                        for (int i = 0; i < added.size(); i++) {
+                            int parameter = setRow(update, added.get(i));
+                            update.setLong(parameter, positions.get(from + i));
+                            update.addBatch();
+                        }
+                        update.executeBatch();
+                        continue;
+                    }
+
+                    if (!removed.isEmpty()) {
+                        delete.setLong(1, positions.get(from));
+                        delete.setLong(2, positions.get(from + removed.size() - 1));
+                        delete.executeUpdate();
+                        positions.remove(from, removed.size());
+                    }
+                    if (!added.isEmpty()) {
+                        if (!positions.hasRoom(from, added.size())) {
+                            renumber(connection, positions);
+                        }
+                        insert(connection, positions.insert(from, added.size()), added);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Moves the rows of this table back to positions spaced {@link Positions#GAP} apart, in the same order.
+         */
+        private void renumber(Connection connection, Positions positions) throws SQLException {
+            long[] oldPositions = positions.toArray();
+            positions.reset(oldPositions.length);
+            try (PreparedStatement move = connection.prepareStatement(
+                    "UPDATE " + name + " SET position = ? WHERE position = ?");
+                 Statement statement = connection.createStatement()) {
+                // the rows are moved to negative positions first, so that no row is moved onto a row yet to be moved
+                for (int i = 0; i < oldPositions.length; i++) {
+                    move.setLong(1, -positions.get(i));
+                    move.setLong(2, oldPositions[i]);
+                    move.addBatch();
+                }
+                move.executeBatch();
+                statement.execute("UPDATE " + name + " SET position = -position WHERE position < 0");
+            }
+        }
+
+        /**
+         * Inserts the rows of {@code items} at {@code itemPositions}, in one batch.
+         */
+        private void insert(Connection connection, long[] itemPositions, List<T> items)
+                throws SQLException, IOException {
+            if (items.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + name
+                    + (startTimeOf == null ? " (data, position) VALUES (?, ?)"
+                                           : " (data, start_time, position) VALUES (?, ?, ?)"))) {
+                for (int i = 0; i < items.size(); i++) {
+                    int parameter = setRow(insert, items.get(i));
+                    insert.setLong(parameter, itemPositions[i]);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        /**
+         * Sets the data of the row of {@code item}, followed by its start time if the items of this table have start
+         * times, as the first parameters of {@code statement}, and returns the index of the parameter after them.
+         */
+        private int setRow(PreparedStatement statement, T item) throws SQLException, IOException {
+            statement.setString(1, JsonUtil.toJsonLine(adapter.apply(item)));
+            if (startTimeOf == null) {
+                return 2;
+            }
+            statement.setTimestamp(2, Timestamp.valueOf(startTimeOf.apply(item)));
+            return 3;
+        }
+
+        private T toItem(String json) throws IOException, IllegalValueException {
+            return converter.toModelType(JsonUtil.fromJsonString(json, adaptedClass));
+        }
+
+        /**
+         * Returns the value of the single row of the single column that {@code query} returns, or null if it is null.
+         */
+        private static Long queryLong(PreparedStatement query) throws SQLException {
+            try (ResultSet row = query.executeQuery()) {
+                row.next();
+                long value = row.getLong(1);
+                return row.wasNull() ? null : value;
+            }
+        }
+    }
+
+    /**
+     * The positions of the rows of a table, in the order of their items, which all come after the rows that were left
+     * in the database by the last read.
+     * A table is written with its positions spaced {@link #GAP} apart, so that many items can be inserted between two
+     * rows before there is no room left between their positions, and the table has to be renumbered.
+     */
+    private static class Positions {
+        static final long GAP = 1L << 32;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final long lastUnloadedPosition;
+        private long[] positions = new long[0];
+        private int size;
+
+        Positions() {
+            this(0);
+        }
+
+        /**
+         * Creates empty positions that come after {@code lastUnloadedPosition}, the position of the last row that was
+         * left in the database, or 0 if there is no such row.
+         */
+        Positions(long lastUnloadedPosition) {
+            this.lastUnloadedPosition = lastUnloadedPosition;
+        }
+
+        long getLastUnloadedPosition() {
+            return lastUnloadedPosition;
+        }
+
+        long get(int index) {
+            assert index < size;
+            return positions[index];
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+
+        /**
+         * Replaces the positions with {@code count} positions spaced {@link #GAP} apart, after the rows left in the
+         * database.
+         */
+        void reset(int count) {
+            positions = new long[count];
+            for (int i = 0; i < count; i++) {
+                positions[i] = lastUnloadedPosition + (i + 1) * GAP;
+            }
+            size = count;
+        }
+
+        /**
+         * Appends {@code position}, which must be greater than all the positions.
+         */
+        void add(long position) {
+            assert position > (size == 0 ? lastUnloadedPosition : positions[size - 1]);
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(INITIAL_CAPACITY, size * 2));
+            }
+            positions[size++] = position;
+        }
+
+        void remove(int from, int count) {
+            System.arraycopy(positions, from + count, positions, from, size - from - count);
+            size -= count;
+        }
+
+        /**
+         * Returns true if {@code count} positions fit between the positions at {@code index - 1} and {@code index}.
+         */
+        boolean hasRoom(int index, int count) {
+            return index == size || positions[index] - positionBefore(index) > count;
+        }
+
+        /**
+         * Inserts {@code count} positions at {@code index}, spread evenly between the positions around them, or
+         * spaced {@link #GAP} apart after the last position, and returns them.
+         */
+        long[] insert(int index, int count) {
+            assert hasRoom(index, count);
+            long before = positionBefore(index);
+            long step = index == size ? GAP : (positions[index] - before) / (count + 1);
+            long[] inserted = new long[count];
+            for (int i = 0; i < count; i++) {
+                inserted[i] = before + step * (i + 1);
+            }
+
+            if (size + count > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(size + count, positions.length * 2));
+            }
+            System.arraycopy(positions, index, positions, index + count, size - index);
+            System.arraycopy(inserted, 0, positions, index, count);
+            size += count;
+            return inserted;
+        }
+
+        private long positionBefore(int index) {
+            return index == 0 ? lastUnloadedPosition : positions[index - 1];
+        }
+    }
+
+    /**
+     * Work done on a connection to the database.
+     */
+    @FunctionalInterface
+    private interface SqlWork {
+        void run(Connection connection) throws SQLException, IOException;
+    }
+
+    /**
+     * Converts a Jackson-friendly item into the model's item.
+     */
+    @FunctionalInterface
+    private interface ModelConverter<A, T> {
+        T toModelType(A adapted) throws IllegalValueException;
+    }
+}
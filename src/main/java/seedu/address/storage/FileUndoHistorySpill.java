@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.RestaurantBookDelta;
+import seedu.address.model.UndoHistorySpill;
+
+/**
+ * An {@code UndoHistorySpill} that appends the spilled states to a file, one state in JSON per line.
+ * The offset of each state in the file is kept in memory. Paging a state back in reads the last state and truncates
+ * the file before it, while dropping the oldest state only forgets its offset. Once the dropped states take up more of
+ * the file than the states that are kept, the kept states are copied to a new file, so the file stays within twice the
+ * size of the kept states however many states are spilled and dropped, and each state is copied once on average.
+ */
+public class FileUndoHistorySpill implements UndoHistorySpill {
+
+    private static final Logger logger = LogsCenter.getLogger(FileUndoHistorySpill.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Deque<Long> offsets = new ArrayDeque<>();
+
+    public FileUndoHistorySpill(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Creates a spill in a new temporary file that is deleted when the application exits.
+     * @throws IOException if the file could not be created.
+     */
+    public static FileUndoHistorySpill createTempFile() throws IOException {
+        Path file = Files.createTempFile("undo-history-", ".jsonl");
+        file.toFile().deleteOnExit();
+        return new FileUndoHistorySpill(file);
+    }
+
+    @Override
+    public void push(RestaurantBookDelta delta) throws IOException {
+        requireNonNull(delta);
+        byte[] line = (JsonUtil.toJsonLine(new JsonAdaptedRestaurantBookDelta(delta)) + "\n").getBytes(UTF_8);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            // a positional write may write fewer bytes than remain in the buffer
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            offsets.addLast(offset);
+        }
+    }
+
+    @Override
+    public RestaurantBookDelta pop() throws IOException {
+        long offset = offsets.removeLast();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer line = ByteBuffer.allocate(Math.toIntExact(channel.size() - offset));
+            int bytesRead = 0;
+            while (line.hasRemaining() && bytesRead >= 0) {
+                bytesRead = channel.read(line, offset + line.position());
+            }
+            channel.truncate(offset);
+            String json = new String(line.array(), 0, line.position(), UTF_8).trim();
+            return JsonUtil.fromJsonString(json, JsonAdaptedRestaurantBookDelta.class).toModelType();
+        } catch (IllegalValueException e) {
+            throw new IOException("Spilled undo history is corrupted: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void dropOldest() {
+        offsets.removeFirst();
+        if (offsets.isEmpty()) {
+            clear();
+            return;
+        }
+
+        long droppedSize = offsets.getFirst();
+        try {
+            if (droppedSize > Files.size(file) - droppedSize) {
+                compact(droppedSize);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to compact the undo history spill file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Rewrites the file without its first {@code droppedSize} bytes, which only hold dropped states.
+     * The file is left as it was if it cannot be rewritten.
+     */
+    private void compact(long droppedSize) throws IOException {
+        FileUtil.writeAtomically(file, out -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                channel.position(droppedSize);
+                InputStream in = Channels.newInputStream(channel);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                for (int bytesRead = in.read(buffer); bytesRead >= 0; bytesRead = in.read(buffer)) {
+                    out.write(buffer, 0, bytesRead);
+                }
+            }
+        });
+        for (int i = offsets.size(); i > 0; i--) {
+            offsets.addLast(offsets.removeFirst() - droppedSize);
+        }
+    }
+
+    @Override
+    public void clear() {
+        offsets.clear();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Failed to delete the undo history spill file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public int size() {
+        return offsets.size();
+    }
+}
@@ -0,0 +1,567 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookDelta;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+
+/**
+ * A class to access RestaurantBook data stored as a json snapshot file and an append-only journal next to it.
+ * <p>
+ * The first save of a restaurant book writes a full snapshot. From then on, the edits made to the lists of that
+ * restaurant book are recorded, and each save only appends the edits made since the previous save to the journal as
+ * one {@code RestaurantBookDelta}, so the cost of a save grows with the changes rather than with the data. Once the
+ * journal grows beyond {@code compactionThreshold} bytes, the next save compacts it into a new snapshot.
+ * Saves can be prepared on the thread that modifies the restaurant book and written on another thread, in order.
+ * <p>
+ * Each journal record is one line holding the CRC32 checksum of its JSON followed by the JSON. The first line of the
+ * journal holds the checksum of the snapshot it applies to, so a journal left behind by an interrupted compaction is
+ * recognised as stale and ignored. Reading replays the journal over the snapshot. A torn last record, left behind by
+ * a save that was interrupted, is discarded; a damaged record anywhere else fails the read. The journal is read before
+ * the snapshot, so that the sections of the snapshot that no record edits can be used as soon as they have been read.
+ */
+public class JournaledRestaurantBookStorage implements RestaurantBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+    public static final String MESSAGE_CORRUPTED_RECORD = "Journal record %1$d of %2$s is corrupted.";
+    public static final String MESSAGE_MISMATCHED_EDIT = "Journal record %1$d of %2$s does not match the data.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledRestaurantBookStorage.class);
+
+    private static final String SNAPSHOT_HEADER_PREFIX = "snapshot ";
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final List<Runnable> trackingRemovers = new ArrayList<>();
+    private final List<ListEdit<Member>> memberEdits = new ArrayList<>();
+    private final List<ListEdit<Booking>> bookingEdits = new ArrayList<>();
+    private final List<ListEdit<Ingredient>> ingredientEdits = new ArrayList<>();
+    private final List<ListEdit<Recipe>> recipeEdits = new ArrayList<>();
+    private final List<ListEdit<Staff>> staffEdits = new ArrayList<>();
+
+    /** The restaurant book whose edits are being recorded, or null if the next save must write a snapshot. */
+    private ReadOnlyRestaurantBook trackedBook;
+    private Capacity savedCapacity;
+    private volatile boolean isCompactionDue;
+    /** Whether the journal may not hold all the saved changes, so journal records are skipped until a snapshot. */
+    private volatile boolean isJournalBroken;
+
+    public JournaledRestaurantBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts its journal into a new snapshot once the journal grows beyond
+     * {@code compactionThreshold} bytes.
+     */
+    public JournaledRestaurantBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getRestaurantBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook() throws DataConversionException, IOException {
+        return readRestaurantBook(filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#readRestaurantBook()}.
+     *
+     * @param filePath location of the snapshot, next to which its journal is kept. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier((section, restaurantBook) -> { }));
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier(sectionListener));
+    }
+
+    private Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath, SectionReadNotifier notifier)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        byte[] journal = Files.exists(journalFilePath) ? Files.readAllBytes(journalFilePath) : null;
+        List<Optional<RestaurantBookDelta>> records = journal == null ? new ArrayList<>() : readRecords(journal);
+
+        CRC32 snapshotChecksum = new CRC32();
+        RestaurantBook restaurantBook = readSnapshot(filePath, snapshotChecksum, (section, snapshot) -> {
+            if (isUnedited(section, snapshot, records)) {
+                notifier.sectionRead(section, snapshot);
+            }
+        });
+        if (journal != null) {
+            restaurantBook = replayJournal(restaurantBook, journal, records, snapshotChecksum.getValue(),
+                    journalFilePath);
+        }
+        notifier.allSectionsRead(restaurantBook);
+        return Optional.of(restaurantBook);
+    }
+
+    /**
+     * Returns true if none of {@code records} edits {@code section} of {@code snapshot}, so that the section is the
+     * same whether the journal applies to {@code snapshot} or not. A damaged record may edit any section.
+     */
+    private static boolean isUnedited(RestaurantBookSection section, ReadOnlyRestaurantBook snapshot,
+                                      List<Optional<RestaurantBookDelta>> records) {
+        for (Optional<RestaurantBookDelta> record : records) {
+            if (!record.isPresent()) {
+                return false;
+            }
+            RestaurantBookDelta delta = record.get();
+            boolean isEdited;
+            switch (section) {
+            case MEMBERS:
+                isEdited = !delta.getMemberEdits().isEmpty();
+                break;
+            case BOOKINGS:
+                // the bookings are used with the capacity
+                isEdited = !delta.getBookingEdits().isEmpty()
+                        || !delta.getCapacityAfter().equals(snapshot.getCapacity());
+                break;
+            case INGREDIENTS:
+                isEdited = !delta.getIngredientEdits().isEmpty();
+                break;
+            case RECIPES:
+                isEdited = !delta.getRecipeEdits().isEmpty();
+                break;
+            case STAFF:
+                isEdited = !delta.getStaffEdits().isEmpty();
+                break;
+            default:
+                isEdited = !delta.getCapacityAfter().equals(snapshot.getCapacity());
+            }
+            if (isEdited) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Streams the snapshot at {@code filePath} into a restaurant book, while updating {@code checksum} with all the
+     * bytes of the snapshot and giving each section to {@code sectionListener} as soon as it has been read.
+     */
+    private static RestaurantBook readSnapshot(Path filePath, CRC32 checksum, SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            RestaurantBook restaurantBook;
+            try (JsonParser parser = JsonUtil.createParser(in)) {
+                restaurantBook = JsonSerializableRestaurantBook.readFrom(parser,
+                        new SectionReadNotifier(sectionListener));
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+            // the checksum covers the bytes after the data as well
+            byte[] buffer = new byte[4096];
+            while (in.read(buffer) != -1) {
+                continue;
+            }
+            return restaurantBook;
+        }
+    }
+
+    /**
+     * Returns the deltas in the records of {@code journal} after its header line, in order, each of which is empty if
+     * its record is damaged.
+     */
+    private static List<Optional<RestaurantBookDelta>> readRecords(byte[] journal) {
+        List<Optional<RestaurantBookDelta>> records = new ArrayList<>();
+        int headerEnd = indexOfLineEnd(journal, 0);
+        if (headerEnd == -1) {
+            return records;
+        }
+        int start = headerEnd + 1;
+        while (start < journal.length) {
+            int end = indexOfLineEnd(journal, start);
+            records.add(end == -1 ? Optional.empty() : readRecord(journal, start, end));
+            start = end == -1 ? journal.length : end + 1;
+        }
+        return records;
+    }
+
+    /**
+     * Returns {@code restaurantBook} with the deltas in {@code records}, the records of {@code journal}, replayed over
+     * it, if {@code journal} applies to the snapshot with checksum {@code snapshotChecksum}.
+     */
+    private static RestaurantBook replayJournal(RestaurantBook restaurantBook, byte[] journal,
+                                                List<Optional<RestaurantBookDelta>> records, long snapshotChecksum,
+                                                Path journalFilePath) throws DataConversionException {
+        int headerEnd = indexOfLineEnd(journal, 0);
+        if (headerEnd == -1 || !readLine(journal, 0, headerEnd).equals(headerOf(snapshotChecksum))) {
+            logger.warning("Journal " + journalFilePath + " does not belong to its snapshot and is ignored");
+            return restaurantBook;
+        }
+
+        List<Member> members = new ArrayList<>(restaurantBook.getMemberList());
+        List<Booking> bookings = new ArrayList<>(restaurantBook.getBookingList());
+        List<Ingredient> ingredients = new ArrayList<>(restaurantBook.getIngredientList());
+        List<Recipe> recipes = new ArrayList<>(restaurantBook.getRecipeList());
+        List<Staff> staff = new ArrayList<>(restaurantBook.getStaffList());
+        Capacity capacity = restaurantBook.getCapacity();
+
+        for (int i = 0; i < records.size(); i++) {
+            int recordNumber = i + 1;
+            Optional<RestaurantBookDelta> delta = records.get(i);
+            if (!delta.isPresent()) {
+                // only the last record can be torn, as it is the only one that a save may have been interrupted in
+                if (recordNumber == records.size()) {
+                    logger.warning("Discarding the torn last record of journal " + journalFilePath);
+                    break;
+                }
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_CORRUPTED_RECORD, recordNumber, journalFilePath)));
+            }
+
+            try {
+                replayEdits(members, delta.get().getMemberEdits());
+                replayEdits(bookings, delta.get().getBookingEdits());
+                replayEdits(ingredients, delta.get().getIngredientEdits());
+                replayEdits(recipes, delta.get().getRecipeEdits());
+                replayEdits(staff, delta.get().getStaffEdits());
+            } catch (IllegalValueException e) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_MISMATCHED_EDIT, recordNumber, journalFilePath)));
+            }
+            capacity = delta.get().getCapacityAfter();
+        }
+
+        RestaurantBook replayedBook = new RestaurantBook();
+        try {
+            replayedBook.setMembers(members);
+            replayedBook.setBookings(bookings);
+            replayedBook.setIngredients(ingredients);
+            replayedBook.setRecipes(recipes);
+            replayedBook.setStaffList(staff);
+            replayedBook.setCapacity(capacity);
+        } catch (DuplicateItemException | RestaurantOverbookedException e) {
+            throw new DataConversionException(e);
+        }
+        return replayedBook;
+    }
+
+    /**
+     * Makes {@code edits} to {@code items} in order.
+     * @throws IllegalValueException if an edit does not match the items it is made to.
+     */
+    private static <T> void replayEdits(List<T> items, List<ListEdit<T>> edits) throws IllegalValueException {
+        for (ListEdit<T> edit : edits) {
+            int editEnd = edit.getFrom() + edit.getRemoved().size();
+            if (edit.getFrom() < 0 || editEnd > items.size()
+                    || !items.subList(edit.getFrom(), editEnd).equals(edit.getRemoved())) {
+                throw new IllegalValueException(edit.toString());
+            }
+            edit.applyTo(items);
+        }
+    }
+
+    /**
+     * Returns the delta in the record of {@code journal} from {@code start} to the line end at {@code end}, or an
+     * empty {@code Optional} if the record is damaged.
+     */
+    private static Optional<RestaurantBookDelta> readRecord(byte[] journal, int start, int end) {
+        String record = readLine(journal, start, end);
+        int separator = record.indexOf(' ');
+        if (separator == -1) {
+            return Optional.empty();
+        }
+        String json = record.substring(separator + 1);
+        try {
+            if (Long.parseLong(record.substring(0, separator), 16) != checksumOf(json.getBytes(UTF_8))) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedRestaurantBookDelta.class).toModelType());
+        } catch (NumberFormatException | IOException | IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException {
+        prepareSave(restaurantBook).write();
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#saveRestaurantBook(ReadOnlyRestaurantBook)}.
+     * Saves to the file path of this storage are journaled, while a full snapshot is written to any other path.
+     *
+     * @param filePath location of the snapshot, next to which its journal is kept. Cannot be null.
+     */
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+        requireNonNull(restaurantBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveRestaurantBook(restaurantBook);
+        } else {
+            writeSnapshot(restaurantBook, filePath);
+        }
+    }
+
+    /**
+     * Captures the edits made to {@code restaurantBook} since the previous save as one journal record if
+     * {@code restaurantBook} was last saved by this storage, or captures a full snapshot of {@code restaurantBook}
+     * if it was not, or if the journal is due to be compacted or could not be written.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyRestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        if (restaurantBook != trackedBook || isCompactionDue || isJournalBroken) {
+            stopTracking();
+            startTracking(restaurantBook);
+            isCompactionDue = false;
+            return new SnapshotSave(new RestaurantBook(restaurantBook));
+        }
+
+        RestaurantBookDelta delta = new RestaurantBookDelta(savedCapacity, restaurantBook.getCapacity(),
+                memberEdits, bookingEdits, ingredientEdits, recipeEdits, staffEdits);
+        clearEdits();
+        savedCapacity = restaurantBook.getCapacity();
+        return new JournalAppend(delta);
+    }
+
+    /**
+     * Starts recording the edits made to the lists of {@code restaurantBook}, which has just been saved.
+     */
+    private void startTracking(ReadOnlyRestaurantBook restaurantBook) {
+        trackedBook = restaurantBook;
+        savedCapacity = restaurantBook.getCapacity();
+        track(restaurantBook.getMemberList(), memberEdits);
+        track(restaurantBook.getBookingList(), bookingEdits);
+        track(restaurantBook.getIngredientList(), ingredientEdits);
+        track(restaurantBook.getRecipeList(), recipeEdits);
+        track(restaurantBook.getStaffList(), staffEdits);
+    }
+
+    private <T> void track(ObservableList<T> list, List<ListEdit<T>> edits) {
+        ListChangeListener<T> listener = change -> edits.addAll(ListEdit.fromChange(change));
+        list.addListener(listener);
+        trackingRemovers.add(() -> list.removeListener(listener));
+    }
+
+    private void stopTracking() {
+        trackingRemovers.forEach(Runnable::run);
+        trackingRemovers.clear();
+        trackedBook = null;
+        clearEdits();
+    }
+
+    private void clearEdits() {
+        memberEdits.clear();
+        bookingEdits.clear();
+        ingredientEdits.clear();
+        recipeEdits.clear();
+        staffEdits.clear();
+    }
+
+    /**
+     * Writes {@code snapshot} as the snapshot at {@code filePath} and starts a new, empty journal for it.
+     * Both files are written to a temporary file first and moved into place once complete, so an interrupted write
+     * leaves either the old or the new file behind, and a new snapshot left with an old journal is recognised by its
+     * checksum.
+     */
+    private static void writeSnapshot(ReadOnlyRestaurantBook snapshot, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, checksum))) {
+                JsonSerializableRestaurantBook.writeTo(generator, snapshot);
+            }
+        });
+        byte[] header = (headerOf(checksum.getValue()) + "\n").getBytes(UTF_8);
+        FileUtil.writeAtomically(getJournalFilePath(filePath), out -> out.write(header));
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Appends {@code delta} as one record to the end of the journal at {@code journalFilePath}, and forces it to the
+     * storage device.
+     */
+    private static void appendRecord(Path journalFilePath, RestaurantBookDelta delta) throws IOException {
+        String json = JsonUtil.toJsonLine(new JsonAdaptedRestaurantBookDelta(delta));
+        byte[] record = (Long.toHexString(checksumOf(json.getBytes(UTF_8))) + " " + json + "\n").getBytes(UTF_8);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, record);
+            channel.force(false);
+        }
+    }
+
+    private static String headerOf(long snapshotChecksum) {
+        return SNAPSHOT_HEADER_PREFIX + Long.toHexString(snapshotChecksum);
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the index of the first line end in {@code bytes} at or after {@code start}, or -1 if there is none.
+     */
+    private static int indexOfLineEnd(byte[] bytes, int start) {
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String readLine(byte[] bytes, int start, int end) {
+        return new String(bytes, start, end - start, UTF_8);
+    }
+
+    /**
+     * A pending save of a full snapshot, which supersedes all the saves before it.
+     */
+    private class SnapshotSave implements PendingSave {
+        private final ReadOnlyRestaurantBook snapshot;
+
+        SnapshotSave(ReadOnlyRestaurantBook snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void write() throws IOException {
+            try {
+                writeSnapshot(snapshot, filePath);
+            } catch (IOException ioe) {
+                isJournalBroken = true;
+                throw ioe;
+            }
+            isJournalBroken = false;
+        }
+
+        @Override
+        public Optional<PendingSave> mergeWith(PendingSave later) {
+            return later instanceof SnapshotSave ? Optional.of(later) : Optional.empty();
+        }
+    }
+
+    /**
+     * A pending save of one journal record.
+     */
+    private class JournalAppend implements PendingSave {
+        private final RestaurantBookDelta delta;
+
+        JournalAppend(RestaurantBookDelta delta) {
+            this.delta = delta;
+        }
+
+        @Override
+        public void write() throws IOException {
+            boolean isEmpty = delta.size() == 0 && delta.getCapacityBefore().equals(delta.getCapacityAfter());
+            if (isEmpty || isJournalBroken) {
+                return;
+            }
+
+            Path journalFilePath = getJournalFilePath(filePath);
+            try {
+                appendRecord(journalFilePath, delta);
+            } catch (IOException ioe) {
+                // the journal may now end in a torn record, so the next save starts over from a new snapshot
+                isJournalBroken = true;
+                throw ioe;
+            }
+            if (Files.size(journalFilePath) > compactionThreshold) {
+                logger.info("Journal " + journalFilePath + " is due to be compacted");
+                isCompactionDue = true;
+            }
+        }
+
+        @Override
+        public Optional<PendingSave> mergeWith(PendingSave later) {
+            if (later instanceof SnapshotSave) {
+                return Optional.of(later);
+            }
+            if (!(later instanceof JournalAppend)) {
+                return Optional.empty();
+            }
+            RestaurantBookDelta laterDelta = ((JournalAppend) later).delta;
+            return Optional.of(new JournalAppend(new RestaurantBookDelta(delta.getCapacityBefore(),
+                    laterDelta.getCapacityAfter(),
+                    concat(delta.getMemberEdits(), laterDelta.getMemberEdits()),
+                    concat(delta.getBookingEdits(), laterDelta.getBookingEdits()),
+                    concat(delta.getIngredientEdits(), laterDelta.getIngredientEdits()),
+                    concat(delta.getRecipeEdits(), laterDelta.getRecipeEdits()),
+                    concat(delta.getStaffEdits(), laterDelta.getStaffEdits()))));
+        }
+
+        private <T> List<T> concat(List<T> first, List<T> second) {
+            List<T> items = new ArrayList<>(first);
+            items.addAll(second);
+            return items;
+        }
+    }
+}
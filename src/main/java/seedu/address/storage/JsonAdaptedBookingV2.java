@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+import seedu.address.model.person.member.Member;
+
+/**
+ * Jackson-friendly version of {@link Booking} in the version 2 format, which refers to its customer by the position
+ * of the customer among the members of the restaurant book.
+ * A customer that does not match any member exactly, such as one whose loyalty points have changed since the booking
+ * was made, is embedded in the booking instead.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedBookingV2 {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Booking's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "Booking refers to member %1$d, which does not exist.";
+
+    private final Integer memberId;
+    private final JsonAdaptedMember customer;
+    private final String startTime;
+    private final int numPersons;
+
+    /**
+     * Constructs a {@code JsonAdaptedBookingV2} with the given booking details.
+     */
+    @JsonCreator
+    public JsonAdaptedBookingV2(@JsonProperty("memberId") Integer memberId,
+                                @JsonProperty("customer") JsonAdaptedMember customer,
+                                @JsonProperty("startTime") String startTime,
+                                @JsonProperty("numPersons") int numPersons) {
+        this.memberId = memberId;
+        this.customer = customer;
+        this.startTime = startTime;
+        this.numPersons = numPersons;
+    }
+
+    /**
+     * Converts a given {@code Booking} whose customer is the member at {@code memberId} into this class for Jackson
+     * use.
+     */
+    public JsonAdaptedBookingV2(Booking source, int memberId) {
+        this(memberId, null, source.getStartTimeString(), source.getNumMembers().getSize());
+    }
+
+    /**
+     * Converts a given {@code Booking} whose customer does not match any member into this class for Jackson use.
+     */
+    public JsonAdaptedBookingV2(Booking source) {
+        this(null, new JsonAdaptedMember(source.getCustomer()), source.getStartTimeString(),
+                source.getNumMembers().getSize());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted booking object into the model's {@code Booking} object, looking up its
+     * customer in {@code members} by position.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted booking, or if it
+     *     refers to a member that does not exist.
+     */
+    public Booking toModelType(List<Member> members) throws IllegalValueException {
+        final Member modelCustomer;
+        if (memberId != null) {
+            if (memberId < 0 || memberId >= members.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, memberId));
+            }
+            modelCustomer = members.get(memberId);
+        } else if (customer != null) {
+            modelCustomer = customer.toModelType();
+        } else {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Member.class.getSimpleName()));
+        }
+
+        if (startTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    BookingWindow.class.getSimpleName()));
+        }
+        final BookingWindow modelBookingWindow;
+        final BookingSize modelBookingSize;
+
+        try {
+            modelBookingWindow = ParserUtil.parseBookingWindow(startTime);
+            modelBookingSize = ParserUtil.parseBookingSize(Integer.toString(numPersons));
+        } catch (ParseException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+
+        return new Booking(modelBookingWindow, modelCustomer, modelBookingSize);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.util.Pair;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientName;
+import seedu.address.model.ingredient.IngredientQuantity;
+
+/**
+ * Jackson-friendly version of an ingredient of a recipe and its quantity in the recipe, in the version 2 format,
+ * which refers to the ingredient by its name.
+ * An ingredient that does not match the ingredient of the restaurant book with the same name exactly is embedded
+ * instead.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedIngredientReference {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recipe ingredient's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_INGREDIENT = "Recipe refers to ingredient %1$s, which does not exist.";
+
+    private final String ingredientName;
+    private final JsonAdaptedIngredient ingredient;
+    private final int quantityInRecipe;
+
+    /**
+     * Constructs a {@code JsonAdaptedIngredientReference} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedIngredientReference(@JsonProperty("ingredientName") String ingredientName,
+                                          @JsonProperty("ingredient") JsonAdaptedIngredient ingredient,
+                                          @JsonProperty("quantityInRecipe") int quantityInRecipe) {
+        this.ingredientName = ingredientName;
+        this.ingredient = ingredient;
+        this.quantityInRecipe = quantityInRecipe;
+    }
+
+    /**
+     * Converts a given ingredient of a recipe and its quantity in the recipe into this class for Jackson use.
+     *
+     * @param isListed whether {@code source}'s ingredient is exactly the ingredient of the restaurant book with the
+     *     same name, so that it can be referred to by name.
+     */
+    public JsonAdaptedIngredientReference(Pair<Ingredient, IngredientQuantity> source, boolean isListed) {
+        this(isListed ? source.getKey().getIngredientName().getName() : null,
+                isListed ? null : new JsonAdaptedIngredient(source.getKey()),
+                source.getValue().getQuantity());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's ingredient and quantity, looking up the
+     * ingredient in {@code ingredients} by name.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted object, or if it
+     *     refers to an ingredient that does not exist.
+     */
+    public Pair<Ingredient, IngredientQuantity> toModelType(Map<IngredientName, Ingredient> ingredients)
+            throws IllegalValueException {
+        final Ingredient modelIngredient;
+        if (ingredientName != null) {
+            if (!IngredientName.isValidIngredientName(ingredientName)) {
+                throw new IllegalValueException(IngredientName.MESSAGE_CONSTRAINTS);
+            }
+            modelIngredient = ingredients.get(new IngredientName(ingredientName));
+            if (modelIngredient == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_INGREDIENT, ingredientName));
+            }
+        } else if (ingredient != null) {
+            modelIngredient = ingredient.toModelType();
+        } else {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Ingredient.class.getSimpleName()));
+        }
+
+        if (!IngredientQuantity.isValidIngredientQuantity(Integer.toString(quantityInRecipe))) {
+            throw new IllegalValueException(IngredientQuantity.MESSAGE_CONSTRAINTS);
+        }
+        return new Pair<>(modelIngredient, new IngredientQuantity(quantityInRecipe));
+    }
+}
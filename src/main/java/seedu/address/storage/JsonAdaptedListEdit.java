@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListEdit;
+
+/**
+ * Jackson-friendly version of {@link ListEdit}, holding the Jackson-friendly versions {@code A} of its items.
+ */
+class JsonAdaptedListEdit<A> {
+
+    public static final String MESSAGE_INVALID_INDEX = "List edit's index should not be negative.";
+
+    private final int from;
+    private final List<A> removed = new ArrayList<>();
+    private final List<A> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedListEdit(@JsonProperty("from") int from, @JsonProperty("removed") List<A> removed,
+                               @JsonProperty("added") List<A> added) {
+        this.from = from;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use, adapting its items with {@code adapter}.
+     */
+    public <T> JsonAdaptedListEdit(ListEdit<T> source, Function<T, A> adapter) {
+        from = source.getFrom();
+        removed.addAll(source.getRemoved().stream().map(adapter).collect(Collectors.toList()));
+        added.addAll(source.getAdded().stream().map(adapter).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit into the model's {@code ListEdit} object, converting its items with
+     * {@code converter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public <T> ListEdit<T> toModelType(ItemConverter<A, T> converter) throws IllegalValueException {
+        if (from < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return new ListEdit<>(from, toModelItems(removed, converter), toModelItems(added, converter));
+    }
+
+    private static <A, T> List<T> toModelItems(List<A> adaptedItems, ItemConverter<A, T> converter)
+            throws IllegalValueException {
+        List<T> items = new ArrayList<>();
+        for (A adaptedItem : adaptedItems) {
+            items.add(converter.toModelType(adaptedItem));
+        }
+        return items;
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted item {@code A} into the model's item {@code T}.
+     */
+    @FunctionalInterface
+    interface ItemConverter<A, T> {
+        T toModelType(A adaptedItem) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.util.Pair;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientName;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+
+/**
+ * Jackson-friendly version of {@link Recipe} in the version 2 format, which refers to its ingredients by name.
+ */
+class JsonAdaptedRecipeV2 {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recipe's %s field is missing!";
+
+    private final String recipeName;
+    private final List<JsonAdaptedIngredientReference> ingredients = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecipeV2} with the given recipe details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecipeV2(@JsonProperty("recipeName") String recipeName,
+                               @JsonProperty("ingredients") List<JsonAdaptedIngredientReference> ingredients) {
+        this.recipeName = recipeName;
+        if (ingredients != null) {
+            this.ingredients.addAll(ingredients);
+        }
+    }
+
+    /**
+     * Converts a given {@code Recipe} into this class for Jackson use, referring to each of its ingredients by name
+     * if it is exactly the ingredient with that name in {@code listedIngredients}.
+     */
+    public JsonAdaptedRecipeV2(Recipe source, Map<IngredientName, Ingredient> listedIngredients) {
+        recipeName = source.getRecipeName().getName();
+        for (Map.Entry<Ingredient, IngredientQuantity> entry
+                : source.getRecipeIngredientSet().getIngredientMap().entrySet()) {
+            Ingredient ingredient = entry.getKey();
+            boolean isListed = ingredient.equals(listedIngredients.get(ingredient.getIngredientName()));
+            ingredients.add(new JsonAdaptedIngredientReference(new Pair<>(ingredient, entry.getValue()), isListed));
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recipe object into the model's {@code Recipe} object, looking up its
+     * ingredients in {@code listedIngredients} by name.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recipe, or if it
+     *     refers to an ingredient that does not exist.
+     */
+    public Recipe toModelType(Map<IngredientName, Ingredient> listedIngredients) throws IllegalValueException {
+        if (recipeName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Recipe.class.getSimpleName()));
+        }
+        if (!RecipeName.isValidRecipeName(recipeName)) {
+            throw new IllegalValueException(RecipeName.MESSAGE_CONSTRAINTS);
+        }
+
+        Map<Ingredient, IngredientQuantity> modelIngreds = new HashMap<>();
+        for (JsonAdaptedIngredientReference ingredient : ingredients) {
+            Pair<Ingredient, IngredientQuantity> ingredientAndQuantity = ingredient.toModelType(listedIngredients);
+            modelIngreds.put(ingredientAndQuantity.getKey(), ingredientAndQuantity.getValue());
+        }
+        return new Recipe(new RecipeName(recipeName), new RecipeIngredientSet(modelIngreds));
+    }
+}
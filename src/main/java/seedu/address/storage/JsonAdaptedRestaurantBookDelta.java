@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListEdit;
+import seedu.address.model.RestaurantBookDelta;
+import seedu.address.model.booking.Capacity;
+
+/**
+ * Jackson-friendly version of {@link RestaurantBookDelta}.
+ */
+class JsonAdaptedRestaurantBookDelta {
+
+    private final List<JsonAdaptedListEdit<JsonAdaptedMember>> memberEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit<JsonAdaptedBooking>> bookingEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit<JsonAdaptedIngredient>> ingredientEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit<JsonAdaptedRecipe>> recipeEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit<JsonAdaptedStaff>> staffEdits = new ArrayList<>();
+    private final int capacityBefore;
+    private final int capacityAfter;
+
+    /**
+     * Constructs a {@code JsonAdaptedRestaurantBookDelta} with the given delta details.
+     */
+    @JsonCreator
+    public JsonAdaptedRestaurantBookDelta(
+            @JsonProperty("memberEdits") List<JsonAdaptedListEdit<JsonAdaptedMember>> memberEdits,
+            @JsonProperty("bookingEdits") List<JsonAdaptedListEdit<JsonAdaptedBooking>> bookingEdits,
+            @JsonProperty("ingredientEdits") List<JsonAdaptedListEdit<JsonAdaptedIngredient>> ingredientEdits,
+            @JsonProperty("recipeEdits") List<JsonAdaptedListEdit<JsonAdaptedRecipe>> recipeEdits,
+            @JsonProperty("staffEdits") List<JsonAdaptedListEdit<JsonAdaptedStaff>> staffEdits,
+            @JsonProperty("capacityBefore") int capacityBefore,
+            @JsonProperty("capacityAfter") int capacityAfter) {
+        addAllIfPresent(this.memberEdits, memberEdits);
+        addAllIfPresent(this.bookingEdits, bookingEdits);
+        addAllIfPresent(this.ingredientEdits, ingredientEdits);
+        addAllIfPresent(this.recipeEdits, recipeEdits);
+        addAllIfPresent(this.staffEdits, staffEdits);
+        this.capacityBefore = capacityBefore;
+        this.capacityAfter = capacityAfter;
+    }
+
+    /**
+     * Converts a given {@code RestaurantBookDelta} into this class for Jackson use.
+     */
+    public JsonAdaptedRestaurantBookDelta(RestaurantBookDelta source) {
+        memberEdits.addAll(adapt(source.getMemberEdits(), JsonAdaptedMember::new));
+        bookingEdits.addAll(adapt(source.getBookingEdits(), JsonAdaptedBooking::new));
+        ingredientEdits.addAll(adapt(source.getIngredientEdits(), JsonAdaptedIngredient::new));
+        recipeEdits.addAll(adapt(source.getRecipeEdits(), JsonAdaptedRecipe::new));
+        staffEdits.addAll(adapt(source.getStaffEdits(), JsonAdaptedStaff::new));
+        capacityBefore = source.getCapacityBefore().getValue();
+        capacityAfter = source.getCapacityAfter().getValue();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted delta into the model's {@code RestaurantBookDelta} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted delta.
+     */
+    public RestaurantBookDelta toModelType() throws IllegalValueException {
+        if (!Capacity.isValidCapacity(capacityBefore) || !Capacity.isValidCapacity(capacityAfter)) {
+            throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
+        }
+        return new RestaurantBookDelta(new Capacity(capacityBefore), new Capacity(capacityAfter),
+                toModelEdits(memberEdits, JsonAdaptedMember::toModelType),
+                toModelEdits(bookingEdits, JsonAdaptedBooking::toModelType),
+                toModelEdits(ingredientEdits, JsonAdaptedIngredient::toModelType),
+                toModelEdits(recipeEdits, JsonAdaptedRecipe::toModelType),
+                toModelEdits(staffEdits, JsonAdaptedStaff::toModelType));
+    }
+
+    private static <T> void addAllIfPresent(List<T> list, List<T> items) {
+        if (items != null) {
+            list.addAll(items);
+        }
+    }
+
+    private static <T, A> List<JsonAdaptedListEdit<A>> adapt(List<ListEdit<T>> edits, Function<T, A> adapter) {
+        return edits.stream().map(edit -> new JsonAdaptedListEdit<>(edit, adapter)).collect(Collectors.toList());
+    }
+
+    private static <A, T> List<ListEdit<T>> toModelEdits(List<JsonAdaptedListEdit<A>> adaptedEdits,
+            JsonAdaptedListEdit.ItemConverter<A, T> converter) throws IllegalValueException {
+        List<ListEdit<T>> edits = new ArrayList<>();
+        for (JsonAdaptedListEdit<A> adaptedEdit : adaptedEdits) {
+            edits.add(adaptedEdit.toModelType(converter));
+        }
+        return edits;
+    }
+}
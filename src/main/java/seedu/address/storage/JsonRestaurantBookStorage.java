@@ -3,10 +3,15 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,6 +21,8 @@ import seedu.address.model.ReadOnlyRestaurantBook;
 
 /**
  * A class to access RestaurantBook data stored as a json file on the hard disk.
+ * The data is streamed between the file and the model one item at a time, so no copy of the whole file is held in
+ * memory, and saves are written to a temporary file that replaces the data file once complete.
  */
 public class JsonRestaurantBookStorage implements RestaurantBookStorage {
 
@@ -43,16 +50,29 @@ public class JsonRestaurantBookStorage implements RestaurantBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath) throws DataConversionException {
+        return readRestaurantBook(filePath, new SectionReadNotifier((section, restaurantBook) -> { }));
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException {
+        return readRestaurantBook(filePath, new SectionReadNotifier(sectionListener));
+    }
+
+    private Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath, SectionReadNotifier notifier)
+            throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableRestaurantBook> jsonRestaurantBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableRestaurantBook.class);
-        if (!jsonRestaurantBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonRestaurantBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(JsonSerializableRestaurantBook.readFrom(parser, notifier));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +93,11 @@ public class JsonRestaurantBookStorage implements RestaurantBookStorage {
         requireNonNull(restaurantBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableRestaurantBook(restaurantBook), filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                JsonSerializableRestaurantBook.writeTo(generator, restaurantBook);
+            }
+        });
     }
 
 }
@@ -1,25 +1,42 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientName;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
 import seedu.address.model.recipe.Recipe;
 
 /**
  * An Immutable RestaurantBook that is serializable to JSON format.
+ * <p>
+ * This class holds the version 1 format, in which every booking embeds a copy of its customer and every recipe
+ * embeds copies of its ingredients. {@link #writeTo} writes the version 2 format, which adds a {@code version} field
+ * and refers to those members by position and to those ingredients by name, and {@link #readFrom} reads both
+ * versions, so that version 1 files are migrated when they are next saved.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableRestaurantBook {
@@ -29,7 +46,19 @@ class JsonSerializableRestaurantBook {
     public static final String MESSAGE_DUPLICATE_INGREDIENT = "Ingredient list contains duplicate ingredient(s).";
     public static final String MESSAGE_DUPLICATE_RECIPE = "Recipe list contains duplicate recipe(s).";
     public static final String MESSAGE_DUPLICATE_STAFF = "Staff list contains duplicate staff(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Restaurant book data should be a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "The %1$s of the restaurant book should be a JSON array.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Restaurant book data version %1$d is not supported.";
+    public static final int CURRENT_VERSION = 2;
 
+    private static final String VERSION_FIELD = "version";
+    private static final String MEMBERS_FIELD = "members";
+    private static final String INGREDIENTS_FIELD = "ingredients";
+    private static final String RECIPES_FIELD = "recipes";
+    private static final String STAFF_FIELD = "staff";
+    private static final String BOOKINGS_FIELD = "bookings";
+    private static final String CAPACITY_FIELD = "intCapacity";
+    private static final String CAPACITY_CREATOR_FIELD = "capacity";
 
     private final List<JsonAdaptedMember> members = new ArrayList<>();
     private final List<JsonAdaptedIngredient> ingredients = new ArrayList<>();
@@ -135,4 +164,202 @@ class JsonSerializableRestaurantBook {
         return restaurantBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the version 2 format, converting one item at a time instead of
+     * holding converted copies of all the items.
+     * Members and ingredients are written before the bookings and recipes that refer to them, and the members, the
+     * capacity and the bookings are written first, so that they can be used while the rest is still being read.
+     */
+    static void writeTo(JsonGenerator generator, ReadOnlyRestaurantBook source) throws IOException {
+        List<Member> members = source.getMemberList();
+        Map<Member, Integer> memberIds = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            memberIds.put(members.get(i), i);
+        }
+        Map<IngredientName, Ingredient> ingredients = new HashMap<>();
+        for (Ingredient ingredient : source.getIngredientList()) {
+            ingredients.put(ingredient.getIngredientName(), ingredient);
+        }
+
+        generator.writeStartObject();
+        generator.writeNumberField(VERSION_FIELD, CURRENT_VERSION);
+        writeArray(generator, MEMBERS_FIELD, members, JsonAdaptedMember::new);
+        generator.writeNumberField(CAPACITY_FIELD, source.getCapacity().getValue());
+        writeArray(generator, BOOKINGS_FIELD, source.getBookingList(), booking -> {
+            Integer memberId = memberIds.get(booking.getCustomer());
+            // Member#equals ignores loyalty points, which the booking keeps from when it was made
+            boolean isListed = memberId != null
+                    && members.get(memberId).getLoyaltyPoints().equals(booking.getCustomer().getLoyaltyPoints());
+            return isListed ? new JsonAdaptedBookingV2(booking, memberId) : new JsonAdaptedBookingV2(booking);
+        });
+        writeArray(generator, INGREDIENTS_FIELD, source.getIngredientList(), JsonAdaptedIngredient::new);
+        writeArray(generator, RECIPES_FIELD, source.getRecipeList(), recipe ->
+                new JsonAdaptedRecipeV2(recipe, ingredients));
+        writeArray(generator, STAFF_FIELD, source.getStaffList(), JsonAdaptedStaff::new);
+        generator.writeEndObject();
+    }
+
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, List<T> items,
+                                       Function<T, ?> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T item : items) {
+            generator.writeObject(adapter.apply(item));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads a restaurant book written in the version 1 or version 2 format from {@code parser}, converting one item
+     * at a time instead of holding converted copies of all the items. Unknown fields are skipped.
+     * References are resolved through the members and ingredients that have already been read, so they must come
+     * before the bookings and recipes, as written by {@link #writeTo}.
+     *
+     * @throws IOException if the data is not valid JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static RestaurantBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        return readFrom(parser, new SectionReadNotifier((section, restaurantBook) -> { }));
+    }
+
+    /**
+     * Similar to {@link #readFrom(JsonParser)}, but also gives each section to {@code notifier} as soon as it has
+     * been read. The bookings are only given before the end of the data if the capacity comes before them.
+     */
+    static RestaurantBook readFrom(JsonParser parser, SectionReadNotifier notifier)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        RestaurantBook restaurantBook = new RestaurantBook();
+        // bookings are only added once the capacity is known, as toModelType() does
+        List<Booking> bookings = new ArrayList<>();
+        Map<IngredientName, Ingredient> ingredients = new HashMap<>();
+        int version = 1;
+        Integer intCapacity = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case VERSION_FIELD:
+                version = parser.getIntValue();
+                if (version < 1 || version > CURRENT_VERSION) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+                }
+                break;
+            case MEMBERS_FIELD:
+                readArray(parser, fieldName, JsonAdaptedMember.class, adapted -> addUnique(adapted.toModelType(),
+                        restaurantBook::hasMember, restaurantBook::addMember, MESSAGE_DUPLICATE_MEMBER));
+                notifier.sectionRead(RestaurantBookSection.MEMBERS, restaurantBook);
+                break;
+            case INGREDIENTS_FIELD:
+                readArray(parser, fieldName, JsonAdaptedIngredient.class, adapted -> {
+                    Ingredient ingredient = adapted.toModelType();
+                    addUnique(ingredient, restaurantBook::hasIngredient, restaurantBook::addIngredient,
+                            MESSAGE_DUPLICATE_INGREDIENT);
+                    ingredients.put(ingredient.getIngredientName(), ingredient);
+                });
+                notifier.sectionRead(RestaurantBookSection.INGREDIENTS, restaurantBook);
+                break;
+            case RECIPES_FIELD:
+                if (version == 1) {
+                    readArray(parser, fieldName, JsonAdaptedRecipe.class, adapted -> addUnique(adapted.toModelType(),
+                            restaurantBook::hasRecipe, restaurantBook::addRecipe, MESSAGE_DUPLICATE_RECIPE));
+                } else {
+                    readArray(parser, fieldName, JsonAdaptedRecipeV2.class, adapted -> addUnique(
+                            adapted.toModelType(ingredients), restaurantBook::hasRecipe, restaurantBook::addRecipe,
+                            MESSAGE_DUPLICATE_RECIPE));
+                }
+                notifier.sectionRead(RestaurantBookSection.RECIPES, restaurantBook);
+                break;
+            case STAFF_FIELD:
+                readArray(parser, fieldName, JsonAdaptedStaff.class, adapted -> addUnique(adapted.toModelType(),
+                        restaurantBook::hasStaff, restaurantBook::addStaff, MESSAGE_DUPLICATE_STAFF));
+                notifier.sectionRead(RestaurantBookSection.STAFF, restaurantBook);
+                break;
+            case BOOKINGS_FIELD:
+                if (version == 1) {
+                    readArray(parser, fieldName, JsonAdaptedBooking.class, adapted ->
+                            bookings.add(adapted.toModelType()));
+                } else {
+                    readArray(parser, fieldName, JsonAdaptedBookingV2.class, adapted ->
+                            bookings.add(adapted.toModelType(restaurantBook.getMemberList())));
+                }
+                if (intCapacity != null) {
+                    addBookings(restaurantBook, bookings, notifier);
+                }
+                break;
+            case CAPACITY_FIELD:
+            case CAPACITY_CREATOR_FIELD:
+                intCapacity = parser.getIntValue();
+                setCapacity(restaurantBook, intCapacity, notifier);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        if (intCapacity == null) {
+            setCapacity(restaurantBook, 0, notifier);
+        }
+        addBookings(restaurantBook, bookings, notifier);
+        return restaurantBook;
+    }
+
+    private static void setCapacity(RestaurantBook restaurantBook, int intCapacity, SectionReadNotifier notifier) {
+        try {
+            Capacity capacity = new Capacity(intCapacity);
+            restaurantBook.setCapacity(capacity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(Capacity.MESSAGE_CONSTRAINTS);
+        }
+        notifier.sectionRead(RestaurantBookSection.CAPACITY, restaurantBook);
+    }
+
+    /**
+     * Adds {@code bookings}, which have been read, to {@code restaurantBook}, whose capacity has been read, and empties
+     * {@code bookings}.
+     */
+    private static void addBookings(RestaurantBook restaurantBook, List<Booking> bookings,
+                                    SectionReadNotifier notifier) throws IllegalValueException {
+        for (Booking booking : bookings) {
+            addUnique(booking, restaurantBook::hasBooking, restaurantBook::addBooking, MESSAGE_DUPLICATE_BOOKING);
+        }
+        bookings.clear();
+        notifier.sectionRead(RestaurantBookSection.BOOKINGS, restaurantBook);
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser} one item at a time, and passes each item to
+     * {@code itemHandler}. A null array is read as an empty array.
+     */
+    private static <A> void readArray(JsonParser parser, String fieldName, Class<A> adaptedClass,
+                                      AdaptedItemHandler<A> itemHandler) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            itemHandler.handle(parser.readValueAs(adaptedClass));
+        }
+    }
+
+    private static <T> void addUnique(T item, Predicate<T> isPresent, Consumer<T> adder, String duplicateMessage)
+            throws IllegalValueException {
+        if (isPresent.test(item)) {
+            throw new IllegalValueException(duplicateMessage);
+        }
+        adder.accept(item);
+    }
+
+    /**
+     * Converts and adds an item that has been read.
+     */
+    @FunctionalInterface
+    private interface AdaptedItemHandler<A> {
+        void handle(A adapted) throws IllegalValueException;
+    }
+
 }
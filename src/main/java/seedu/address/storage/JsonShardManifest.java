@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Capacity;
+
+/**
+ * Jackson-friendly manifest of a restaurant book stored as one shard file per section.
+ * The manifest holds the capacity of the restaurant book and names the shard file that holds each section, so
+ * replacing the manifest switches from one set of shard files to another in one step.
+ */
+class JsonShardManifest {
+
+    public static final int CURRENT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Shard manifest version %1$d is not supported.";
+    public static final String MESSAGE_UNKNOWN_SECTION = "Shard manifest refers to unknown section %1$s.";
+
+    private final int version;
+    private final long generation;
+    private final int capacity;
+    private final Map<String, String> shards = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version, @JsonProperty("generation") long generation,
+                             @JsonProperty("capacity") int capacity,
+                             @JsonProperty("shards") Map<String, String> shards) {
+        this.version = version;
+        this.generation = generation;
+        this.capacity = capacity;
+        if (shards != null) {
+            this.shards.putAll(shards);
+        }
+    }
+
+    /**
+     * Constructs a manifest of the current version, in which {@code shardFiles} holds the name of the shard file of
+     * each section.
+     */
+    public JsonShardManifest(long generation, Capacity capacity, Map<RestaurantBookSection, String> shardFiles) {
+        this(CURRENT_VERSION, generation, capacity.getValue(), new HashMap<>());
+        requireNonNull(shardFiles);
+        shardFiles.forEach((section, fileName) -> shards.put(section.name(), fileName));
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the capacity of the restaurant book.
+     *
+     * @throws IllegalValueException if the manifest is of an unsupported version or the capacity is invalid.
+     */
+    public Capacity getCapacity() throws IllegalValueException {
+        checkVersion();
+        if (!Capacity.isValidCapacity(capacity)) {
+            throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
+        }
+        return new Capacity(capacity);
+    }
+
+    /**
+     * Returns the name of the shard file of each section that has one.
+     *
+     * @throws IllegalValueException if the manifest is of an unsupported version or names an unknown section.
+     */
+    public Map<RestaurantBookSection, String> getShardFiles() throws IllegalValueException {
+        checkVersion();
+        Map<RestaurantBookSection, String> shardFiles = new HashMap<>();
+        for (Map.Entry<String, String> shard : shards.entrySet()) {
+            try {
+                shardFiles.put(RestaurantBookSection.valueOf(shard.getKey()), shard.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SECTION, shard.getKey()));
+            }
+        }
+        return Collections.unmodifiableMap(shardFiles);
+    }
+
+    private void checkVersion() throws IllegalValueException {
+        if (version != CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A save of RestaurantBook data that has been prepared from the data and is yet to be written.
+ * As the data to write has already been captured, a pending save can be written from any thread while the data
+ * itself keeps changing.
+ */
+public interface PendingSave {
+
+    /**
+     * Writes the captured data to the storage.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a save with the same effect as writing this save followed by {@code later}, which was prepared after
+     * this save by the same storage, or an empty {@code Optional} if the two saves cannot be combined.
+     */
+    default Optional<PendingSave> mergeWith(PendingSave later) {
+        return Optional.empty();
+    }
+}
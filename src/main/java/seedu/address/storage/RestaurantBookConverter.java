@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyRestaurantBook;
+
+/**
+ * Converts restaurant book data files between the storage formats, so that binary, sharded and database files can
+ * still be read and edited by support, for example with {@code gradlew convertData -Pfrom=data/addressbook.bin
+ * -Pto=data/addressbook.json}.
+ * The format of a source file is detected from its content. A target file is written in the format given, or else
+ * as binary if its name ends with {@code .bin}, as a database if it ends with {@code .mv.db}, or as a plain json file
+ * otherwise.
+ */
+public class RestaurantBookConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: RestaurantBookConverter SOURCE_FILE TARGET_FILE [FORMAT]\n"
+            + "Converts SOURCE_FILE to FORMAT, which is one of JSON, BINARY, SHARDED and DATABASE. Without FORMAT, "
+            + "converts to binary if TARGET_FILE ends with " + BinaryRestaurantBookStorage.BINARY_FILE_EXTENSION
+            + ", to a database if it ends with " + DatabaseRestaurantBookStorage.DATABASE_FILE_SUFFIX
+            + ", or to json otherwise.";
+    public static final String MESSAGE_SUCCESS = "Converted %1$s to %2$s.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist.";
+    public static final String MESSAGE_CONVERSION_FAILED = "Could not convert %1$s: %2$s";
+
+    /**
+     * Converts the file given as the first argument into the file given as the second argument, in the format given
+     * as the optional third argument.
+     */
+    public static void main(String[] args) {
+        Optional<StorageFormat> targetFormat = Optional.empty();
+        try {
+            if (args.length < 2 || args.length > 3 || args[0].isEmpty() || args[1].isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            if (args.length == 3 && !args[2].isEmpty()) {
+                targetFormat = Optional.of(StorageFormat.valueOf(args[2].toUpperCase(Locale.ROOT)));
+            }
+        } catch (IllegalArgumentException iae) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            Path target = Paths.get(args[1]);
+            convert(Paths.get(args[0]), target, targetFormat.orElse(getFormatOfFileName(target)));
+        } catch (IOException | DataConversionException e) {
+            System.err.println(String.format(MESSAGE_CONVERSION_FAILED, args[0], e.getMessage()));
+            System.exit(1);
+        }
+        System.out.println(String.format(MESSAGE_SUCCESS, args[0], args[1]));
+    }
+
+    /**
+     * Reads the restaurant book in {@code source} and writes it to {@code target}, in the format chosen by the name
+     * of {@code target}.
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     * @throws IOException if {@code source} does not exist, or there was any problem reading or writing the files.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        convert(source, target, getFormatOfFileName(target));
+    }
+
+    /**
+     * Reads the restaurant book in {@code source} and writes it to {@code target} in {@code targetFormat}.
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     * @throws IOException if {@code source} does not exist, or there was any problem reading or writing the files.
+     */
+    public static void convert(Path source, Path target, StorageFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(targetFormat);
+        Optional<StorageFormat> sourceFormat = detectFormat(source);
+        if (!sourceFormat.isPresent()) {
+            throw new FileNotFoundException(String.format(MESSAGE_FILE_NOT_FOUND, source));
+        }
+
+        ReadOnlyRestaurantBook restaurantBook = createStorage(sourceFormat.get(), source).readRestaurantBook().get();
+        RestaurantBookStorage targetStorage = targetFormat == StorageFormat.JSON
+                ? new JsonRestaurantBookStorage(target)
+                : createStorage(targetFormat, target);
+        targetStorage.saveRestaurantBook(restaurantBook);
+    }
+
+    /**
+     * Returns the format of the restaurant book data file at {@code filePath}, detected from its content, or an
+     * empty {@code Optional} if there is no such file. A database is also found next to {@code filePath} if
+     * {@code filePath} does not end with {@value DatabaseRestaurantBookStorage#DATABASE_FILE_SUFFIX}, as the
+     * database storage keeps it there.
+     * @throws IOException if there was any problem reading the file.
+     */
+    public static Optional<StorageFormat> detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            Path databaseFilePath = DatabaseRestaurantBookStorage.getDatabaseFilePath(filePath);
+            boolean isDatabase = Files.isRegularFile(databaseFilePath)
+                    && DatabaseRestaurantBookStorage.isDatabaseFile(databaseFilePath);
+            return isDatabase ? Optional.of(StorageFormat.DATABASE) : Optional.empty();
+        }
+
+        if (BinaryRestaurantBookStorage.isBinaryFile(filePath)) {
+            return Optional.of(StorageFormat.BINARY);
+        } else if (DatabaseRestaurantBookStorage.isDatabaseFile(filePath)) {
+            return Optional.of(StorageFormat.DATABASE);
+        } else if (ShardedRestaurantBookStorage.isManifestFile(filePath)) {
+            return Optional.of(StorageFormat.SHARDED);
+        }
+        return Optional.of(StorageFormat.JSON);
+    }
+
+    /**
+     * Returns a storage of the data file at {@code filePath} in {@code format}, which reads a json snapshot together
+     * with its journal, and loads all the bookings of a database.
+     */
+    private static RestaurantBookStorage createStorage(StorageFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryRestaurantBookStorage(filePath);
+        case SHARDED:
+            return new ShardedRestaurantBookStorage(filePath);
+        case DATABASE:
+            return new DatabaseRestaurantBookStorage(filePath);
+        default:
+            return new JournaledRestaurantBookStorage(filePath);
+        }
+    }
+
+    private static StorageFormat getFormatOfFileName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(BinaryRestaurantBookStorage.BINARY_FILE_EXTENSION)) {
+            return StorageFormat.BINARY;
+        } else if (fileName.endsWith(DatabaseRestaurantBookStorage.DATABASE_FILE_SUFFIX)) {
+            return StorageFormat.DATABASE;
+        }
+        return StorageFormat.JSON;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
 
 /**
  * Represents a storage for {@link RestaurantBook}.
@@ -31,6 +32,18 @@ public interface RestaurantBookStorage {
      */
     Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Similar to {@link #readRestaurantBook()}, but also gives each section of the restaurant book to
+     * {@code sectionListener} as soon as it has been read, so that it can be used before the whole restaurant book
+     * has been read. By default, the sections are given once the whole restaurant book has been read.
+     */
+    default Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyRestaurantBook> restaurantBook = readRestaurantBook();
+        restaurantBook.ifPresent(new SectionReadNotifier(sectionListener)::allSectionsRead);
+        return restaurantBook;
+    }
+
     /**
      * Saves the given {@link ReadOnlyRestaurantBook} to the storage.
      * @param restaurantBook cannot be null.
@@ -43,4 +56,40 @@ public interface RestaurantBookStorage {
      */
     void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the data of {@code restaurantBook} that {@link #saveRestaurantBook(ReadOnlyRestaurantBook)} would
+     * write, and returns the save so that it can be written later, from any thread.
+     * Must be called on the thread that modifies {@code restaurantBook}.
+     * By default, a copy of the whole {@code restaurantBook} is captured, and a later save supersedes an earlier one.
+     * @param restaurantBook cannot be null.
+     */
+    default PendingSave prepareSave(ReadOnlyRestaurantBook restaurantBook) {
+        ReadOnlyRestaurantBook copy = new RestaurantBook(restaurantBook);
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                saveRestaurantBook(copy);
+            }
+
+            @Override
+            public Optional<PendingSave> mergeWith(PendingSave later) {
+                return Optional.of(later);
+            }
+        };
+    }
+
+    /**
+     * Listens for the sections of a restaurant book that is being read.
+     */
+    @FunctionalInterface
+    interface SectionListener {
+        /**
+         * Called on the reading thread once {@code section} of {@code restaurantBook}, the restaurant book being read,
+         * has been read. The section is not modified afterwards, but the sections that are still being read are, so
+         * only {@code section} may be used. The capacity is always read before the bookings, and may be used with
+         * them.
+         */
+        void sectionRead(RestaurantBookSection section, ReadOnlyRestaurantBook restaurantBook);
+    }
+
 }
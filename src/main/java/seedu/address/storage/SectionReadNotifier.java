@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.storage.RestaurantBookStorage.SectionListener;
+
+/**
+ * Gives each section of a restaurant book that is being read to a {@code SectionListener} once, as soon as the
+ * section has been read.
+ */
+class SectionReadNotifier {
+
+    private final SectionListener sectionListener;
+    private final Set<RestaurantBookSection> notifiedSections = EnumSet.noneOf(RestaurantBookSection.class);
+
+    SectionReadNotifier(SectionListener sectionListener) {
+        requireNonNull(sectionListener);
+        this.sectionListener = sectionListener;
+    }
+
+    /**
+     * Gives {@code section} of {@code restaurantBook} to the listener, unless it has been given already.
+     */
+    void sectionRead(RestaurantBookSection section, ReadOnlyRestaurantBook restaurantBook) {
+        if (notifiedSections.add(section)) {
+            sectionListener.sectionRead(section, restaurantBook);
+        }
+    }
+
+    /**
+     * Gives the sections of {@code restaurantBook}, which has been read completely, that have not been given yet to
+     * the listener, with the capacity before the bookings.
+     */
+    void allSectionsRead(ReadOnlyRestaurantBook restaurantBook) {
+        sectionRead(RestaurantBookSection.CAPACITY, restaurantBook);
+        for (RestaurantBookSection section : RestaurantBookSection.values()) {
+            sectionRead(section, restaurantBook);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+
+/**
+ * A {@code BookingArchive} that stores bookings in append-only, gzip-compressed segment files in a directory.
+ * Every call to {@link #archive(List)} writes a new segment, which is never modified afterwards. Each line of a segment
+ * holds one booking in JSON, and the name of a segment records the range of dates of its bookings so that segments
+ * outside a queried range are not opened at all. Bookings that are in the archive already are not archived again, so
+ * archiving the same bookings twice, as when they could not be removed from the data file after being archived, does
+ * not count them twice in the statistics.
+ */
+public class SegmentedBookingArchive implements BookingArchive {
+
+    public static final String ARCHIVE_DIRECTORY_NAME = "archive";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedBookingArchive.class);
+
+    private static final String SEGMENT_NAME_FORMAT = "segment-%06d_%s_%s.jsonl.gz";
+    private static final Pattern SEGMENT_NAME_PATTERN =
+            Pattern.compile("segment-(?<sequenceNumber>\\d+)_(?<firstDate>[\\d-]+)_(?<lastDate>[\\d-]+)\\.jsonl\\.gz");
+
+    private final Path archiveDirectory;
+
+    public SegmentedBookingArchive(Path archiveDirectory) {
+        requireNonNull(archiveDirectory);
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    /**
+     * Returns the directory of the archive that is kept next to the restaurant book data file at
+     * {@code restaurantBookFilePath}.
+     */
+    public static Path getArchiveDirectory(Path restaurantBookFilePath) {
+        requireNonNull(restaurantBookFilePath);
+        return restaurantBookFilePath.toAbsolutePath().resolveSibling(ARCHIVE_DIRECTORY_NAME);
+    }
+
+    /**
+     * Writes those of {@code bookings} that are not in the archive yet into a new segment of the archive.
+     * The segment is written to a temporary file first and only moved into place once it is complete, so a failed
+     * write never leaves a partial segment behind.
+     */
+    @Override
+    public void archive(List<Booking> bookings) throws IOException {
+        requireNonNull(bookings);
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        Files.createDirectories(archiveDirectory);
+        List<Segment> segments = listSegments();
+        List<Booking> newBookings = removeArchived(bookings, segments);
+        if (newBookings.isEmpty()) {
+            logger.info("All " + bookings.size() + " bookings to archive are in the archive already");
+            return;
+        }
+        int sequenceNumber = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).sequenceNumber + 1;
+        LocalDate firstDate = getFirstDate(newBookings);
+        LocalDate lastDate = getLastDate(newBookings);
+
+        Path tempFile = Files.createTempFile(archiveDirectory, "segment", ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tempFile)), UTF_8))) {
+            for (Booking booking : newBookings) {
+                writer.write(JsonUtil.toJsonLine(new JsonAdaptedBooking(booking)));
+                writer.newLine();
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        Path segmentFile = archiveDirectory.resolve(
+                String.format(SEGMENT_NAME_FORMAT, sequenceNumber, firstDate, lastDate));
+        Files.move(tempFile, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Archived " + newBookings.size() + " bookings to " + segmentFile);
+    }
+
+    /**
+     * Returns the bookings in {@code bookings} that are not in any of {@code segments}. Only the segments that overlap
+     * the dates of {@code bookings} are read.
+     */
+    private static List<Booking> removeArchived(List<Booking> bookings, List<Segment> segments) throws IOException {
+        Set<Booking> archivedBookings;
+        try (Stream<Booking> archived = readSegments(segments, getFirstDate(bookings), getLastDate(bookings))) {
+            archivedBookings = archived.collect(Collectors.toSet());
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        return bookings.stream()
+                .filter(booking -> !archivedBookings.contains(booking))
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDate getFirstDate(List<Booking> bookings) {
+        return bookings.stream().map(booking -> booking.getStartTime().toLocalDate())
+                .min(Comparator.naturalOrder()).get();
+    }
+
+    private static LocalDate getLastDate(List<Booking> bookings) {
+        return bookings.stream().map(booking -> booking.getStartTime().toLocalDate())
+                .max(Comparator.naturalOrder()).get();
+    }
+
+    /**
+     * Returns a stream of the archived bookings that start on any date from {@code startDate} to {@code endDate}
+     * inclusive, in the order they were archived. Segments are only opened when the stream reaches them, and lines
+     * that cannot be read as a booking are logged and skipped.
+     */
+    @Override
+    public Stream<Booking> readBookingsBetween(LocalDate startDate, LocalDate endDate) throws IOException {
+        requireAllNonNull(startDate, endDate);
+        return readSegments(listSegments(), startDate, endDate);
+    }
+
+    /**
+     * Returns a lazy stream of the bookings in {@code segments} that start on any date from {@code startDate} to
+     * {@code endDate} inclusive, opening only the segments that overlap those dates.
+     */
+    private static Stream<Booking> readSegments(List<Segment> segments, LocalDate startDate, LocalDate endDate) {
+        List<Path> overlappingSegments = segments.stream()
+                .filter(segment -> !segment.lastDate.isBefore(startDate) && !segment.firstDate.isAfter(endDate))
+                .map(segment -> segment.path)
+                .collect(Collectors.toList());
+
+        return overlappingSegments.stream()
+                .flatMap(SegmentedBookingArchive::readSegment)
+                .filter(booking -> {
+                    LocalDate date = booking.getStartTime().toLocalDate();
+                    return !date.isBefore(startDate) && !date.isAfter(endDate);
+                });
+    }
+
+    /**
+     * Returns the segments in the archive, sorted by the order in which they were written.
+     */
+    private List<Segment> listSegments() throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        if (!Files.isDirectory(archiveDirectory)) {
+            return segments;
+        }
+
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            files.forEach(file -> parseSegment(file).ifPresent(segments::add));
+        }
+        segments.sort(Comparator.comparingInt(segment -> segment.sequenceNumber));
+        return segments;
+    }
+
+    private static Optional<Segment> parseSegment(Path file) {
+        Matcher matcher = SEGMENT_NAME_PATTERN.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new Segment(file, Integer.parseInt(matcher.group("sequenceNumber")),
+                    LocalDate.parse(matcher.group("firstDate")), LocalDate.parse(matcher.group("lastDate"))));
+        } catch (RuntimeException e) {
+            logger.warning("Ignoring unrecognised file in booking archive: " + file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a lazy stream of the bookings in the segment {@code file}, which is closed when the stream is closed.
+     */
+    private static Stream<Booking> readSegment(Path file) {
+        BufferedReader reader;
+        try {
+            InputStream inputStream = Files.newInputStream(file);
+            try {
+                reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(inputStream), UTF_8));
+            } catch (IOException ioe) {
+                inputStream.close();
+                throw ioe;
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+
+        return reader.lines()
+                .map(line -> parseBooking(file, line))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                });
+    }
+
+    private static Optional<Booking> parseBooking(Path file, String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedBooking.class).toModelType());
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Skipping unreadable booking in " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A segment file of the archive and the range of dates of the bookings in it.
+     */
+    private static class Segment {
+        private final Path path;
+        private final int sequenceNumber;
+        private final LocalDate firstDate;
+        private final LocalDate lastDate;
+
+        Segment(Path path, int sequenceNumber, LocalDate firstDate, LocalDate lastDate) {
+            this.path = path;
+            this.sequenceNumber = sequenceNumber;
+            this.firstDate = firstDate;
+            this.lastDate = lastDate;
+        }
+    }
+}
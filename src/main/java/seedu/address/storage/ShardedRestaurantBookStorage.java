@@ -0,0 +1,486 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
+
+/**
+ * A class to access RestaurantBook data stored as one json shard file per section, such as the members or the
+ * bookings, and a small json manifest that names the shard file of each section and holds the capacity.
+ * <p>
+ * The shards are kept in a directory next to the manifest. Each shard is self-contained, so the shards are read in
+ * parallel. Saving a restaurant book that was last saved by this storage only rewrites the shards of the sections
+ * that have been modified since, as recorded by {@link RestaurantBook#getModificationCount}, along with the manifest.
+ * <p>
+ * Each save writes its shards to new files named after the generation of the manifest, and only then replaces the
+ * manifest, so an interrupted save leaves the previous manifest and all of its shards in place. The shards that are
+ * no longer named by the manifest are deleted afterwards.
+ */
+public class ShardedRestaurantBookStorage implements RestaurantBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+
+    /** The fields of a shard manifest that a json restaurant book does not have. */
+    private static final Set<String> MANIFEST_ONLY_FIELDS = new HashSet<>(Arrays.asList("generation", "shards"));
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %1$s named by the manifest is missing.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Shard file %1$s should hold a JSON array.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedRestaurantBookStorage.class);
+
+    private static final List<Shard<?, ?>> SHARDS = Arrays.asList(
+            new Shard<>(RestaurantBookSection.MEMBERS, JsonAdaptedMember.class, JsonAdaptedMember::new,
+                    JsonAdaptedMember::toModelType, ReadOnlyRestaurantBook::getMemberList, RestaurantBook::setMembers),
+            new Shard<>(RestaurantBookSection.BOOKINGS, JsonAdaptedBooking.class, JsonAdaptedBooking::new,
+                    JsonAdaptedBooking::toModelType, ReadOnlyRestaurantBook::getBookingList,
+                    RestaurantBook::setBookings),
+            new Shard<>(RestaurantBookSection.INGREDIENTS, JsonAdaptedIngredient.class, JsonAdaptedIngredient::new,
+                    JsonAdaptedIngredient::toModelType, ReadOnlyRestaurantBook::getIngredientList,
+                    RestaurantBook::setIngredients),
+            new Shard<>(RestaurantBookSection.RECIPES, JsonAdaptedRecipe.class, JsonAdaptedRecipe::new,
+                    JsonAdaptedRecipe::toModelType, ReadOnlyRestaurantBook::getRecipeList,
+                    RestaurantBook::setRecipes),
+            new Shard<>(RestaurantBookSection.STAFF, JsonAdaptedStaff.class, JsonAdaptedStaff::new,
+                    JsonAdaptedStaff::toModelType, ReadOnlyRestaurantBook::getStaffList,
+                    RestaurantBook::setStaffList));
+
+    private final Path filePath;
+    private final Map<RestaurantBookSection, Long> savedModificationCounts =
+            new EnumMap<>(RestaurantBookSection.class);
+
+    /** The restaurant book whose modifications are being tracked, or null if the next save must write all shards. */
+    private ReadOnlyRestaurantBook trackedBook;
+    /** Whether a save may have failed to write some modified sections, so the next save must write all shards. */
+    private volatile boolean isSaveFailed;
+    /** The manifest last read from or written to the file path of this storage, if any. */
+    private JsonShardManifest manifest;
+
+    public ShardedRestaurantBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the directory that holds the shards of the manifest at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a shard manifest rather than a json restaurant book.
+     * Only the fields up to the first list are read, as a manifest holds no lists while every json restaurant book
+     * starts with one right after its version.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (MANIFEST_ONLY_FIELDS.contains(parser.getCurrentName())) {
+                    return true;
+                }
+                if (parser.nextToken() == JsonToken.START_ARRAY) {
+                    return false;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        } catch (JsonParseException jpe) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getRestaurantBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook() throws DataConversionException, IOException {
+        return readRestaurantBook(filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#readRestaurantBook()}.
+     *
+     * @param filePath location of the manifest, next to which its shards are kept. Cannot be null.
+     * @throws DataConversionException if the manifest or any of its shards is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier((section, restaurantBook) -> { }));
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        return readRestaurantBook(filePath, new SectionReadNotifier(sectionListener));
+    }
+
+    private Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath, SectionReadNotifier notifier)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<JsonShardManifest> readManifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!readManifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        RestaurantBook restaurantBook;
+        try {
+            restaurantBook = readShards(readManifest.get(), getShardDirectoryPath(filePath), notifier);
+        } catch (IllegalValueException | DuplicateItemException | RestaurantOverbookedException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        if (filePath.equals(this.filePath)) {
+            synchronized (this) {
+                manifest = readManifest.get();
+            }
+        }
+        return Optional.of(restaurantBook);
+    }
+
+    /**
+     * Reads the shards named by {@code manifest} from {@code shardDirectory} in parallel, and puts them together
+     * into a restaurant book, giving each section to {@code notifier} as soon as it and the sections before it have
+     * been read. Sections without a shard are empty.
+     */
+    private static RestaurantBook readShards(JsonShardManifest manifest, Path shardDirectory,
+                                             SectionReadNotifier notifier)
+            throws IllegalValueException, DataConversionException, IOException {
+        Map<RestaurantBookSection, String> shardFiles = manifest.getShardFiles();
+        Capacity capacity = manifest.getCapacity();
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(SHARDS.size(), Runtime.getRuntime().availableProcessors())));
+        Map<RestaurantBookSection, Future<Consumer<RestaurantBook>>> readShards = new LinkedHashMap<>();
+        try {
+            for (Shard<?, ?> shard : SHARDS) {
+                String shardFile = shardFiles.get(shard.section);
+                if (shardFile != null) {
+                    readShards.put(shard.section, executor.submit(() -> shard.read(shardDirectory.resolve(shardFile))));
+                }
+            }
+
+            RestaurantBook restaurantBook = new RestaurantBook();
+            for (Map.Entry<RestaurantBookSection, Future<Consumer<RestaurantBook>>> readShard
+                    : readShards.entrySet()) {
+                getShard(readShard.getValue()).accept(restaurantBook);
+                if (readShard.getKey() == RestaurantBookSection.BOOKINGS) {
+                    // the bookings are given with their capacity
+                    restaurantBook.setCapacity(capacity);
+                    notifier.sectionRead(RestaurantBookSection.CAPACITY, restaurantBook);
+                }
+                notifier.sectionRead(readShard.getKey(), restaurantBook);
+            }
+            if (!readShards.containsKey(RestaurantBookSection.BOOKINGS)) {
+                restaurantBook.setCapacity(capacity);
+            }
+            notifier.allSectionsRead(restaurantBook);
+            return restaurantBook;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for {@code readShard} and returns its result, rethrowing the exception that it failed with.
+     */
+    private static Consumer<RestaurantBook> getShard(Future<Consumer<RestaurantBook>> readShard)
+            throws IllegalValueException, DataConversionException, IOException {
+        try {
+            return readShard.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the shards", ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            }
+            if (cause instanceof IOException) {
+                logger.warning("Error reading shard: " + cause);
+                throw new DataConversionException((IOException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException {
+        prepareSave(restaurantBook).write();
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#saveRestaurantBook(ReadOnlyRestaurantBook)}.
+     * Saves to the file path of this storage only write the modified sections, while all the shards are written to
+     * any other path.
+     *
+     * @param filePath location of the manifest, next to which its shards are kept. Cannot be null.
+     */
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+        requireNonNull(restaurantBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveRestaurantBook(restaurantBook);
+            return;
+        }
+        Map<RestaurantBookSection, FileUtil.StreamWriter> shardWriters = new EnumMap<>(RestaurantBookSection.class);
+        SHARDS.forEach(shard -> shardWriters.put(shard.section, shard.capture(restaurantBook)));
+        writeShards(filePath, readManifestQuietly(filePath), shardWriters, restaurantBook.getCapacity());
+    }
+
+    /**
+     * Captures the sections of {@code restaurantBook} that have been modified since it was last saved by this
+     * storage, or all of its sections if it was not, or if the previous save failed.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyRestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        boolean isFullSave = restaurantBook != trackedBook || isSaveFailed
+                || !(restaurantBook instanceof RestaurantBook);
+        trackedBook = restaurantBook;
+        isSaveFailed = false;
+
+        Map<RestaurantBookSection, FileUtil.StreamWriter> shardWriters = new EnumMap<>(RestaurantBookSection.class);
+        for (Shard<?, ?> shard : SHARDS) {
+            if (isFullSave || isModified(restaurantBook, shard.section)) {
+                shardWriters.put(shard.section, shard.capture(restaurantBook));
+            }
+        }
+        if (restaurantBook instanceof RestaurantBook) {
+            for (RestaurantBookSection section : RestaurantBookSection.values()) {
+                savedModificationCounts.put(section, ((RestaurantBook) restaurantBook).getModificationCount(section));
+            }
+        }
+        return new ShardSave(shardWriters, restaurantBook.getCapacity(), isFullSave);
+    }
+
+    private boolean isModified(ReadOnlyRestaurantBook restaurantBook, RestaurantBookSection section) {
+        Long savedModificationCount = savedModificationCounts.get(section);
+        return savedModificationCount == null
+                || savedModificationCount != ((RestaurantBook) restaurantBook).getModificationCount(section);
+    }
+
+    /**
+     * Writes the shards of {@code shardWriters} as the next generation after {@code previousManifest}, then replaces
+     * the manifest at {@code filePath} with one that names them along with the shards of {@code previousManifest}
+     * that were not rewritten, and returns it. The shards that are no longer named are deleted.
+     */
+    private static JsonShardManifest writeShards(Path filePath, Optional<JsonShardManifest> previousManifest,
+                                                 Map<RestaurantBookSection, FileUtil.StreamWriter> shardWriters,
+                                                 Capacity capacity) throws IOException {
+        long generation = previousManifest.map(JsonShardManifest::getGeneration).orElse(0L) + 1;
+        Map<RestaurantBookSection, String> previousShardFiles = new HashMap<>();
+        if (previousManifest.isPresent()) {
+            try {
+                previousShardFiles.putAll(previousManifest.get().getShardFiles());
+            } catch (IllegalValueException e) {
+                logger.warning("Ignoring the shards of the unreadable manifest " + filePath);
+            }
+        }
+
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Map<RestaurantBookSection, String> shardFiles = new HashMap<>(previousShardFiles);
+        for (Map.Entry<RestaurantBookSection, FileUtil.StreamWriter> shardWriter : shardWriters.entrySet()) {
+            String shardFile = shardFileName(shardWriter.getKey(), generation);
+            FileUtil.writeAtomically(shardDirectory.resolve(shardFile), shardWriter.getValue());
+            shardFiles.put(shardWriter.getKey(), shardFile);
+        }
+        JsonShardManifest newManifest = new JsonShardManifest(generation, capacity, shardFiles);
+        JsonUtil.saveJsonFile(newManifest, filePath);
+
+        Set<String> supersededShardFiles = new HashSet<>(previousShardFiles.values());
+        supersededShardFiles.removeAll(shardFiles.values());
+        for (String shardFile : supersededShardFiles) {
+            try {
+                Files.deleteIfExists(shardDirectory.resolve(shardFile));
+            } catch (IOException ioe) {
+                logger.warning("Failed to delete superseded shard " + shardFile + ": " + ioe);
+            }
+        }
+        return newManifest;
+    }
+
+    private static String shardFileName(RestaurantBookSection section, long generation) {
+        return section.name().toLowerCase(Locale.ROOT) + "-" + generation + ".json";
+    }
+
+    /**
+     * Returns the manifest at {@code filePath}, or an empty {@code Optional} if there is none or it cannot be read.
+     */
+    private static Optional<JsonShardManifest> readManifestQuietly(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        } catch (DataConversionException e) {
+            logger.warning("Overwriting the unreadable manifest " + filePath);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A pending save of the shards of some sections and the manifest.
+     */
+    private class ShardSave implements PendingSave {
+        private final Map<RestaurantBookSection, FileUtil.StreamWriter> shardWriters;
+        private final Capacity capacity;
+        private final boolean isFullSave;
+
+        ShardSave(Map<RestaurantBookSection, FileUtil.StreamWriter> shardWriters, Capacity capacity,
+                  boolean isFullSave) {
+            this.shardWriters = shardWriters;
+            this.capacity = capacity;
+            this.isFullSave = isFullSave;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (!isFullSave && isSaveFailed) {
+                // the next save writes all the shards anyway
+                return;
+            }
+            synchronized (ShardedRestaurantBookStorage.this) {
+                Optional<JsonShardManifest> previousManifest = isFullSave
+                        ? readManifestQuietly(filePath)
+                        : Optional.ofNullable(manifest);
+                try {
+                    manifest = writeShards(filePath, previousManifest, shardWriters, capacity);
+                } catch (IOException ioe) {
+                    // the modified sections may not have been written, so the next save writes all the shards
+                    isSaveFailed = true;
+                    throw ioe;
+                }
+            }
+        }
+
+        @Override
+        public Optional<PendingSave> mergeWith(PendingSave later) {
+            if (!(later instanceof ShardSave)) {
+                return Optional.empty();
+            }
+            ShardSave laterSave = (ShardSave) later;
+            Map<RestaurantBookSection, FileUtil.StreamWriter> mergedWriters = new EnumMap<>(shardWriters);
+            mergedWriters.putAll(laterSave.shardWriters);
+            return Optional.of(new ShardSave(mergedWriters, laterSave.capacity, isFullSave || laterSave.isFullSave));
+        }
+    }
+
+    /**
+     * Converts the items of one section between the model and a shard file.
+     *
+     * @param <T> the type of the items in the model.
+     * @param <A> the Jackson-friendly type of the items in the shard file.
+     */
+    private static class Shard<T, A> {
+        private final RestaurantBookSection section;
+        private final Class<A> adaptedClass;
+        private final Function<T, A> adapter;
+        private final ModelConverter<A, T> converter;
+        private final Function<ReadOnlyRestaurantBook, List<T>> itemsOf;
+        private final BiConsumer<RestaurantBook, List<T>> setter;
+
+        Shard(RestaurantBookSection section, Class<A> adaptedClass, Function<T, A> adapter,
+              ModelConverter<A, T> converter, Function<ReadOnlyRestaurantBook, List<T>> itemsOf,
+              BiConsumer<RestaurantBook, List<T>> setter) {
+            this.section = section;
+            this.adaptedClass = adaptedClass;
+            this.adapter = adapter;
+            this.converter = converter;
+            this.itemsOf = itemsOf;
+            this.setter = setter;
+        }
+
+        /**
+         * Copies the items of this section of {@code restaurantBook}, and returns a writer of them as a shard file.
+         */
+        FileUtil.StreamWriter capture(ReadOnlyRestaurantBook restaurantBook) {
+            List<T> items = new ArrayList<>(itemsOf.apply(restaurantBook));
+            return out -> {
+                try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                    generator.writeStartArray();
+                    for (T item : items) {
+                        generator.writeObject(adapter.apply(item));
+                    }
+                    generator.writeEndArray();
+                }
+            };
+        }
+
+        /**
+         * Reads the items of the shard file at {@code shardFile}, and returns a setter of them as this section of a
+         * restaurant book.
+         */
+        Consumer<RestaurantBook> read(Path shardFile) throws IOException, IllegalValueException {
+            if (!Files.exists(shardFile)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFile.getFileName()));
+            }
+            List<T> items = new ArrayList<>();
+            try (InputStream in = Files.newInputStream(shardFile); JsonParser parser = JsonUtil.createParser(in)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY,
+                            shardFile.getFileName()));
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    items.add(converter.toModelType(parser.readValueAs(adaptedClass)));
+                }
+            }
+            return restaurantBook -> setter.accept(restaurantBook, items);
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly item into the model's item.
+     */
+    @FunctionalInterface
+    private interface ModelConverter<A, T> {
+        T toModelType(A adapted) throws IllegalValueException;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyRestaurantBook;
@@ -29,4 +30,16 @@ public interface Storage extends RestaurantBookStorage, UserPrefsStorage {
     @Override
     void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException;
 
+    /**
+     * Waits until all the saves of the RestaurantBook data have been written.
+     * @throws IOException if the last save could not be written.
+     */
+    void flushRestaurantBook() throws IOException;
+
+    /**
+     * Sets the handler that is passed the failures of saves of the RestaurantBook data that are written in the
+     * background. The handler is called on the thread that writes the saves.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
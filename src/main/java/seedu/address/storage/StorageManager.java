@@ -3,28 +3,42 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SavePolicy;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of RestaurantBook data in local storage.
+ * Saves of the RestaurantBook data to its own file path are handed to a {@code BackgroundSaver}, which writes them
+ * as set by its {@code SavePolicy}.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private RestaurantBookStorage restaurantBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundSaver restaurantBookSaver;
 
-
+    /**
+     * Creates a {@code StorageManager} that writes each save of the RestaurantBook data before returning.
+     */
     public StorageManager(RestaurantBookStorage restaurantBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(restaurantBookStorage, userPrefsStorage, new BackgroundSaver(SavePolicy.FSYNC, 0));
+    }
+
+    public StorageManager(RestaurantBookStorage restaurantBookStorage, UserPrefsStorage userPrefsStorage,
+                          BackgroundSaver restaurantBookSaver) {
         super();
         this.restaurantBookStorage = restaurantBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.restaurantBookSaver = restaurantBookSaver;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,18 +75,51 @@ public class StorageManager implements Storage {
     public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
         throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        flushQueuedSaves();
         return restaurantBookStorage.readRestaurantBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBookInSections(SectionListener sectionListener)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + restaurantBookStorage.getRestaurantBookFilePath());
+        flushQueuedSaves();
+        return restaurantBookStorage.readRestaurantBookInSections(sectionListener);
+    }
+
     @Override
     public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException {
-        saveRestaurantBook(restaurantBook, restaurantBookStorage.getRestaurantBookFilePath());
+        logger.fine("Queueing save to data file: " + restaurantBookStorage.getRestaurantBookFilePath());
+        restaurantBookSaver.submit(restaurantBookStorage.prepareSave(restaurantBook));
     }
 
     @Override
     public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        flushQueuedSaves();
         restaurantBookStorage.saveRestaurantBook(restaurantBook, filePath);
     }
 
+    @Override
+    public void flushRestaurantBook() throws IOException {
+        restaurantBookSaver.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        restaurantBookSaver.setFailureHandler(handler);
+    }
+
+    /**
+     * Writes the queued saves before the data files are accessed directly. Their failures have already been passed
+     * to the save failure handler, so they are only logged here.
+     */
+    private void flushQueuedSaves() {
+        try {
+            restaurantBookSaver.flush();
+        } catch (IOException ioe) {
+            logger.warning("Failed to write the queued saves : " + StringUtil.getDetails(ioe));
+        }
+    }
+
 }
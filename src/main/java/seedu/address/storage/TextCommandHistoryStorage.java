@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A {@code CommandHistoryStorage} that appends the commands to a text file, one command per line.
+ * Entering a command usually only appends a line. The file is rewritten with only the most recent commands once it
+ * holds more than twice as many commands as were last read, either when the history is read or when a command is
+ * appended, so the file does not grow without bound while the app runs. As the file is only rewritten after every so
+ * many commands, appending a command still takes constant time on average.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    public static final String COMMAND_HISTORY_FILE_NAME = "commandhistory.txt";
+
+    /** How many times more commands than are read the file may hold before it is rewritten. */
+    private static final int COMPACTION_FACTOR = 2;
+
+    private final Path filePath;
+    /** The number of commands last read, which is how many are kept when the file is rewritten, or 0 if none. */
+    private int keptCommands;
+    /** The number of commands in the file, as counted by the last read and the appends since. */
+    private long commandCount;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the command history file that is kept next to the restaurant book data file at
+     * {@code restaurantBookFilePath}.
+     */
+    public static Path getCommandHistoryFilePath(Path restaurantBookFilePath) {
+        requireNonNull(restaurantBookFilePath);
+        return restaurantBookFilePath.toAbsolutePath().resolveSibling(COMMAND_HISTORY_FILE_NAME);
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory(int maxCommands) throws IOException {
+        keptCommands = maxCommands;
+        commandCount = 0;
+        if (!Files.exists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        Deque<String> commands = new ArrayDeque<>();
+        long lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                commands.addLast(line);
+                if (commands.size() > maxCommands) {
+                    commands.removeFirst();
+                }
+            }
+        }
+
+        commandCount = lineCount;
+        if (lineCount > (long) maxCommands * COMPACTION_FACTOR) {
+            FileUtil.writeAtomically(filePath, out -> {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+                for (String command : commands) {
+                    writer.write(command);
+                    writer.write('\n');
+                }
+                writer.flush();
+            });
+            commandCount = commands.size();
+        }
+        return new ArrayList<>(commands);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Line breaks in {@code commandText} are stored as spaces, as each line of the file holds one command.
+     * The file is rewritten with only the most recent commands if it has grown to more than twice as many commands as
+     * were last read.
+     */
+    @Override
+    public void appendCommand(String commandText) throws IOException {
+        requireNonNull(commandText);
+        String line = commandText.replace('\r', ' ').replace('\n', ' ') + "\n";
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, line.getBytes(UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        commandCount++;
+
+        if (keptCommands > 0 && commandCount > (long) keptCommands * COMPACTION_FACTOR) {
+            readCommandHistory(keptCommands);
+        }
+    }
+}
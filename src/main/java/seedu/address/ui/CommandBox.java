@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.Collections;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -20,19 +21,49 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final HistorySearcher historySearcher;
     private final List<String> history;
-    private ListElementPointer historySnapshot;
+    /** The position in {@code history} of the input shown, which is {@code history.size()} for a new input. */
+    private int historyIndex;
+    /** The text that Ctrl-R searches the history for, while the input is {@code lastSearchMatch}. */
+    private String searchQuery;
+    private String lastSearchMatch;
+    /** The completions of the input that the tab key cycles through, starting at {@code nextSuggestion}. */
+    private List<String> suggestions = Collections.emptyList();
+    private int nextSuggestion;
+    private String lastCompletion;
 
     @FXML
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this(commandExecutor, history, commandText -> Collections.emptyList());
+    }
+
+    /**
+     * Creates a {@code CommandBox} that executes commands with {@code commandExecutor}, and completes the input with
+     * {@code commandCompleter} when the tab key is pressed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, List<String> history, CommandCompleter commandCompleter) {
+        this(commandExecutor, history, commandCompleter, (query, beforeIndex) -> -1);
+    }
+
+    /**
+     * Creates a {@code CommandBox} that executes commands with {@code commandExecutor}, completes the input with
+     * {@code commandCompleter} when the tab key is pressed, and searches {@code history}, the live list of entered
+     * commands, with {@code historySearcher} when Ctrl-R is pressed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, List<String> history, CommandCompleter commandCompleter,
+            HistorySearcher historySearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
+        this.historySearcher = historySearcher;
         this.history = history;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
-        historySnapshot = new ListElementPointer(history);
+        historyIndex = history.size();
     }
 
     /**
@@ -52,35 +83,96 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // consuming it keeps the focus in the command box
+            keyEvent.consume();
+            completeInput();
+            break;
+        case R:
+            if (!keyEvent.isControlDown()) {
+                break;
+            }
+            keyEvent.consume();
+            searchHistory();
+            break;
         default:
             // let JavaFx handle the keypress
         }
     }
 
     /**
-     * Updates the text field with the previous input in {@code historySnapshot},
-     * if there exists a previous input in {@code historySnapshot}
+     * Updates the text field with the previous input in {@code history},
+     * if there exists a previous input in {@code history}
      */
     private void navigateToPreviousInput() {
-        assert historySnapshot != null;
-        if (!historySnapshot.hasPrevious()) {
+        if (historyIndex <= 0) {
             return;
         }
 
-        replaceText(historySnapshot.previous());
+        historyIndex = Math.min(historyIndex, history.size()) - 1;
+        replaceText(history.get(historyIndex));
     }
 
     /**
-     * Updates the text field with the next input in {@code historySnapshot},
-     * if there exists a next input in {@code historySnapshot}
+     * Updates the text field with the next input in {@code history}, or clears it after the most recent input,
+     * if the text field does not show a new input already
      */
     private void navigateToNextInput() {
-        assert historySnapshot != null;
-        if (!historySnapshot.hasNext()) {
+        if (historyIndex >= history.size()) {
             return;
         }
 
-        replaceText(historySnapshot.next());
+        historyIndex++;
+        replaceText(historyIndex < history.size() ? history.get(historyIndex) : "");
+    }
+
+    /**
+     * Replaces the input with the most recent command in the history that contains it, ignoring case. Pressing Ctrl-R
+     * again right after goes on to older commands that contain the same text.
+     */
+    private void searchHistory() {
+        String text = commandTextField.getText();
+        if (!text.equals(lastSearchMatch)) {
+            searchQuery = text;
+            lastSearchMatch = null;
+            historyIndex = history.size();
+        }
+        if (searchQuery.isEmpty()) {
+            return;
+        }
+
+        int matchIndex = historySearcher.search(searchQuery, historyIndex);
+        while (matchIndex != -1 && history.get(matchIndex).equals(lastSearchMatch)) {
+            // skips the older entries of the command shown
+            matchIndex = historySearcher.search(searchQuery, matchIndex);
+        }
+        if (matchIndex == -1) {
+            setStyleToIndicateCommandFailure();
+            return;
+        }
+
+        historyIndex = matchIndex;
+        lastSearchMatch = history.get(matchIndex);
+        replaceText(lastSearchMatch);
+    }
+
+    /**
+     * Replaces the input with its next completion. Pressing tab again right after cycles through the other completions
+     * of the same input.
+     */
+    private void completeInput() {
+        String text = commandTextField.getText();
+        if (!text.equals(lastCompletion)) {
+            suggestions = commandCompleter.suggest(text);
+            nextSuggestion = 0;
+        }
+        if (suggestions.isEmpty()) {
+            return;
+        }
+
+        lastCompletion = suggestions.get(nextSuggestion);
+        nextSuggestion = (nextSuggestion + 1) % suggestions.size();
+        replaceText(lastCompletion);
     }
 
     /**
@@ -97,27 +189,18 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        lastSearchMatch = null;
         try {
             commandExecutor.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
+            historyIndex = history.size();
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
-            initHistory();
+            // the failed command, which is still shown, is the most recent command in the history
+            historyIndex = history.size() - 1;
             setStyleToIndicateCommandFailure();
         }
     }
 
-    /**
-     * Initializes the history snapshot.
-     */
-    private void initHistory() {
-        historySnapshot = new ListElementPointer(history);
-        // add an empty string to represent the most-recent end of historySnapshot, to be shown to
-        // the user if she tries to navigate past the most-recent end of the historySnapshot.
-        historySnapshot.add("");
-    }
-
     /**
      * Sets the command box style to use the default style.
      */
@@ -151,4 +234,31 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of partly typed commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completions of the command typed so far.
+         *
+         * @see seedu.address.logic.Logic#suggestCompletions(String)
+         */
+        List<String> suggest(String commandText);
+    }
+
+    /**
+     * Represents a function that searches the history of entered commands.
+     */
+    @FunctionalInterface
+    public interface HistorySearcher {
+        /**
+         * Returns the index in the history of the most recent command before {@code beforeIndex} that contains
+         * {@code query}, or -1 if there is no such command.
+         *
+         * @see seedu.address.logic.Logic#searchHistory(String, int)
+         */
+        int search(String query, int beforeIndex);
+    }
+
 }
@@ -17,6 +17,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVE_FAILED = "Failed to save at %s";
 
     /**
      * Used to generate time stamps.
@@ -66,4 +67,12 @@ public class StatusBarFooter extends UiPart<Region> {
         syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
+    /**
+     * Shows that the data could not be saved at the current time.
+     */
+    public void showSaveFailure() {
+        String failedAt = new Date(clock.millis()).toString();
+        syncStatus.setText(String.format(SYNC_STATUS_SAVE_FAILED, failedAt));
+    }
+
 }
@@ -33,6 +33,18 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.type(KeyCode.ENTER);
     }
 
+    /**
+     * Enters the given text in the Command Box without running it.
+     */
+    public void enterText(String text) {
+        click();
+        guiRobot.interact(() -> {
+            getRootNode().setText(text);
+            getRootNode().positionCaret(text.length());
+        });
+        guiRobot.pauseForHuman();
+    }
+
     /**
      * Returns the list of style classes present in the command box.
      */
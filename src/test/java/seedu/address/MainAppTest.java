@@ -0,0 +1,110 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.storage.BinaryRestaurantBookStorage;
+import seedu.address.storage.JournaledRestaurantBookStorage;
+import seedu.address.storage.JsonRestaurantBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RestaurantBookStorage;
+import seedu.address.storage.SegmentedBookingArchive;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalBookings;
+
+public class MainAppTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void archivePastBookings_savingDataFileFails_bookingsArchivedOnce() throws Exception {
+        Path dataFilePath = testFolder.getRoot().toPath().resolve("data.json");
+        BookingArchive bookingArchive =
+                new SegmentedBookingArchive(SegmentedBookingArchive.getArchiveDirectory(dataFilePath));
+        Storage storage = new StorageManager(new JsonRestaurantBookIoExceptionThrowingStub(dataFilePath),
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json")));
+        RestaurantBook restaurantBook = TypicalBookings.getTypicalAddressBook();
+        List<Booking> pastBookings = new ArrayList<>(restaurantBook.getBookingList());
+
+        ReadOnlyRestaurantBook liveData = MainApp.archivePastBookings(restaurantBook, bookingArchive, storage, 1);
+        assertEquals(0, liveData.getBookingList().size());
+
+        // the data file still holds the archived bookings, so they are archived again on the next start
+        liveData = MainApp.archivePastBookings(restaurantBook, bookingArchive, storage, 1);
+        assertEquals(0, liveData.getBookingList().size());
+        try (Stream<Booking> archivedBookings = bookingArchive.readBookingsBetween(LocalDate.MIN, LocalDate.now())) {
+            assertEquals(pastBookings, archivedBookings.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void archivePastBookings_zeroHorizon_nothingArchived() throws Exception {
+        Path dataFilePath = testFolder.getRoot().toPath().resolve("data.json");
+        RestaurantBook restaurantBook = TypicalBookings.getTypicalAddressBook();
+
+        assertEquals(restaurantBook, MainApp.archivePastBookings(restaurantBook, BookingArchive.none(),
+                new StorageManager(new JsonRestaurantBookIoExceptionThrowingStub(dataFilePath),
+                        new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json"))), 0));
+        assertFalse(restaurantBook.getBookingList().isEmpty());
+    }
+
+    @Test
+    public void initRestaurantBookStorage_dataFileInOtherFormat_formatOfDataFileUsed() throws Exception {
+        Path dataFilePath = testFolder.getRoot().toPath().resolve("data.json");
+        RestaurantBook restaurantBook = TypicalBookings.getTypicalAddressBook();
+        new JsonRestaurantBookStorage(dataFilePath).saveRestaurantBook(restaurantBook);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRestaurantBookFilePath(dataFilePath);
+        userPrefs.setStorageFormat(StorageFormat.BINARY);
+
+        RestaurantBookStorage storage = MainApp.initRestaurantBookStorage(userPrefs);
+        assertTrue(storage instanceof JournaledRestaurantBookStorage);
+        assertEquals(restaurantBook, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void initRestaurantBookStorage_noDataFile_formatOfUserPrefsUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRestaurantBookFilePath(testFolder.getRoot().toPath().resolve("data.bin"));
+        userPrefs.setStorageFormat(StorageFormat.BINARY);
+
+        assertTrue(MainApp.initRestaurantBookStorage(userPrefs) instanceof BinaryRestaurantBookStorage);
+    }
+
+    /**
+     * A storage that fails to save the restaurant book.
+     */
+    private static class JsonRestaurantBookIoExceptionThrowingStub extends JsonRestaurantBookStorage {
+        private JsonRestaurantBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
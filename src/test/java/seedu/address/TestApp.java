@@ -65,6 +65,8 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.setGuiSettings(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setRestaurantBookFilePath(saveFileLocation);
+        // the typical bookings are in the past, so they must not be archived on startup
+        userPrefs.setArchiveHorizonDays(0);
         return userPrefs;
     }
 
@@ -8,9 +8,16 @@ import static org.junit.Assert.assertTrue;
 import java.util.Arrays;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.TextCommandHistoryStorage;
 
 public class CommandHistoryTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private CommandHistory history;
 
     @Before
@@ -36,6 +43,65 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_historyFull_leastRecentCommandDropped() {
+        CommandHistory boundedHistory = new CommandHistory(3);
+        for (String command : Arrays.asList("listmembers", "addmember n/Alice", "clear", "addmember n/Bob")) {
+            boundedHistory.add(command);
+        }
+
+        assertEquals(Arrays.asList("addmember n/Alice", "clear", "addmember n/Bob"), boundedHistory.getHistory());
+        assertEquals(-1, boundedHistory.search("listmembers", 3));
+        assertEquals(0, boundedHistory.search("alice", 3));
+    }
+
+    @Test
+    public void search() {
+        for (String command : Arrays.asList("addmember n/Alice", "listmembers", "addbooking c/1", "ADDMEMBER n/Bob")) {
+            history.add(command);
+        }
+
+        // most recent match, ignoring case
+        assertEquals(3, history.search("addmember", 4));
+        // older match
+        assertEquals(0, history.search("addmember", 3));
+        // no older match
+        assertEquals(-1, history.search("addmember", 0));
+        // query shorter than a trigram
+        assertEquals(1, history.search("li", 4));
+        // no match
+        assertEquals(-1, history.search("deletemember", 4));
+        // every trigram of the query occurs, but not the query
+        assertEquals(-1, history.search("addmembers", 4));
+    }
+
+    @Test
+    public void search_manyCommandsDropped_onlyKeptCommandsFound() {
+        CommandHistory boundedHistory = new CommandHistory(100);
+        // builds the index, so that it drops the commands dropped from the history
+        boundedHistory.search("listmembers", 0);
+        for (int i = 0; i < 5000; i++) {
+            boundedHistory.add("listmembers n/Member" + i);
+        }
+
+        assertEquals(-1, boundedHistory.search("member4899", 100));
+        assertEquals(0, boundedHistory.search("member4900", 100));
+        assertEquals(99, boundedHistory.search("MEMBER4999", 100));
+    }
+
+    @Test
+    public void constructor_withStorage_commandsReadAndAppended() throws Exception {
+        TextCommandHistoryStorage storage =
+                new TextCommandHistoryStorage(temporaryFolder.getRoot().toPath().resolve("commandhistory.txt"));
+        CommandHistory historyWithStorage = new CommandHistory(2, storage);
+        historyWithStorage.add("listmembers");
+        historyWithStorage.add("clear");
+        historyWithStorage.add("history");
+
+        assertEquals(Arrays.asList("clear", "history"), new CommandHistory(2, storage).getHistory());
+        assertEquals(Arrays.asList("listmembers", "clear", "history"), storage.readCommandHistory(3));
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
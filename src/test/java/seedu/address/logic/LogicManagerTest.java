@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.PERSON_EMAIL_DESC_AMY;
@@ -10,6 +11,12 @@ import static seedu.address.testutil.TypicalMembers.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -27,6 +34,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.member.Member;
 import seedu.address.storage.JsonRestaurantBookStorage;
@@ -99,6 +107,33 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_restaurantBookLoading_commandQueuedUntilLoaded() throws Exception {
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        RestaurantBookLoader loader = new RestaurantBookLoader(model, uiTasks::add);
+        JsonRestaurantBookStorage addressBookStorage =
+                new JsonRestaurantBookStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), loader);
+        List<CommandResult> queuedCommandResults = new ArrayList<>();
+        logic.setQueuedCommandCallback(queuedCommandResults::add);
+        loader.start(sectionListener -> new RestaurantBook());
+
+        String addCommand = AddMemberCommand.COMMAND_WORD + PERSON_NAME_DESC_AMY
+                + PERSON_PHONE_DESC_AMY + PERSON_EMAIL_DESC_AMY;
+        assertEquals(LogicManager.MESSAGE_COMMAND_QUEUED, logic.execute(addCommand).getFeedbackToUser());
+        assertTrue(model.getFilteredMemberList().isEmpty());
+
+        while (!loader.isLoaded()) {
+            uiTasks.poll(5, TimeUnit.SECONDS).run();
+        }
+        assertEquals(Collections.singletonList(new MemberBuilder(AMY).build()), model.getFilteredMemberList());
+        assertEquals(1, queuedCommandResults.size());
+        assertEquals(String.format(AddMemberCommand.MESSAGE_SUCCESS, model.getFilteredMemberList().get(0)),
+                queuedCommandResults.get(0).getFeedbackToUser());
+        assertEquals(new RestaurantBook(model.getRestaurantBook()), addressBookStorage.readRestaurantBook().get());
+    }
+
     @Test
     public void getFilteredMemberList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.TypicalBookings;
+import seedu.address.testutil.TypicalIngredients;
+import seedu.address.testutil.TypicalMembers;
+
+public class RestaurantBookLoaderTest {
+
+    /** The tasks scheduled on the UI thread, which the test runs one at a time. */
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final Model model = new ModelManager();
+
+    @Test
+    public void start_sectionsLoadedOneAtATime_membersAndTodaysBookingsFirst() throws Exception {
+        RestaurantBook restaurantBook = getRestaurantBookWithTodaysBooking();
+        Booking todaysBooking = restaurantBook.getBookingList().get(restaurantBook.getBookingList().size() - 1);
+        CountDownLatch bookingsRead = new CountDownLatch(1);
+        RestaurantBookLoader loader = new RestaurantBookLoader(model, uiTasks::add);
+        loader.start(sectionListener -> {
+            sectionListener.sectionRead(RestaurantBookSection.MEMBERS, restaurantBook);
+            awaitUninterruptibly(bookingsRead);
+            sectionListener.sectionRead(RestaurantBookSection.CAPACITY, restaurantBook);
+            sectionListener.sectionRead(RestaurantBookSection.BOOKINGS, restaurantBook);
+            return restaurantBook;
+        });
+
+        // the members are loaded while the rest of the restaurant book is still being read
+        runNextUiTask();
+        assertEquals(restaurantBook.getMemberList(), model.getRestaurantBook().getMemberList());
+        assertTrue(model.getRestaurantBook().getBookingList().isEmpty());
+        assertFalse(loader.isLoaded());
+
+        bookingsRead.countDown();
+        runNextUiTask();
+        assertEquals(1, model.getRestaurantBook().getBookingList().size());
+        assertEquals(todaysBooking, model.getRestaurantBook().getBookingList().get(0));
+        assertEquals(restaurantBook.getCapacity(), model.getRestaurantBook().getCapacity());
+        assertTrue(model.getRestaurantBook().getIngredientList().isEmpty());
+
+        while (!loader.isLoaded()) {
+            runNextUiTask();
+        }
+        assertEquals(restaurantBook, new RestaurantBook(model.getRestaurantBook()));
+        assertFalse(model.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void runWhenLoaded_sectionsNotLoaded_taskRunAfterAllSectionsLoaded() throws Exception {
+        RestaurantBook restaurantBook = getRestaurantBookWithTodaysBooking();
+        RestaurantBookLoader loader = new RestaurantBookLoader(model, uiTasks::add);
+        List<RestaurantBook> booksSeenByTasks = new ArrayList<>();
+        loader.start(sectionListener -> restaurantBook);
+
+        loader.runWhenLoaded(() -> booksSeenByTasks.add(new RestaurantBook(model.getRestaurantBook())));
+        assertTrue(booksSeenByTasks.isEmpty());
+
+        while (!loader.isLoaded()) {
+            runNextUiTask();
+        }
+        assertEquals(Collections.singletonList(restaurantBook), booksSeenByTasks);
+
+        // tasks given once the sections are loaded are run right away
+        loader.runWhenLoaded(() -> booksSeenByTasks.add(new RestaurantBook(model.getRestaurantBook())));
+        assertEquals(2, booksSeenByTasks.size());
+    }
+
+    @Test
+    public void start_readFailedAfterMembers_emptyRestaurantBookLoaded() throws Exception {
+        RestaurantBook restaurantBook = getRestaurantBookWithTodaysBooking();
+        RestaurantBookLoader loader = new RestaurantBookLoader(model, uiTasks::add);
+        loader.start(sectionListener -> {
+            sectionListener.sectionRead(RestaurantBookSection.MEMBERS, restaurantBook);
+            throw new IllegalStateException("dummy failure");
+        });
+
+        while (!loader.isLoaded()) {
+            runNextUiTask();
+        }
+        assertEquals(new RestaurantBook(), new RestaurantBook(model.getRestaurantBook()));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(5, TimeUnit.SECONDS);
+        assertTrue(task != null);
+        task.run();
+    }
+
+    private static RestaurantBook getRestaurantBookWithTodaysBooking() {
+        RestaurantBook restaurantBook = TypicalBookings.getTypicalAddressBook();
+        TypicalIngredients.getTypicalIngredients().forEach(restaurantBook::addIngredient);
+        restaurantBook.setCapacity(new Capacity(100));
+        restaurantBook.addBooking(new BookingBuilder().withCustomer(TypicalMembers.ALICE)
+                .withDate(LocalDate.now().atTime(12, 0)).build());
+        return restaurantBook;
+    }
+}
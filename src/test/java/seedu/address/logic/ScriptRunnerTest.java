@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonRestaurantBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(new RestaurantBook(), new UserPrefs());
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private SaveCountingStorage restaurantBookStorage;
+    private ScriptRunner scriptRunner;
+
+    @Before
+    public void setUp() throws Exception {
+        restaurantBookStorage = new SaveCountingStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        scriptRunner = new ScriptRunner(model, new StorageManager(restaurantBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_modifyingCommands_committedAndSavedOnce() throws Exception {
+        int failureCount = scriptRunner.run(Arrays.asList(
+                "# adds two members",
+                "addmember n/Alice Pauline p/94351253 e/alice@example.com",
+                "",
+                "addmember n/Benson Meier p/98765432 e/johnd@example.com"), new PrintStream(output));
+
+        assertEquals(0, failureCount);
+        assertEquals(2, model.getRestaurantBook().getMemberList().size());
+        assertEquals(1, restaurantBookStorage.saveCount);
+        assertEquals(new RestaurantBook(model.getRestaurantBook()), restaurantBookStorage.readRestaurantBook().get());
+
+        // both members are added by a single restaurant book state
+        model.undoRestaurantBook();
+        assertTrue(model.getRestaurantBook().getMemberList().isEmpty());
+        assertFalse(model.canUndoRestaurantBook());
+
+        String[] outputLines = output.toString().split(System.lineSeparator());
+        assertEquals(4, outputLines.length);
+        assertTrue(outputLines[0].startsWith("2: "));
+        assertTrue(outputLines[1].startsWith("4: "));
+        assertTrue(outputLines[2].startsWith("Ran 2 command(s)"));
+        assertTrue(outputLines[3].startsWith("Saved the restaurant book"));
+    }
+
+    @Test
+    public void run_failingCommands_reportedAndSkipped() throws Exception {
+        int failureCount = scriptRunner.run(Arrays.asList(
+                "unknowncommand",
+                "addmember n/Alice Pauline p/94351253 e/alice@example.com",
+                UndoCommand.COMMAND_WORD), new PrintStream(output));
+
+        assertEquals(2, failureCount);
+        assertEquals(1, model.getRestaurantBook().getMemberList().size());
+        assertEquals(1, restaurantBookStorage.saveCount);
+        assertTrue(output.toString().contains(String.format(ScriptRunner.MESSAGE_LINE_FAILURE, 1,
+                MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(output.toString().contains(String.format(ScriptRunner.MESSAGE_LINE_FAILURE, 3,
+                UndoCommand.MESSAGE_FAILURE)));
+    }
+
+    @Test
+    public void run_exitCommand_laterLinesNotRun() throws Exception {
+        scriptRunner.run(Arrays.asList(
+                "exit",
+                "addmember n/Benson Meier p/98765432 e/johnd@example.com"), new PrintStream(output));
+
+        assertFalse(model.hasMember(BENSON));
+    }
+
+    @Test
+    public void run_noModifyingCommands_notSaved() throws Exception {
+        int failureCount = scriptRunner.run(Collections.singletonList("listmembers"), new PrintStream(output));
+
+        assertEquals(0, failureCount);
+        assertEquals(0, restaurantBookStorage.saveCount);
+        assertTrue(output.toString().contains(ScriptRunner.MESSAGE_NOT_MODIFIED));
+    }
+
+    /**
+     * A storage that counts how many times the restaurant book is saved.
+     */
+    private static class SaveCountingStorage extends JsonRestaurantBookStorage {
+        private int saveCount;
+
+        SaveCountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveRestaurantBook(restaurantBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.HOON;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.booking.AddBookingCommand;
+import seedu.address.logic.commands.member.AddMemberCommand;
+import seedu.address.logic.parser.CommandSyntax;
+import seedu.address.logic.parser.RestaurantBookParser;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TypicalMembers;
+
+public class AutocompleteEngineTest {
+
+    private final RestaurantBook restaurantBook = TypicalMembers.getTypicalAddressBook();
+    private final AutocompleteEngine engine = new AutocompleteEngine(restaurantBook);
+
+    @Test
+    public void suggest_partOfCommandWord_commandWordsAndAliasesSuggested() {
+        assertEquals(Arrays.asList(AddBookingCommand.COMMAND_WORD), engine.suggest("addb"));
+        assertEquals(Arrays.asList(AddMemberCommand.COMMAND_WORD), engine.suggest(" ADDM"));
+        assertEquals(Arrays.asList(AddMemberCommand.COMMAND_ALIAS), engine.suggest("am"));
+        assertTrue(engine.suggest("unknown").isEmpty());
+    }
+
+    @Test
+    public void suggest_everyCommandWord_suggested() {
+        for (CommandSyntax syntax : RestaurantBookParser.getCommandSyntaxes()) {
+            assertTrue(engine.suggest(syntax.getCommandWord()).contains(syntax.getCommandWord()));
+            assertTrue(engine.suggest(syntax.getCommandAlias()).contains(syntax.getCommandAlias()));
+        }
+    }
+
+    @Test
+    public void suggest_afterCommandWord_prefixesNotGivenSuggested() {
+        assertEquals(Arrays.asList("addbooking ts/", "addbooking c/", "addbooking n/"),
+                engine.suggest("addbooking "));
+        assertEquals(Arrays.asList("addbooking ts/2019-02-23T14:30 c/3 n/"),
+                engine.suggest("addbooking ts/2019-02-23T14:30 c/3 "));
+        assertEquals(Arrays.asList("ab c/3 ts/"), engine.suggest("ab c/3 t"));
+        assertTrue(engine.suggest("unknown ").isEmpty());
+        assertTrue(engine.suggest("addbooking c/3").isEmpty());
+    }
+
+    @Test
+    public void suggest_partOfMemberName_memberNamesSuggested() {
+        assertEquals(Arrays.asList("listmembers n/Alice Pauline"), engine.suggest("listmembers n/al"));
+        assertEquals(Arrays.asList("lm l/10 n/Benson Meier"), engine.suggest("lm l/10 n/ben"));
+        // names are only completed for the arguments that name an item
+        assertTrue(engine.suggest("addmember n/al").isEmpty());
+    }
+
+    @Test
+    public void suggest_nameOfNewRecipe_recipeNamesNotSuggested() {
+        restaurantBook.addRecipe(new Recipe(new RecipeName("cheese sandwich"),
+                new RecipeIngredientSet(new HashMap<>())));
+
+        // a new recipe cannot take the name of an existing one
+        assertTrue(engine.suggest("addrecipe r/che").isEmpty());
+    }
+
+    @Test
+    public void suggest_commandGroup_lastCommandCompleted() {
+        assertEquals(Arrays.asList("addmember n/Carl; listmembers n/Alice Pauline"),
+                engine.suggest("addmember n/Carl; listmembers n/al"));
+        assertEquals(Arrays.asList("dm 1; " + AddBookingCommand.COMMAND_WORD), engine.suggest("dm 1; addb"));
+    }
+
+    @Test
+    public void suggest_membersChanged_namesUpdated() {
+        restaurantBook.removeMember(ALICE);
+        restaurantBook.addMember(new MemberBuilder(HOON).withName("Alfred Hoon").build());
+        restaurantBook.setMember(BENSON, new MemberBuilder(BENSON).withName("Albert Meier").build());
+
+        assertEquals(Arrays.asList("listmembers n/Albert Meier", "listmembers n/Alfred Hoon"),
+                engine.suggest("listmembers n/al"));
+        assertTrue(engine.suggest("listmembers n/ben").isEmpty());
+
+        restaurantBook.resetData(new RestaurantBook());
+        assertEquals(Arrays.asList("listmembers n/", "listmembers l/"), engine.suggest("listmembers "));
+        assertTrue(engine.suggest("listmembers n/al").isEmpty());
+    }
+
+    @Test
+    public void suggest_manyMembers_namesUnderPrefixSuggested() {
+        RestaurantBook largeBook = new RestaurantBook();
+        for (int i = 0; i < 50000; i++) {
+            largeBook.addMember(new MemberBuilder().withName("Member " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("member" + i + "@example.com").build());
+        }
+        AutocompleteEngine largeEngine = new AutocompleteEngine(largeBook);
+
+        List<String> suggestions = largeEngine.suggest("listmembers n/member 4999");
+        assertEquals(Arrays.asList("listmembers n/Member 4999", "listmembers n/Member 49990",
+                "listmembers n/Member 49991", "listmembers n/Member 49992", "listmembers n/Member 49993",
+                "listmembers n/Member 49994", "listmembers n/Member 49995", "listmembers n/Member 49996",
+                "listmembers n/Member 49997", "listmembers n/Member 49998"), suggestions);
+        assertEquals(AutocompleteEngine.MAX_SUGGESTIONS, largeEngine.suggest("listmembers n/").size());
+    }
+}
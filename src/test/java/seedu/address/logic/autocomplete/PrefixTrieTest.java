@@ -0,0 +1,69 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void findByPrefix_mixedCase_caseIgnoredInAlphabeticalOrder() {
+        trie.add("Cheese");
+        trie.add("chicken");
+        trie.add("Chilli");
+        trie.add("Rice");
+
+        assertEquals(Arrays.asList("Cheese", "chicken", "Chilli"), trie.findByPrefix("ch", 10));
+        assertEquals(Arrays.asList("chicken", "Chilli"), trie.findByPrefix("CHI", 10));
+        assertEquals(Collections.singletonList("Rice"), trie.findByPrefix("rice", 10));
+        assertTrue(trie.findByPrefix("rices", 10).isEmpty());
+        assertEquals(4, trie.findByPrefix("", 10).size());
+    }
+
+    @Test
+    public void findByPrefix_moreWordsThanLimit_limitReturned() {
+        trie.add("ab");
+        trie.add("a");
+        trie.add("abc");
+        trie.add("b");
+
+        assertEquals(Arrays.asList("a", "ab"), trie.findByPrefix("a", 2));
+    }
+
+    @Test
+    public void remove_wordAddedTwice_removedAfterSecondRemoval() {
+        trie.add("Alice");
+        trie.add("Alice");
+        trie.add("Alex");
+        assertEquals(3, trie.size());
+
+        trie.remove("Alice");
+        assertEquals(Arrays.asList("Alex", "Alice"), trie.findByPrefix("al", 10));
+        trie.remove("Alice");
+        assertEquals(Collections.singletonList("Alex"), trie.findByPrefix("al", 10));
+        assertEquals(1, trie.size());
+
+        // removing a word that is not there changes nothing
+        trie.remove("Alice");
+        trie.remove("Al");
+        trie.remove("alex");
+        assertEquals(Collections.singletonList("Alex"), trie.findByPrefix("al", 10));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_lastWordUnderPrefix_prefixNoLongerFound() {
+        trie.add("Benson");
+        trie.add("Bob");
+        trie.remove("Benson");
+
+        assertTrue(trie.findByPrefix("be", 10).isEmpty());
+        assertEquals(Collections.singletonList("Bob"), trie.findByPrefix("b", 10));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.AMY;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.member.AddMemberCommand;
+import seedu.address.logic.commands.member.DeleteMemberCommand;
+import seedu.address.logic.commands.member.EditMemberCommand;
+import seedu.address.logic.commands.member.EditMemberCommand.EditMemberDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.EditMemberDescriptorBuilder;
+
+public class CommandGroupTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_allCommandsSucceed_committedAsOneState() throws Exception {
+        CommandGroup commandGroup = new CommandGroup(Arrays.asList(new AddMemberCommand(AMY),
+                new AddMemberCommand(BOB)));
+
+        CommandResult commandResult = commandGroup.execute(model, commandHistory);
+
+        assertEquals(String.format(AddMemberCommand.MESSAGE_SUCCESS, AMY) + "\n"
+                + String.format(AddMemberCommand.MESSAGE_SUCCESS, BOB), commandResult.getFeedbackToUser());
+        assertTrue(model.hasMember(AMY));
+        assertTrue(model.hasMember(BOB));
+
+        // one undo reverts the changes of the whole group
+        model.undoRestaurantBook();
+        assertEquals(getTypicalAddressBook(), model.getRestaurantBook());
+        assertFalse(model.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void execute_commandFails_changesRolledBack() {
+        CommandGroup commandGroup = new CommandGroup(Arrays.asList(new AddMemberCommand(AMY),
+                new AddMemberCommand(ALICE), new AddMemberCommand(BOB)));
+
+        assertCommandFailure(commandGroup, model, commandHistory, String.format(CommandGroup.MESSAGE_COMMAND_FAILED,
+                2, 3, AddMemberCommand.MESSAGE_DUPLICATE_MEMBER));
+        assertFalse(model.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void execute_commandFailsAfterLoyaltyPointsEdited_loyaltyPointsRolledBack() {
+        Member firstMember = model.getFilteredMemberList().get(INDEX_FIRST.getZeroBased());
+        EditMemberDescriptor descriptor = new EditMemberDescriptorBuilder().withLoyaltyPoints(50).build();
+        CommandGroup commandGroup = new CommandGroup(Arrays.asList(new EditMemberCommand(INDEX_FIRST, descriptor),
+                new DeleteMemberCommand(Index.fromOneBased(999))));
+
+        assertCommandFailure(commandGroup, model, commandHistory, String.format(CommandGroup.MESSAGE_COMMAND_FAILED,
+                2, 2, Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX));
+        // member equality ignores loyalty points, so they are checked separately
+        assertEquals(firstMember.getLoyaltyPoints(),
+                model.getFilteredMemberList().get(INDEX_FIRST.getZeroBased()).getLoyaltyPoints());
+    }
+
+    @Test
+    public void equals() {
+        CommandGroup addAmyGroup = new CommandGroup(Arrays.asList(new AddMemberCommand(AMY)));
+        CommandGroup addBobGroup = new CommandGroup(Arrays.asList(new AddMemberCommand(BOB)));
+
+        // same object -> returns true
+        assertTrue(addAmyGroup.equals(addAmyGroup));
+
+        // same values -> returns true
+        assertTrue(addAmyGroup.equals(new CommandGroup(Arrays.asList(new AddMemberCommand(AMY)))));
+
+        // different types -> returns false
+        assertFalse(addAmyGroup.equals(1));
+
+        // null -> returns false
+        assertFalse(addAmyGroup.equals(null));
+
+        // different commands -> returns false
+        assertFalse(addAmyGroup.equals(addBobGroup));
+    }
+}
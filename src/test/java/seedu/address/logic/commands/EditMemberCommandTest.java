@@ -84,6 +84,8 @@ public class EditMemberCommandTest {
         String expectedMessage = String.format(EditMemberCommand.MESSAGE_EDIT_MEMBER_SUCCESS, editedMember);
 
         Model expectedModel = new ModelManager(new RestaurantBook(model.getRestaurantBook()), new UserPrefs());
+        // the member is replaced by an equal copy, like any other edit
+        expectedModel.setMember(editedMember, new MemberBuilder(editedMember).build());
         expectedModel.commitRestaurantBook();
 
         assertCommandSuccess(editMemberCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -1,7 +1,11 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
@@ -32,4 +36,22 @@ public class HistoryCommandTest {
         assertCommandSuccess(new HistoryCommand(), model, history, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_morePagesThanOne_pageListed() {
+        for (int i = 1; i <= HistoryCommand.PAGE_SIZE + 2; i++) {
+            history.add("command " + i);
+        }
+
+        List<String> expectedFirstPage = new ArrayList<>();
+        for (int i = HistoryCommand.PAGE_SIZE + 2; i > 2; i--) {
+            expectedFirstPage.add("command " + i);
+        }
+        assertCommandSuccess(new HistoryCommand(), model, history, String.format(HistoryCommand.MESSAGE_PAGE_SUCCESS,
+                1, 2, String.join("\n", expectedFirstPage)), expectedModel);
+        assertCommandSuccess(new HistoryCommand(2), model, history, String.format(HistoryCommand.MESSAGE_PAGE_SUCCESS,
+                2, 2, String.join("\n", "command 2", "command 1")), expectedModel);
+        assertCommandFailure(new HistoryCommand(3), model, history, String.format(HistoryCommand.MESSAGE_INVALID_PAGE,
+                2));
+    }
+
 }
@@ -1,10 +1,14 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -12,8 +16,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.AvailableTimes;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.OccupancyWindow;
 import seedu.address.model.ingredient.Ingredient;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
@@ -63,6 +72,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addBookings(List<Booking> bookings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addRecipe(Recipe recipe) {
         throw new AssertionError("This method should not be called.");
@@ -244,6 +258,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startRestaurantBookBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void endRestaurantBookBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackRestaurantBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void extendInitialRestaurantBook(Consumer<RestaurantBook> changes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setUpdateCapacityCallback(Consumer<Capacity> callback) {
         throw new AssertionError("This method should not be called.");
@@ -336,7 +370,33 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public LocalDateTime suggestNextAvailableTime(Booking toAdd) {
+    public int getPeakOccupancy() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public NavigableMap<LocalDate, Integer> getDailyPeakOccupancy(LocalDate startDate, LocalDate endDate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<OccupancyWindow> getOverbookedWindows(Capacity capacity) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public AvailableTimes suggestAvailableTimes(BookingWindow bookingWindow, BookingSize bookingSize,
+                                                Duration searchWindow, int maxSuggestions) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Booking> getBookingsBetween(LocalDate startDate, LocalDate endDate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Stream<Booking> streamBookingsBetween(LocalDate startDate, LocalDate endDate) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -0,0 +1,142 @@
+package seedu.address.logic.commands.booking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.booking.ImportBookingsCommand.MESSAGE_ROWS_SKIPPED;
+import static seedu.address.logic.commands.booking.ImportBookingsCommand.MESSAGE_ROW_ERROR;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+import seedu.address.model.booking.Capacity;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ImportBookingsCommand.
+ */
+public class ImportBookingsCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ImportBookingsCommand(null);
+    }
+
+    @Test
+    public void execute_validRows_allBookingsImported() throws Exception {
+        Path filePath = writeCsv("customer,start time,persons\n"
+                + "98765432,2019-02-23T15:00,3\n"
+                + "\n"
+                + "alice@example.com,2019-02-23T14:00,5\n");
+
+        CommandResult commandResult = new ImportBookingsCommand(filePath).execute(model, commandHistory);
+
+        assertEquals(String.format(ImportBookingsCommand.MESSAGE_SUCCESS, 2, filePath),
+                commandResult.getFeedbackToUser());
+        Booking aliceBooking = new Booking(new BookingWindow("2019-02-23T14:00"), ALICE, new BookingSize(5));
+        Booking bensonBooking = new Booking(new BookingWindow("2019-02-23T15:00"), BENSON, new BookingSize(3));
+        assertEquals(Arrays.asList(aliceBooking, bensonBooking), model.getFilteredBookingList());
+
+        // all rows are imported as a single change
+        assertTrue(model.canUndoRestaurantBook());
+        model.undoRestaurantBook();
+        assertTrue(model.getFilteredBookingList().isEmpty());
+        assertFalse(model.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void execute_invalidRows_validRowsImportedAndErrorsReported() throws Exception {
+        model.setCapacity(new Capacity(10));
+        Path filePath = writeCsv("94351253,2019-02-23T14:00,5\n"
+                + "94351253,2019-02-23T14:00,2\n"
+                + "12345678,2019-02-23T14:00,2\n"
+                + "98765432,2019-02-23T14:30,6\n"
+                + "98765432,not a time,2\n"
+                + "98765432,2019-02-23T14:30\n"
+                + "98765432,2019-02-23T15:00,5\n");
+
+        CommandResult commandResult = new ImportBookingsCommand(filePath).execute(model, commandHistory);
+
+        String expectedMessage = String.format(ImportBookingsCommand.MESSAGE_SUCCESS, 2, filePath)
+                + String.format(MESSAGE_ROWS_SKIPPED, 5)
+                + String.format(MESSAGE_ROW_ERROR, 2, AddBookingCommand.MESSAGE_DUPLICATE)
+                + String.format(MESSAGE_ROW_ERROR, 3,
+                        String.format(ImportBookingsCommand.MESSAGE_MEMBER_NOT_FOUND, "12345678"))
+                + String.format(MESSAGE_ROW_ERROR, 4, ImportBookingsCommand.MESSAGE_FULL)
+                + String.format(MESSAGE_ROW_ERROR, 5, BookingWindow.MESSAGE_CONSTRAINTS)
+                + String.format(MESSAGE_ROW_ERROR, 6,
+                        String.format(ImportBookingsCommand.MESSAGE_WRONG_NUMBER_OF_FIELDS, 2));
+        assertEquals(expectedMessage, commandResult.getFeedbackToUser());
+        assertEquals(2, model.getFilteredBookingList().size());
+    }
+
+    @Test
+    public void execute_noValidRows_throwsCommandException() throws Exception {
+        Path filePath = writeCsv("12345678,2019-02-23T14:00,2\n");
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(ImportBookingsCommand.MESSAGE_NO_BOOKINGS_IMPORTED, filePath));
+        new ImportBookingsCommand(filePath).execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.csv");
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(ImportBookingsCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+        new ImportBookingsCommand(filePath).execute(model, commandHistory);
+    }
+
+    @Test
+    public void equals() {
+        ImportBookingsCommand importCommand = new ImportBookingsCommand(Paths.get("bookings.csv"));
+
+        // same object -> returns true
+        assertEquals(importCommand, importCommand);
+
+        // same values -> returns true
+        assertEquals(importCommand, new ImportBookingsCommand(Paths.get("bookings.csv")));
+
+        // different file -> returns false
+        assertNotEquals(importCommand, new ImportBookingsCommand(Paths.get("others.csv")));
+
+        // null -> returns false
+        assertNotEquals(importCommand, null);
+    }
+
+    private Path writeCsv(String content) throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("bookings.csv");
+        FileUtil.writeToFile(filePath, content);
+        return filePath;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands.booking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Capacity;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for PeakOccupancyCommand.
+ */
+public class PeakOccupancyCommandTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2019, 2, 22);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_endDateBeforeStartDate_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new PeakOccupancyCommand(FIRST_DATE, FIRST_DATE.minusDays(1));
+    }
+
+    @Test
+    public void execute_datesWithBookings_dailyPeaksShown() {
+        String expectedMessage = String.format(PeakOccupancyCommand.MESSAGE_PEAK_OCCUPANCY, FIRST_DATE,
+                FIRST_DATE.plusDays(3), 5, Capacity.getDefaultCapacity())
+                + String.format(PeakOccupancyCommand.MESSAGE_DAILY_PEAK_OCCUPANCY, FIRST_DATE, 5)
+                + String.format(PeakOccupancyCommand.MESSAGE_DAILY_PEAK_OCCUPANCY, FIRST_DATE.plusDays(1), 5)
+                + String.format(PeakOccupancyCommand.MESSAGE_DAILY_PEAK_OCCUPANCY, FIRST_DATE.plusDays(2), 5)
+                + String.format(PeakOccupancyCommand.MESSAGE_MINIMUM_CAPACITY, 5);
+
+        assertCommandSuccess(new PeakOccupancyCommand(FIRST_DATE, FIRST_DATE.plusDays(3)), model, commandHistory,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_datesWithoutBookings_noDailyPeaksShown() {
+        LocalDate date = FIRST_DATE.minusDays(10);
+        String expectedMessage = String.format(PeakOccupancyCommand.MESSAGE_PEAK_OCCUPANCY, date, date, 0,
+                Capacity.getDefaultCapacity())
+                + String.format(PeakOccupancyCommand.MESSAGE_MINIMUM_CAPACITY, 5);
+
+        assertCommandSuccess(new PeakOccupancyCommand(date, date), model, commandHistory, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        PeakOccupancyCommand peakOccupancyCommand = new PeakOccupancyCommand(FIRST_DATE, FIRST_DATE.plusDays(1));
+
+        // same values -> returns true
+        assertEquals(peakOccupancyCommand, new PeakOccupancyCommand(FIRST_DATE, FIRST_DATE.plusDays(1)));
+
+        // different end date -> returns false
+        assertNotEquals(peakOccupancyCommand, new PeakOccupancyCommand(FIRST_DATE, FIRST_DATE.plusDays(2)));
+
+        // null -> returns false
+        assertNotEquals(peakOccupancyCommand, null);
+    }
+}
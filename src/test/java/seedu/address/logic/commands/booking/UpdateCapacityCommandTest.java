@@ -0,0 +1,92 @@
+package seedu.address.logic.commands.booking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
+import static seedu.address.testutil.TypicalBookings.CARL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING_SECOND;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBook;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingWindow;
+import seedu.address.model.booking.Capacity;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for UpdateCapacityCommand.
+ */
+public class UpdateCapacityCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_capacityHoldsAllBookings_success() {
+        Capacity capacity = new Capacity(5);
+        Model expectedModel = new ModelManager(model.getRestaurantBook(), new UserPrefs());
+        expectedModel.setCapacity(capacity);
+        expectedModel.commitRestaurantBook();
+
+        assertCommandSuccess(new UpdateCapacityCommand(capacity), model, commandHistory,
+                String.format(UpdateCapacityCommand.MESSAGE_SUCCESS, capacity), expectedModel);
+    }
+
+    @Test
+    public void execute_capacityTooSmall_minimumCapacityAndOverbookedWindowsReported() {
+        // Alice leaves as Benson arrives, so their bookings form a single overbooked window
+        String expectedMessage = UpdateCapacityCommand.MESSAGE_FAILURE
+                + String.format(UpdateCapacityCommand.MESSAGE_MINIMUM_CAPACITY, 5)
+                + describeWindow(DANIEL_BOOKING, DANIEL_BOOKING)
+                + describeWindow(ALICE_BOOKING, BENSON_BOOKING)
+                + describeWindow(CARL_BOOKING, CARL_BOOKING)
+                + describeWindow(DANIEL_BOOKING_SECOND, DANIEL_BOOKING_SECOND);
+
+        assertCommandFailure(new UpdateCapacityCommand(new Capacity(4)), model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void execute_manyOverbookedWindows_onlyFirstWindowsReported() {
+        for (int i = 1; i <= UpdateCapacityCommand.MAX_OVERBOOKED_WINDOWS_SHOWN; i++) {
+            model.addBooking(new Booking(new BookingWindow(DANIEL_BOOKING_SECOND.getStartTime().plusDays(i)),
+                    DANIEL_BOOKING_SECOND.getCustomer(), DANIEL_BOOKING_SECOND.getNumMembers()));
+        }
+
+        String expectedMessage = UpdateCapacityCommand.MESSAGE_FAILURE
+                + String.format(UpdateCapacityCommand.MESSAGE_MINIMUM_CAPACITY, 5)
+                + describeWindow(DANIEL_BOOKING, DANIEL_BOOKING)
+                + describeWindow(ALICE_BOOKING, BENSON_BOOKING)
+                + describeWindow(CARL_BOOKING, CARL_BOOKING)
+                + describeWindow(DANIEL_BOOKING_SECOND, DANIEL_BOOKING_SECOND)
+                + String.format(UpdateCapacityCommand.MESSAGE_OVERBOOKED_WINDOW,
+                        DANIEL_BOOKING_SECOND.getStartTime().plusDays(1),
+                        DANIEL_BOOKING_SECOND.getEndTime().plusDays(1), 5)
+                + String.format(UpdateCapacityCommand.MESSAGE_MORE_OVERBOOKED_WINDOWS, 4);
+
+        assertCommandFailure(new UpdateCapacityCommand(new Capacity(4)), model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        UpdateCapacityCommand updateCapacityCommand = new UpdateCapacityCommand(new Capacity(10));
+
+        // same values -> returns true
+        assertEquals(updateCapacityCommand, new UpdateCapacityCommand(new Capacity(10)));
+
+        // different capacity -> returns false
+        assertNotEquals(updateCapacityCommand, new UpdateCapacityCommand(new Capacity(20)));
+    }
+
+    private static String describeWindow(Booking first, Booking last) {
+        return String.format(UpdateCapacityCommand.MESSAGE_OVERBOOKED_WINDOW, first.getStartTime(),
+                last.getEndTime(), first.getNumMembers().getSize());
+    }
+}
@@ -86,6 +86,8 @@ public class EditStaffCommandTest {
         String expectedMessage = String.format(EditStaffCommand.MESSAGE_EDIT_STAFF_SUCCESS, editedStaff);
 
         Model expectedModel = new ModelManager(new RestaurantBook(model.getRestaurantBook()), new UserPrefs());
+        // the staff is replaced by an equal copy, like any other edit
+        expectedModel.setStaff(editedStaff, new StaffBuilder(editedStaff).build());
         expectedModel.commitRestaurantBook();
 
         assertCommandSuccess(editStaffCommand, model, commandHistory, expectedMessage, expectedModel);
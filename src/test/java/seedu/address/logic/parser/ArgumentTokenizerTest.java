@@ -136,6 +136,16 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognised() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "SomePreambleString -tt dashTt value -t dashT value -ttt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTt, "dashTt value", "t");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
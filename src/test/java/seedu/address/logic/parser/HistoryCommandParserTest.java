@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.HistoryCommand;
+
+public class HistoryCommandParserTest {
+
+    private HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsFirstPage() {
+        assertParseSuccess(parser, "  ", new HistoryCommand(1));
+    }
+
+    @Test
+    public void parse_validArgs_returnsHistoryCommand() {
+        assertParseSuccess(parser, " 3 ", new HistoryCommand(3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.logic.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -13,6 +16,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandGroup;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -92,9 +96,9 @@ public class RestaurantBookParserTest {
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
-        assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD + " 3") instanceof HistoryCommand);
+        assertEquals(new HistoryCommand(3), parser.parseCommand(HistoryCommand.COMMAND_WORD + " 3"));
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_ALIAS) instanceof HistoryCommand);
-        assertTrue(parser.parseCommand(HistoryCommand.COMMAND_ALIAS + " 3") instanceof HistoryCommand);
+        assertEquals(new HistoryCommand(3), parser.parseCommand(HistoryCommand.COMMAND_ALIAS + " 3"));
 
         try {
             parser.parseCommand("histories");
@@ -121,6 +125,22 @@ public class RestaurantBookParserTest {
         assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_commandGroup() throws Exception {
+        Member member = new MemberBuilder().build();
+        Command command = parser.parseCommand(MemberUtil.getAddCommand(member) + " ; "
+                + DeleteMemberCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased() + ";");
+        assertEquals(new CommandGroup(Arrays.asList(new AddMemberCommand(member),
+                new DeleteMemberCommand(INDEX_FIRST))), command);
+    }
+
+    @Test
+    public void parseCommand_emptyCommandGroup_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(" ; ;");
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -135,6 +155,25 @@ public class RestaurantBookParserTest {
         parser.parseCommand("unknownCommand");
     }
 
+    @Test
+    public void getCommandSyntaxes_everyCommandWordAndAlias_recognised() {
+        for (CommandSyntax syntax : RestaurantBookParser.getCommandSyntaxes()) {
+            assertCommandWordRecognised(syntax.getCommandWord());
+            assertCommandWordRecognised(syntax.getCommandAlias());
+        }
+    }
+
+    /**
+     * Asserts that parsing {@code commandWord} without arguments does not fail as an unknown command.
+     */
+    private void assertCommandWordRecognised(String commandWord) {
+        try {
+            parser.parseCommand(commandWord);
+        } catch (ParseException pe) {
+            assertNotEquals(commandWord, MESSAGE_UNKNOWN_COMMAND, pe.getMessage());
+        }
+    }
+
     @Test
     public void parseUpperCaseCommand() throws Exception {
         Member member = new MemberBuilder().build();
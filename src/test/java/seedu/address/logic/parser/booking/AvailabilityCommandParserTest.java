@@ -0,0 +1,50 @@
+package seedu.address.logic.parser.booking;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.booking.AvailabilityCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.booking.AvailableTimes;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+
+public class AvailabilityCommandParserTest {
+    private static final String START_TIME = "2019-02-23T14:30";
+
+    private AvailabilityCommandParser parser = new AvailabilityCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        AvailabilityCommand expectedCommand = new AvailabilityCommand(new BookingWindow(START_TIME),
+                new BookingSize(3), Duration.ofHours(2));
+        assertParseSuccess(parser, " ts/" + START_TIME + " n/3 h/2", expectedCommand);
+    }
+
+    @Test
+    public void parse_searchWindowMissing_defaultSearchWindowUsed() {
+        AvailabilityCommand expectedCommand = new AvailabilityCommand(new BookingWindow(START_TIME),
+                new BookingSize(3), AvailableTimes.DEFAULT_SEARCH_WINDOW);
+        assertParseSuccess(parser, " ts/" + START_TIME + " n/3", expectedCommand);
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailabilityCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " n/3", expectedMessage);
+        assertParseFailure(parser, " ts/" + START_TIME, expectedMessage);
+        assertParseFailure(parser, "1 ts/" + START_TIME + " n/3", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidSearchWindow_failure() {
+        assertParseFailure(parser, " ts/" + START_TIME + " n/3 h/0", ParserUtil.MESSAGE_INVALID_SEARCH_WINDOW);
+        assertParseFailure(parser, " ts/" + START_TIME + " n/3 h/25", ParserUtil.MESSAGE_INVALID_SEARCH_WINDOW);
+        assertParseFailure(parser, " ts/" + START_TIME + " n/3 h/abc", ParserUtil.MESSAGE_INVALID_SEARCH_WINDOW);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.booking;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.booking.PeakOccupancyCommand;
+import seedu.address.logic.parser.ParserUtil;
+
+public class PeakOccupancyCommandParserTest {
+    private static final LocalDate DATE = LocalDate.of(2019, 2, 23);
+
+    private PeakOccupancyCommandParser parser = new PeakOccupancyCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPeakOccupancyCommand() {
+        assertParseSuccess(parser, " 2019-02-23 ", new PeakOccupancyCommand(DATE, DATE));
+        assertParseSuccess(parser, "2019-02-23   2019-03-01", new PeakOccupancyCommand(DATE, DATE.plusDays(6)));
+    }
+
+    @Test
+    public void parse_wrongNumberOfDates_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PeakOccupancyCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "2019-02-23 2019-02-24 2019-02-25", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDates_throwsParseException() {
+        assertParseFailure(parser, "23-02-2019", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "2019-02-23 tomorrow", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "2019-02-23 2019-02-22", PeakOccupancyCommand.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, "2019-02-23 2020-02-25", PeakOccupancyCommand.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
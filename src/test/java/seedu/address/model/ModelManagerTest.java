@@ -149,6 +149,53 @@ public class ModelManagerTest {
         assertEquals(ALICE, modelManager.getSelectedMember());
     }
 
+    @Test
+    public void commitRestaurantBook_inBatch_changesCommittedAsOneState() {
+        modelManager.startRestaurantBookBatch();
+        modelManager.addMember(ALICE);
+        modelManager.commitRestaurantBook();
+        assertFalse(modelManager.canUndoRestaurantBook());
+        modelManager.addMember(BENSON);
+        modelManager.commitRestaurantBook();
+        modelManager.endRestaurantBookBatch();
+
+        modelManager.undoRestaurantBook();
+        assertEquals(new RestaurantBook(), new RestaurantBook(modelManager.getRestaurantBook()));
+        assertFalse(modelManager.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void rollbackRestaurantBook_innerBatch_onlyChangesOfInnerBatchDiscarded() {
+        modelManager.startRestaurantBookBatch();
+        modelManager.addMember(ALICE);
+        modelManager.commitRestaurantBook();
+
+        modelManager.startRestaurantBookBatch();
+        modelManager.addMember(BENSON);
+        modelManager.commitRestaurantBook();
+        modelManager.rollbackRestaurantBook();
+        modelManager.endRestaurantBookBatch();
+        assertTrue(modelManager.hasMember(ALICE));
+        assertFalse(modelManager.hasMember(BENSON));
+
+        modelManager.endRestaurantBookBatch();
+        modelManager.undoRestaurantBook();
+        assertEquals(new RestaurantBook(), new RestaurantBook(modelManager.getRestaurantBook()));
+        assertFalse(modelManager.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void rollbackRestaurantBook_nothingCommitted_noStateCommitted() {
+        modelManager.startRestaurantBookBatch();
+        modelManager.addMember(ALICE);
+        modelManager.commitRestaurantBook();
+        modelManager.rollbackRestaurantBook();
+        modelManager.endRestaurantBookBatch();
+
+        assertEquals(new RestaurantBook(), new RestaurantBook(modelManager.getRestaurantBook()));
+        assertFalse(modelManager.canUndoRestaurantBook());
+    }
+
     @Test
     public void equals() {
         RestaurantBook restaurantBook = new AddressBookBuilder().withMember(ALICE).withMember(BENSON).build();
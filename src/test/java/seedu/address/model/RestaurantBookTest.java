@@ -3,7 +3,10 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
 import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -23,9 +26,11 @@ import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
 import seedu.address.model.ingredient.Ingredient;
 import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
 import seedu.address.model.recipe.Recipe;
+import seedu.address.testutil.BookingBuilder;
 import seedu.address.testutil.MemberBuilder;
 
 public class RestaurantBookTest {
@@ -88,6 +93,62 @@ public class RestaurantBookTest {
         assertTrue(restaurantBook.hasMember(editedAlice));
     }
 
+    @Test
+    public void canAccommodate_bookingExceedsCapacity_returnsFalse() {
+        restaurantBook.setCapacity(new Capacity(9));
+        restaurantBook.addBooking(ALICE_BOOKING);
+        assertFalse(restaurantBook.canAccommodate(new BookingBuilder(ALICE_BOOKING).withCustomer(BOB).build()));
+        assertTrue(restaurantBook.canAccommodate(BENSON_BOOKING));
+    }
+
+    @Test
+    public void addBooking_bookingExceedsCapacity_bookingNotAdded() {
+        restaurantBook.setCapacity(new Capacity(9));
+        restaurantBook.addBooking(ALICE_BOOKING);
+        try {
+            restaurantBook.addBooking(new BookingBuilder(ALICE_BOOKING).withCustomer(BOB).build());
+            throw new AssertionError("The expected RestaurantOverbookedException was not thrown.");
+        } catch (RestaurantOverbookedException e) {
+            assertEquals(Collections.singletonList(ALICE_BOOKING), restaurantBook.getBookingList());
+        }
+    }
+
+    @Test
+    public void addBookings_validBookings_mergedInOrder() {
+        restaurantBook.addBooking(BENSON_BOOKING);
+        Booking earlierBooking = new BookingBuilder(ALICE_BOOKING).withDate(ALICE_BOOKING.getStartTime().minusHours(1))
+                .build();
+        restaurantBook.addBookings(Arrays.asList(ALICE_BOOKING, earlierBooking));
+        assertEquals(Arrays.asList(earlierBooking, ALICE_BOOKING, BENSON_BOOKING), restaurantBook.getBookingList());
+    }
+
+    @Test
+    public void addBookings_bookingsExceedCapacity_noBookingsAdded() {
+        restaurantBook.setCapacity(new Capacity(9));
+        restaurantBook.addBooking(BENSON_BOOKING);
+        try {
+            restaurantBook.addBookings(Arrays.asList(ALICE_BOOKING,
+                    new BookingBuilder(ALICE_BOOKING).withCustomer(BOB).build()));
+            throw new AssertionError("The expected RestaurantOverbookedException was not thrown.");
+        } catch (RestaurantOverbookedException e) {
+            assertEquals(Collections.singletonList(BENSON_BOOKING), restaurantBook.getBookingList());
+            assertTrue(restaurantBook.canAccommodate(ALICE_BOOKING));
+        }
+    }
+
+    @Test
+    public void canAccommodateEdit_editReplacesTarget() {
+        restaurantBook.setCapacity(new Capacity(9));
+        restaurantBook.addBooking(ALICE_BOOKING);
+        Booking largerBooking = new BookingBuilder(ALICE_BOOKING).withNumPersons(9).build();
+        assertTrue(restaurantBook.canAccommodateEdit(ALICE_BOOKING, largerBooking));
+        assertFalse(restaurantBook.canAccommodate(largerBooking));
+
+        // occupancy of the target is restored after the check
+        assertFalse(restaurantBook.canUpdateCapacity(new Capacity(4)));
+        assertTrue(restaurantBook.canUpdateCapacity(new Capacity(5)));
+    }
+
     @Test
     public void getMemberList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -113,6 +174,27 @@ public class RestaurantBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void getModificationCount_memberEdited_onlyModifiedSectionsCounted() {
+        restaurantBook.addMember(ALICE);
+        restaurantBook.addMember(BOB);
+        restaurantBook.addBooking(ALICE_BOOKING);
+        long memberCount = restaurantBook.getModificationCount(RestaurantBookSection.MEMBERS);
+        long bookingCount = restaurantBook.getModificationCount(RestaurantBookSection.BOOKINGS);
+        long staffCount = restaurantBook.getModificationCount(RestaurantBookSection.STAFF);
+
+        // member without bookings
+        restaurantBook.setMember(BOB, new MemberBuilder(BOB).withLoyaltyPoints(1).build());
+        assertEquals(memberCount + 1, restaurantBook.getModificationCount(RestaurantBookSection.MEMBERS));
+        assertEquals(bookingCount, restaurantBook.getModificationCount(RestaurantBookSection.BOOKINGS));
+
+        // member with bookings
+        restaurantBook.setMember(ALICE, new MemberBuilder(ALICE).withLoyaltyPoints(1).build());
+        assertEquals(memberCount + 2, restaurantBook.getModificationCount(RestaurantBookSection.MEMBERS));
+        assertEquals(bookingCount + 1, restaurantBook.getModificationCount(RestaurantBookSection.BOOKINGS));
+        assertEquals(staffCount, restaurantBook.getModificationCount(RestaurantBookSection.STAFF));
+    }
+
     /**
      * A stub ReadOnlyRestaurantBook whose members list can violate interface constraints.
      */
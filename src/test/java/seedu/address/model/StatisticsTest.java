@@ -104,4 +104,21 @@ public class StatisticsTest {
             }
         }
     }
+
+    @Test
+    public void fromStream_bookingsOutsideDays_ignored() {
+        LocalDateTime now10 = LocalDateTime.now().withHour(10).withMinute(0).withSecond(0);
+        bookings.add(new Booking(new BookingWindow(now10.plusDays(1)), TypicalMembers.ALICE, new BookingSize(7)));
+        bookings.add(new Booking(new BookingWindow(now10.minusDays(2)), TypicalMembers.ALICE, new BookingSize(8)));
+
+        Statistics statistics = Statistics.fromStream(bookings.stream(), 2);
+        List<XYChart.Data<String, Integer>> datas = statistics.generateGraphDataDays();
+        assertTrue(datas.size() == 2);
+        assertEquals(datas.get(0).getYValue(), Integer.valueOf(6));
+        assertEquals(datas.get(1).getYValue(), Integer.valueOf(5));
+
+        datas = statistics.generateGraphDataTime();
+        assertEquals(datas.get(10).getYValue(), Integer.valueOf(5));
+        assertEquals(datas.get(12).getYValue(), Integer.valueOf(6));
+    }
 }
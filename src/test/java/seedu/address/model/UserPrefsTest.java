@@ -18,4 +18,46 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setRestaurantBookFilePath(null));
     }
 
+    @Test
+    public void setLoadHorizonDays_negativeDays_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setLoadHorizonDays(-1));
+    }
+
+    @Test
+    public void setMaxUndoDepth_nonPositiveDepth_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxUndoDepth(0));
+    }
+
+    @Test
+    public void setUndoMemoryBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoMemoryBudget(-1));
+    }
+
+    @Test
+    public void setCommandHistorySize_nonPositiveSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setCommandHistorySize(0));
+    }
+
+    @Test
+    public void setSavePolicy_nullPolicy_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setSavePolicy(null));
+    }
+
+    @Test
+    public void setStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setStorageFormat(null));
+    }
+
+    @Test
+    public void setSaveDebounceMillis_negativeInterval_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setSaveDebounceMillis(-1));
+    }
+
 }
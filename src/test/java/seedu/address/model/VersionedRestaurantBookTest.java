@@ -4,17 +4,23 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
 import static seedu.address.testutil.TypicalMembers.AMY;
 import static seedu.address.testutil.TypicalMembers.BOB;
 import static seedu.address.testutil.TypicalMembers.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.person.member.Member;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.MemberBuilder;
 
 public class VersionedRestaurantBookTest {
 
@@ -207,6 +213,140 @@ public class VersionedRestaurantBookTest {
         assertThrows(VersionedRestaurantBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_uncommittedChanges_revertedBeforeUndo() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addMember(CARL);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new RestaurantBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_capacityChanged_capacityRestored() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        Capacity originalCapacity = versionedAddressBook.getCapacity();
+        Capacity newCapacity = new Capacity(originalCapacity.getValue() + 1);
+        versionedAddressBook.setCapacity(newCapacity);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(originalCapacity, versionedAddressBook.getCapacity());
+        versionedAddressBook.redo();
+        assertEquals(newCapacity, versionedAddressBook.getCapacity());
+    }
+
+    @Test
+    public void undoRedo_singleMemberAdded_onlyThatMemberChanged() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(
+                new AddressBookBuilder().withMember(AMY).withMember(BOB).build());
+        versionedAddressBook.addMember(CARL);
+        versionedAddressBook.commit();
+        List<String> changes = new ArrayList<>();
+        versionedAddressBook.getMemberList().addListener((ListChangeListener<Member>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList("2:" + Collections.singletonList(CARL) + "->[]"), changes);
+
+        changes.clear();
+        versionedAddressBook.redo();
+        assertEquals(Collections.singletonList("2:[]->" + Collections.singletonList(CARL)), changes);
+        assertTrue(versionedAddressBook.hasMember(CARL));
+    }
+
+    @Test
+    public void undoRedo_onlyLoyaltyPointsEdited_loyaltyPointsRestored() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        Member editedAmy = new MemberBuilder(AMY).withLoyaltyPoints(AMY.getLoyaltyPoints().value + 50).build();
+        versionedAddressBook.setMember(AMY, editedAmy);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(AMY.getLoyaltyPoints(), versionedAddressBook.getMemberList().get(0).getLoyaltyPoints());
+        versionedAddressBook.redo();
+        assertEquals(editedAmy.getLoyaltyPoints(), versionedAddressBook.getMemberList().get(0).getLoyaltyPoints());
+    }
+
+    @Test
+    public void undoRedo_bookingAdded_occupancyRestored() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addBooking(ALICE_BOOKING);
+        versionedAddressBook.commit();
+        int peakOccupancy = versionedAddressBook.getPeakOccupancy();
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasBooking(ALICE_BOOKING));
+        assertEquals(0, versionedAddressBook.getPeakOccupancy());
+
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasBooking(ALICE_BOOKING));
+        assertEquals(peakOccupancy, versionedAddressBook.getPeakOccupancy());
+    }
+
+    @Test
+    public void commit_beyondMaxUndoDepth_oldestStatesDropped() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(
+                new VersionedRestaurantBook(emptyAddressBook, 2, Integer.MAX_VALUE, UndoHistorySpill.inMemory()),
+                addressBookWithAmy, addressBookWithBob, addressBookWithCarl);
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy, addressBookWithBob),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_statesSpilledBeyondMemoryBudget_statesPagedBackIn() {
+        UndoHistorySpill spill = UndoHistorySpill.inMemory();
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(
+                new VersionedRestaurantBook(emptyAddressBook, Integer.MAX_VALUE, 0, spill),
+                addressBookWithAmy, addressBookWithBob, addressBookWithCarl);
+        assertEquals(3, spill.size());
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook, addressBookWithAmy, addressBookWithBob),
+                addressBookWithCarl,
+                Collections.emptyList());
+
+        // undone states are dropped on commit, while the states before the current state are spilled again
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        versionedAddressBook.commit();
+        assertTrue(spill.size() > 0);
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook, addressBookWithAmy),
+                addressBookWithAmy,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void extendInitialState_beforeFirstCommit_changesCannotBeUndone() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(emptyAddressBook);
+        versionedAddressBook.extendInitialState(restaurantBook -> restaurantBook.addMember(AMY));
+
+        assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+
+        // the initial state is restored by undoing later commits
+        versionedAddressBook.addMember(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+    }
+
+    @Test
+    public void extendInitialState_afterCommit_throwsIllegalStateException() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        assertThrows(IllegalStateException.class, () ->
+                versionedAddressBook.extendInitialState(restaurantBook -> restaurantBook.addMember(BOB)));
+    }
+
     @Test
     public void equals() {
         VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -280,8 +420,17 @@ public class VersionedRestaurantBookTest {
         assertFalse(addressBookStates.length == 0);
 
         VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(addressBookStates[0]);
-        for (int i = 1; i < addressBookStates.length; i++) {
-            versionedAddressBook.resetData(addressBookStates[i]);
+        return prepareAddressBookList(versionedAddressBook,
+                Arrays.copyOfRange(addressBookStates, 1, addressBookStates.length));
+    }
+
+    /**
+     * Commits each of {@code addressBookStates} to {@code versionedAddressBook} in order, and returns it.
+     */
+    private VersionedRestaurantBook prepareAddressBookList(VersionedRestaurantBook versionedAddressBook,
+                                                           ReadOnlyRestaurantBook... addressBookStates) {
+        for (ReadOnlyRestaurantBook addressBookState : addressBookStates) {
+            versionedAddressBook.resetData(addressBookState);
             versionedAddressBook.commit();
         }
 
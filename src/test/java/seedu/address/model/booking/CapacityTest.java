@@ -8,10 +8,13 @@ import static seedu.address.testutil.TypicalMembers.BOB;
 import static seedu.address.testutil.TypicalMembers.CARL;
 import static seedu.address.testutil.TypicalMembers.DANIEL;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -89,4 +92,100 @@ public class CapacityTest {
         assertEquals(new Capacity(1), new Capacity("1"));
         assertEquals(new Capacity(Capacity.MAX_CAPACITY), new Capacity(Integer.toString(Capacity.MAX_CAPACITY)));
     }
+
+    @Test
+    public void suggestAvailableTimes_restaurantFull_returnsEarlierAndLaterTimes() {
+        LocalDateTime startTime1400 = LocalDateTime.of(2019, Month.FEBRUARY, 23, 14, 0);
+        LocalDateTime startTime1430 = LocalDateTime.of(2019, Month.FEBRUARY, 23, 14, 30);
+        OccupancyIndex occupancy = new OccupancyIndex(Arrays.asList(
+                new Booking(new BookingWindow(startTime1400), ALICE, new BookingSize(5)),
+                new Booking(new BookingWindow(startTime1430), BOB, new BookingSize(5))));
+
+        AvailableTimes availableTimes = new Capacity(13).suggestAvailableTimes(new BookingWindow(startTime1400),
+                new BookingSize(4), occupancy, AvailableTimes.DEFAULT_SEARCH_WINDOW, 3);
+        assertFalse(availableTimes.isRequestedTimeAvailable());
+        assertEquals(Arrays.asList(startTime1400.minusMinutes(30), startTime1400.minusHours(1)),
+                availableTimes.getEarlierTimes());
+        assertEquals(Arrays.asList(startTime1400.plusHours(1), startTime1430.plusHours(1)),
+                availableTimes.getLaterTimes());
+
+        // suggestions are limited by the search window and the maximum number of suggestions
+        availableTimes = new Capacity(13).suggestAvailableTimes(new BookingWindow(startTime1400),
+                new BookingSize(4), occupancy, Duration.ofHours(1), 1);
+        assertEquals(Arrays.asList(startTime1400.minusMinutes(30)), availableTimes.getEarlierTimes());
+        assertEquals(Arrays.asList(startTime1400.plusHours(1)), availableTimes.getLaterTimes());
+
+        // the requested time is reported as available if the booking fits
+        availableTimes = new Capacity(13).suggestAvailableTimes(new BookingWindow(startTime1400),
+                new BookingSize(3), occupancy, AvailableTimes.DEFAULT_SEARCH_WINDOW, 3);
+        assertTrue(availableTimes.isRequestedTimeAvailable());
+    }
+
+    @Test
+    public void suggestAvailableTimes_matchesFullSweep() {
+        Random random = new Random(2103);
+        LocalDateTime startTime0600 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 0);
+        Capacity capacity = new Capacity(20);
+        List<Booking> bookingList = new ArrayList<>();
+        OccupancyIndex occupancy = new OccupancyIndex();
+        while (bookingList.size() < 60) {
+            LocalDateTime startTime = startTime0600.plusMinutes(15 * random.nextInt(60));
+            Booking booking = new Booking(new BookingWindow(startTime), ALICE, new BookingSize(1 + random.nextInt(6)));
+            if (capacity.canAddBooking(booking, bookingList)) {
+                bookingList.add(booking);
+                occupancy.add(booking);
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime requestedTime = startTime0600.plusMinutes(15 * random.nextInt(60));
+            BookingSize bookingSize = new BookingSize(1 + random.nextInt(20));
+            AvailableTimes availableTimes = capacity.suggestAvailableTimes(new BookingWindow(requestedTime),
+                    bookingSize, occupancy, Duration.ofHours(2), 2);
+
+            // every minute within the search window is checked with the full sweep, from the closest to the furthest
+            List<LocalDateTime> expectedEarlierTimes = new ArrayList<>();
+            List<LocalDateTime> expectedLaterTimes = new ArrayList<>();
+            for (int minutes = 1; minutes <= 120; minutes++) {
+                addIfAvailable(capacity, bookingList, requestedTime.minusMinutes(minutes), bookingSize,
+                        expectedEarlierTimes);
+                addIfAvailable(capacity, bookingList, requestedTime.plusMinutes(minutes), bookingSize,
+                        expectedLaterTimes);
+            }
+
+            boolean isRequestedTimeAvailable = capacity.canAddBooking(
+                    new Booking(new BookingWindow(requestedTime), ALICE, bookingSize), bookingList);
+            assertEquals(isRequestedTimeAvailable, availableTimes.isRequestedTimeAvailable());
+            assertSuggestionsValid(expectedEarlierTimes, availableTimes.getEarlierTimes(), isRequestedTimeAvailable);
+            assertSuggestionsValid(expectedLaterTimes, availableTimes.getLaterTimes(), isRequestedTimeAvailable);
+        }
+    }
+
+    /**
+     * Adds {@code startTime} to {@code availableTimes} if a booking of {@code bookingSize} persons can be added
+     * at that time.
+     */
+    private void addIfAvailable(Capacity capacity, List<Booking> bookingList, LocalDateTime startTime,
+                                BookingSize bookingSize, List<LocalDateTime> availableTimes) {
+        if (capacity.canAddBooking(new Booking(new BookingWindow(startTime), ALICE, bookingSize), bookingList)) {
+            availableTimes.add(startTime);
+        }
+    }
+
+    /**
+     * Asserts that the suggested times are available and ordered from the closest to the furthest. If the requested
+     * time is unavailable, the closest available time must be suggested.
+     */
+    private void assertSuggestionsValid(List<LocalDateTime> availableTimes, List<LocalDateTime> suggestedTimes,
+                                        boolean isRequestedTimeAvailable) {
+        assertEquals(availableTimes.isEmpty(), suggestedTimes.isEmpty());
+        if (!availableTimes.isEmpty() && !isRequestedTimeAvailable) {
+            assertEquals(availableTimes.get(0), suggestedTimes.get(0));
+        }
+        assertTrue(availableTimes.containsAll(suggestedTimes));
+        for (int i = 1; i < suggestedTimes.size(); i++) {
+            assertTrue(availableTimes.indexOf(suggestedTimes.get(i - 1))
+                    < availableTimes.indexOf(suggestedTimes.get(i)));
+        }
+    }
 }
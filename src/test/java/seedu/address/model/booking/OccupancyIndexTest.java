@@ -0,0 +1,178 @@
+package seedu.address.model.booking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class OccupancyIndexTest {
+    private static final LocalDateTime START_TIME_0600 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 0);
+    private static final LocalDateTime START_TIME_0630 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 30);
+    private static final LocalDateTime START_TIME_0659 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 59);
+    private static final LocalDateTime START_TIME_0700 = LocalDateTime.of(2019, Month.MARCH, 16, 7, 0);
+
+    private static final Booking BOOKING_0600 =
+            new Booking(new BookingWindow(START_TIME_0600), ALICE, new BookingSize(5));
+    private static final Booking BOOKING_0630 =
+            new Booking(new BookingWindow(START_TIME_0630), BOB, new BookingSize(3));
+    private static final Booking BOOKING_0659 =
+            new Booking(new BookingWindow(START_TIME_0659), CARL, new BookingSize(2));
+    private static final Booking BOOKING_0700 =
+            new Booking(new BookingWindow(START_TIME_0700), DANIEL, new BookingSize(5));
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new OccupancyIndex().add(null));
+    }
+
+    @Test
+    public void getPeakOccupancy_emptyIndex_returnsZero() {
+        OccupancyIndex occupancy = new OccupancyIndex();
+        assertTrue(occupancy.isEmpty());
+        assertEquals(0, occupancy.getPeakOccupancy());
+        assertEquals(0, occupancy.getPeakOccupancy(START_TIME_0600, START_TIME_0700));
+    }
+
+    @Test
+    public void getPeakOccupancy_departuresBeforeArrivals() {
+        OccupancyIndex occupancy = new OccupancyIndex(Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659,
+                BOOKING_0700));
+
+        // at 0700, alice would have left, so there are at most 10 persons in the restaurant
+        assertEquals(10, occupancy.getPeakOccupancy());
+
+        // window queries only consider the persons present within the window
+        assertEquals(5, occupancy.getPeakOccupancy(START_TIME_0600, START_TIME_0630));
+        assertEquals(8, occupancy.getPeakOccupancy(START_TIME_0630, START_TIME_0659));
+        assertEquals(10, occupancy.getPeakOccupancy(START_TIME_0659, START_TIME_0700));
+        assertEquals(10, occupancy.getPeakOccupancy(START_TIME_0700, START_TIME_0700.plusHours(1)));
+        assertEquals(0, occupancy.getPeakOccupancy(START_TIME_0600.minusHours(1), START_TIME_0600));
+        assertEquals(0, occupancy.getPeakOccupancy(START_TIME_0700.plusHours(1), START_TIME_0700.plusHours(2)));
+    }
+
+    @Test
+    public void remove_previouslyAddedBooking_occupancyRestored() {
+        OccupancyIndex occupancy = new OccupancyIndex();
+        occupancy.add(BOOKING_0600);
+        occupancy.add(BOOKING_0630);
+        assertEquals(8, occupancy.getPeakOccupancy());
+
+        occupancy.remove(BOOKING_0630);
+        assertEquals(5, occupancy.getPeakOccupancy());
+
+        occupancy.remove(BOOKING_0600);
+        assertTrue(occupancy.isEmpty());
+        assertEquals(0, occupancy.getPeakOccupancy());
+    }
+
+    @Test
+    public void canAddBooking_matchesFullSweep() {
+        Random random = new Random(2103);
+        List<Booking> bookings = new ArrayList<>();
+        OccupancyIndex occupancy = new OccupancyIndex();
+        Capacity capacity = new Capacity(30);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime startTime = START_TIME_0600.plusMinutes(15 * random.nextInt(40));
+            Booking booking = new Booking(new BookingWindow(startTime), ALICE, new BookingSize(1 + random.nextInt(8)));
+
+            List<Booking> newList = new ArrayList<>(bookings);
+            newList.add(booking);
+            boolean expected = capacity.canAccommodate(newList);
+            assertEquals(expected, capacity.canAddBooking(booking, occupancy));
+
+            if (expected) {
+                bookings.add(booking);
+                occupancy.add(booking);
+            } else if (!bookings.isEmpty()) {
+                Booking toRemove = bookings.remove(random.nextInt(bookings.size()));
+                occupancy.remove(toRemove);
+            }
+            assertTrue(capacity.canAccommodate(occupancy));
+        }
+    }
+
+    @Test
+    public void canAccommodate_occupancyIndex() {
+        OccupancyIndex occupancy = new OccupancyIndex(Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659,
+                BOOKING_0700));
+        assertFalse(new Capacity(9).canAccommodate(occupancy));
+        assertTrue(new Capacity(10).canAccommodate(occupancy));
+    }
+
+    @Test
+    public void getWindowsAbove_occupancyAboveThreshold_maximalWindowsReturned() {
+        OccupancyIndex occupancy = new OccupancyIndex(Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659,
+                BOOKING_0700));
+
+        assertEquals(Collections.singletonList(new OccupancyWindow(START_TIME_0630, START_TIME_0630.plusHours(1), 10)),
+                occupancy.getWindowsAbove(7));
+        assertEquals(Collections.singletonList(new OccupancyWindow(START_TIME_0659, START_TIME_0630.plusHours(1), 10)),
+                occupancy.getWindowsAbove(9));
+        assertTrue(occupancy.getWindowsAbove(10).isEmpty());
+        assertTrue(new OccupancyIndex().getWindowsAbove(0).isEmpty());
+    }
+
+    @Test
+    public void getWindowsAbove_matchesFullSweep() {
+        Random random = new Random(2103);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime startTime = START_TIME_0600.plusMinutes(15 * random.nextInt(200));
+            bookings.add(new Booking(new BookingWindow(startTime), ALICE, new BookingSize(1 + random.nextInt(8))));
+        }
+        OccupancyIndex occupancy = new OccupancyIndex(bookings);
+        NavigableMap<LocalDateTime, Integer> profile =
+                occupancy.getOccupancyProfile(START_TIME_0600.minusDays(1), START_TIME_0600.plusDays(7));
+
+        for (int threshold = 0; threshold <= occupancy.getPeakOccupancy(); threshold++) {
+            List<OccupancyWindow> expectedWindows = new ArrayList<>();
+            LocalDateTime windowStart = null;
+            int windowPeak = 0;
+            for (Map.Entry<LocalDateTime, Integer> entry : profile.entrySet()) {
+                if (entry.getValue() > threshold) {
+                    windowPeak = windowStart == null ? entry.getValue() : Math.max(windowPeak, entry.getValue());
+                    windowStart = windowStart == null ? entry.getKey() : windowStart;
+                } else if (windowStart != null) {
+                    expectedWindows.add(new OccupancyWindow(windowStart, entry.getKey(), windowPeak));
+                    windowStart = null;
+                }
+            }
+            assertEquals(expectedWindows, occupancy.getWindowsAbove(threshold));
+        }
+    }
+
+    @Test
+    public void getDailyPeakOccupancy_onlyDatesWithBookingsReturned() {
+        LocalDate date = START_TIME_0600.toLocalDate();
+        Booking lateBooking = new Booking(new BookingWindow(date.atTime(23, 30)), BOB, new BookingSize(4));
+        OccupancyIndex occupancy = new OccupancyIndex(Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659,
+                BOOKING_0700, lateBooking));
+
+        NavigableMap<LocalDate, Integer> expectedPeaks = new TreeMap<>();
+        expectedPeaks.put(date, 10);
+        // a booking that starts before midnight also counts towards the next day
+        expectedPeaks.put(date.plusDays(1), 4);
+        assertEquals(expectedPeaks, occupancy.getDailyPeakOccupancy(date.minusDays(3), date.plusDays(3)));
+        assertTrue(occupancy.getDailyPeakOccupancy(date.plusDays(1), date).isEmpty());
+    }
+}
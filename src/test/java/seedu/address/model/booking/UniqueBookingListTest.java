@@ -0,0 +1,217 @@
+package seedu.address.model.booking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
+import static seedu.address.testutil.TypicalBookings.CARL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING_SECOND;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.ItemNotFoundException;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.MemberBuilder;
+
+public class UniqueBookingListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueBookingList uniqueBookingList = new UniqueBookingList();
+
+    @Test
+    public void contains_bookingWithSameIdentityInList_returnsTrue() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        assertTrue(uniqueBookingList.contains(new BookingBuilder(ALICE_BOOKING).withNumPersons(2).build()));
+        assertFalse(uniqueBookingList.contains(new BookingBuilder(ALICE_BOOKING).withCustomer(BOB).build()));
+    }
+
+    @Test
+    public void add_duplicateBooking_throwsDuplicateItemException() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        thrown.expect(DuplicateItemException.class);
+        uniqueBookingList.add(new BookingBuilder(ALICE_BOOKING).withNumPersons(2).build());
+    }
+
+    @Test
+    public void add_bookingsOutOfOrder_listSortedByStartTime() {
+        uniqueBookingList.add(CARL_BOOKING);
+        uniqueBookingList.add(BENSON_BOOKING);
+        uniqueBookingList.add(DANIEL_BOOKING);
+        uniqueBookingList.add(ALICE_BOOKING);
+        assertEquals(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING),
+                uniqueBookingList.asUnmodifiableObservableList());
+
+        // bookings with the same start time are kept in the order they were added
+        Booking bobBooking = new BookingBuilder(ALICE_BOOKING).withCustomer(BOB).build();
+        uniqueBookingList.add(bobBooking);
+        assertEquals(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, bobBooking, BENSON_BOOKING, CARL_BOOKING),
+                uniqueBookingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_bookingsAroundExistingBookings_onlyNewBookingsInserted() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        uniqueBookingList.add(CARL_BOOKING);
+        List<String> changes = new ArrayList<>();
+        uniqueBookingList.asUnmodifiableObservableList().addListener((ListChangeListener<Booking>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        uniqueBookingList.addAll(Arrays.asList(BENSON_BOOKING, DANIEL_BOOKING));
+        assertEquals(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING),
+                uniqueBookingList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList("1:[]->" + Collections.singletonList(BENSON_BOOKING),
+                "0:[]->" + Collections.singletonList(DANIEL_BOOKING)), changes);
+        LocalDate bensonDate = BENSON_BOOKING.getStartTime().toLocalDate();
+        assertTrue(uniqueBookingList.getBookingsBetween(bensonDate, bensonDate).contains(BENSON_BOOKING));
+    }
+
+    @Test
+    public void addAll_duplicateBooking_throwsDuplicateItemException() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        try {
+            uniqueBookingList.addAll(Arrays.asList(BENSON_BOOKING,
+                    new BookingBuilder(ALICE_BOOKING).withNumPersons(2).build()));
+            throw new AssertionError("The expected DuplicateItemException was not thrown.");
+        } catch (DuplicateItemException e) {
+            assertEquals(Collections.singletonList(ALICE_BOOKING), uniqueBookingList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void setBooking_targetNotInList_throwsItemNotFoundException() {
+        thrown.expect(ItemNotFoundException.class);
+        uniqueBookingList.setBooking(ALICE_BOOKING, ALICE_BOOKING);
+    }
+
+    @Test
+    public void setBooking_editedBookingHasNonUniqueIdentity_throwsDuplicateItemException() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        uniqueBookingList.add(BENSON_BOOKING);
+        thrown.expect(DuplicateItemException.class);
+        uniqueBookingList.setBooking(BENSON_BOOKING, new BookingBuilder(ALICE_BOOKING).withNumPersons(2).build());
+    }
+
+    @Test
+    public void setBooking_editedBookingMovesToAnotherDay_listStaysSorted() {
+        uniqueBookingList.setBookings(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING));
+        Booking movedBooking = new BookingBuilder(ALICE_BOOKING).withDate(DANIEL_BOOKING_SECOND.getStartTime()).build();
+        uniqueBookingList.setBooking(ALICE_BOOKING, movedBooking);
+
+        assertEquals(Arrays.asList(BENSON_BOOKING, CARL_BOOKING, movedBooking),
+                uniqueBookingList.asUnmodifiableObservableList());
+        LocalDate originalDate = ALICE_BOOKING.getStartTime().toLocalDate();
+        assertEquals(Collections.singletonList(BENSON_BOOKING),
+                uniqueBookingList.getBookingsBetween(originalDate, originalDate));
+    }
+
+    @Test
+    public void remove_bookingDoesNotExist_throwsItemNotFoundException() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        thrown.expect(ItemNotFoundException.class);
+        uniqueBookingList.remove(new BookingBuilder(ALICE_BOOKING).withNumPersons(2).build());
+    }
+
+    @Test
+    public void remove_existingBooking_removesBooking() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        uniqueBookingList.remove(ALICE_BOOKING);
+        assertEquals(new UniqueBookingList(), uniqueBookingList);
+        assertFalse(uniqueBookingList.contains(ALICE_BOOKING));
+    }
+
+    @Test
+    public void setCustomer_customerWithBookings_onlyCustomerBookingsEdited() {
+        uniqueBookingList.setBookings(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING,
+                DANIEL_BOOKING_SECOND));
+        Member editedDaniel = new MemberBuilder(DANIEL).withPhone("91234567").build();
+        uniqueBookingList.setCustomer(DANIEL, editedDaniel);
+
+        Booking editedDanielBooking = DANIEL_BOOKING.editContacts(editedDaniel);
+        Booking editedDanielBookingSecond = DANIEL_BOOKING_SECOND.editContacts(editedDaniel);
+        assertEquals(Arrays.asList(editedDanielBooking, ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING,
+                editedDanielBookingSecond), uniqueBookingList.asUnmodifiableObservableList());
+        assertEquals(0, uniqueBookingList.countBookingsOf(DANIEL));
+        assertEquals(Arrays.asList(editedDanielBooking, editedDanielBookingSecond),
+                uniqueBookingList.getBookingsOf(editedDaniel));
+        assertTrue(uniqueBookingList.contains(editedDanielBooking));
+    }
+
+    @Test
+    public void setCustomer_editedCustomerBookedAtSameTime_throwsDuplicateItemException() {
+        uniqueBookingList.add(ALICE_BOOKING);
+        uniqueBookingList.add(new BookingBuilder(ALICE_BOOKING).withCustomer(BOB).build());
+        thrown.expect(DuplicateItemException.class);
+        uniqueBookingList.setCustomer(ALICE, BOB);
+    }
+
+    @Test
+    public void removeBookingsOf_customerWithBookings_removedAndReturned() {
+        uniqueBookingList.setBookings(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING,
+                DANIEL_BOOKING_SECOND));
+
+        assertEquals(Arrays.asList(DANIEL_BOOKING, DANIEL_BOOKING_SECOND), uniqueBookingList.removeBookingsOf(DANIEL));
+        assertEquals(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING),
+                uniqueBookingList.asUnmodifiableObservableList());
+        assertEquals(0, uniqueBookingList.countBookingsOf(DANIEL));
+        assertEquals(1, uniqueBookingList.countBookingsOf(ALICE));
+        assertTrue(uniqueBookingList.removeBookingsOf(DANIEL).isEmpty());
+    }
+
+    @Test
+    public void setBookings_listWithDuplicateBookings_throwsDuplicateItemException() {
+        thrown.expect(DuplicateItemException.class);
+        uniqueBookingList.setBookings(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING,
+                new BookingBuilder(ALICE_BOOKING).withNumPersons(2).build()));
+    }
+
+    @Test
+    public void getBookingsBetween_onlyBookingsOnGivenDatesReturned() {
+        uniqueBookingList.setBookings(Arrays.asList(CARL_BOOKING, DANIEL_BOOKING_SECOND, ALICE_BOOKING,
+                BENSON_BOOKING, DANIEL_BOOKING));
+
+        assertEquals(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING),
+                uniqueBookingList.getBookingsBetween(ALICE_BOOKING.getStartTime().toLocalDate(),
+                        CARL_BOOKING.getStartTime().toLocalDate()));
+        assertTrue(uniqueBookingList.getBookingsBetween(CARL_BOOKING.getStartTime().toLocalDate(),
+                ALICE_BOOKING.getStartTime().toLocalDate()).isEmpty());
+    }
+
+    @Test
+    public void removeBookingsBefore_bookingsOnEarlierDates_removedAndReturned() {
+        uniqueBookingList.setBookings(Arrays.asList(CARL_BOOKING, DANIEL_BOOKING_SECOND, ALICE_BOOKING,
+                BENSON_BOOKING, DANIEL_BOOKING));
+
+        assertEquals(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING),
+                uniqueBookingList.removeBookingsBefore(CARL_BOOKING.getStartTime().toLocalDate()));
+        assertEquals(Arrays.asList(CARL_BOOKING, DANIEL_BOOKING_SECOND),
+                uniqueBookingList.asUnmodifiableObservableList());
+        assertFalse(uniqueBookingList.contains(ALICE_BOOKING));
+        assertTrue(uniqueBookingList.removeBookingsBefore(CARL_BOOKING.getStartTime().toLocalDate()).isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueBookingList.asUnmodifiableObservableList().remove(0);
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalMembers.ALICE;
 import static seedu.address.testutil.TypicalMembers.BOB;
 
@@ -50,6 +53,16 @@ public class UniqueItemListTest {
         assertTrue(uniqueItemList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_memberWithSameNameAndEitherPhoneOrEmail_returnsTrue() {
+        uniqueItemList.add(ALICE);
+        assertTrue(uniqueItemList.contains(new MemberBuilder(ALICE).withEmail(PERSON_VALID_EMAIL_BOB).build()));
+        assertTrue(uniqueItemList.contains(new MemberBuilder(ALICE).withPhone(PERSON_VALID_PHONE_BOB).build()));
+        assertFalse(uniqueItemList.contains(new MemberBuilder(ALICE).withPhone(PERSON_VALID_PHONE_BOB)
+                .withEmail(PERSON_VALID_EMAIL_BOB).build()));
+        assertFalse(uniqueItemList.contains(new MemberBuilder(ALICE).withName(PERSON_VALID_NAME_BOB).build()));
+    }
+
     @Test
     public void add_nullMember_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -117,6 +130,26 @@ public class UniqueItemListTest {
         uniqueItemList.setItem(ALICE, BOB);
     }
 
+    @Test
+    public void setMember_editedMemberHasDifferentIdentity_oldIdentityRemoved() {
+        uniqueItemList.add(ALICE);
+        uniqueItemList.setItem(ALICE, BOB);
+        assertFalse(uniqueItemList.contains(ALICE));
+        uniqueItemList.add(ALICE);
+        assertTrue(uniqueItemList.contains(ALICE));
+    }
+
+    @Test
+    public void setMember_editedMemberSharesEmailWithAnotherMember_throwsDuplicateMemberException() {
+        Member aliceWithBobPhone = new MemberBuilder(ALICE).withPhone(PERSON_VALID_PHONE_BOB)
+                .withEmail(PERSON_VALID_EMAIL_BOB).build();
+        uniqueItemList.add(ALICE);
+        uniqueItemList.add(aliceWithBobPhone);
+        thrown.expect(DuplicateItemException.class);
+        uniqueItemList.setItem(aliceWithBobPhone, new MemberBuilder(aliceWithBobPhone)
+                .withEmail(ALICE.getEmail().value).build());
+    }
+
     @Test
     public void remove_nullMember_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -135,6 +168,7 @@ public class UniqueItemListTest {
         uniqueItemList.remove(ALICE);
         UniqueItemList expectedUniqueItemList = new UniqueItemList();
         assertEquals(expectedUniqueItemList, uniqueItemList);
+        assertFalse(uniqueItemList.contains(ALICE));
     }
 
     @Test
@@ -176,6 +210,22 @@ public class UniqueItemListTest {
         uniqueItemList.setItems(listWithDuplicateMembers);
     }
 
+    @Test
+    public void setMembers_listWithMembersSharingPhone_throwsDuplicateMemberException() {
+        List<Member> listWithDuplicateMembers = Arrays.asList(ALICE, BOB,
+                new MemberBuilder(ALICE).withEmail(PERSON_VALID_EMAIL_BOB).build());
+        thrown.expect(DuplicateItemException.class);
+        uniqueItemList.setItems(listWithDuplicateMembers);
+    }
+
+    @Test
+    public void setMembers_list_indexesReplaced() {
+        uniqueItemList.add(ALICE);
+        uniqueItemList.setItems(Collections.singletonList(BOB));
+        assertFalse(uniqueItemList.contains(ALICE));
+        assertTrue(uniqueItemList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
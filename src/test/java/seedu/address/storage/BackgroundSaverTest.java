@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.core.SavePolicy;
+
+public class BackgroundSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void constructor_negativeDebounce_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new BackgroundSaver(SavePolicy.DEBOUNCE, -1);
+    }
+
+    @Test
+    public void submit_fsync_writtenBeforeReturning() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(SavePolicy.FSYNC, 0);
+        saver.submit(new RecordingSave("a"));
+        assertEquals(Collections.singletonList("a"), writes);
+    }
+
+    @Test
+    public void submit_fsyncWriteFails_throwsIoException() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(SavePolicy.FSYNC, 0);
+        thrown.expect(IOException.class);
+        saver.submit(new FailingSave());
+    }
+
+    @Test
+    public void flush_everyCommand_allSavesWrittenInOrder() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(SavePolicy.EVERY_COMMAND, 0);
+        saver.submit(new RecordingSave("a"));
+        saver.submit(new RecordingSave("b"));
+        saver.submit(new RecordingSave("c"));
+        saver.flush();
+
+        // saves may be merged, but every save is written in order
+        assertEquals("abc", String.join("", writes));
+    }
+
+    @Test
+    public void flush_debounce_burstMergedIntoOneWrite() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(SavePolicy.DEBOUNCE, 60000);
+        saver.submit(new RecordingSave("a"));
+        saver.submit(new RecordingSave("b"));
+        saver.submit(new RecordingSave("c"));
+        assertTrue(writes.isEmpty());
+
+        saver.flush();
+        assertEquals(Collections.singletonList("abc"), writes);
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_failureHandledAndThrown() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(SavePolicy.DEBOUNCE, 60000);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+        saver.submit(new FailingSave());
+
+        IOException thrownFailure = null;
+        try {
+            saver.flush();
+        } catch (IOException ioe) {
+            thrownFailure = ioe;
+        }
+        assertEquals(DUMMY_IO_EXCEPTION, thrownFailure);
+        // the failure handler is called right after the failed write, on the writer thread
+        long deadline = System.currentTimeMillis() + 5000;
+        while (failures.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Collections.singletonList(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void flush_laterWriteSucceeded_noFailureThrown() throws Exception {
+        BackgroundSaver saver = new BackgroundSaver(SavePolicy.EVERY_COMMAND, 0);
+        saver.submit(new FailingSave());
+        try {
+            saver.flush();
+        } catch (IOException ioe) {
+            assertEquals(DUMMY_IO_EXCEPTION, ioe);
+        }
+
+        saver.submit(new RecordingSave("a"));
+        saver.flush();
+        assertEquals(Collections.singletonList("a"), writes);
+    }
+
+    /**
+     * A save that records its name when written, and merges with a later save by joining their names.
+     */
+    private class RecordingSave implements PendingSave {
+        private final String name;
+
+        RecordingSave(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void write() {
+            writes.add(name);
+        }
+
+        @Override
+        public Optional<PendingSave> mergeWith(PendingSave later) {
+            return later instanceof RecordingSave
+                    ? Optional.of(new RecordingSave(name + ((RecordingSave) later).name))
+                    : Optional.empty();
+        }
+    }
+
+    /**
+     * A save that always fails to be written.
+     */
+    private static class FailingSave implements PendingSave {
+        @Override
+        public void write() throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
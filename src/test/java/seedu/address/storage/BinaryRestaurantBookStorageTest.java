@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalIngredients.CHICKEN;
+import static seedu.address.testutil.TypicalIngredients.COFFEE;
+import static seedu.address.testutil.TypicalIngredients.RICE;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.HOON;
+import static seedu.address.testutil.TypicalStaff.getTypicalStaff;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.IngredientBuilder;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TypicalBookings;
+
+public class BinaryRestaurantBookStorageTest extends RestaurantBookStorageContractTest {
+
+    @Override
+    protected RestaurantBookStorage createStorage(Path filePath) {
+        return new BinaryRestaurantBookStorage(filePath);
+    }
+
+    @Override
+    protected String getDataFileName() {
+        return "data.bin";
+    }
+
+    @Test
+    public void readAndSave_typicalBookings_success() throws Exception {
+        RestaurantBook original = TypicalBookings.getTypicalAddressBook();
+        getTypicalStaff().forEach(original::addStaff);
+        assertEquals(original, saveAndReadBack(original));
+    }
+
+    @Test
+    public void readAndSave_unlistedCustomerAndIngredients_embedded() throws Exception {
+        RestaurantBook original = new RestaurantBook();
+        original.addMember(ALICE);
+        original.addIngredient(CHICKEN);
+        original.addIngredient(new IngredientBuilder(RICE).withIngredientQuantity(100).build());
+        Map<Ingredient, IngredientQuantity> recipeIngredients = new HashMap<>();
+        recipeIngredients.put(CHICKEN, new IngredientQuantity(1));
+        recipeIngredients.put(RICE, new IngredientQuantity(2));
+        recipeIngredients.put(COFFEE, new IngredientQuantity(3));
+        original.addRecipe(new Recipe(new RecipeName("chicken rice"), new RecipeIngredientSet(recipeIngredients)));
+        Member aliceBeforeReward = new MemberBuilder(ALICE).withLoyaltyPoints(0).build();
+        original.addBooking(new BookingBuilder().withCustomer(aliceBeforeReward).build());
+
+        RestaurantBook readBack = saveAndReadBack(original);
+        assertEquals(original, readBack);
+        assertEquals(aliceBeforeReward.getLoyaltyPoints(),
+                readBack.getBookingList().get(0).getCustomer().getLoyaltyPoints());
+    }
+
+    @Test
+    public void prepareSave_sectionsModifiedBetweenSaves_latestDataWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.bin");
+        BinaryRestaurantBookStorage storage = new BinaryRestaurantBookStorage(filePath);
+        RestaurantBook original = TypicalBookings.getTypicalAddressBook();
+        storage.prepareSave(original).write();
+
+        // the unmodified sections are reused from the previous snapshot
+        original.addMember(HOON);
+        storage.prepareSave(original).write();
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+
+        original.addIngredient(CHICKEN);
+        original.setCapacity(new Capacity(40));
+        storage.prepareSave(original).write();
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+
+        // another restaurant book is captured in full
+        RestaurantBook other = new RestaurantBook(original);
+        other.removeMember(HOON);
+        storage.prepareSave(other).write();
+        assertEquals(other, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        new JsonRestaurantBookStorage(filePath).saveRestaurantBook(TypicalBookings.getTypicalAddressBook());
+        assertFalse(BinaryRestaurantBookStorage.isBinaryFile(filePath));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryRestaurantBookStorage(filePath).readRestaurantBook();
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.bin");
+        BinaryRestaurantBookStorage storage = new BinaryRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(TypicalBookings.getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        assertTrue(BinaryRestaurantBookStorage.isBinaryFile(filePath));
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        storage.readRestaurantBook();
+    }
+
+    private RestaurantBook saveAndReadBack(RestaurantBook restaurantBook) throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.bin");
+        BinaryRestaurantBookStorage storage = new BinaryRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(restaurantBook);
+        return new RestaurantBook(storage.readRestaurantBook().get());
+    }
+}
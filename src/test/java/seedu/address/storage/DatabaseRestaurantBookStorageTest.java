@@ -0,0 +1,268 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalIngredients.CHEESE;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.HOON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.VersionedRestaurantBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.IngredientBuilder;
+
+public class DatabaseRestaurantBookStorageTest extends RestaurantBookStorageContractTest {
+
+    private Path filePath;
+
+    @Override
+    protected RestaurantBookStorage createStorage(Path filePath) {
+        return new DatabaseRestaurantBookStorage(filePath);
+    }
+
+    @Override
+    protected String getDataFileName() {
+        return "data.mv.db";
+    }
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve(getDataFileName());
+    }
+
+    @Test
+    public void getDatabaseFilePath_withoutSuffix_suffixAdded() {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("data.json");
+        assertEquals(jsonFilePath.resolveSibling("data.json.mv.db"),
+                DatabaseRestaurantBookStorage.getDatabaseFilePath(jsonFilePath));
+        assertEquals(filePath, DatabaseRestaurantBookStorage.getDatabaseFilePath(filePath));
+    }
+
+    @Test
+    public void save_editsAfterFirstSave_editsApplied() throws Exception {
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+
+        restaurantBook.addMember(HOON);
+        restaurantBook.setIngredient(CHEESE, new IngredientBuilder(CHEESE).withIngredientQuantity(100).build());
+        restaurantBook.removeBooking(restaurantBook.getBookingList().get(0));
+        restaurantBook.removeStaff(restaurantBook.getStaffList().get(0));
+        storage.saveRestaurantBook(restaurantBook);
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+
+        // positions shift correctly when items are inserted before others
+        restaurantBook.addBooking(new BookingBuilder().withCustomer(BENSON)
+                .withDate(LocalDateTime.of(2000, 1, 1, 12, 0)).build());
+        storage.saveRestaurantBook(restaurantBook);
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void save_undoneEdits_applied() throws Exception {
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath);
+        VersionedRestaurantBook restaurantBook = new VersionedRestaurantBook(getTypicalRestaurantBook());
+        storage.saveRestaurantBook(restaurantBook);
+
+        restaurantBook.removeMember(ALICE);
+        restaurantBook.commit();
+        storage.saveRestaurantBook(restaurantBook);
+        restaurantBook.undo();
+        storage.saveRestaurantBook(restaurantBook);
+        assertEquals(new RestaurantBook(restaurantBook), storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void prepareSave_consecutiveSaves_mergedIntoOneTransaction() throws Exception {
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+
+        restaurantBook.addMember(HOON);
+        PendingSave firstSave = storage.prepareSave(restaurantBook);
+        restaurantBook.removeMember(HOON);
+        restaurantBook.removeStaff(restaurantBook.getStaffList().get(0));
+        PendingSave secondSave = storage.prepareSave(restaurantBook);
+        firstSave.mergeWith(secondSave).get().write();
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+
+        // a full save, which is prepared once a save has failed, supersedes the saves before it
+        executeStatement("DROP TABLE staff");
+        restaurantBook.removeStaff(restaurantBook.getStaffList().get(0));
+        try {
+            storage.saveRestaurantBook(restaurantBook);
+            throw new AssertionError("The expected IOException was not thrown.");
+        } catch (IOException ioe) {
+            PendingSave fullSave = storage.prepareSave(restaurantBook);
+            assertTrue(secondSave.mergeWith(fullSave).get() == fullSave);
+            assertFalse(fullSave.mergeWith(secondSave).isPresent());
+            fullSave.write();
+        }
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void save_copiesOfBookRead_onlyEditedRowsWritten() throws Exception {
+        new DatabaseRestaurantBookStorage(filePath).saveRestaurantBook(getTypicalRestaurantBook());
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath);
+        RestaurantBook firstCopy = new RestaurantBook(storage.readRestaurantBook().get());
+        List<Long> positions = readBookingPositions();
+
+        // the first save after reading the database is saved as the edits made to the copy of the restaurant book read
+        firstCopy.removeBooking(firstCopy.getBookingList().get(0));
+        storage.saveRestaurantBook(firstCopy);
+        assertEquals(positions.subList(1, positions.size()), readBookingPositions());
+
+        RestaurantBook secondCopy = new RestaurantBook(firstCopy);
+        secondCopy.addMember(HOON);
+        secondCopy.addBooking(new BookingBuilder().withCustomer(BENSON)
+                .withDate(LocalDateTime.of(2000, 1, 1, 12, 0)).build());
+        storage.saveRestaurantBook(secondCopy);
+        List<Long> newPositions = readBookingPositions();
+        assertEquals(positions.subList(1, positions.size()), newPositions.subList(1, newPositions.size()));
+        assertEquals(secondCopy, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void save_bookingInsertedBeforeOthers_otherRowsNotMoved() throws Exception {
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+        List<Long> positions = readBookingPositions();
+
+        restaurantBook.addBooking(new BookingBuilder().withCustomer(BENSON)
+                .withDate(LocalDateTime.of(2000, 1, 1, 12, 0)).build());
+        storage.saveRestaurantBook(restaurantBook);
+        List<Long> newPositions = readBookingPositions();
+        assertEquals(positions, newPositions.subList(1, newPositions.size()));
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void save_manyBookingsInsertedAtSamePosition_positionsRenumbered() throws Exception {
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+
+        // each booking is earlier than all the others, so it is inserted first, until there is no room left
+        for (int i = 0; i < 40; i++) {
+            restaurantBook.addBooking(new BookingBuilder().withCustomer(BENSON)
+                    .withDate(LocalDateTime.of(2000, 3, 1, 12, 0).minusDays(i)).build());
+            storage.saveRestaurantBook(restaurantBook);
+        }
+        // the rows are checked in the order of their positions, as reading the bookings back sorts them
+        List<String> bookingRows = new ArrayList<>();
+        for (Booking booking : restaurantBook.getBookingList()) {
+            bookingRows.add(JsonUtil.toJsonLine(new JsonAdaptedBooking(booking)));
+        }
+        assertEquals(bookingRows, readBookingRows());
+    }
+
+    @Test
+    public void read_loadHorizon_earlierBookingsLeftInDatabase() throws Exception {
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        List<Booking> earlierBookings = new ArrayList<>(restaurantBook.getBookingList());
+        Booking recentBooking = new BookingBuilder().withCustomer(BENSON)
+                .withDate(LocalDate.now().minusDays(1).atTime(12, 0)).build();
+        restaurantBook.addBooking(recentBooking);
+        new DatabaseRestaurantBookStorage(filePath).saveRestaurantBook(restaurantBook);
+        List<Long> earlierPositions = readBookingPositions().subList(0, earlierBookings.size());
+
+        DatabaseRestaurantBookStorage storage = new DatabaseRestaurantBookStorage(filePath, 30);
+        RestaurantBook readBook = new RestaurantBook(storage.readRestaurantBook().get());
+        assertEquals(Collections.singletonList(recentBooking), readBook.getBookingList());
+        assertEquals(restaurantBook.getMemberList(), readBook.getMemberList());
+
+        // saves do not touch the rows left in the database, which are still read as archived bookings
+        Booking laterBooking = new BookingBuilder().withCustomer(ALICE)
+                .withDate(LocalDate.now().plusDays(1).atTime(12, 0)).build();
+        readBook.removeBooking(recentBooking);
+        readBook.addBooking(laterBooking);
+        storage.saveRestaurantBook(readBook);
+        List<Long> positions = readBookingPositions();
+        assertEquals(earlierBookings.size() + 1, positions.size());
+        assertEquals(earlierPositions, positions.subList(0, earlierBookings.size()));
+        assertEquals(readBook, storage.readRestaurantBook().get());
+
+        BookingArchive bookingArchive = storage.withUnloadedBookings(BookingArchive.none());
+        LocalDate firstDate = earlierBookings.get(0).getStartTime().toLocalDate();
+        assertEquals(earlierBookings, bookingArchive.readBookingsBetween(firstDate, LocalDate.now())
+                .collect(Collectors.toList()));
+        assertEquals(Collections.emptyList(), bookingArchive.readBookingsBetween(LocalDate.now(), LocalDate.now())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void read_unsupportedSchemaVersion_throwsDataConversionException() throws Exception {
+        new DatabaseRestaurantBookStorage(filePath).saveRestaurantBook(getTypicalRestaurantBook());
+        executeStatement("UPDATE meta SET data = '99' WHERE name = 'schema_version'");
+
+        thrown.expect(DataConversionException.class);
+        new DatabaseRestaurantBookStorage(filePath).readRestaurantBook();
+    }
+
+    /**
+     * Returns the positions of the rows of the bookings table, in order.
+     */
+    private List<Long> readBookingPositions() throws Exception {
+        List<Long> positions = new ArrayList<>();
+        try (Connection connection = openDatabase();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT position FROM bookings ORDER BY position")) {
+            while (rows.next()) {
+                positions.add(rows.getLong(1));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the data of the rows of the bookings table, in the order of their positions.
+     */
+    private List<String> readBookingRows() throws Exception {
+        List<String> bookingRows = new ArrayList<>();
+        try (Connection connection = openDatabase();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT data FROM bookings ORDER BY position")) {
+            while (rows.next()) {
+                bookingRows.add(rows.getString(1));
+            }
+        }
+        return bookingRows;
+    }
+
+    private void executeStatement(String sql) throws Exception {
+        try (Connection connection = openDatabase();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private Connection openDatabase() throws Exception {
+        String databaseFile = filePath.toAbsolutePath().toString();
+        String url = "jdbc:h2:file:" + databaseFile.substring(0, databaseFile.length() - ".mv.db".length());
+        return DriverManager.getConnection(url);
+    }
+}
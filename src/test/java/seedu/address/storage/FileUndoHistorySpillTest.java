@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.RestaurantBookDelta;
+import seedu.address.model.booking.Capacity;
+
+public class FileUndoHistorySpillTest {
+
+    private static final RestaurantBookDelta ADD_MEMBERS = new RestaurantBookDelta(new Capacity(10),
+            new Capacity(20), Collections.singletonList(new ListEdit<>(0, Collections.emptyList(),
+                    Arrays.asList(ALICE, BOB))), Collections.emptyList(), Collections.emptyList(),
+            Collections.emptyList(), Collections.emptyList());
+    private static final RestaurantBookDelta REPLACE_BOOKING = new RestaurantBookDelta(new Capacity(20),
+            new Capacity(20), Collections.emptyList(), Collections.singletonList(new ListEdit<>(1,
+                    Collections.singletonList(ALICE_BOOKING), Collections.singletonList(BENSON_BOOKING))),
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new FileUndoHistorySpill(null);
+    }
+
+    @Test
+    public void pop_pushedStates_readBackInReverseOrder() throws Exception {
+        FileUndoHistorySpill spill = new FileUndoHistorySpill(getSpillFile());
+        spill.push(ADD_MEMBERS);
+        spill.push(REPLACE_BOOKING);
+        assertEquals(2, spill.size());
+
+        assertEquals(REPLACE_BOOKING, spill.pop());
+        spill.push(REPLACE_BOOKING);
+        assertEquals(REPLACE_BOOKING, spill.pop());
+        assertEquals(ADD_MEMBERS, spill.pop());
+        assertEquals(0, spill.size());
+    }
+
+    @Test
+    public void dropOldest_allStatesDropped_fileDeleted() throws Exception {
+        FileUndoHistorySpill spill = new FileUndoHistorySpill(getSpillFile());
+        spill.push(ADD_MEMBERS);
+        spill.push(REPLACE_BOOKING);
+
+        spill.dropOldest();
+        assertEquals(1, spill.size());
+        assertEquals(REPLACE_BOOKING, spill.pop());
+
+        spill.push(ADD_MEMBERS);
+        spill.dropOldest();
+        assertFalse(Files.exists(getSpillFile()));
+    }
+
+    @Test
+    public void dropOldest_manyStatesSpilledAndDropped_fileSizeBounded() throws Exception {
+        FileUndoHistorySpill spill = new FileUndoHistorySpill(getSpillFile());
+        spill.push(ADD_MEMBERS);
+        spill.push(REPLACE_BOOKING);
+        long maxFileSize = 0;
+
+        // the spill is kept at two states, as at the maximum undo depth
+        for (int i = 0; i < 200; i++) {
+            spill.push(i % 2 == 0 ? ADD_MEMBERS : REPLACE_BOOKING);
+            spill.dropOldest();
+            maxFileSize = Math.max(maxFileSize, Files.size(getSpillFile()));
+        }
+        long stateSize = Math.max(serializedSize(ADD_MEMBERS), serializedSize(REPLACE_BOOKING));
+        assertTrue(maxFileSize <= 6 * stateSize);
+
+        // the states that are kept are read back after the file is compacted
+        assertEquals(REPLACE_BOOKING, spill.pop());
+        assertEquals(ADD_MEMBERS, spill.pop());
+    }
+
+    @Test
+    public void pop_corruptedFile_throwsIoException() throws Exception {
+        FileUndoHistorySpill spill = new FileUndoHistorySpill(getSpillFile());
+        spill.push(ADD_MEMBERS);
+        Files.write(getSpillFile(), "not a state\n".getBytes(UTF_8));
+
+        thrown.expect(IOException.class);
+        spill.pop();
+    }
+
+    private static long serializedSize(RestaurantBookDelta delta) throws IOException {
+        return (JsonUtil.toJsonLine(new JsonAdaptedRestaurantBookDelta(delta)) + "\n").getBytes(UTF_8).length;
+    }
+
+    private Path getSpillFile() {
+        return testFolder.getRoot().toPath().resolve("undo-history.jsonl");
+    }
+}
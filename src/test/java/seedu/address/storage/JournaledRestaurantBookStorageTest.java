@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.HOON;
+import static seedu.address.testutil.TypicalMembers.IDA;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.VersionedRestaurantBook;
+import seedu.address.model.booking.Capacity;
+
+public class JournaledRestaurantBookStorageTest extends RestaurantBookStorageContractTest {
+
+    @Override
+    protected RestaurantBookStorage createStorage(Path filePath) {
+        return new JournaledRestaurantBookStorage(filePath);
+    }
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        journalFilePath = JournaledRestaurantBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void save_firstSave_writesSnapshotAndEmptyJournal() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+
+        storage.saveRestaurantBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void save_editsAfterFirstSave_onlyJournalAppended() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addMember(HOON);
+        original.removeMember(ALICE);
+        storage.saveRestaurantBook(original);
+        original.addMember(IDA);
+        original.setCapacity(new Capacity(original.getCapacity().getValue() + 1));
+        storage.saveRestaurantBook(original);
+
+        assertEquals(new String(snapshot, UTF_8), new String(Files.readAllBytes(filePath), UTF_8));
+        assertEquals(3, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void save_noEditsSinceLastSave_nothingWritten() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+
+        storage.saveRestaurantBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath, UTF_8).size());
+    }
+
+    @Test
+    public void save_undoneEdits_replayedInOrder() throws Exception {
+        VersionedRestaurantBook original = new VersionedRestaurantBook(getTypicalAddressBook());
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+
+        original.addBooking(ALICE_BOOKING);
+        original.commit();
+        storage.saveRestaurantBook(original);
+        original.undo();
+        storage.saveRestaurantBook(original);
+
+        assertEquals(new RestaurantBook(original), new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void save_journalBeyondThreshold_compactedIntoSnapshot() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath, 0);
+        storage.saveRestaurantBook(original);
+
+        original.addMember(HOON);
+        storage.saveRestaurantBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath, UTF_8).size());
+
+        // the next save compacts the journal
+        storage.saveRestaurantBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+
+        // edits after the compaction are journaled against the new snapshot
+        original.addMember(IDA);
+        storage.saveRestaurantBook(original);
+        assertEquals(original, new RestaurantBook(new JournaledRestaurantBookStorage(filePath)
+                .readRestaurantBook().get()));
+    }
+
+    @Test
+    public void prepareSave_consecutiveJournalRecords_mergedIntoOneRecord() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        PendingSave snapshotSave = storage.prepareSave(original);
+
+        original.addMember(HOON);
+        PendingSave firstSave = storage.prepareSave(original);
+        original.addMember(IDA);
+        original.removeMember(HOON);
+        PendingSave secondSave = storage.prepareSave(original);
+
+        assertFalse(snapshotSave.mergeWith(firstSave).isPresent());
+        snapshotSave.write();
+        firstSave.mergeWith(secondSave).get().write();
+        assertEquals(2, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void prepareSave_journalWriteFailed_nextSaveWritesSnapshot() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+        original.addMember(HOON);
+        PendingSave failingSave = storage.prepareSave(original);
+        Files.delete(journalFilePath);
+        Files.createDirectory(journalFilePath);
+        try {
+            failingSave.write();
+        } catch (IOException ioe) {
+            Files.delete(journalFilePath);
+        }
+
+        original.addMember(IDA);
+        storage.saveRestaurantBook(original);
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void read_tornLastRecord_lastRecordDiscarded() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+        original.addMember(HOON);
+        storage.saveRestaurantBook(original);
+        RestaurantBook lastSaved = new RestaurantBook(original);
+
+        original.addMember(IDA);
+        storage.saveRestaurantBook(original);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journal, journal.length - 10));
+
+        assertEquals(lastSaved, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void read_corruptedMiddleRecord_throwsDataConversionException() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+        original.addMember(HOON);
+        storage.saveRestaurantBook(original);
+        original.addMember(IDA);
+        storage.saveRestaurantBook(original);
+
+        List<String> lines = Files.readAllLines(journalFilePath, UTF_8);
+        lines.set(1, lines.get(1).replace(HOON.getName().fullName, IDA.getName().fullName));
+        Files.write(journalFilePath, lines, UTF_8);
+
+        thrown.expect(DataConversionException.class);
+        storage.readRestaurantBook();
+    }
+
+    @Test
+    public void read_snapshotReplacedAfterJournal_journalIgnored() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(original);
+        original.addMember(HOON);
+        storage.saveRestaurantBook(original);
+
+        // a compaction that was interrupted after the new snapshot was written
+        RestaurantBook compacted = new RestaurantBook(original);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        new JournaledRestaurantBookStorage(filePath).saveRestaurantBook(compacted);
+        Files.write(journalFilePath, journal, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertEquals(compacted, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void save_otherFilePath_snapshotWritten() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("OtherAddressBook.json");
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+
+        storage.saveRestaurantBook(original, otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook(otherFilePath).get()));
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.storage.JsonAdaptedBookingV2.MESSAGE_UNKNOWN_MEMBER;
+import static seedu.address.storage.JsonAdaptedBookingV2.MISSING_FIELD_MESSAGE_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.MemberBuilder;
+
+public class JsonAdaptedBookingV2Test {
+    private static final String VALID_START_TIME = "2019-04-07T12:00";
+    private static final int VALID_NUM_PERSONS = 10;
+
+    private static final Member PETER = new MemberBuilder().withName("peter").withLoyaltyPoints(5).build();
+    private static final Member PAUL = new MemberBuilder().withName("paul").build();
+    private static final List<Member> MEMBERS = Arrays.asList(PAUL, PETER);
+    private static final Booking BOOKING = new Booking(new BookingWindow(VALID_START_TIME), PETER,
+            new BookingSize(VALID_NUM_PERSONS));
+
+    @Test
+    public void toModelType_memberId_returnsBookingOfMember() throws Exception {
+        JsonAdaptedBookingV2 booking = new JsonAdaptedBookingV2(BOOKING, 1);
+        assertEquals(BOOKING, booking.toModelType(MEMBERS));
+    }
+
+    @Test
+    public void toModelType_embeddedCustomer_returnsBooking() throws Exception {
+        JsonAdaptedBookingV2 booking = new JsonAdaptedBookingV2(BOOKING);
+        assertEquals(BOOKING, booking.toModelType(MEMBERS.subList(0, 1)));
+    }
+
+    @Test
+    public void toModelType_unknownMemberId_throwsIllegalValueException() {
+        JsonAdaptedBookingV2 booking = new JsonAdaptedBookingV2(2, null, VALID_START_TIME, VALID_NUM_PERSONS);
+        String expectedMessage = String.format(MESSAGE_UNKNOWN_MEMBER, 2);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> booking.toModelType(MEMBERS));
+    }
+
+    @Test
+    public void toModelType_noCustomer_throwsIllegalValueException() {
+        JsonAdaptedBookingV2 booking = new JsonAdaptedBookingV2(null, null, VALID_START_TIME, VALID_NUM_PERSONS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Member.class.getSimpleName());
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> booking.toModelType(MEMBERS));
+    }
+
+    @Test
+    public void toModelType_nullStartTime_throwsIllegalValueException() {
+        JsonAdaptedBookingV2 booking = new JsonAdaptedBookingV2(0, null, null, VALID_NUM_PERSONS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, BookingWindow.class.getSimpleName());
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> booking.toModelType(MEMBERS));
+    }
+}
@@ -8,26 +8,23 @@ import static seedu.address.testutil.TypicalMembers.IDA;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.junit.Rule;
 import org.junit.Test;
-import org.junit.rules.ExpectedException;
-import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.RestaurantBook;
 
-public class JsonRestaurantBookStorageTest {
+public class JsonRestaurantBookStorageTest extends RestaurantBookStorageContractTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRestaurantBookStorageTest");
 
-    @Rule
-    public ExpectedException thrown = ExpectedException.none();
-
-    @Rule
-    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Override
+    protected RestaurantBookStorage createStorage(Path filePath) {
+        return new JsonRestaurantBookStorage(filePath);
+    }
 
     @Test
     public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
@@ -99,6 +96,19 @@ public class JsonRestaurantBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_missingFolder_savedWithoutTempFiles() throws Exception {
+        Path folder = testFolder.getRoot().toPath().resolve("data");
+        Path filePath = folder.resolve("TempAddressBook.json");
+        RestaurantBook original = getTypicalAddressBook();
+        JsonRestaurantBookStorage jsonAddressBookStorage = new JsonRestaurantBookStorage(filePath);
+
+        jsonAddressBookStorage.saveRestaurantBook(original);
+        jsonAddressBookStorage.saveRestaurantBook(original);
+        assertEquals(1, Files.list(folder).count());
+        assertEquals(original, new RestaurantBook(jsonAddressBookStorage.readRestaurantBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -1,17 +1,44 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalIngredients.CHICKEN;
+import static seedu.address.testutil.TypicalIngredients.COFFEE;
+import static seedu.address.testutil.TypicalIngredients.RICE;
+import static seedu.address.testutil.TypicalMembers.ALICE;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.RestaurantBook;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.IngredientBuilder;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TypicalBookings;
 import seedu.address.testutil.TypicalMembers;
 
 public class JsonSerializableRestaurantBookTest {
@@ -20,6 +47,7 @@ public class JsonSerializableRestaurantBookTest {
     private static final Path TYPICAL_MEMBERS_FILE = TEST_DATA_FOLDER.resolve("typicalMembersAddressBook.json");
     private static final Path INVALID_MEMBER_FILE = TEST_DATA_FOLDER.resolve("invalidMemberAddressBook.json");
     private static final Path DUPLICATE_MEMBER_FILE = TEST_DATA_FOLDER.resolve("duplicateMemberAddressBook.json");
+    private static final Path TYPICAL_BOOKINGS_FILE = TEST_DATA_FOLDER.resolve("typicalBookingsAddressBook.json");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -49,4 +77,107 @@ public class JsonSerializableRestaurantBookTest {
         thrown.expectMessage(JsonSerializableRestaurantBook.MESSAGE_DUPLICATE_MEMBER);
         dataFromFile.toModelType();
     }
+
+    @Test
+    public void readFrom_typicalMembersFile_sameAsToModelType() throws Exception {
+        RestaurantBook expected = JsonUtil.readJsonFile(TYPICAL_MEMBERS_FILE,
+                JsonSerializableRestaurantBook.class).get().toModelType();
+        assertEquals(expected, readFrom(TYPICAL_MEMBERS_FILE));
+    }
+
+    @Test
+    public void readFrom_typicalBookingsFileWithoutRecipes_success() throws Exception {
+        RestaurantBook restaurantBook = readFrom(TYPICAL_BOOKINGS_FILE);
+        assertFalse(restaurantBook.getBookingList().isEmpty());
+        assertTrue(restaurantBook.getRecipeList().isEmpty());
+    }
+
+    @Test
+    public void readFrom_duplicateMembers_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableRestaurantBook.MESSAGE_DUPLICATE_MEMBER);
+        readFrom(DUPLICATE_MEMBER_FILE);
+    }
+
+    @Test
+    public void readFrom_notAnArray_throwsJsonParseException() throws Exception {
+        thrown.expect(JsonParseException.class);
+        readFrom("{ \"members\" : 1 }");
+    }
+
+    @Test
+    public void readFrom_unknownFieldsAndMissingLists_skippedAndEmpty() throws Exception {
+        RestaurantBook restaurantBook = readFrom("{ \"unknown\" : { \"members\" : [ 1 ] }, \"intCapacity\" : 5 }");
+        assertEquals(5, restaurantBook.getCapacity().getValue());
+        assertEquals(0, restaurantBook.getMemberList().size());
+    }
+
+    @Test
+    public void readFrom_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(JsonSerializableRestaurantBook.MESSAGE_UNSUPPORTED_VERSION, 3));
+        readFrom("{ \"version\" : 3 }");
+    }
+
+    @Test
+    public void writeTo_typicalBookings_bookingsReferToMembers() throws Exception {
+        RestaurantBook restaurantBook = TypicalBookings.getTypicalAddressBook();
+        String json = writeTo(restaurantBook);
+        assertTrue(json.contains("\"memberId\""));
+        assertFalse(json.contains("\"customer\""));
+        assertEquals(restaurantBook, readFrom(json));
+    }
+
+    @Test
+    public void writeTo_version1File_migratedToVersion2() throws Exception {
+        RestaurantBook restaurantBook = readFrom(TYPICAL_BOOKINGS_FILE);
+        String json = writeTo(restaurantBook);
+        assertTrue(json.contains("\"version\" : " + JsonSerializableRestaurantBook.CURRENT_VERSION));
+        assertEquals(restaurantBook, readFrom(json));
+    }
+
+    @Test
+    public void writeTo_customerAndIngredientsNotMatchingListedItems_embedded() throws Exception {
+        RestaurantBook restaurantBook = new RestaurantBook();
+        restaurantBook.addMember(ALICE);
+        restaurantBook.addIngredient(CHICKEN);
+        restaurantBook.addIngredient(new IngredientBuilder(RICE).withIngredientQuantity(100).build());
+        Map<Ingredient, IngredientQuantity> recipeIngredients = new HashMap<>();
+        recipeIngredients.put(CHICKEN, new IngredientQuantity(1));
+        recipeIngredients.put(RICE, new IngredientQuantity(2));
+        recipeIngredients.put(COFFEE, new IngredientQuantity(3));
+        restaurantBook.addRecipe(new Recipe(new RecipeName("chicken rice"),
+                new RecipeIngredientSet(recipeIngredients)));
+        Member aliceBeforeReward = new MemberBuilder(ALICE).withLoyaltyPoints(0).build();
+        restaurantBook.addBooking(new BookingBuilder().withCustomer(aliceBeforeReward).build());
+
+        String json = writeTo(restaurantBook);
+        assertTrue(json.contains("\"customer\""));
+        assertTrue(json.contains("\"ingredientName\" : \"chicken\""));
+        RestaurantBook readBack = readFrom(json);
+        assertEquals(restaurantBook, readBack);
+        assertEquals(restaurantBook.getRecipeList(), readBack.getRecipeList());
+        assertEquals(aliceBeforeReward.getLoyaltyPoints(),
+                readBack.getBookingList().get(0).getCustomer().getLoyaltyPoints());
+    }
+
+    private String writeTo(RestaurantBook restaurantBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableRestaurantBook.writeTo(generator, restaurantBook);
+        }
+        return new String(out.toByteArray(), UTF_8);
+    }
+
+    private RestaurantBook readFrom(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file); JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonSerializableRestaurantBook.readFrom(parser);
+        }
+    }
+
+    private RestaurantBook readFrom(String json) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(json.getBytes(UTF_8)))) {
+            return JsonSerializableRestaurantBook.readFrom(parser);
+        }
+    }
 }
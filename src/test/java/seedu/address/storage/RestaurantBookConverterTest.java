@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.RestaurantBook;
+import seedu.address.testutil.TypicalBookings;
+
+public class RestaurantBookConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_missingSource_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        RestaurantBookConverter.convert(testFolder.getRoot().toPath().resolve("missing.json"),
+                testFolder.getRoot().toPath().resolve("data.bin"));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        RestaurantBook original = TypicalBookings.getTypicalAddressBook();
+        Path jsonFile = testFolder.getRoot().toPath().resolve("data.json");
+        Path binaryFile = testFolder.getRoot().toPath().resolve("data.bin");
+        Path convertedJsonFile = testFolder.getRoot().toPath().resolve("converted.json");
+        new JournaledRestaurantBookStorage(jsonFile).saveRestaurantBook(original);
+
+        RestaurantBookConverter.convert(jsonFile, binaryFile);
+        assertTrue(BinaryRestaurantBookStorage.isBinaryFile(binaryFile));
+        assertEquals(original, new BinaryRestaurantBookStorage(binaryFile).readRestaurantBook().get());
+
+        RestaurantBookConverter.convert(binaryFile, convertedJsonFile);
+        assertEquals(original, new JsonRestaurantBookStorage(convertedJsonFile).readRestaurantBook().get());
+    }
+
+    @Test
+    public void convert_throughShardedAndDatabase_sameData() throws Exception {
+        RestaurantBook original = TypicalBookings.getTypicalAddressBook();
+        Path jsonFile = testFolder.getRoot().toPath().resolve("data.json");
+        Path shardedFile = testFolder.getRoot().toPath().resolve("sharded.json");
+        Path databaseFile = testFolder.getRoot().toPath().resolve("data.mv.db");
+        Path convertedJsonFile = testFolder.getRoot().toPath().resolve("converted.json");
+        new JournaledRestaurantBookStorage(jsonFile).saveRestaurantBook(original);
+
+        RestaurantBookConverter.convert(jsonFile, shardedFile, StorageFormat.SHARDED);
+        assertEquals(Optional.of(StorageFormat.SHARDED), RestaurantBookConverter.detectFormat(shardedFile));
+        assertEquals(original, new ShardedRestaurantBookStorage(shardedFile).readRestaurantBook().get());
+
+        RestaurantBookConverter.convert(shardedFile, databaseFile);
+        assertEquals(Optional.of(StorageFormat.DATABASE), RestaurantBookConverter.detectFormat(databaseFile));
+        assertEquals(original, new DatabaseRestaurantBookStorage(databaseFile).readRestaurantBook().get());
+
+        RestaurantBookConverter.convert(databaseFile, convertedJsonFile);
+        assertEquals(Optional.of(StorageFormat.JSON), RestaurantBookConverter.detectFormat(convertedJsonFile));
+        assertEquals(original, new JsonRestaurantBookStorage(convertedJsonFile).readRestaurantBook().get());
+    }
+
+    @Test
+    public void detectFormat_databaseNextToFilePath_database() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data");
+        new DatabaseRestaurantBookStorage(filePath).saveRestaurantBook(TypicalBookings.getTypicalAddressBook());
+
+        assertEquals(Optional.of(StorageFormat.DATABASE), RestaurantBookConverter.detectFormat(filePath));
+        assertEquals(Optional.empty(),
+                RestaurantBookConverter.detectFormat(testFolder.getRoot().toPath().resolve("missing.json")));
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMembers.HOON;
+import static seedu.address.testutil.TypicalMembers.IDA;
+import static seedu.address.testutil.TypicalStaff.getTypicalStaff;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSection;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.person.member.Member;
+import seedu.address.storage.RestaurantBookStorage.SectionListener;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TypicalBookings;
+import seedu.address.testutil.TypicalIngredients;
+
+/**
+ * Contains the tests that every {@code RestaurantBookStorage} must pass, run against the storage returned by
+ * {@link #createStorage(Path)}. The tests of each storage extend this class and add the tests of its own behaviour.
+ */
+public abstract class RestaurantBookStorageContractTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    /**
+     * Returns a new storage of the data file at {@code filePath}.
+     */
+    protected abstract RestaurantBookStorage createStorage(Path filePath);
+
+    /**
+     * Returns the name of a data file of the storage under test.
+     */
+    protected String getDataFileName() {
+        return "data.json";
+    }
+
+    protected Path getTempFilePath(String folder) {
+        return testFolder.getRoot().toPath().resolve(folder).resolve(getDataFileName());
+    }
+
+    @Test
+    public void readRestaurantBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        createStorage(getTempFilePath("contract")).readRestaurantBook(null);
+    }
+
+    @Test
+    public void readRestaurantBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(getTempFilePath("missing")).readRestaurantBook().isPresent());
+    }
+
+    @Test
+    public void readRestaurantBook_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("corrupted");
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, "this is not a restaurant book".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        createStorage(filePath).readRestaurantBook();
+    }
+
+    @Test
+    public void saveRestaurantBook_modifiedAndSavedAgain_readBackEqual() throws Exception {
+        Path filePath = getTempFilePath("contract");
+        RestaurantBookStorage storage = createStorage(filePath);
+        RestaurantBook original = getTypicalRestaurantBook();
+
+        // save with the file path and read back
+        storage.saveRestaurantBook(original, filePath);
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook(filePath).get()));
+
+        // modify data, overwrite the existing file, and read back
+        original.addMember(HOON);
+        original.removeBooking(original.getBookingList().get(0));
+        original.setCapacity(new Capacity(40));
+        storage.saveRestaurantBook(original, filePath);
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook(filePath).get()));
+
+        // save and read without specifying the file path
+        original.addMember(IDA);
+        storage.saveRestaurantBook(original);
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+
+        // a new storage reads the same data
+        assertEquals(original, new RestaurantBook(createStorage(filePath).readRestaurantBook().get()));
+    }
+
+    @Test
+    public void readRestaurantBookInSections_editedAndSaved_eachSectionGivenOnceAsRead() throws Exception {
+        Path filePath = getTempFilePath("contract");
+        RestaurantBookStorage storage = createStorage(filePath);
+        RestaurantBook original = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(original);
+        original.addMember(HOON);
+        original.setCapacity(new Capacity(40));
+        storage.saveRestaurantBook(original);
+
+        List<RestaurantBookSection> sectionsGiven = new ArrayList<>();
+        Map<RestaurantBookSection, Object> sectionsRead = new EnumMap<>(RestaurantBookSection.class);
+        SectionListener sectionListener = (section, restaurantBook) -> {
+            sectionsGiven.add(section);
+            sectionsRead.put(section, getSection(section, restaurantBook));
+        };
+        ReadOnlyRestaurantBook read = createStorage(filePath).readRestaurantBookInSections(sectionListener).get();
+
+        assertEquals(original, new RestaurantBook(read));
+        assertEquals(EnumSet.allOf(RestaurantBookSection.class), EnumSet.copyOf(sectionsGiven));
+        assertEquals(RestaurantBookSection.values().length, sectionsGiven.size());
+        assertTrue(sectionsGiven.indexOf(RestaurantBookSection.CAPACITY)
+                < sectionsGiven.indexOf(RestaurantBookSection.BOOKINGS));
+        for (RestaurantBookSection section : RestaurantBookSection.values()) {
+            assertEquals(getSection(section, original), sectionsRead.get(section));
+        }
+    }
+
+    @Test
+    public void saveRestaurantBook_onlyLoyaltyPointsEdited_loyaltyPointsReadBack() throws Exception {
+        Path filePath = getTempFilePath("contract");
+        RestaurantBookStorage storage = createStorage(filePath);
+        RestaurantBook original = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(original);
+
+        // the edited member is equal to the member it replaces, as member equality ignores loyalty points
+        Member member = original.getMemberList().get(0);
+        Member editedMember = new MemberBuilder(member).withLoyaltyPoints(member.getLoyaltyPoints().value + 50).build();
+        original.setMember(member, editedMember);
+        storage.saveRestaurantBook(original);
+
+        Member readMember = createStorage(filePath).readRestaurantBook().get().getMemberList().get(0);
+        assertEquals(editedMember.getLoyaltyPoints(), readMember.getLoyaltyPoints());
+    }
+
+    @Test
+    public void saveRestaurantBook_otherFilePath_readBackEqual() throws Exception {
+        RestaurantBookStorage storage = createStorage(getTempFilePath("contract"));
+        Path otherFilePath = getTempFilePath("other");
+        RestaurantBook original = getTypicalRestaurantBook();
+
+        storage.saveRestaurantBook(original, otherFilePath);
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook(otherFilePath).get()));
+        assertFalse(storage.readRestaurantBook().isPresent());
+    }
+
+    @Test
+    public void saveRestaurantBook_missingFolder_readBackEqual() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing").resolve("folder").resolve(getDataFileName());
+        RestaurantBookStorage storage = createStorage(filePath);
+        RestaurantBook original = getTypicalRestaurantBook();
+
+        storage.saveRestaurantBook(original);
+        storage.saveRestaurantBook(original);
+        assertEquals(original, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void saveRestaurantBook_nullRestaurantBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        createStorage(getTempFilePath("contract")).saveRestaurantBook(null);
+    }
+
+    @Test
+    public void saveRestaurantBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        createStorage(getTempFilePath("contract")).saveRestaurantBook(new RestaurantBook(), null);
+    }
+
+    @Test
+    public void prepareSave_modifiedAfterPrepare_preparedDataWritten() throws Exception {
+        RestaurantBookStorage storage = createStorage(getTempFilePath("contract"));
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        RestaurantBook prepared = new RestaurantBook(restaurantBook);
+
+        PendingSave firstSave = storage.prepareSave(restaurantBook);
+        restaurantBook.addMember(HOON);
+        firstSave.write();
+        assertEquals(prepared, new RestaurantBook(storage.readRestaurantBook().get()));
+
+        storage.prepareSave(restaurantBook).write();
+        assertEquals(restaurantBook, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void storageManager_readSave_success() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the storage.
+         */
+        StorageManager storageManager = new StorageManager(createStorage(getTempFilePath("contract")),
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json")));
+        assertNotNull(storageManager.getRestaurantBookFilePath());
+
+        RestaurantBook original = getTypicalRestaurantBook();
+        storageManager.saveRestaurantBook(original);
+        storageManager.flushRestaurantBook();
+        assertEquals(original, new RestaurantBook(storageManager.readRestaurantBook().get()));
+    }
+
+    /**
+     * Returns a copy of {@code section} of {@code restaurantBook}.
+     */
+    private static Object getSection(RestaurantBookSection section, ReadOnlyRestaurantBook restaurantBook) {
+        switch (section) {
+        case MEMBERS:
+            return new ArrayList<>(restaurantBook.getMemberList());
+        case BOOKINGS:
+            return new ArrayList<>(restaurantBook.getBookingList());
+        case INGREDIENTS:
+            return new ArrayList<>(restaurantBook.getIngredientList());
+        case RECIPES:
+            return new ArrayList<>(restaurantBook.getRecipeList());
+        case STAFF:
+            return new ArrayList<>(restaurantBook.getStaffList());
+        default:
+            return restaurantBook.getCapacity();
+        }
+    }
+
+    /**
+     * Returns a restaurant book with the typical members, bookings, ingredients and staff.
+     */
+    protected static RestaurantBook getTypicalRestaurantBook() {
+        RestaurantBook restaurantBook = TypicalBookings.getTypicalAddressBook();
+        TypicalIngredients.getTypicalIngredients().forEach(restaurantBook::addIngredient);
+        getTypicalStaff().forEach(restaurantBook::addStaff);
+        return restaurantBook;
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
+import static seedu.address.testutil.TypicalBookings.CARL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING_SECOND;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.booking.Booking;
+
+public class SegmentedBookingArchiveTest {
+
+    private static final LocalDate FIRST_DATE = DANIEL_BOOKING.getStartTime().toLocalDate();
+    private static final LocalDate LAST_DATE = DANIEL_BOOKING_SECOND.getStartTime().toLocalDate();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullDirectory_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new SegmentedBookingArchive(null);
+    }
+
+    @Test
+    public void getArchiveDirectory_dataFile_siblingDirectory() {
+        Path dataFile = Paths.get("data", "addressbook.json").toAbsolutePath();
+        assertEquals(dataFile.resolveSibling(SegmentedBookingArchive.ARCHIVE_DIRECTORY_NAME),
+                SegmentedBookingArchive.getArchiveDirectory(dataFile));
+    }
+
+    @Test
+    public void readBookingsBetween_missingDirectory_noBookings() throws Exception {
+        SegmentedBookingArchive archive = new SegmentedBookingArchive(getArchiveDirectory());
+        assertTrue(readBookings(archive, FIRST_DATE, LAST_DATE).isEmpty());
+    }
+
+    @Test
+    public void archive_severalSegments_bookingsReadBackInOrder() throws Exception {
+        SegmentedBookingArchive archive = new SegmentedBookingArchive(getArchiveDirectory());
+        archive.archive(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING));
+        archive.archive(Collections.emptyList());
+        archive.archive(Arrays.asList(CARL_BOOKING, DANIEL_BOOKING_SECOND));
+
+        // each non-empty call writes a new segment
+        try (Stream<Path> files = Files.list(getArchiveDirectory())) {
+            assertEquals(2, files.count());
+        }
+        assertEquals(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING, DANIEL_BOOKING_SECOND),
+                readBookings(archive, FIRST_DATE, LAST_DATE));
+
+        // only bookings in the given range are read
+        LocalDate aliceDate = ALICE_BOOKING.getStartTime().toLocalDate();
+        assertEquals(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING),
+                readBookings(archive, aliceDate, aliceDate.plusDays(1)));
+        assertTrue(readBookings(archive, LAST_DATE.plusDays(1), LAST_DATE.plusDays(10)).isEmpty());
+    }
+
+    @Test
+    public void archive_bookingsArchivedAgain_onlyNewBookingsArchived() throws Exception {
+        SegmentedBookingArchive archive = new SegmentedBookingArchive(getArchiveDirectory());
+        archive.archive(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING));
+        archive.archive(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING));
+        archive.archive(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING));
+
+        try (Stream<Path> files = Files.list(getArchiveDirectory())) {
+            assertEquals(2, files.count());
+        }
+        assertEquals(Arrays.asList(DANIEL_BOOKING, ALICE_BOOKING, BENSON_BOOKING),
+                readBookings(archive, FIRST_DATE, LAST_DATE));
+    }
+
+    @Test
+    public void readBookingsBetween_unreadableLinesAndFiles_skipped() throws Exception {
+        Path archiveDirectory = getArchiveDirectory();
+        Files.createDirectories(archiveDirectory);
+        String segmentName = String.format("segment-000001_%s_%s.jsonl.gz", FIRST_DATE, LAST_DATE);
+        try (Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(archiveDirectory.resolve(segmentName))), UTF_8)) {
+            writer.write(JsonUtil.toJsonLine(new JsonAdaptedBooking(ALICE_BOOKING)) + "\n");
+            writer.write("not a booking\n");
+            writer.write(JsonUtil.toJsonLine(new JsonAdaptedBooking(CARL_BOOKING)) + "\n");
+        }
+        Files.write(archiveDirectory.resolve("notes.txt"), "not a segment".getBytes(UTF_8));
+
+        SegmentedBookingArchive archive = new SegmentedBookingArchive(archiveDirectory);
+        assertEquals(Arrays.asList(ALICE_BOOKING, CARL_BOOKING), readBookings(archive, FIRST_DATE, LAST_DATE));
+
+        // new segments are numbered after the existing ones
+        archive.archive(Collections.singletonList(BENSON_BOOKING));
+        assertEquals(Arrays.asList(ALICE_BOOKING, CARL_BOOKING, BENSON_BOOKING),
+                readBookings(archive, FIRST_DATE, LAST_DATE));
+    }
+
+    private Path getArchiveDirectory() {
+        return testFolder.getRoot().toPath().resolve(SegmentedBookingArchive.ARCHIVE_DIRECTORY_NAME);
+    }
+
+    private static List<Booking> readBookings(SegmentedBookingArchive archive, LocalDate startDate,
+                                              LocalDate endDate) throws IOException {
+        try (Stream<Booking> bookings = archive.readBookingsBetween(startDate, endDate)) {
+            return bookings.collect(Collectors.toList());
+        }
+    }
+}
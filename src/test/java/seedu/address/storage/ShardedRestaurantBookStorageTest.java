@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.testutil.TypicalIngredients.CHEESE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Capacity;
+import seedu.address.testutil.IngredientBuilder;
+import seedu.address.testutil.TypicalBookings;
+
+public class ShardedRestaurantBookStorageTest extends RestaurantBookStorageContractTest {
+
+    @Override
+    protected RestaurantBookStorage createStorage(Path filePath) {
+        return new ShardedRestaurantBookStorage(filePath);
+    }
+
+    @Test
+    public void readAndSave_typicalData_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        RestaurantBook original = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(original);
+        assertEquals(original, storage.readRestaurantBook().get());
+
+        // save to another path
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("other.json");
+        storage.saveRestaurantBook(original, otherFilePath);
+        assertEquals(original, storage.readRestaurantBook(otherFilePath).get());
+    }
+
+    @Test
+    public void save_ingredientRestocked_onlyIngredientShardRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+        List<String> firstShards = listShards(filePath);
+
+        restaurantBook.setIngredient(CHEESE, new IngredientBuilder(CHEESE).withIngredientQuantity(100).build());
+        storage.saveRestaurantBook(restaurantBook);
+        List<String> secondShards = listShards(filePath);
+
+        List<String> expectedShards = firstShards.stream()
+                .map(shard -> shard.equals("ingredients-1.json") ? "ingredients-2.json" : shard)
+                .sorted().collect(Collectors.toList());
+        assertEquals(expectedShards, secondShards);
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void save_capacityChanged_noShardRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+        List<String> firstShards = listShards(filePath);
+
+        restaurantBook.setCapacity(new Capacity(50));
+        storage.saveRestaurantBook(restaurantBook);
+        assertEquals(firstShards, listShards(filePath));
+        assertEquals(new Capacity(50), storage.readRestaurantBook().get().getCapacity());
+    }
+
+    @Test
+    public void save_differentRestaurantBook_allShardsRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(getTypicalRestaurantBook());
+        List<String> firstShards = listShards(filePath);
+
+        RestaurantBook otherBook = TypicalBookings.getTypicalAddressBook();
+        storage.saveRestaurantBook(otherBook);
+        List<String> secondShards = listShards(filePath);
+        assertEquals(firstShards.size(), secondShards.size());
+        secondShards.forEach(shard -> assertFalse(firstShards.contains(shard)));
+        assertEquals(otherBook, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void mergeWith_partialSaves_unionOfSectionsWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        RestaurantBook restaurantBook = getTypicalRestaurantBook();
+        storage.saveRestaurantBook(restaurantBook);
+
+        restaurantBook.setIngredient(CHEESE, new IngredientBuilder(CHEESE).withIngredientQuantity(100).build());
+        PendingSave ingredientSave = storage.prepareSave(restaurantBook);
+        restaurantBook.removeStaff(restaurantBook.getStaffList().get(0));
+        PendingSave staffSave = storage.prepareSave(restaurantBook);
+        ingredientSave.mergeWith(staffSave).get().write();
+
+        assertEquals(restaurantBook, storage.readRestaurantBook().get());
+    }
+
+    @Test
+    public void read_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(getTypicalRestaurantBook());
+        Files.delete(ShardedRestaurantBookStorage.getShardDirectoryPath(filePath).resolve("members-1.json"));
+
+        thrown.expect(DataConversionException.class);
+        storage.readRestaurantBook();
+    }
+
+    @Test
+    public void read_corruptedShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        ShardedRestaurantBookStorage storage = new ShardedRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(getTypicalRestaurantBook());
+        Path shardPath = ShardedRestaurantBookStorage.getShardDirectoryPath(filePath).resolve("bookings-1.json");
+        byte[] shard = Files.readAllBytes(shardPath);
+        Files.write(shardPath, Arrays.copyOf(shard, shard.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        storage.readRestaurantBook();
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        new JsonRestaurantBookStorage(filePath).saveRestaurantBook(TypicalBookings.getTypicalAddressBook());
+
+        thrown.expect(DataConversionException.class);
+        new ShardedRestaurantBookStorage(filePath).readRestaurantBook();
+    }
+
+    @Test
+    public void save_newStorageWithExistingManifest_newGenerationWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data.json");
+        new ShardedRestaurantBookStorage(filePath).saveRestaurantBook(getTypicalRestaurantBook());
+        List<String> firstShards = listShards(filePath);
+
+        // a new storage continues from the generation of the manifest on the disk
+        new ShardedRestaurantBookStorage(filePath).saveRestaurantBook(getTypicalRestaurantBook());
+        List<String> secondShards = listShards(filePath);
+        assertNotEquals(firstShards, secondShards);
+        assertEquals(firstShards.size(), secondShards.size());
+    }
+
+    private static List<String> listShards(Path filePath) throws IOException {
+        try (Stream<Path> shards = Files.list(ShardedRestaurantBookStorage.getShardDirectoryPath(filePath))) {
+            return shards.map(shard -> shard.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new TextCommandHistoryStorage(null);
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        assertTrue(new TextCommandHistoryStorage(getHistoryFile()).readCommandHistory(10).isEmpty());
+    }
+
+    @Test
+    public void readCommandHistory_appendedCommands_mostRecentCommandsRead() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(getHistoryFile());
+        storage.appendCommand("listmembers");
+        storage.appendCommand("addmember n/Alice\nPauline");
+        storage.appendCommand("clear");
+
+        assertEquals(Arrays.asList("addmember n/Alice Pauline", "clear"), storage.readCommandHistory(2));
+        assertEquals(Arrays.asList("listmembers", "addmember n/Alice Pauline", "clear"),
+                storage.readCommandHistory(5));
+    }
+
+    @Test
+    public void readCommandHistory_fileMuchLongerThanRead_fileCompacted() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(getHistoryFile());
+        for (int i = 1; i <= 5; i++) {
+            storage.appendCommand("command " + i);
+        }
+
+        // the file holds less than twice as many commands as are read
+        storage.readCommandHistory(3);
+        assertEquals(5, Files.readAllLines(getHistoryFile()).size());
+
+        // the file holds more than twice as many commands as are read
+        assertEquals(Arrays.asList("command 4", "command 5"), storage.readCommandHistory(2));
+        assertEquals(Arrays.asList("command 4", "command 5"), Files.readAllLines(getHistoryFile()));
+
+        storage.appendCommand("command 6");
+        assertEquals(Arrays.asList("command 4", "command 5", "command 6"), storage.readCommandHistory(3));
+    }
+
+    @Test
+    public void appendCommand_manyCommandsAfterRead_fileSizeBounded() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(getHistoryFile());
+        storage.readCommandHistory(3);
+        for (int i = 1; i <= 100; i++) {
+            storage.appendCommand("command " + i);
+            assertTrue(Files.readAllLines(getHistoryFile()).size() <= 6);
+        }
+
+        assertEquals(Arrays.asList("command 98", "command 99", "command 100"), storage.readCommandHistory(3));
+    }
+
+    @Test
+    public void appendCommand_missingDirectory_directoryCreated() throws Exception {
+        Path historyFile = testFolder.getRoot().toPath().resolve("data").resolve("commandhistory.txt");
+        new TextCommandHistoryStorage(historyFile).appendCommand("listmembers");
+        assertEquals(Arrays.asList("listmembers"), Files.readAllLines(historyFile));
+    }
+
+    private Path getHistoryFile() {
+        return testFolder.getRoot().toPath().resolve(TextCommandHistoryStorage.COMMAND_HISTORY_FILE_NAME);
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -17,6 +20,10 @@ public class CommandBoxTest extends GuiUnitTest {
 
     private static final String COMMAND_THAT_SUCCEEDS = ListMembersCommand.COMMAND_WORD;
     private static final String COMMAND_THAT_FAILS = "invalid command";
+    private static final String COMMAND_THAT_MATCHES_ALICE = "addmember n/Alice";
+    private static final String COMMAND_THAT_MATCHES_BOB = "addmember n/Bob";
+    private static final String PARTLY_TYPED_COMMAND = "add";
+    private static final List<String> COMPLETIONS = Arrays.asList("addbooking", "addmember");
 
     private ArrayList<String> defaultStyleOfCommandBox;
     private ArrayList<String> errorStyleOfCommandBox;
@@ -32,7 +39,8 @@ public class CommandBoxTest extends GuiUnitTest {
                 return new CommandResult("Command successful");
             }
             throw new CommandException("Command failed");
-        }, history);
+        }, history, commandText -> commandText.equals(PARTLY_TYPED_COMMAND) ? COMPLETIONS : Collections.emptyList(),
+                this::searchHistory);
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
                 CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
         uiPartRule.setUiPart(commandBox);
@@ -127,6 +135,69 @@ public class CommandBoxTest extends GuiUnitTest {
         assertInputHistory(KeyCode.UP, thirdCommand);
     }
 
+    @Test
+    public void handleKeyPress_tabPressedRepeatedly_completionsCycled() {
+        commandBoxHandle.enterText(PARTLY_TYPED_COMMAND);
+        assertInputHistory(KeyCode.TAB, "addbooking");
+        assertInputHistory(KeyCode.TAB, "addmember");
+        assertInputHistory(KeyCode.TAB, "addbooking");
+
+        // a changed input is completed afresh
+        commandBoxHandle.enterText(PARTLY_TYPED_COMMAND);
+        assertInputHistory(KeyCode.TAB, "addbooking");
+
+        // no completions
+        commandBoxHandle.enterText(COMMAND_THAT_FAILS);
+        assertInputHistory(KeyCode.TAB, COMMAND_THAT_FAILS);
+    }
+
+    @Test
+    public void handleKeyPress_ctrlRPressedRepeatedly_olderMatchesShown() {
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_ALICE);
+        commandBoxHandle.run(COMMAND_THAT_SUCCEEDS);
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_BOB);
+
+        // the search ignores case
+        commandBoxHandle.enterText("ADDM");
+        assertSearchResult(COMMAND_THAT_MATCHES_BOB);
+        assertSearchResult(COMMAND_THAT_MATCHES_ALICE);
+
+        // no older match
+        assertSearchResult(COMMAND_THAT_MATCHES_ALICE);
+        assertEquals(errorStyleOfCommandBox, commandBoxHandle.getStyleClass());
+
+        // a changed input starts a new search from the most recent command
+        commandBoxHandle.enterText(COMMAND_THAT_SUCCEEDS);
+        assertSearchResult(COMMAND_THAT_SUCCEEDS);
+        assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
+    }
+
+    @Test
+    public void handleKeyPress_ctrlRWithRepeatedMatches_repeatedMatchesSkipped() {
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_ALICE);
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_BOB);
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_BOB);
+
+        commandBoxHandle.enterText("addm");
+        assertSearchResult(COMMAND_THAT_MATCHES_BOB);
+        assertSearchResult(COMMAND_THAT_MATCHES_ALICE);
+    }
+
+    @Test
+    public void handleKeyPress_upAndDownAfterCtrlR_navigatesFromMatch() {
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_ALICE);
+        commandBoxHandle.run(COMMAND_THAT_SUCCEEDS);
+        commandBoxHandle.run(COMMAND_THAT_MATCHES_BOB);
+
+        commandBoxHandle.enterText("alice");
+        assertSearchResult(COMMAND_THAT_MATCHES_ALICE);
+        assertInputHistory(KeyCode.UP, COMMAND_THAT_MATCHES_ALICE);
+        assertInputHistory(KeyCode.DOWN, COMMAND_THAT_SUCCEEDS);
+        assertInputHistory(KeyCode.DOWN, COMMAND_THAT_MATCHES_BOB);
+        assertInputHistory(KeyCode.DOWN, "");
+        assertInputHistory(KeyCode.UP, COMMAND_THAT_MATCHES_BOB);
+    }
+
     /**
      * Runs a command that fails, then verifies that <br>
      *      - the text remains <br>
@@ -156,4 +227,25 @@ public class CommandBoxTest extends GuiUnitTest {
         guiRobot.push(keycode);
         assertEquals(expectedCommand, commandBoxHandle.getInput());
     }
+
+    /**
+     * Presses Ctrl-R and checks that the input in the {@code commandBox} equals to {@code expectedCommand}.
+     */
+    private void assertSearchResult(String expectedCommand) {
+        guiRobot.push(KeyCode.CONTROL, KeyCode.R);
+        assertEquals(expectedCommand, commandBoxHandle.getInput());
+    }
+
+    /**
+     * Returns the index in {@code history} of the most recent command before {@code beforeIndex} that contains
+     * {@code query}, ignoring case, or -1 if there is no such command.
+     */
+    private int searchHistory(String query, int beforeIndex) {
+        for (int i = beforeIndex - 1; i >= 0; i--) {
+            if (history.get(i).toLowerCase().contains(query.toLowerCase())) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
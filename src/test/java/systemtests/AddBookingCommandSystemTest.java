@@ -3,6 +3,7 @@ package systemtests;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.booking.AddBookingCommand.MESSAGE_DUPLICATE;
 import static seedu.address.logic.commands.booking.AddBookingCommand.MESSAGE_FULL;
+import static seedu.address.logic.commands.booking.AvailabilityCommand.MESSAGE_ALTERNATIVES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.testutil.TypicalMembers.ALICE;
 import static seedu.address.testutil.TypicalMembers.BENSON;
@@ -88,7 +89,8 @@ public class AddBookingCommandSystemTest extends RestaurantBookSystemTest {
 
             // Restaurant is has 10 persons, capacity of 13 and should not accept booking of 4
             commandString = BookingUtil.getAddBookingCommand(startTimeString1400, Index.fromOneBased(2), 4);
-            String expectedMessage = String.format(MESSAGE_FULL, "2019-02-23T15:00");
+            String expectedMessage = String.format(MESSAGE_FULL, String.format(MESSAGE_ALTERNATIVES,
+                    "2019-02-23T13:30, 2019-02-23T13:00", "2019-02-23T15:00, 2019-02-23T15:30"));
             assertCommandFailure(commandString, model, commandHistory, expectedMessage);
 
             // But the restaurant should be able to accept a booking of 3